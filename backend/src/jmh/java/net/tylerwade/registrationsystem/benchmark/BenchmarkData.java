@@ -0,0 +1,181 @@
+package net.tylerwade.registrationsystem.benchmark;
+
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.auth.authority.Authority;
+import net.tylerwade.registrationsystem.course.Course;
+import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.coursesection.schedule.ScheduleParser;
+import net.tylerwade.registrationsystem.coursesection.schedule.SectionMeetingTime;
+import net.tylerwade.registrationsystem.enrollment.transcript.CompletedCourse;
+import net.tylerwade.registrationsystem.prerequisites.Prerequisite;
+import net.tylerwade.registrationsystem.term.Term;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Reproducible datasets for the benchmarks. Everything is derived from a fixed seed, so every run measures the same data.
+ * <p>
+ * The catalog has {@value #COURSES} courses in {@value #DEPARTMENTS} departments with {@value #SECTIONS_PER_COURSE}
+ * sections each. Every course after the first few in its department requires up to {@value #MAX_PREREQUISITES}
+ * earlier courses of that department. A transcript holds {@value #TRANSCRIPT_COURSES} completed courses, some retaken.
+ */
+final class BenchmarkData {
+
+    static final long SEED = 20260118L;
+
+    static final int COURSES = 200;
+    static final int DEPARTMENTS = 8;
+    static final int SECTIONS_PER_COURSE = 3;
+    static final int MAX_PREREQUISITES = 3;
+    static final int TRANSCRIPT_COURSES = 40;
+
+    private static final String[] DEPARTMENT_NAMES = {"CMSC", "MATH", "PHYS", "CHEM", "BIOL", "ENGL", "HIST", "ECON"};
+    private static final String[] SCHEDULES = {"M - F 8:00 AM - 9:00 AM", "M - F 9:30 AM - 10:45 AM", "M - F 12:00 PM - 1:30 PM", "M - F 2:00 PM - 3:15 PM"};
+
+    static final Authority ADMIN = new Authority(1, "ADMIN");
+    static final Authority INSTRUCTOR = new Authority(2, "INSTRUCTOR");
+    static final Authority STUDENT = new Authority(3, "STUDENT");
+
+    private final Random random = new Random(SEED);
+    private final Term openTerm;
+    private final Term pastTerm;
+    private final User instructor;
+    private final List<Course> courses = new ArrayList<>();
+
+    BenchmarkData() {
+        LocalDate today = LocalDate.now();
+        openTerm = term(1L, today.minusDays(7), today.plusDays(7), today.plusDays(14), today.plusDays(120));
+        pastTerm = term(2L, today.minusYears(1), today.minusYears(1).plusDays(14), today.minusYears(1).plusDays(21), today.minusDays(120));
+        instructor = user(2L, "instructor@example.com", INSTRUCTOR);
+
+        long sectionId = 1;
+        for (int i = 0; i < COURSES; i++) {
+            Course course = Course.builder()
+                    .id((long) i + 1)
+                    .department(DEPARTMENT_NAMES[i % DEPARTMENTS])
+                    .code(100 + i / DEPARTMENTS)
+                    .title("Course " + (i + 1))
+                    .description("A course about topic " + (i + 1) + " for benchmark runs.")
+                    .credits(1 + random.nextInt(4))
+                    .prerequisites(new ArrayList<>())
+                    .courseSections(new ArrayList<>())
+                    .createdAt(new Date(0))
+                    .build();
+
+            // Requirements come from earlier courses of the same department
+            int earlier = i / DEPARTMENTS;
+            int prerequisites = Math.min(earlier, random.nextInt(MAX_PREREQUISITES + 1));
+            Set<Integer> picked = new HashSet<>();
+            while (picked.size() < prerequisites) {
+                picked.add(random.nextInt(earlier));
+            }
+            for (int index : picked) {
+                course.getPrerequisites().add(Prerequisite.builder()
+                        .id((long) course.getPrerequisites().size() + i * MAX_PREREQUISITES)
+                        .course(course)
+                        .requiredCourse(courses.get(index * DEPARTMENTS + i % DEPARTMENTS))
+                        .minimumGrade(new BigDecimal(60))
+                        .createdAt(new Date(0))
+                        .build());
+            }
+
+            for (int j = 0; j < SECTIONS_PER_COURSE; j++) {
+                course.getCourseSections().add(section(sectionId++, course, SCHEDULES[random.nextInt(SCHEDULES.length)]));
+            }
+            courses.add(course);
+        }
+    }
+
+    List<Course> courses() {
+        return courses;
+    }
+
+    /**
+     * @return A course with the most prerequisites in the catalog.
+     */
+    Course courseWithMostPrerequisites() {
+        return courses.stream().max(Comparator.comparingInt(course -> course.getPrerequisites().size())).orElseThrow();
+    }
+
+    User instructor() {
+        return instructor;
+    }
+
+    User student(Long id) {
+        return user(id, "student" + id + "@example.com", STUDENT);
+    }
+
+    static User user(Long id, String username, Authority authority) {
+        return User.builder()
+                .id(id)
+                .username(username)
+                .firstName("First")
+                .lastName("Last")
+                .password("encodedPassword")
+                .userAuthorities(new HashSet<>(Set.of(authority)))
+                .createdAt(new Date(0))
+                .build();
+    }
+
+    /**
+     * A transcript that satisfies every prerequisite of the given course, padded out with random other courses,
+     * some of them taken twice.
+     */
+    List<CompletedCourse> transcriptFor(Course course) {
+        List<CompletedCourse> transcript = new ArrayList<>();
+        for (Prerequisite prerequisite : course.getPrerequisites()) {
+            transcript.add(new CompletedCourse(prerequisite.getRequiredCourse().getId(), new BigDecimal(70 + random.nextInt(30)), pastTerm.getEndDate()));
+        }
+        while (transcript.size() < TRANSCRIPT_COURSES) {
+            Course taken = courses.get(random.nextInt(courses.size()));
+            transcript.add(new CompletedCourse(taken.getId(), new BigDecimal(40 + random.nextInt(60)), pastTerm.getEndDate()));
+        }
+        return transcript;
+    }
+
+    /**
+     * Meeting times of the sections a student already takes this term, none of which clash with the 12:00 PM slot.
+     */
+    List<SectionMeetingTime> currentSchedule() {
+        return List.of(
+                new SectionMeetingTime(9001L, ScheduleParser.parse(SCHEDULES[0]).orElseThrow()),
+                new SectionMeetingTime(9002L, ScheduleParser.parse(SCHEDULES[1]).orElseThrow()),
+                new SectionMeetingTime(9003L, ScheduleParser.parse(SCHEDULES[3]).orElseThrow()));
+    }
+
+    /**
+     * An open section of the given course in the 12:00 PM slot, with plenty of free seats.
+     */
+    CourseSection openSection(Course course) {
+        return section(10_000L + course.getId(), course, SCHEDULES[2]);
+    }
+
+    private CourseSection section(Long id, Course course, String schedule) {
+        CourseSection section = CourseSection.builder()
+                .id(id)
+                .course(course)
+                .term(openTerm)
+                .instructor(instructor)
+                .room("Room " + id)
+                .capacity(1_000_000)
+                .enrolledCount(random.nextInt(30))
+                .enrollments(new ArrayList<>())
+                .createdAt(new Date(0))
+                .build();
+        section.updateSchedule(schedule);
+        return section;
+    }
+
+    private static Term term(Long id, LocalDate registrationStart, LocalDate registrationEnd, LocalDate startDate, LocalDate endDate) {
+        return Term.builder()
+                .id(id)
+                .registrationStart(registrationStart)
+                .registrationEnd(registrationEnd)
+                .startDate(startDate)
+                .endDate(endDate)
+                .createdAt(new Date(0))
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package net.tylerwade.registrationsystem.benchmark;
+
+import net.tylerwade.registrationsystem.course.Course;
+import net.tylerwade.registrationsystem.course.dto.CourseAttributeDTO;
+import net.tylerwade.registrationsystem.course.dto.CourseDTO;
+import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionDTO;
+import net.tylerwade.registrationsystem.coursesection.query.CourseSectionRow;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures entity to DTO mapping: a single course with its sections and prerequisites, a single section,
+ * the whole catalog, and the projection rows section listings are built from.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private List<Course> courses;
+    private Course course;
+    private CourseSection courseSection;
+    private CourseSectionRow courseSectionRow;
+
+    @Setup
+    public void setup() {
+        BenchmarkData data = new BenchmarkData();
+        courses = data.courses();
+        course = data.courseWithMostPrerequisites();
+        courseSection = course.getCourseSections().getFirst();
+        courseSectionRow = new CourseSectionRow(courseSection.getId(),
+                course.getId(), course.getDepartment(), course.getCode(), course.getTitle(), course.getDescription(), course.getCredits(),
+                courseSection.getTerm().getId(), courseSection.getTerm().getStartDate(), courseSection.getTerm().getEndDate(),
+                courseSection.getTerm().getRegistrationStart(), courseSection.getTerm().getRegistrationEnd(), courseSection.getTerm().getCreatedAt(),
+                data.instructor().getId(), data.instructor().getUsername(), data.instructor().getFirstName(), data.instructor().getLastName(), data.instructor().getCreatedAt(),
+                courseSection.getRoom(), courseSection.getCapacity(), courseSection.getSchedule(), courseSection.getEnrolledCount(), courseSection.getCreatedAt());
+    }
+
+    @Benchmark
+    public CourseDTO course_toDTO() {
+        return course.toDTO();
+    }
+
+    @Benchmark
+    public CourseAttributeDTO course_toAttributeDTO() {
+        return course.toAttributeDTO();
+    }
+
+    @Benchmark
+    public CourseSectionDTO courseSection_toDTO() {
+        return courseSection.toDTO();
+    }
+
+    @Benchmark
+    public CourseSectionDTO courseSectionRow_toDTO() {
+        return courseSectionRow.toDTO(Set.of(BenchmarkData.INSTRUCTOR));
+    }
+
+    @Benchmark
+    public List<CourseDTO> catalog_toDTO() {
+        return courses.stream().map(Course::toDTO).toList();
+    }
+}
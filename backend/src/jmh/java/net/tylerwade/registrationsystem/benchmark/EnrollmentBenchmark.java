@@ -0,0 +1,96 @@
+package net.tylerwade.registrationsystem.benchmark;
+
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.auth.UserService;
+import net.tylerwade.registrationsystem.auth.principal.AuthenticatedUser;
+import net.tylerwade.registrationsystem.course.Course;
+import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.coursesection.CourseSectionService;
+import net.tylerwade.registrationsystem.enrollment.Enrollment;
+import net.tylerwade.registrationsystem.enrollment.EnrollmentRepository;
+import net.tylerwade.registrationsystem.enrollment.EnrollmentServiceImpl;
+import net.tylerwade.registrationsystem.enrollment.dto.CreateEnrollmentRequest;
+import net.tylerwade.registrationsystem.enrollment.transcript.TranscriptIndex;
+import net.tylerwade.registrationsystem.enrollment.transcript.TranscriptService;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import net.tylerwade.registrationsystem.waitlist.WaitlistRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the validation path of {@link EnrollmentServiceImpl#create}: permission and role checks, registration window,
+ * capacity, prerequisites against the transcript and the meeting time against the weekly schedule.
+ * Repositories and services are stubbed, so the numbers exclude the database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnrollmentBenchmark {
+
+    private EnrollmentServiceImpl enrollmentService;
+    private User student;
+    private Authentication authentication;
+    private CreateEnrollmentRequest acceptedRequest;
+    private CreateEnrollmentRequest missingPrerequisitesRequest;
+
+    @Setup
+    public void setup() {
+        BenchmarkData data = new BenchmarkData();
+        student = data.student(1000L);
+        authentication = new UsernamePasswordAuthenticationToken(student.getUsername(), null);
+
+        // One section whose prerequisites the transcript satisfies, and the first one whose it does not
+        Course course = data.courseWithMostPrerequisites();
+        TranscriptIndex transcript = new TranscriptIndex(data.transcriptFor(course));
+        LocalDate today = LocalDate.now();
+        CourseSection accepted = data.openSection(course);
+        CourseSection missingPrerequisites = data.openSection(data.courses().stream()
+                .filter(other -> other.getPrerequisites().stream()
+                        .anyMatch(prerequisite -> !transcript.hasCompleted(prerequisite.getRequiredCourse().getId(), prerequisite.getMinimumGrade(), today)))
+                .findFirst().orElseThrow());
+        acceptedRequest = new CreateEnrollmentRequest(accepted.getId());
+        missingPrerequisitesRequest = new CreateEnrollmentRequest(missingPrerequisites.getId());
+
+        Map<Long, CourseSection> sections = Map.of(accepted.getId(), accepted, missingPrerequisites.getId(), missingPrerequisites);
+
+        AuthenticatedUser authenticatedStudent = AuthenticatedUser.of(student);
+        UserService userService = Stubs.of(UserService.class, Map.of(
+                "getAuthenticatedUser", args -> authenticatedStudent,
+                "findById", args -> student));
+        CourseSectionService courseSectionService = Stubs.of(CourseSectionService.class, Map.of(
+                "findById", args -> sections.get((Long) args[0]),
+                "reserveSeat", args -> true));
+        EnrollmentRepository enrollmentRepository = Stubs.of(EnrollmentRepository.class, Map.of(
+                "existsByStudent_IdAndCourseSection_Id", args -> false,
+                "findMeetingTimesByStudentIdAndTermId", args -> data.currentSchedule(),
+                "save", args -> args[0]));
+        TranscriptService transcriptService = Stubs.of(TranscriptService.class, Map.of(
+                "getTranscript", args -> transcript));
+
+        enrollmentService = new EnrollmentServiceImpl(userService, enrollmentRepository, courseSectionService,
+                Stubs.of(WaitlistRepository.class, Map.of()), transcriptService, event -> {
+                });
+    }
+
+    @Benchmark
+    public Enrollment create_Accepted() throws HttpRequestException {
+        return enrollmentService.create(student.getId(), acceptedRequest, authentication);
+    }
+
+    @Benchmark
+    public Object create_MissingPrerequisites() {
+        try {
+            return enrollmentService.create(student.getId(), missingPrerequisitesRequest, authentication);
+        } catch (HttpRequestException e) {
+            return e;
+        }
+    }
+}
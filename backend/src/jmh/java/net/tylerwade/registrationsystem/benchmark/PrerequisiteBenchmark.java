@@ -0,0 +1,69 @@
+package net.tylerwade.registrationsystem.benchmark;
+
+import net.tylerwade.registrationsystem.course.Course;
+import net.tylerwade.registrationsystem.enrollment.transcript.CompletedCourse;
+import net.tylerwade.registrationsystem.enrollment.transcript.TranscriptIndex;
+import net.tylerwade.registrationsystem.prerequisites.Prerequisite;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures prerequisite evaluation over a realistic transcript: building the {@link TranscriptIndex} a student's
+ * checks run against, and checking every prerequisite of the course that has the most.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrerequisiteBenchmark {
+
+    private List<Course> courses;
+    private List<CompletedCourse> transcript;
+    private TranscriptIndex transcriptIndex;
+    private List<Prerequisite> prerequisites;
+    private LocalDate today;
+
+    @Setup
+    public void setup() {
+        BenchmarkData data = new BenchmarkData();
+        courses = data.courses();
+        Course course = data.courseWithMostPrerequisites();
+        transcript = data.transcriptFor(course);
+        transcriptIndex = new TranscriptIndex(transcript);
+        prerequisites = course.getPrerequisites();
+        today = LocalDate.now();
+    }
+
+    @Benchmark
+    public TranscriptIndex buildTranscriptIndex() {
+        return new TranscriptIndex(transcript);
+    }
+
+    @Benchmark
+    public boolean checkAllPrerequisites() {
+        for (Prerequisite prerequisite : prerequisites) {
+            if (!transcriptIndex.hasCompleted(prerequisite.getRequiredCourse().getId(), prerequisite.getMinimumGrade(), today)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Benchmark
+    public void checkEveryCatalogCourse(Blackhole blackhole) {
+        // A student browsing the catalog with eligibility shown for every course
+        for (Course course : courses) {
+            boolean eligible = true;
+            for (Prerequisite prerequisite : course.getPrerequisites()) {
+                eligible &= transcriptIndex.hasCompleted(prerequisite.getRequiredCourse().getId(), prerequisite.getMinimumGrade(), today);
+            }
+            blackhole.consume(eligible);
+        }
+    }
+}
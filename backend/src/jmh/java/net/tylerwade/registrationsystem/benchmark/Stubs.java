@@ -0,0 +1,39 @@
+package net.tylerwade.registrationsystem.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Hand-rolled stubs for the collaborators of the code under measurement. A dynamic proxy answers a call
+ * in a few nanoseconds, where a mocking framework would cost more than the code being measured.
+ */
+final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * Creates a stub that answers the named methods and throws on any other.
+     *
+     * @param type    The interface to stub.
+     * @param answers The answer for each method name, given the call's arguments.
+     */
+    static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> type.getSimpleName() + " stub";
+                };
+            }
+
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+            }
+            return answer.apply(args);
+        }));
+    }
+}
@@ -0,0 +1,70 @@
+package net.tylerwade.registrationsystem.benchmark;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.auth.token.TokenServiceImpl;
+import net.tylerwade.registrationsystem.config.AppProperties;
+import net.tylerwade.registrationsystem.config.security.jwt.CachingJwtDecoder;
+import net.tylerwade.registrationsystem.config.security.jwt.JwtDecodeCacheProperties;
+import net.tylerwade.registrationsystem.config.security.jwt.JwtProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures JWT handling: signing a token in {@link TokenServiceImpl} at login, and decoding one as every request does,
+ * both with the plain Nimbus decoder and through {@link CachingJwtDecoder} once the token is cached.
+ * The encoder and decoders are built the same way as in JwtConfig.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenBenchmark {
+
+    private static final String SECRET = "benchmark-secret-0123456789abcdef0123456789";
+
+    private TokenServiceImpl tokenService;
+    private JwtDecoder jwtDecoder;
+    private JwtDecoder cachingJwtDecoder;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setup() {
+        JwtProperties jwtProperties = new JwtProperties(SECRET, "benchmark", 86_400_000L);
+        tokenService = new TokenServiceImpl(new NimbusJwtEncoder(new ImmutableSecret<>(jwtProperties.getSecretKey())), jwtProperties, new AppProperties("development"));
+        jwtDecoder = NimbusJwtDecoder.withSecretKey(jwtProperties.getSecretKey()).build();
+
+        // The user is the principal, as after a login, so the token carries the user ID and role claims
+        User student = new BenchmarkData().student(1000L);
+        authentication = new UsernamePasswordAuthenticationToken(student, null, student.getAuthorities());
+
+        token = tokenService.generateToken(authentication);
+        cachingJwtDecoder = new CachingJwtDecoder(jwtDecoder, new JwtDecodeCacheProperties(10_000L, 600L));
+        cachingJwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public String encode() {
+        return tokenService.generateToken(authentication);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return jwtDecoder.decode(token);
+    }
+
+    @Benchmark
+    public Jwt decode_Cached() {
+        return cachingJwtDecoder.decode(token);
+    }
+}
@@ -0,0 +1,49 @@
+package net.tylerwade.registrationsystem.benchmark;
+
+import net.tylerwade.registrationsystem.auth.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the role checks run on every authenticated request: {@link User#getAuthorities()} and the is-role helpers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserAuthorityBenchmark {
+
+    private User admin;
+    private User student;
+
+    @Setup
+    public void setup() {
+        admin = BenchmarkData.user(1L, "admin@example.com", BenchmarkData.ADMIN);
+        student = new BenchmarkData().student(1000L);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return student.getAuthorities();
+    }
+
+    @Benchmark
+    public boolean isAdmin() {
+        return admin.isAdmin();
+    }
+
+    @Benchmark
+    public boolean isAdmin_NotAdmin() {
+        return student.isAdmin();
+    }
+
+    @Benchmark
+    public boolean isStudent() {
+        return student.isStudent();
+    }
+}
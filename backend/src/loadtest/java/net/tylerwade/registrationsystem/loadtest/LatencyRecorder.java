@@ -0,0 +1,42 @@
+package net.tylerwade.registrationsystem.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects the latencies of one operation. Samples are kept in full, so percentiles are exact.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+
+    synchronized void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    synchronized int count() {
+        return count;
+    }
+
+    /**
+     * @return count, p50, p90, p99, p99.9 and max in milliseconds, formatted as a report row.
+     */
+    synchronized String summary(double seconds) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return String.format("%8d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f",
+                count, count / seconds, millis(sorted, 0.50), millis(sorted, 0.90), millis(sorted, 0.99), millis(sorted, 0.999),
+                count == 0 ? 0 : sorted[count - 1] / 1_000_000.0);
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,289 @@
+package net.tylerwade.registrationsystem.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Drives a registration rush against a running backend seeded by {@link SyntheticDataGenerator}.
+ * <p>
+ * Every simulated student logs in, browses the catalog and the sections of a course, then tries to enroll in a few
+ * open sections. Students are released together once all are ready, with at most {@code --concurrency} in flight.
+ * A share of the enrollments go to a handful of hot sections so they fill up under contention.
+ * <p>
+ * The report lists throughput and latency percentiles per operation, a breakdown of every non-success response,
+ * and the number of oversold sections, both as the server reports them and as counted from accepted enrollments.
+ * <p>
+ * Options: {@code --base-url} (http://localhost:8484), {@code --students} (2000), {@code --concurrency} (200),
+ * {@code --enrollments-per-student} (3), {@code --hot-sections} (10), {@code --hot-share} (50 percent), {@code --seed} (7).
+ */
+public class RegistrationRush {
+
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+    private static final List<String> OPERATIONS = List.of("login", "browse catalog", "browse sections", "enroll");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final String baseUrl;
+    private final int students;
+    private final int concurrency;
+    private final int enrollmentsPerStudent;
+    private final int hotSections;
+    private final int hotShare;
+    private final long seed;
+
+    private final Map<String, LatencyRecorder> latencies = new LinkedHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentSkipListMap<>();
+    private final Map<Long, AtomicInteger> acceptedBySection = new ConcurrentHashMap<>();
+
+    public RegistrationRush(Arguments arguments) {
+        this.baseUrl = arguments.get("base-url", "http://localhost:8484");
+        this.students = arguments.getInt("students", 2000);
+        this.concurrency = arguments.getInt("concurrency", 200);
+        this.enrollmentsPerStudent = arguments.getInt("enrollments-per-student", 3);
+        this.hotSections = arguments.getInt("hot-sections", 10);
+        this.hotShare = arguments.getInt("hot-share", 50);
+        this.seed = arguments.getLong("seed", 7);
+        OPERATIONS.forEach(operation -> latencies.put(operation, new LatencyRecorder()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new RegistrationRush(new Arguments(args)).run();
+    }
+
+    void run() throws Exception {
+        // Find the sections open for registration, as any student sees them
+        Session observer = login(SyntheticDataGenerator.STUDENT_USERNAME.formatted(0));
+        List<Section> before = openSections(observer);
+        if (before.isEmpty()) {
+            throw new IllegalStateException("No section is open for registration. Regenerate the seed and restart the backend.");
+        }
+        List<Section> hot = before.stream().sorted(Comparator.comparingInt(Section::capacity)).limit(hotSections).toList();
+        System.out.printf("Rushing %d students at %d open sections (%d hot), %d in flight%n", students, before.size(), hot.size(), concurrency);
+
+        Semaphore inFlight = new Semaphore(concurrency);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        long started;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int s = 0; s < students; s++) {
+                int student = s;
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    inFlight.acquire();
+                    try {
+                        simulateStudent(student, before, hot, new Random(seed + student));
+                    } finally {
+                        inFlight.release();
+                    }
+                    return null;
+                }));
+            }
+            started = System.nanoTime();
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        List<Section> after = openSections(observer);
+        report(seconds, before, after);
+    }
+
+    private void simulateStudent(int student, List<Section> sections, List<Section> hot, Random random) {
+        Session session;
+        try {
+            session = timed("login", () -> login(SyntheticDataGenerator.STUDENT_USERNAME.formatted(student)));
+        } catch (RequestFailed e) {
+            return;
+        }
+
+        try {
+            Section browsed = sections.get(random.nextInt(sections.size()));
+            timed("browse catalog", () -> send(session.get("/api/courses"), "browse catalog"));
+            timed("browse sections", () -> send(session.get("/api/sections?courseId=" + browsed.courseId()), "browse sections"));
+        } catch (RequestFailed e) {
+            // Keep going; a student who could not browse still tries to enroll
+        }
+
+        Set<Long> chosen = new HashSet<>();
+        while (chosen.size() < enrollmentsPerStudent) {
+            List<Section> pool = random.nextInt(100) < hotShare ? hot : sections;
+            chosen.add(pool.get(random.nextInt(pool.size())).id());
+        }
+        for (Long sectionId : chosen) {
+            try {
+                HttpRequest request = session.post("/api/enrollments?studentId=" + session.userId(), "{\"courseSectionId\":" + sectionId + "}");
+                timed("enroll", () -> send(request, "enroll"));
+                acceptedBySection.computeIfAbsent(sectionId, id -> new AtomicInteger()).incrementAndGet();
+            } catch (RequestFailed e) {
+                // Already counted
+            }
+        }
+    }
+
+    private Session login(String username) throws RequestFailed {
+        String basic = Base64.getEncoder().encodeToString((username + ":" + SyntheticDataGenerator.PASSWORD).getBytes(StandardCharsets.UTF_8));
+        HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Authorization", "Basic " + basic)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build(), "login");
+
+        String token = response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith("AuthToken="))
+                .map(cookie -> cookie.substring("AuthToken=".length(), cookie.contains(";") ? cookie.indexOf(';') : cookie.length()))
+                .findFirst()
+                .orElseThrow(() -> fail("login", "no AuthToken cookie"));
+        return new Session(baseUrl, token, json(response, "login").get("id").asLong());
+    }
+
+    private List<Section> openSections(Session session) throws RequestFailed {
+        LocalDate today = LocalDate.now();
+        List<Section> sections = new ArrayList<>();
+        for (JsonNode section : json(send(session.get("/api/sections"), "list sections"), "list sections")) {
+            JsonNode term = section.get("term");
+            if (!LocalDate.parse(term.get("registrationStart").asText()).isAfter(today) && !LocalDate.parse(term.get("registrationEnd").asText()).isBefore(today)) {
+                sections.add(new Section(section.get("id").asLong(), section.get("course").get("id").asLong(),
+                        section.get("capacity").asInt(), section.get("enrolledCount").asInt()));
+            }
+        }
+        return sections;
+    }
+
+    private HttpResponse<String> send(HttpRequest request, String operation) throws RequestFailed {
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw fail(operation, e.getClass().getSimpleName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw fail(operation, "interrupted");
+        }
+        if (response.statusCode() >= 300) {
+            // Ids and ticket numbers would give every failure its own line, so they are masked before grouping
+            throw fail(operation, response.statusCode() + " " + NUMBER.matcher(message(response.body())).replaceAll("#"));
+        }
+        return response;
+    }
+
+    private <T> T timed(String operation, Call<T> call) throws RequestFailed {
+        long start = System.nanoTime();
+        try {
+            return call.run();
+        } finally {
+            latencies.get(operation).record(System.nanoTime() - start);
+        }
+    }
+
+    private JsonNode json(HttpResponse<String> response, String operation) throws RequestFailed {
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw fail(operation, "unreadable body");
+        }
+    }
+
+    private String message(String body) {
+        try {
+            JsonNode message = objectMapper.readTree(body).get("message");
+            return message != null ? message.asText() : "";
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private RequestFailed fail(String operation, String reason) {
+        failures.computeIfAbsent(operation + ": " + reason, key -> new LongAdder()).increment();
+        return new RequestFailed();
+    }
+
+    private void report(double seconds, List<Section> before, List<Section> after) {
+        long requests = latencies.values().stream().mapToLong(LatencyRecorder::count).sum();
+        System.out.println();
+        System.out.printf("Duration %.1f s, %d requests, %.1f requests/s%n%n", seconds, requests, requests / seconds);
+
+        System.out.printf("%-18s %8s %9s %9s %9s %9s %9s %9s%n", "operation", "count", "per sec", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        latencies.forEach((operation, recorder) -> System.out.printf("%-18s %s%n", operation, recorder.summary(seconds)));
+
+        System.out.println();
+        System.out.println("Errors:");
+        if (failures.isEmpty()) {
+            System.out.println("  none");
+        }
+        failures.forEach((reason, count) -> System.out.printf("  %6d  %s%n", count.sum(), reason));
+
+        // A section is oversold if the server shows more enrolled than capacity, or if more enrollments were
+        // accepted than there were free seats when the rush started
+        Map<Long, Section> startingSeats = new HashMap<>();
+        before.forEach(section -> startingSeats.put(section.id(), section));
+        long serverOversold = after.stream().filter(section -> section.enrolledCount() > section.capacity()).count();
+        long acceptedOversold = acceptedBySection.entrySet().stream()
+                .filter(accepted -> {
+                    Section section = startingSeats.get(accepted.getKey());
+                    return section != null && section.enrolledCount() + accepted.getValue().get() > section.capacity();
+                })
+                .count();
+        long full = after.stream().filter(section -> section.enrolledCount() >= section.capacity()).count();
+        long accepted = acceptedBySection.values().stream().mapToLong(AtomicInteger::get).sum();
+
+        System.out.println();
+        System.out.printf("Enrollments accepted: %d, sections full: %d of %d%n", accepted, full, after.size());
+        System.out.printf("Oversold sections: %d by server counts, %d by accepted enrollments%n", serverOversold, acceptedOversold);
+    }
+
+    private record Section(long id, long courseId, int capacity, int enrolledCount) {
+    }
+
+    private record Session(String baseUrl, String token, long userId) {
+
+        HttpRequest get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build();
+        }
+
+        HttpRequest post(String path, String body) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .header("Idempotency-Key", UUID.randomUUID().toString())
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Call<T> {
+        T run() throws RequestFailed;
+    }
+
+    /**
+     * Thrown once a failure has been counted, to stop the simulated student's current step.
+     */
+    private static final class RequestFailed extends Exception {
+        RequestFailed() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package net.tylerwade.registrationsystem.loadtest;
+
+import net.tylerwade.registrationsystem.coursesection.schedule.MeetingTime;
+import net.tylerwade.registrationsystem.coursesection.schedule.ScheduleParser;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Writes a SQL seed for a registration rush: a past and an open term, departments of courses with prerequisite chains,
+ * sections in both terms, instructors, and students with a transcript of completed courses.
+ * <p>
+ * All ids start at {@code --id-offset}, clear of the sample data in db_init.sql. The open term's registration window
+ * is built around the day the seed is generated, so regenerate it before each run.
+ * <p>
+ * Options: {@code --students} (50000), {@code --departments} (10), {@code --levels} (30 courses per department),
+ * {@code --sections-per-course} (2), {@code --seed} (42), {@code --id-offset} (100000),
+ * {@code --out} (target/loadtest/seed.sql).
+ */
+public class SyntheticDataGenerator {
+
+    static final String PASSWORD = "loadtest";
+    static final String STUDENT_USERNAME = "student%d@loadtest.example";
+
+    private static final int INSTRUCTOR_AUTHORITY_ID = 2;
+    private static final int STUDENT_AUTHORITY_ID = 3;
+    private static final int BATCH_SIZE = 500;
+
+    private static final String[] DEPARTMENTS = {"CMSC", "MATH", "PHYS", "CHEM", "BIOL", "ENGL", "HIST", "ECON", "PSYC", "ARTS", "MUSC", "PHIL"};
+    private static final String[] SCHEDULES = {
+            "MWF 8:00 AM - 8:50 AM", "MWF 9:00 AM - 9:50 AM", "MWF 10:00 AM - 10:50 AM", "MWF 11:00 AM - 11:50 AM",
+            "TTh 8:00 AM - 9:15 AM", "TTh 9:30 AM - 10:45 AM", "TTh 11:00 AM - 12:15 PM", "TTh 1:00 PM - 2:15 PM",
+            "MW 2:00 PM - 3:15 PM", "MW 3:30 PM - 4:45 PM", "Online", "TBA"};
+
+    private final Random random;
+    private final int students;
+    private final int departments;
+    private final int levels;
+    private final int sectionsPerCourse;
+    private final long idOffset;
+    private final LocalDate today = LocalDate.now();
+
+    private final List<String> statements = new ArrayList<>();
+
+    public SyntheticDataGenerator(Arguments arguments) {
+        this.random = new Random(arguments.getLong("seed", 42));
+        this.students = arguments.getInt("students", 50_000);
+        this.departments = Math.min(arguments.getInt("departments", 10), DEPARTMENTS.length);
+        this.levels = arguments.getInt("levels", 30);
+        this.sectionsPerCourse = arguments.getInt("sections-per-course", 2);
+        this.idOffset = arguments.getLong("id-offset", 100_000);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Arguments arguments = new Arguments(args);
+        Path out = Path.of(arguments.get("out", "target/loadtest/seed.sql"));
+        new SyntheticDataGenerator(arguments).write(out);
+        System.out.println("Wrote " + out.toAbsolutePath());
+    }
+
+    void write(Path out) throws IOException {
+        Files.createDirectories(out.toAbsolutePath().getParent());
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+
+        // Terms: one that ended last semester, and one whose registration is open now
+        long pastTermId = idOffset;
+        long openTermId = idOffset + 1;
+        List<String> terms = List.of(
+                row(pastTermId, date(today.minusDays(150)), date(today.minusDays(30)), date(today.minusDays(200)), date(today.minusDays(160)), date(today)),
+                row(openTermId, date(today.plusDays(21)), date(today.plusDays(140)), date(today.minusDays(1)), date(today.plusDays(14)), date(today)));
+        insert("terms (id, start_date, end_date, registration_start, registration_end, created_at)", terms);
+
+        // One instructor per department
+        List<String> instructors = new ArrayList<>();
+        List<String> instructorAuthorities = new ArrayList<>();
+        for (int d = 0; d < departments; d++) {
+            long id = idOffset + d;
+            instructors.add(row(id, quote("instructor" + d + "@loadtest.example"), quote(passwordHash), quote("Instructor"), quote(DEPARTMENTS[d]), date(today)));
+            instructorAuthorities.add(row(id, INSTRUCTOR_AUTHORITY_ID));
+        }
+
+        // Courses, each level of a department possibly requiring the level below it
+        List<String> courses = new ArrayList<>();
+        List<String> prerequisites = new ArrayList<>();
+        for (int d = 0; d < departments; d++) {
+            for (int level = 0; level < levels; level++) {
+                long courseId = courseId(d, level);
+                courses.add(row(courseId, quote(DEPARTMENTS[d]), 100 + level * 10, quote(DEPARTMENTS[d] + " " + (100 + level * 10)),
+                        quote("Synthetic course " + (level + 1) + " of " + DEPARTMENTS[d] + "."), 1 + random.nextInt(4), date(today)));
+                if (level > 0 && random.nextInt(2) == 0) {
+                    prerequisites.add(row(idOffset + prerequisites.size(), courseId, courseId(d, level - 1), 60, date(today)));
+                }
+            }
+        }
+
+        // Students, with a transcript from the lower levels in the past term
+        int pastSectionCount = departments * levels;
+        int[] pastEnrolledCounts = new int[pastSectionCount];
+        List<String> users = new ArrayList<>(instructors);
+        List<String> userAuthorities = new ArrayList<>(instructorAuthorities);
+        List<String> enrollments = new ArrayList<>();
+        for (int s = 0; s < students; s++) {
+            long studentId = idOffset + departments + s;
+            users.add(row(studentId, quote(STUDENT_USERNAME.formatted(s)), quote(passwordHash), quote("Student"), quote(String.valueOf(s)), date(today)));
+            userAuthorities.add(row(studentId, STUDENT_AUTHORITY_ID));
+
+            int completed = 3 + random.nextInt(4);
+            Set<Integer> taken = new HashSet<>();
+            while (taken.size() < completed) {
+                taken.add(random.nextInt(departments) * levels + random.nextInt(Math.min(levels, 10)));
+            }
+            for (int pastSection : taken) {
+                pastEnrolledCounts[pastSection]++;
+                enrollments.add(row(studentId, idOffset + pastSection, 50 + random.nextInt(51), true, quote("COMPLETED"), date(today.minusDays(150))));
+            }
+        }
+
+        // Sections: one per course in the past term, several per course in the open term
+        List<String> sections = new ArrayList<>();
+        for (int c = 0; c < pastSectionCount; c++) {
+            int department = c / levels;
+            sections.add(section(idOffset + c, courseId(department, c % levels), pastTermId, idOffset + department, Math.max(pastEnrolledCounts[c], 1), pastEnrolledCounts[c]));
+        }
+        long sectionId = idOffset + pastSectionCount;
+        for (int c = 0; c < pastSectionCount; c++) {
+            int department = c / levels;
+            for (int k = 0; k < sectionsPerCourse; k++) {
+                sections.add(section(sectionId++, courseId(department, c % levels), openTermId, idOffset + department, 10 + random.nextInt(51), 0));
+            }
+        }
+
+        insert("users (id, username, password, first_name, last_name, created_at)", users);
+        insert("user_authorities (user_id, authority_id)", userAuthorities);
+        insert("courses (id, department, code, title, description, credits, created_at)", courses);
+        insert("prerequisites (id, course_id, required_course_id, minimum_grade, created_at)", prerequisites);
+        insert("course_sections (id, course_id, term_id, instructor_id, room, capacity, schedule, meeting_days, meeting_start_minute, meeting_end_minute, enrolled_count, created_at)", sections);
+        insert("enrollments (student_id, course_section_id, grade, graded, status, created_at)", enrollments);
+
+        try (BufferedWriter writer = Files.newBufferedWriter(out)) {
+            for (String statement : statements) {
+                writer.write(statement);
+                writer.newLine();
+            }
+        }
+        System.out.printf("%d students, %d courses, %d prerequisites, %d sections, %d completed enrollments%n",
+                students, courses.size(), prerequisites.size(), sections.size(), enrollments.size());
+    }
+
+    private long courseId(int department, int level) {
+        return idOffset + (long) department * levels + level;
+    }
+
+    private String section(long id, long courseId, long termId, long instructorId, int capacity, int enrolledCount) {
+        String schedule = SCHEDULES[random.nextInt(SCHEDULES.length)];
+        Optional<MeetingTime> meetingTime = ScheduleParser.parse(schedule);
+        return row(id, courseId, termId, instructorId, quote("R" + (id % 10_000)), capacity, quote(schedule),
+                meetingTime.map(time -> (Object) time.days()).orElse(null),
+                meetingTime.map(time -> (Object) time.startMinute()).orElse(null),
+                meetingTime.map(time -> (Object) time.endMinute()).orElse(null),
+                enrolledCount, date(today));
+    }
+
+    private void insert(String table, List<String> rows) {
+        for (int i = 0; i < rows.size(); i += BATCH_SIZE) {
+            statements.add("INSERT INTO " + table + " VALUES\n" + String.join(",\n", rows.subList(i, Math.min(rows.size(), i + BATCH_SIZE))) + ";");
+        }
+    }
+
+    private static String row(Object... values) {
+        StringJoiner joiner = new StringJoiner(", ", "(", ")");
+        for (Object value : values) {
+            joiner.add(value == null ? "NULL" : value.toString());
+        }
+        return joiner.toString();
+    }
+
+    private static String quote(String value) {
+        return "'" + value.replace("'", "''") + "'";
+    }
+
+    private static String date(LocalDate date) {
+        return quote(date.toString());
+    }
+}
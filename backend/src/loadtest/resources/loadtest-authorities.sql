@@ -0,0 +1 @@
+INSERT INTO authorities (id, name) VALUES (1, 'ADMIN'), (2, 'INSTRUCTOR'), (3, 'STUDENT');
@@ -1,15 +1,27 @@
 package net.tylerwade.registrationsystem;
 
+import net.tylerwade.registrationsystem.auth.principal.PrincipalCacheProperties;
+import net.tylerwade.registrationsystem.auth.provisioning.UserImportProperties;
 import net.tylerwade.registrationsystem.config.AppProperties;
 import net.tylerwade.registrationsystem.config.security.cors.CorsProperties;
+import net.tylerwade.registrationsystem.config.security.jwt.JwtDecodeCacheProperties;
 import net.tylerwade.registrationsystem.config.security.jwt.JwtProperties;
+import net.tylerwade.registrationsystem.config.security.password.BCryptProperties;
+import net.tylerwade.registrationsystem.config.security.password.PasswordHashingProperties;
+import net.tylerwade.registrationsystem.course.catalog.CourseCatalogProperties;
+import net.tylerwade.registrationsystem.enrollment.admission.AdmissionProperties;
+import net.tylerwade.registrationsystem.enrollment.idempotency.IdempotencyProperties;
+import net.tylerwade.registrationsystem.enrollment.transition.EnrollmentSchedulerProperties;
+import net.tylerwade.registrationsystem.enrollment.transcript.TranscriptCacheProperties;
+import net.tylerwade.registrationsystem.enrollment.transition.EnrollmentTransitionProperties;
+import net.tylerwade.registrationsystem.waitlist.WaitlistProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableConfigurationProperties({AppProperties.class, JwtProperties.class, CorsProperties.class})
+@EnableConfigurationProperties({AppProperties.class, JwtProperties.class, JwtDecodeCacheProperties.class, CorsProperties.class, PasswordHashingProperties.class, BCryptProperties.class, WaitlistProperties.class, AdmissionProperties.class, IdempotencyProperties.class, EnrollmentTransitionProperties.class, EnrollmentSchedulerProperties.class, CourseCatalogProperties.class, PrincipalCacheProperties.class, TranscriptCacheProperties.class, UserImportProperties.class})
 @EnableScheduling
 public class Application {
 
@@ -12,14 +12,24 @@ import jakarta.validation.Valid;
 import net.tylerwade.registrationsystem.auth.dto.SignupRequest;
 import net.tylerwade.registrationsystem.auth.dto.UpdateUserRequest;
 import net.tylerwade.registrationsystem.auth.dto.UserDTO;
+import net.tylerwade.registrationsystem.auth.provisioning.UserImportFormat;
+import net.tylerwade.registrationsystem.auth.provisioning.UserImportService;
+import net.tylerwade.registrationsystem.auth.provisioning.dto.UserImportStatusDTO;
 import net.tylerwade.registrationsystem.auth.token.TokenService;
+import net.tylerwade.registrationsystem.config.security.jwt.CachingJwtDecoder;
+import net.tylerwade.registrationsystem.config.security.jwt.dto.JwtDecodeCacheStatsDTO;
+import net.tylerwade.registrationsystem.config.security.password.OffloadingPasswordEncoder;
+import net.tylerwade.registrationsystem.config.security.password.dto.PasswordHashingStatsDTO;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
 
 @Tag(name = "Auth Controller", description = "Operations related to users")
@@ -29,11 +39,17 @@ public class AuthController {
 
     private final UserService userService;
     private final TokenService tokenService;
+    private final CachingJwtDecoder jwtDecoder;
+    private final OffloadingPasswordEncoder passwordEncoder;
+    private final UserImportService userImportService;
 
     @Autowired
-    public AuthController(UserService userService, TokenService tokenService) {
+    public AuthController(UserService userService, TokenService tokenService, CachingJwtDecoder jwtDecoder, OffloadingPasswordEncoder passwordEncoder, UserImportService userImportService) {
         this.userService = userService;
         this.tokenService = tokenService;
+        this.jwtDecoder = jwtDecoder;
+        this.passwordEncoder = passwordEncoder;
+        this.userImportService = userImportService;
     }
 
     /*
@@ -130,5 +146,66 @@ public class AuthController {
     public UserDTO updateUser(Authentication authentication, @Parameter(description = "ID of the user to update") @PathVariable Long userId, @RequestBody UpdateUserRequest updateUserRequest) throws HttpRequestException {
         return userService.updateUserAsAdmin(userId, updateUserRequest, authentication).toDTO();
     }
-}
 
+    /*
+     * Bulk import students
+     */
+    @Operation(summary = "Import students in bulk (admin only)", description = "Starts importing students from a CSV file (text/csv) whose header row names the username, firstName, lastName and password columns, or from a JSON array of users with those fields (application/json). The import runs in the background; poll its status for progress and rejected rows. Existing usernames are skipped. Admin access required.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Import started"),
+        @ApiResponse(responseCode = "400", description = "The file could not be received"),
+        @ApiResponse(responseCode = "409", description = "Another import is still running"),
+        @ApiResponse(responseCode = "415", description = "The file is not CSV or JSON")
+    })
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping(value = "/users/import", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE})
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public UserImportStatusDTO importUsers(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType, InputStream file) throws HttpRequestException {
+        UserImportFormat format = UserImportFormat.of(contentType)
+                .orElseThrow(() -> new HttpRequestException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, "The import file must be CSV or JSON."));
+        return userImportService.start(format, file);
+    }
+
+    /*
+     * Bulk import status
+     */
+    @Operation(summary = "Get the progress of a bulk import (admin only)", description = "Returns the rows read, imported, skipped and rejected so far, and the first rejected rows with the reason. Admin access required.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import status retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "Import not found")
+    })
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/users/import/{importId}")
+    @ResponseStatus(HttpStatus.OK)
+    public UserImportStatusDTO getImportStatus(@Parameter(description = "ID of the import") @PathVariable String importId) throws HttpRequestException {
+        return userImportService.getStatus(importId);
+    }
+
+    /*
+     * Token cache statistics
+     */
+    @Operation(summary = "Get token cache statistics (admin only)", description = "Returns the size and hit rate of the cache of verified tokens since startup. Admin access required.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Token cache statistics retrieved successfully")
+    })
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/token-cache")
+    @ResponseStatus(HttpStatus.OK)
+    public JwtDecodeCacheStatsDTO getTokenCacheStats() {
+        return jwtDecoder.getStats();
+    }
+
+    /*
+     * Password hashing statistics
+     */
+    @Operation(summary = "Get password hashing statistics (admin only)", description = "Returns the queue depth, rejections and hash times of the login password hashing executor since startup. Admin access required.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Password hashing statistics retrieved successfully")
+    })
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @GetMapping("/password-hashing")
+    @ResponseStatus(HttpStatus.OK)
+    public PasswordHashingStatsDTO getPasswordHashingStats() {
+        return passwordEncoder.getStats();
+    }
+}
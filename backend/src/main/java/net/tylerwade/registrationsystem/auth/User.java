@@ -3,8 +3,12 @@ package net.tylerwade.registrationsystem.auth;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import lombok.extern.slf4j.Slf4j;
 import net.tylerwade.registrationsystem.auth.authority.Authority;
+import net.tylerwade.registrationsystem.auth.authority.Role;
 import net.tylerwade.registrationsystem.auth.dto.UserDTO;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import org.springframework.security.core.GrantedAuthority;
@@ -13,8 +17,9 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Represents a user entity in the registration system.
@@ -28,6 +33,7 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
+@Slf4j
 public class User implements UserDetails {
 
     /**
@@ -64,9 +70,10 @@ public class User implements UserDetails {
 
     /**
      * Authorities assigned to the user, representing roles and permissions.
-     * Fetched eagerly and mapped via a join table.
+     * Fetched eagerly and mapped via a join table. Listing users loads the authorities of every user in one subselect.
      */
-    @OneToMany(fetch = FetchType.EAGER)
+    @ManyToMany(fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
     @JoinTable(
             name = "user_authorities",
             joinColumns = @JoinColumn(name = "user_id"),
@@ -81,21 +88,37 @@ public class User implements UserDetails {
     @CreatedDate
     private Date createdAt;
 
+    /**
+     * Role bitmask and granted authorities derived from {@link #userAuthorities}, computed on first use.
+     * Immutable once computed, so a user shared between requests can be read without locking.
+     * Replaced whenever the authorities are set; the authority set itself must not be modified in place.
+     */
+    @Transient
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    private final transient AtomicReference<GrantedRoles> grantedRoles = new AtomicReference<>();
+
+    /**
+     * Sets the authorities of the user, and drops the roles derived from the previous ones.
+     *
+     * @param userAuthorities The authorities.
+     */
+    public void setUserAuthorities(Set<Authority> userAuthorities) {
+        this.userAuthorities = userAuthorities;
+        this.grantedRoles.set(null);
+    }
+
     // --- UserDetail Functions ---
 
     /**
      * Retrieves the authorities granted to the user.
-     * Converts Authority entities to SimpleGrantedAuthority objects prefixed with "ROLE_".
+     * Authority entities become SimpleGrantedAuthority objects prefixed with "ROLE_", built once and shared.
      *
-     * @return A collection of granted authorities.
+     * @return An immutable collection of granted authorities.
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        Set<SimpleGrantedAuthority> auth = userAuthorities.stream()
-                .map(authority -> new SimpleGrantedAuthority("ROLE_" + authority.getName()))
-                .collect(Collectors.toSet());
-        System.out.println(auth);
-        return auth;
+        return grantedRoles().authorities();
     }
 
     /**
@@ -176,6 +199,16 @@ public class User implements UserDetails {
                 createdAt);
     }
 
+    /**
+     * Gets the user's roles as a {@link Role} bitmask.
+     *
+     * @return The role bitmask.
+     */
+    @JsonIgnore
+    public int getRoleMask() {
+        return grantedRoles().mask();
+    }
+
     /**
      * Checks if the user has the "ADMIN" authority.
      *
@@ -183,11 +216,7 @@ public class User implements UserDetails {
      */
     @JsonIgnore
     public boolean isAdmin() {
-        return userAuthorities
-                .stream()
-                .filter(authority -> authority.getName().equalsIgnoreCase("ADMIN"))
-                .findFirst()
-                .orElse(null) != null;
+        return Role.ADMIN.in(grantedRoles().mask());
     }
 
     /**
@@ -197,11 +226,7 @@ public class User implements UserDetails {
      */
     @JsonIgnore
     public boolean isInstructor() {
-        return userAuthorities
-                .stream()
-                .filter(authority -> authority.getName().equalsIgnoreCase("INSTRUCTOR"))
-                .findFirst()
-                .orElse(null) != null;
+        return Role.INSTRUCTOR.in(grantedRoles().mask());
     }
 
     /**
@@ -211,10 +236,27 @@ public class User implements UserDetails {
      */
     @JsonIgnore
     public boolean isStudent() {
-        return userAuthorities
-                .stream()
-                .filter(authority -> authority.getName().equalsIgnoreCase("STUDENT"))
-                .findFirst()
-                .orElse(null) != null;
+        return Role.STUDENT.in(grantedRoles().mask());
+    }
+
+    private GrantedRoles grantedRoles() {
+        GrantedRoles current = grantedRoles.get();
+        if (current == null) {
+            int mask = 0;
+            Set<GrantedAuthority> authorities = new HashSet<>();
+            if (userAuthorities != null) {
+                for (Authority authority : userAuthorities) {
+                    mask |= Role.bitOf(authority.getName());
+                    authorities.add(new SimpleGrantedAuthority("ROLE_" + authority.getName()));
+                }
+            }
+            current = new GrantedRoles(mask, Set.copyOf(authorities));
+            grantedRoles.set(current);
+            log.debug("Granted authorities of {}: {}", username, current.authorities());
+        }
+        return current;
+    }
+
+    private record GrantedRoles(int mask, Set<GrantedAuthority> authorities) {
     }
-}
\ No newline at end of file
+}
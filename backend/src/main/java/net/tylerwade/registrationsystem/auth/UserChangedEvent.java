@@ -0,0 +1,9 @@
+package net.tylerwade.registrationsystem.auth;
+
+/**
+ * Published when a user's details or roles change, so anything derived from the user can be refreshed.
+ *
+ * @param username The username of the changed user.
+ */
+public record UserChangedEvent(String username) {
+}
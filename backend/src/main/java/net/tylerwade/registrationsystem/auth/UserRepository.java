@@ -1,11 +1,19 @@
 package net.tylerwade.registrationsystem.auth;
 
+import net.tylerwade.registrationsystem.auth.authority.Authority;
+import net.tylerwade.registrationsystem.auth.authority.UserAuthorityRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -14,4 +22,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Page<User> findAll(Pageable pageable);
     Optional<User> findByUsername(String username);
     boolean existsByUsernameIgnoreCase(String username);
+
+    @Query("SELECT new net.tylerwade.registrationsystem.auth.authority.UserAuthorityRow(u.id, a.id, a.name) FROM User u JOIN u.userAuthorities a WHERE u.id IN :userIds")
+    List<UserAuthorityRow> findAuthorityRowsByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Loads the authorities of several users in one query. Users without authorities are left out of the map.
+     */
+    default Map<Long, Set<Authority>> findAuthoritiesByUserIdIn(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return UserAuthorityRow.groupByUser(findAuthorityRowsByUserIdIn(userIds));
+    }
 }
@@ -2,8 +2,11 @@ package net.tylerwade.registrationsystem.auth;
 
 import net.tylerwade.registrationsystem.auth.dto.SignupRequest;
 import net.tylerwade.registrationsystem.auth.dto.UpdateUserRequest;
+import net.tylerwade.registrationsystem.auth.principal.AuthenticatedUser;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -14,7 +17,7 @@ import java.util.List;
  * Service interface for managing user-related operations.
  */
 @Service
-public interface UserService extends UserDetailsService {
+public interface UserService extends UserDetailsService, UserDetailsPasswordService {
 
     /**
      * Finds a user by their ID.
@@ -41,6 +44,17 @@ public interface UserService extends UserDetailsService {
      */
     User loadUserByUsername(String username) throws UsernameNotFoundException;
 
+    /**
+     * Replaces a user's stored password hash. Called after a successful login when the stored hash was encoded at a
+     * different cost than the current one.
+     *
+     * @param user        The user who logged in.
+     * @param newPassword The password, encoded at the current cost.
+     * @return The updated user.
+     */
+    @Override
+    User updatePassword(UserDetails user, String newPassword);
+
     /**
      * Signs up a new user.
      *
@@ -52,6 +66,7 @@ public interface UserService extends UserDetailsService {
 
     /**
      * Retrieves the currently authenticated user.
+     * The user may be served from a short-lived cache, so it is only meant for identity and permission checks.
      *
      * @param authentication The authentication object of the current user.
      * @return The user entity.
@@ -60,6 +75,17 @@ public interface UserService extends UserDetailsService {
         return this.loadUserByUsername(authentication.getName());
     }
 
+    /**
+     * Retrieves the identity and roles of the currently authenticated user.
+     * Read from the token claims when present, so ownership and role checks need no lookup.
+     *
+     * @param authentication The authentication object of the current user.
+     * @return The authenticated user.
+     */
+    default AuthenticatedUser getAuthenticatedUser(Authentication authentication) {
+        return AuthenticatedUser.of(getUser(authentication));
+    }
+
 
     /**
      * Creates an Authentication object for the specified user.
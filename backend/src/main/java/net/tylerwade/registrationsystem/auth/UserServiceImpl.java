@@ -5,17 +5,23 @@ import net.tylerwade.registrationsystem.auth.authority.Authority;
 import net.tylerwade.registrationsystem.auth.authority.AuthorityService;
 import net.tylerwade.registrationsystem.auth.dto.SignupRequest;
 import net.tylerwade.registrationsystem.auth.dto.UpdateUserRequest;
+import net.tylerwade.registrationsystem.auth.principal.AuthenticatedUser;
+import net.tylerwade.registrationsystem.auth.principal.PrincipalCache;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 
@@ -26,6 +32,8 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthorityService authorityService;
+    private final PrincipalCache principalCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public User findById(Long userId) throws HttpRequestException {
@@ -44,6 +52,36 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found."));
     }
 
+    @Override
+    public User getUser(Authentication authentication) {
+        // Served from the principal cache; logins still go through loadUserByUsername so passwords are always current
+        return principalCache.get(authentication.getName(), this::loadUserByUsername);
+    }
+
+    @Override
+    public AuthenticatedUser getAuthenticatedUser(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof Jwt jwt) {
+            Optional<AuthenticatedUser> fromToken = AuthenticatedUser.fromJwt(jwt);
+            if (fromToken.isPresent()) {
+                return fromToken.get();
+            }
+        }
+
+        // Basic auth, or a token issued without the user ID claim
+        return AuthenticatedUser.of(getUser(authentication));
+    }
+
+    @Override
+    public User updatePassword(UserDetails user, String newPassword) {
+        User targetUser = loadUserByUsername(user.getUsername());
+        targetUser.setPassword(newPassword);
+
+        // Save, drop the cached principal, and return
+        userRepository.save(targetUser);
+        eventPublisher.publishEvent(new UserChangedEvent(targetUser.getUsername()));
+        return targetUser;
+    }
+
     @Override
     public User signup(SignupRequest signupRequest) throws HttpRequestException {
         // Check if user already exists
@@ -68,8 +106,9 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public Authentication createAuthenticationForUser(User user) {
+        // The user is the principal, so the token can carry the user ID
         return new UsernamePasswordAuthenticationToken(
-                user.getUsername(),
+                user,
                 null,
                 user.getAuthorities()
         );
@@ -87,8 +126,9 @@ public class UserServiceImpl implements UserService {
             targetUser.setUserAuthorities(new HashSet<>(Collections.singletonList(authority)));
         }
 
-        // Save and return
+        // Save, drop the cached principal, and return
         userRepository.save(targetUser);
+        eventPublisher.publishEvent(new UserChangedEvent(targetUser.getUsername()));
         return targetUser;
     }
 
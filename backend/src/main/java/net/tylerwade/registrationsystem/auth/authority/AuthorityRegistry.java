@@ -0,0 +1,120 @@
+package net.tylerwade.registrationsystem.auth.authority;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory copy of the authorities table, indexed by name and by id.
+ * <p>
+ * The table holds a handful of static rows, so it is read once on first use and every lookup after that is a map read
+ * with no SQL. A lookup that misses reloads the table once before giving up, so rows inserted after the first load,
+ * e.g. by a seed script, are still found. The loaded authorities are shared between callers and must not be modified.
+ */
+@Slf4j
+@Component
+public class AuthorityRegistry {
+
+    private final AuthorityRepository authorityRepository;
+    private final Object loadLock = new Object();
+
+    private volatile Snapshot snapshot;
+
+    public AuthorityRegistry(AuthorityRepository authorityRepository) {
+        this.authorityRepository = authorityRepository;
+    }
+
+    /**
+     * Find an authority by name, ignoring case.
+     *
+     * @param name The authority name, e.g. "STUDENT".
+     * @return The authority, or empty if there is no authority with that name.
+     */
+    public Optional<Authority> findByName(String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+
+        String key = name.toUpperCase(Locale.ROOT);
+        Snapshot current = snapshot();
+        Authority authority = current.byName().get(key);
+        if (authority == null) {
+            authority = reloadAfterMiss(current).byName().get(key);
+        }
+        return Optional.ofNullable(authority);
+    }
+
+    /**
+     * Find an authority by id.
+     *
+     * @param id The id of the authority.
+     * @return The authority, or empty if there is no authority with that id.
+     */
+    public Optional<Authority> findById(Integer id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+
+        Snapshot current = snapshot();
+        Authority authority = current.byId().get(id);
+        if (authority == null) {
+            authority = reloadAfterMiss(current).byId().get(id);
+        }
+        return Optional.ofNullable(authority);
+    }
+
+    /**
+     * Reload the authorities from the database, e.g. after the table was changed outside the application.
+     */
+    public void refresh() {
+        synchronized (loadLock) {
+            snapshot = load();
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (loadLock) {
+            if (snapshot == null) {
+                snapshot = load();
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot reloadAfterMiss(Snapshot missed) {
+        synchronized (loadLock) {
+            // Another thread may already have reloaded since the miss
+            if (snapshot == missed) {
+                snapshot = load();
+            }
+            return snapshot;
+        }
+    }
+
+    private Snapshot load() {
+        List<Authority> authorities = authorityRepository.findAll();
+
+        Map<String, Authority> byName = new HashMap<>();
+        Map<Integer, Authority> byId = new HashMap<>();
+        for (Authority authority : authorities) {
+            byName.put(authority.getName().toUpperCase(Locale.ROOT), authority);
+            byId.put(authority.getId(), authority);
+        }
+
+        log.debug("Loaded {} authorities", authorities.size());
+        return new Snapshot(Map.copyOf(byName), Map.copyOf(byId));
+    }
+
+    private record Snapshot(Map<String, Authority> byName, Map<Integer, Authority> byId) {
+    }
+}
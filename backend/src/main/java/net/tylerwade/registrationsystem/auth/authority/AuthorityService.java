@@ -9,21 +9,22 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class AuthorityService {
 
-    private final AuthorityRepository authorityRepository;
+    // Authorities are static rows, so they are served from memory instead of queried on every signup
+    private final AuthorityRegistry authorityRegistry;
 
     public Authority getStudentAuthority() throws HttpRequestException {
-        return authorityRepository.findByNameEqualsIgnoreCase("STUDENT").orElseThrow(() -> new HttpRequestException(HttpStatus.INTERNAL_SERVER_ERROR, "Student authority not found."));
+        return authorityRegistry.findByName(Role.STUDENT.name()).orElseThrow(() -> new HttpRequestException(HttpStatus.INTERNAL_SERVER_ERROR, "Student authority not found."));
     }
 
     public Authority getInstructorAuthority() throws HttpRequestException {
-        return authorityRepository.findByNameEqualsIgnoreCase("INSTRUCTOR").orElseThrow(() -> new HttpRequestException(HttpStatus.INTERNAL_SERVER_ERROR, "Instructor authority not found."));
+        return authorityRegistry.findByName(Role.INSTRUCTOR.name()).orElseThrow(() -> new HttpRequestException(HttpStatus.INTERNAL_SERVER_ERROR, "Instructor authority not found."));
     }
 
     public Authority getAdminAuthority() throws HttpRequestException {
-        return authorityRepository.findByNameEqualsIgnoreCase("ADMIN").orElseThrow(() -> new HttpRequestException(HttpStatus.INTERNAL_SERVER_ERROR, "Admin authority not found."));
+        return authorityRegistry.findByName(Role.ADMIN.name()).orElseThrow(() -> new HttpRequestException(HttpStatus.INTERNAL_SERVER_ERROR, "Admin authority not found."));
     }
 
     public Authority findByName(String name) throws HttpRequestException {
-        return authorityRepository.findByNameEqualsIgnoreCase(name).orElseThrow(() -> new HttpRequestException(HttpStatus.NOT_FOUND, "Authority not found."));
+        return authorityRegistry.findByName(name).orElseThrow(() -> new HttpRequestException(HttpStatus.NOT_FOUND, "Authority not found."));
     }
 }
@@ -0,0 +1,69 @@
+package net.tylerwade.registrationsystem.auth.authority;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * The roles a user can hold, each with a fixed bit so a set of roles fits in a single int, e.g. in a token claim.
+ * Names match the {@link Authority} names; granted authorities carry them with the "ROLE_" prefix.
+ */
+public enum Role {
+    ADMIN(1),
+    INSTRUCTOR(1 << 1),
+    STUDENT(1 << 2);
+
+    private static final String AUTHORITY_PREFIX = "ROLE_";
+
+    private final int bit;
+
+    Role(int bit) {
+        this.bit = bit;
+    }
+
+    public int bit() {
+        return bit;
+    }
+
+    /**
+     * Checks if a role mask contains this role.
+     *
+     * @param mask The role mask.
+     * @return True if the role's bit is set.
+     */
+    public boolean in(int mask) {
+        return (mask & bit) != 0;
+    }
+
+    /**
+     * Builds a role mask from granted authorities. Authorities that are not roles are ignored.
+     *
+     * @param authorities The granted authorities, e.g. "ROLE_STUDENT".
+     * @return The role mask.
+     */
+    public static int maskOf(Collection<? extends GrantedAuthority> authorities) {
+        int mask = 0;
+        for (GrantedAuthority authority : authorities) {
+            String name = authority.getAuthority();
+            if (name != null && name.startsWith(AUTHORITY_PREFIX)) {
+                mask |= bitOf(name.substring(AUTHORITY_PREFIX.length()));
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Get the bit of a role by its authority name.
+     *
+     * @param name The authority name, e.g. "STUDENT".
+     * @return The role's bit, or 0 if the name is not a role.
+     */
+    public static int bitOf(String name) {
+        for (Role role : values()) {
+            if (role.name().equalsIgnoreCase(name)) {
+                return role.bit;
+            }
+        }
+        return 0;
+    }
+}
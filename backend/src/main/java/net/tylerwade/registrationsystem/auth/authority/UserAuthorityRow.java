@@ -0,0 +1,25 @@
+package net.tylerwade.registrationsystem.auth.authority;
+
+import java.util.*;
+
+/**
+ * One authority held by one user, read as a flat row so listings can attach authorities without loading users.
+ */
+public record UserAuthorityRow(Long userId, Integer authorityId, String authorityName) {
+
+    /**
+     * Groups authority rows by user. Each authority is built once and shared between the users holding it.
+     *
+     * @param rows The authority rows.
+     * @return The authorities of each user that has at least one.
+     */
+    public static Map<Long, Set<Authority>> groupByUser(List<UserAuthorityRow> rows) {
+        Map<Integer, Authority> authorities = new HashMap<>();
+        Map<Long, Set<Authority>> byUser = new HashMap<>();
+        for (UserAuthorityRow row : rows) {
+            Authority authority = authorities.computeIfAbsent(row.authorityId(), id -> new Authority(id, row.authorityName()));
+            byUser.computeIfAbsent(row.userId(), id -> new HashSet<>()).add(authority);
+        }
+        return byUser;
+    }
+}
@@ -0,0 +1,60 @@
+package net.tylerwade.registrationsystem.auth.principal;
+
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.auth.authority.Role;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.Optional;
+
+/**
+ * The identity and roles of the user making a request, as needed for ownership and permission checks.
+ * <p>
+ * Built from the claims of a validated token where possible, so no lookup is needed. Like the "roles" claim,
+ * roles read from a token reflect the user when the token was issued.
+ *
+ * @param id       The ID of the user.
+ * @param username The username of the user.
+ * @param roleMask The user's roles as a {@link Role} bitmask.
+ */
+public record AuthenticatedUser(Long id, String username, int roleMask) {
+
+    /**
+     * Claim holding the user's ID.
+     */
+    public static final String USER_ID_CLAIM = "uid";
+
+    /**
+     * Claim holding the user's {@link Role} bitmask.
+     */
+    public static final String ROLE_MASK_CLAIM = "rmask";
+
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getUsername(), user.getRoleMask());
+    }
+
+    /**
+     * Reads the user from a validated token.
+     *
+     * @param jwt The token.
+     * @return The user, or empty if the token does not carry the user ID and role claims, e.g. it was issued before they were added.
+     */
+    public static Optional<AuthenticatedUser> fromJwt(Jwt jwt) {
+        if (!(jwt.getClaims().get(USER_ID_CLAIM) instanceof Number userId)
+                || !(jwt.getClaims().get(ROLE_MASK_CLAIM) instanceof Number roleMask)) {
+            return Optional.empty();
+        }
+        return Optional.of(new AuthenticatedUser(userId.longValue(), jwt.getSubject(), roleMask.intValue()));
+    }
+
+    public boolean isAdmin() {
+        return Role.ADMIN.in(roleMask);
+    }
+
+    public boolean isInstructor() {
+        return Role.INSTRUCTOR.in(roleMask);
+    }
+
+    public boolean isStudent() {
+        return Role.STUDENT.in(roleMask);
+    }
+}
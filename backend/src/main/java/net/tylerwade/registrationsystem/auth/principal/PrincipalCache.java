@@ -0,0 +1,60 @@
+package net.tylerwade.registrationsystem.auth.principal;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.auth.UserChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded, short-lived cache of authenticated users by username, so permission checks do not load the user on every request.
+ * <p>
+ * Cached users are detached and shared between requests: use them for identity and role checks, never modify them.
+ * Entries are invalidated after the transaction that changed the user commits. As in the course catalog cache, a loaded
+ * user is only stored if no invalidation happened while it was being loaded.
+ */
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, User> principals;
+    private final AtomicLong generation = new AtomicLong();
+
+    public PrincipalCache(PrincipalCacheProperties principalCacheProperties) {
+        this.principals = CacheBuilder.newBuilder()
+                .maximumSize(principalCacheProperties.maxEntries())
+                .expireAfterWrite(principalCacheProperties.ttlSeconds(), TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Get a user, loading it if it is not cached.
+     *
+     * @param username The username of the user.
+     * @param loader   Loads the user. Exceptions are passed through and nothing is cached.
+     * @return The user.
+     */
+    public User get(String username, Function<String, User> loader) {
+        User cached = principals.getIfPresent(username);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadGeneration = generation.get();
+        User loaded = loader.apply(username);
+        if (generation.get() == loadGeneration) {
+            principals.put(username, loaded);
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        generation.incrementAndGet();
+        principals.invalidate(event.username());
+    }
+}
@@ -0,0 +1,13 @@
+package net.tylerwade.registrationsystem.auth.principal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the authenticated principal cache.
+ *
+ * @param maxEntries The maximum number of cached principals.
+ * @param ttlSeconds How long a cached principal is served before it is loaded again, in seconds.
+ */
+@ConfigurationProperties(prefix = "auth.principal-cache")
+public record PrincipalCacheProperties(Long maxEntries, Long ttlSeconds) {
+}
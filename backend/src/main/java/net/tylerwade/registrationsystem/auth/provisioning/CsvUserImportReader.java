@@ -0,0 +1,143 @@
+package net.tylerwade.registrationsystem.auth.provisioning;
+
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.springframework.http.HttpStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads users from comma separated values. The first record names the columns; the column names are matched ignoring
+ * case, spaces, dashes and underscores, so "first_name" and "First Name" both find the firstName column. Other columns
+ * are ignored. Fields may be quoted, and quoted fields may contain commas, doubled quotes and line breaks.
+ */
+class CsvUserImportReader implements UserImportReader {
+
+    private static final String[] COLUMNS = {"username", "firstName", "lastName", "password"};
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final BufferedReader reader;
+    private int[] columnIndexes;
+    private long row;
+
+    CsvUserImportReader(InputStream inputStream) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public List<UserImportRow> next(int max) throws IOException {
+        if (columnIndexes == null) {
+            readHeader();
+        }
+
+        List<UserImportRow> rows = new ArrayList<>();
+        while (rows.size() < max) {
+            List<String> record = readRecord();
+            if (record == null) {
+                break;
+            }
+
+            // Skip blank lines, e.g. a trailing newline
+            if (record.size() == 1 && record.getFirst().isBlank()) {
+                continue;
+            }
+
+            row++;
+            rows.add(new UserImportRow(row,
+                    trimmed(field(record, 0)),
+                    trimmed(field(record, 1)),
+                    trimmed(field(record, 2)),
+                    field(record, 3)));
+        }
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new HttpRequestException(HttpStatus.BAD_REQUEST, "The import file is empty.");
+        }
+
+        // Excel writes a byte order mark in front of UTF-8 files
+        if (!header.getFirst().isEmpty() && header.getFirst().charAt(0) == BYTE_ORDER_MARK) {
+            header.set(0, header.getFirst().substring(1));
+        }
+
+        List<String> names = header.stream().map(CsvUserImportReader::normalize).toList();
+        columnIndexes = new int[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            columnIndexes[i] = names.indexOf(normalize(COLUMNS[i]));
+            if (columnIndexes[i] < 0) {
+                throw new HttpRequestException(HttpStatus.BAD_REQUEST, "The import file has no " + COLUMNS[i] + " column.");
+            }
+        }
+    }
+
+    private String field(List<String> record, int column) {
+        int index = columnIndexes[column];
+        return index < record.size() ? record.get(index) : null;
+    }
+
+    /**
+     * Read one record.
+     *
+     * @return The fields of the record, or null at the end of the file.
+     * @throws IOException If the file cannot be read, or ends inside a quoted field.
+     */
+    private List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new HttpRequestException(HttpStatus.BAD_REQUEST, "The import file ends inside a quoted field after row " + row + ".");
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        // Closing quote; the character after it is read as unquoted
+                        quoted = false;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                return fields;
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    private static String normalize(String columnName) {
+        return columnName.replaceAll("[\\s_-]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static String trimmed(String value) {
+        return value != null ? value.trim() : null;
+    }
+}
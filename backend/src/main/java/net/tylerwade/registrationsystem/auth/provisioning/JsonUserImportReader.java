@@ -0,0 +1,76 @@
+package net.tylerwade.registrationsystem.auth.provisioning;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads users from a JSON array of objects. The array is streamed, one object at a time; unknown fields are ignored.
+ */
+class JsonUserImportReader implements UserImportReader {
+
+    private final JsonParser parser;
+    private final ObjectReader userReader;
+    private boolean started;
+    private boolean finished;
+    private long row;
+
+    JsonUserImportReader(InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+        this.parser = objectMapper.getFactory().createParser(inputStream);
+        this.userReader = objectMapper.readerFor(JsonUser.class);
+    }
+
+    @Override
+    public List<UserImportRow> next(int max) throws IOException {
+        List<UserImportRow> rows = new ArrayList<>();
+        try {
+            if (!started) {
+                started = true;
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new HttpRequestException(HttpStatus.BAD_REQUEST, "The import file must be a JSON array of users.");
+                }
+            }
+
+            while (!finished && rows.size() < max) {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.END_ARRAY || token == null) {
+                    finished = true;
+                    break;
+                }
+                if (token != JsonToken.START_OBJECT) {
+                    throw new HttpRequestException(HttpStatus.BAD_REQUEST, "Row " + (row + 1) + " of the import file is not a JSON object.");
+                }
+
+                JsonUser user = userReader.readValue(parser);
+                row++;
+                rows.add(new UserImportRow(row, trimmed(user.username()), trimmed(user.firstName()), trimmed(user.lastName()), user.password()));
+            }
+        } catch (JsonProcessingException e) {
+            throw new HttpRequestException(HttpStatus.BAD_REQUEST, "The import file is not valid JSON after row " + row + ": " + e.getOriginalMessage());
+        }
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private static String trimmed(String value) {
+        return value != null ? value.trim() : null;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    private record JsonUser(String username, String firstName, String lastName, String password) {
+    }
+}
@@ -0,0 +1,46 @@
+package net.tylerwade.registrationsystem.auth.provisioning;
+
+import org.springframework.http.MediaType;
+
+import java.util.Optional;
+
+/**
+ * The file formats a user import can be read from.
+ */
+public enum UserImportFormat {
+
+    /**
+     * Comma separated values with a header row naming the columns: username, firstName, lastName, password.
+     */
+    CSV(MediaType.valueOf("text/csv")),
+
+    /**
+     * A JSON array of objects with the fields username, firstName, lastName and password.
+     */
+    JSON(MediaType.APPLICATION_JSON);
+
+    private final MediaType mediaType;
+
+    UserImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Get the format of a request body by its content type.
+     *
+     * @param contentType The content type, e.g. "text/csv; charset=UTF-8".
+     * @return The format, or empty if the content type is not supported.
+     */
+    public static Optional<UserImportFormat> of(MediaType contentType) {
+        for (UserImportFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(contentType)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+}
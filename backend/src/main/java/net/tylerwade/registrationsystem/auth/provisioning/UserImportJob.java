@@ -0,0 +1,93 @@
+package net.tylerwade.registrationsystem.auth.provisioning;
+
+import lombok.Getter;
+import net.tylerwade.registrationsystem.auth.provisioning.dto.UserImportErrorDTO;
+import net.tylerwade.registrationsystem.auth.provisioning.dto.UserImportStatusDTO;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one bulk user import. Updated by the import thread and read by status requests.
+ */
+class UserImportJob {
+
+    @Getter
+    private final String id = UUID.randomUUID().toString();
+
+    @Getter
+    private final UserImportFormat format;
+
+    private final int maxErrors;
+    private final Date createdAt = new Date();
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final List<UserImportErrorDTO> errors = new ArrayList<>();
+
+    private volatile UserImportState state = UserImportState.QUEUED;
+    private volatile String message;
+    private volatile Date startedAt;
+    private volatile Date finishedAt;
+
+    UserImportJob(UserImportFormat format, int maxErrors) {
+        this.format = format;
+        this.maxErrors = maxErrors;
+    }
+
+    void start() {
+        startedAt = new Date();
+        state = UserImportState.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = new Date();
+        state = UserImportState.COMPLETED;
+    }
+
+    void fail(String message) {
+        this.message = message;
+        finishedAt = new Date();
+        state = UserImportState.FAILED;
+    }
+
+    void read(int rows) {
+        rowsRead.addAndGet(rows);
+    }
+
+    void imported(int users) {
+        imported.addAndGet(users);
+    }
+
+    void skipped() {
+        skipped.incrementAndGet();
+    }
+
+    void rejected(UserImportRow row, String reason) {
+        failed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new UserImportErrorDTO(row.row(), row.username(), reason));
+            }
+        }
+    }
+
+    boolean isFinished() {
+        return state == UserImportState.COMPLETED || state == UserImportState.FAILED;
+    }
+
+    UserImportStatusDTO toDTO() {
+        List<UserImportErrorDTO> errorsSnapshot;
+        synchronized (errors) {
+            errorsSnapshot = List.copyOf(errors);
+        }
+        return new UserImportStatusDTO(id, format, state,
+                rowsRead.get(), imported.get(), skipped.get(), failed.get(), errorsSnapshot, message,
+                createdAt, startedAt, finishedAt);
+    }
+}
@@ -0,0 +1,16 @@
+package net.tylerwade.registrationsystem.auth.provisioning;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for bulk user imports.
+ *
+ * @param chunkSize      The number of rows checked for existing usernames, hashed and inserted together.
+ * @param hashThreads    The number of threads hashing imported passwords. 0 uses a quarter of the available processors,
+ *                       at least one. Login hashing may use half, so enrollment keeps the last quarter during an intake.
+ * @param maxErrors      The maximum number of failed rows listed in an import's status. Later failures are only counted.
+ * @param retainMinutes  How long the status of a finished import can still be read, in minutes.
+ */
+@ConfigurationProperties(prefix = "user.import")
+public record UserImportProperties(Integer chunkSize, Integer hashThreads, Integer maxErrors, Long retainMinutes) {
+}
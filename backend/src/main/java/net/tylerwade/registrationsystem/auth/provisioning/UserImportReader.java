@@ -0,0 +1,40 @@
+package net.tylerwade.registrationsystem.auth.provisioning;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Reads the users of an import file a chunk at a time, so a file of any size is never held in memory at once.
+ */
+public interface UserImportReader extends Closeable {
+
+    /**
+     * Read the next users from the file.
+     *
+     * @param max The maximum number of users to read.
+     * @return The users read, in file order. Empty once the end of the file is reached.
+     * @throws IOException If the file cannot be read. An {@link net.tylerwade.registrationsystem.exception.HttpRequestException}
+     *                     with a BAD_REQUEST status if the file is malformed.
+     */
+    List<UserImportRow> next(int max) throws IOException;
+
+    /**
+     * Open a reader for a file.
+     *
+     * @param format       The format of the file.
+     * @param inputStream  The file contents. Closed when the reader is closed.
+     * @param objectMapper Maps the users of JSON files.
+     * @return The reader.
+     * @throws IOException If the file cannot be opened.
+     */
+    static UserImportReader open(UserImportFormat format, InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvUserImportReader(inputStream);
+            case JSON -> new JsonUserImportReader(inputStream, objectMapper);
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package net.tylerwade.registrationsystem.auth.provisioning;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Set-based and batched statements for bulk user imports, written with JDBC so a chunk of users costs a handful of
+ * round trips instead of one existence check and two inserts per user.
+ */
+@Repository
+public class UserImportRepository {
+
+    private static final String INSERT_USER = "INSERT INTO users (username, password, first_name, last_name, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_USER_AUTHORITY = "INSERT INTO user_authorities (user_id, authority_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public UserImportRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * Find which of the given usernames are already taken, ignoring case, with a single query.
+     *
+     * @param usernames The upper case usernames to check.
+     * @return The upper case usernames that already exist.
+     */
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+        if (usernames.isEmpty()) {
+            return Set.of();
+        }
+
+        // Same expression as the ignore-case username checks of signup, so both use the index on UPPER(username)
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT UPPER(username) FROM users WHERE UPPER(username) IN (:usernames)",
+                Map.of("usernames", usernames),
+                String.class));
+    }
+
+    /**
+     * Insert users and grant each of them an authority, as one batch per table in a single transaction.
+     *
+     * @param rows           The users to insert.
+     * @param passwordHashes The encoded password of each user, in the same order.
+     * @param authorityId    The id of the authority granted to every user.
+     * @return The number of users inserted.
+     */
+    @Transactional
+    public int insert(List<UserImportRow> rows, List<String> passwordHashes, Integer authorityId) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp createdAt = Timestamp.from(Instant.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_USER, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        UserImportRow row = rows.get(i);
+                        ps.setString(1, row.username());
+                        ps.setString(2, passwordHashes.get(i));
+                        ps.setString(3, row.firstName());
+                        ps.setString(4, row.lastName());
+                        ps.setTimestamp(5, createdAt);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder);
+
+        // One generated key per inserted user, in batch order
+        List<Long> userIds = keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+        if (userIds.size() != rows.size()) {
+            throw new IllegalStateException("Expected " + rows.size() + " generated user ids but got " + userIds.size() + ".");
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_USER_AUTHORITY, userIds, userIds.size(), (ps, userId) -> {
+            ps.setLong(1, userId);
+            ps.setInt(2, authorityId);
+        });
+        return userIds.size();
+    }
+}
@@ -0,0 +1,30 @@
+package net.tylerwade.registrationsystem.auth.provisioning;
+
+import net.tylerwade.registrationsystem.auth.dto.SignupRequest;
+
+/**
+ * One user read from an import file.
+ *
+ * @param row       The position of the user in the file, starting at 1. The CSV header row is not counted.
+ * @param username  The username, i.e. the email address.
+ * @param firstName The first name.
+ * @param lastName  The last name.
+ * @param password  The plain text password.
+ */
+public record UserImportRow(long row, String username, String firstName, String lastName, String password) {
+
+    /**
+     * Converts the row to a signup request, so imported users are held to the same rules as users signing up.
+     *
+     * @return The signup request, with the password confirmed.
+     */
+    public SignupRequest toSignupRequest() {
+        return new SignupRequest(username, firstName, lastName, password, password);
+    }
+
+    @Override
+    public String toString() {
+        // Never log the password
+        return "UserImportRow[row=" + row + ", username=" + username + "]";
+    }
+}
@@ -0,0 +1,29 @@
+package net.tylerwade.registrationsystem.auth.provisioning;
+
+import net.tylerwade.registrationsystem.auth.provisioning.dto.UserImportStatusDTO;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+
+import java.io.InputStream;
+
+public interface UserImportService {
+
+    /**
+     * Start importing students from a file. The file is stored first, then imported in the background while its
+     * progress can be read with {@link #getStatus(String)}. Only one import runs at a time.
+     *
+     * @param format      The format of the file.
+     * @param inputStream The file contents.
+     * @return The status of the new import.
+     * @throws HttpRequestException If another import is still running, or the file cannot be received.
+     */
+    UserImportStatusDTO start(UserImportFormat format, InputStream inputStream) throws HttpRequestException;
+
+    /**
+     * Get the progress of an import.
+     *
+     * @param importId The id of the import.
+     * @return The status of the import.
+     * @throws HttpRequestException If the import does not exist, or finished too long ago.
+     */
+    UserImportStatusDTO getStatus(String importId) throws HttpRequestException;
+}
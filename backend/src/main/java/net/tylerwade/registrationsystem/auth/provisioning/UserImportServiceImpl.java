@@ -0,0 +1,255 @@
+package net.tylerwade.registrationsystem.auth.provisioning;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import net.tylerwade.registrationsystem.auth.authority.AuthorityService;
+import net.tylerwade.registrationsystem.auth.dto.SignupRequest;
+import net.tylerwade.registrationsystem.auth.provisioning.dto.UserImportStatusDTO;
+import net.tylerwade.registrationsystem.config.security.password.BCryptCalibration;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Imports students in bulk, e.g. a semester's intake, without going through signup one user at a time.
+ * <p>
+ * The file is read a chunk at a time. Each chunk is validated with the signup rules, checked against existing
+ * usernames with one query, hashed in parallel on a dedicated executor, and inserted with one batch per table. Rows
+ * whose username already exists, or appeared earlier in the file, are skipped, so an interrupted import can be run
+ * again. Passwords are hashed at the calibrated BCrypt cost, so imported users log in without a rehash.
+ */
+@Slf4j
+@Service
+public class UserImportServiceImpl implements UserImportService, AutoCloseable {
+
+    private final UserImportRepository userImportRepository;
+    private final AuthorityService authorityService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final PasswordEncoder passwordEncoder;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    private final ExecutorService importExecutor;
+    private final ExecutorService hashingExecutor;
+    // Finished jobs only; the running job is read from running, so a long import does not expire while it runs
+    private final Cache<String, UserImportJob> jobs;
+    private final AtomicReference<UserImportJob> running = new AtomicReference<>();
+
+    public UserImportServiceImpl(UserImportRepository userImportRepository, AuthorityService authorityService, Validator validator, ObjectMapper objectMapper, BCryptCalibration bcryptCalibration, UserImportProperties userImportProperties) {
+        this.userImportRepository = userImportRepository;
+        this.authorityService = authorityService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.passwordEncoder = new BCryptPasswordEncoder(bcryptCalibration.strength());
+        this.chunkSize = userImportProperties.chunkSize();
+        this.maxErrors = userImportProperties.maxErrors();
+
+        int hashThreads = userImportProperties.hashThreads() > 0
+                ? userImportProperties.hashThreads()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+        this.importExecutor = Executors.newSingleThreadExecutor(daemonThreads("user-import"));
+        this.hashingExecutor = Executors.newFixedThreadPool(hashThreads, daemonThreads("user-import-hashing"));
+        this.jobs = CacheBuilder.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(userImportProperties.retainMinutes(), TimeUnit.MINUTES)
+                .build();
+    }
+
+    @Override
+    public UserImportStatusDTO start(UserImportFormat format, InputStream inputStream) throws HttpRequestException {
+        UserImportJob job = new UserImportJob(format, maxErrors);
+        if (!running.compareAndSet(null, job)) {
+            throw new HttpRequestException(HttpStatus.CONFLICT, "A user import is already running.");
+        }
+
+        // Store the file first; the request body is gone once the request completes
+        Path file;
+        try {
+            file = Files.createTempFile("user-import-", "." + format.name().toLowerCase(Locale.ROOT));
+            try {
+                Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+        } catch (IOException e) {
+            running.set(null);
+            log.warn("User import file could not be received", e);
+            throw new HttpRequestException(HttpStatus.BAD_REQUEST, "The import file could not be received.");
+        }
+
+        importExecutor.execute(() -> run(job, file));
+        return job.toDTO();
+    }
+
+    @Override
+    public UserImportStatusDTO getStatus(String importId) throws HttpRequestException {
+        UserImportJob job = running.get();
+        if (job == null || !job.getId().equals(importId)) {
+            job = jobs.getIfPresent(importId);
+        }
+        if (job == null) {
+            throw new HttpRequestException(HttpStatus.NOT_FOUND, "User import not found.");
+        }
+        return job.toDTO();
+    }
+
+    private void run(UserImportJob job, Path file) {
+        job.start();
+        log.info("User import {} started ({})", job.getId(), job.getFormat());
+        try (UserImportReader reader = UserImportReader.open(job.getFormat(), Files.newInputStream(file), objectMapper)) {
+            Integer authorityId = authorityService.getStudentAuthority().getId();
+            Set<String> seenUsernames = new HashSet<>();
+
+            List<UserImportRow> chunk;
+            while (!(chunk = reader.next(chunkSize)).isEmpty()) {
+                job.read(chunk.size());
+                importChunk(job, chunk, seenUsernames, authorityId);
+            }
+
+            job.complete();
+        } catch (HttpRequestException e) {
+            job.fail(e.getMessage());
+        } catch (IOException e) {
+            log.warn("User import {} could not read its file", job.getId(), e);
+            job.fail("The import file could not be read.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("The import was interrupted.");
+        } catch (RuntimeException e) {
+            log.error("User import {} failed", job.getId(), e);
+            job.fail("The import stopped unexpectedly: " + e.getMessage());
+        } finally {
+            deleteQuietly(file);
+            // Keep the finished status readable for the full retention period, before the job stops being the running one
+            jobs.put(job.getId(), job);
+            running.compareAndSet(job, null);
+        }
+
+        UserImportStatusDTO status = job.toDTO();
+        log.info("User import {} {}: {} rows read, {} imported, {} skipped, {} failed",
+                job.getId(), status.state(), status.rowsRead(), status.imported(), status.skipped(), status.failed());
+    }
+
+    private void importChunk(UserImportJob job, List<UserImportRow> chunk, Set<String> seenUsernames, Integer authorityId) throws InterruptedException {
+        // Validate, and drop usernames that appeared earlier in the file
+        Map<String, UserImportRow> candidates = new LinkedHashMap<>();
+        for (UserImportRow row : chunk) {
+            String violations = validate(row);
+            if (violations != null) {
+                job.rejected(row, violations);
+            } else if (!seenUsernames.add(row.username().toUpperCase(Locale.ROOT))) {
+                job.skipped();
+            } else {
+                candidates.put(row.username().toUpperCase(Locale.ROOT), row);
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // Drop usernames that already exist, with one query for the whole chunk
+        for (String existing : userImportRepository.findExistingUsernames(candidates.keySet())) {
+            if (candidates.remove(existing) != null) {
+                job.skipped();
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<UserImportRow> rows = List.copyOf(candidates.values());
+        List<String> passwordHashes = hash(rows);
+        try {
+            job.imported(userImportRepository.insert(rows, passwordHashes, authorityId));
+        } catch (DataAccessException e) {
+            log.warn("User import {} could not save rows {} to {}", job.getId(), rows.getFirst().row(), rows.getLast().row(), e);
+            String reason = "Could not be saved: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            rows.forEach(row -> job.rejected(row, reason));
+        }
+    }
+
+    /**
+     * Hash the passwords of a chunk in parallel.
+     *
+     * @param rows The rows to hash.
+     * @return The encoded passwords, in row order.
+     */
+    private List<String> hash(List<UserImportRow> rows) throws InterruptedException {
+        List<Callable<String>> tasks = rows.stream()
+                .map(row -> (Callable<String>) () -> passwordEncoder.encode(row.password()))
+                .toList();
+
+        List<String> passwordHashes = new ArrayList<>(rows.size());
+        for (Future<String> future : hashingExecutor.invokeAll(tasks)) {
+            try {
+                passwordHashes.add(future.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Password hashing failed.", e.getCause());
+            }
+        }
+        return passwordHashes;
+    }
+
+    /**
+     * Check a row against the signup rules.
+     *
+     * @param row The row.
+     * @return The violated rules, or null if the row is valid.
+     */
+    private String validate(UserImportRow row) {
+        // The confirmation is a copy of the password, so only the violations of the row's own fields are reported
+        Set<ConstraintViolation<SignupRequest>> violations = validator.validate(row.toSignupRequest());
+        String messages = violations.stream()
+                .filter(violation -> !violation.getPropertyPath().toString().isEmpty())
+                .filter(violation -> !violation.getPropertyPath().toString().equals("confirmPassword"))
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(" "));
+        return messages.isEmpty() ? null : messages;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete user import file {}", file, e);
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public void close() {
+        importExecutor.shutdownNow();
+        hashingExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,11 @@
+package net.tylerwade.registrationsystem.auth.provisioning;
+
+/**
+ * The stages of a bulk user import.
+ */
+public enum UserImportState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,11 @@
+package net.tylerwade.registrationsystem.auth.provisioning.dto;
+
+/**
+ * A row of an import file that could not be imported.
+ *
+ * @param row      The position of the row in the file, starting at 1. The CSV header row is not counted.
+ * @param username The username on the row, if any.
+ * @param message  Why the row was not imported.
+ */
+public record UserImportErrorDTO(long row, String username, String message) {
+}
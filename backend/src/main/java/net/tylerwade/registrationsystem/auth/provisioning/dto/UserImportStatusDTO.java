@@ -0,0 +1,37 @@
+package net.tylerwade.registrationsystem.auth.provisioning.dto;
+
+import net.tylerwade.registrationsystem.auth.provisioning.UserImportFormat;
+import net.tylerwade.registrationsystem.auth.provisioning.UserImportState;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Progress of a bulk user import.
+ *
+ * @param id         The id of the import.
+ * @param format     The format of the import file.
+ * @param state      The stage the import is in.
+ * @param rowsRead   The number of rows read from the file so far.
+ * @param imported   The number of users created so far.
+ * @param skipped    The number of rows skipped because the username already exists, or appeared earlier in the file.
+ * @param failed     The number of rows rejected, e.g. because a field is invalid.
+ * @param errors     The first rejected rows and why they were rejected.
+ * @param message    Why the import stopped, if it failed.
+ * @param createdAt  When the import was submitted.
+ * @param startedAt  When the import started reading the file.
+ * @param finishedAt When the import completed or failed.
+ */
+public record UserImportStatusDTO(String id,
+                                  UserImportFormat format,
+                                  UserImportState state,
+                                  long rowsRead,
+                                  long imported,
+                                  long skipped,
+                                  long failed,
+                                  List<UserImportErrorDTO> errors,
+                                  String message,
+                                  Date createdAt,
+                                  Date startedAt,
+                                  Date finishedAt) {
+}
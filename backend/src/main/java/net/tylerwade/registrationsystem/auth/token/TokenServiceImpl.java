@@ -1,6 +1,9 @@
 package net.tylerwade.registrationsystem.auth.token;
 
 import jakarta.servlet.http.Cookie;
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.auth.authority.Role;
+import net.tylerwade.registrationsystem.auth.principal.AuthenticatedUser;
 import net.tylerwade.registrationsystem.config.AppProperties;
 import net.tylerwade.registrationsystem.config.security.jwt.JwtProperties;
 import org.springframework.security.core.Authentication;
@@ -38,16 +41,21 @@ public class TokenServiceImpl implements TokenService {
                 .filter(auth -> auth.startsWith("ROLE_"))
                 .toList();
 
-        JwtClaimsSet claims = JwtClaimsSet.builder()
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
                 .issuer(jwtProperties.issuer())
                 .issuedAt(now)
                 .expiresAt(now.plus(jwtProperties.expirationMs(), ChronoUnit.MILLIS))
                 .subject(authentication.getName())
-                .claim("roles", roles)
-                .build();
+                .claim("roles", roles);
+
+        // Carry the user ID and a role mask so requests can be authorized without looking up the user
+        if (authentication.getPrincipal() instanceof User user) {
+            claims.claim(AuthenticatedUser.USER_ID_CLAIM, user.getId())
+                    .claim(AuthenticatedUser.ROLE_MASK_CLAIM, Role.maskOf(authentication.getAuthorities()));
+        }
 
         JwsHeader jwsHeader = JwsHeader.with(() -> "HS256").build();
-        return jwtEncoder.encode(JwtEncoderParameters.from(jwsHeader, claims)).getTokenValue();
+        return jwtEncoder.encode(JwtEncoderParameters.from(jwsHeader, claims.build())).getTokenValue();
     }
 
     @Override
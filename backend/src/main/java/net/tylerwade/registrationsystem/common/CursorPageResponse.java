@@ -0,0 +1,35 @@
+package net.tylerwade.registrationsystem.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Represents a keyset-paginated response for API endpoints.
+ * Unlike {@link PageResponse}, the next page is addressed by a cursor taken from the last row, so fetching a page
+ * costs the same no matter how deep into the results it is, and no total count is computed.
+ *
+ * @param content    The content of the current page.
+ * @param size       The requested page size.
+ * @param nextCursor The cursor to request the next page with, or null if this is the last page.
+ * @param <T>        The type of the content.
+ */
+public record CursorPageResponse<T>(List<T> content, int size, String nextCursor) {
+
+    /**
+     * Builds a page from rows fetched with a limit of one more than the page size.
+     * The extra row only tells whether a next page exists and is not returned.
+     *
+     * @param rows     The fetched rows, at most size + 1.
+     * @param size     The page size.
+     * @param toCursor Derives the cursor from the last row of the page.
+     * @param <T>      The type of the content.
+     * @return The page.
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int size, Function<T, String> toCursor) {
+        if (rows.size() <= size) {
+            return new CursorPageResponse<>(rows, size, null);
+        }
+        List<T> content = rows.subList(0, size);
+        return new CursorPageResponse<>(List.copyOf(content), size, toCursor.apply(content.getLast()));
+    }
+}
@@ -0,0 +1,88 @@
+package net.tylerwade.registrationsystem.common;
+
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helpers for paged endpoints.
+ */
+public final class Pageables {
+
+    /**
+     * The largest page size served, matching spring.data.web.pageable.max-page-size for offset pages.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private Pageables() {
+    }
+
+    /**
+     * Translates the sort of a client-supplied pageable from API property names to entity paths, rejecting anything
+     * not in the allowed set. Sorting is limited to known properties so clients cannot order by unindexed or
+     * nonexistent paths.
+     *
+     * @param pageable           The pageable from the request.
+     * @param sortableProperties API property name to entity path.
+     * @param defaultSort        The sort to use when the request has none.
+     * @return A pageable with the translated sort.
+     * @throws HttpRequestException If the request sorts by a property that is not allowed.
+     */
+    public static Pageable mapSort(Pageable pageable, Map<String, String> sortableProperties, Sort defaultSort) throws HttpRequestException {
+        if (pageable.getSort().isUnsorted()) {
+            return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), defaultSort);
+        }
+
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            String path = sortableProperties.get(order.getProperty());
+            if (path == null) {
+                throw new HttpRequestException(HttpStatus.BAD_REQUEST, "Cannot sort by '" + order.getProperty() + "'. Sortable properties: " + String.join(", ", sortableProperties.keySet()) + ".");
+            }
+            orders.add(order.withProperty(path));
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(orders));
+    }
+
+    /**
+     * Validates the page size of a cursor-paginated request.
+     *
+     * @param size The requested size.
+     * @return The size.
+     * @throws HttpRequestException If the size is out of range.
+     */
+    public static int checkSize(int size) throws HttpRequestException {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new HttpRequestException(HttpStatus.BAD_REQUEST, "Size must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
+        return size;
+    }
+
+    /**
+     * Encodes a cursor so clients treat it as opaque.
+     */
+    public static String encodeCursor(String cursor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encodeCursor(String)}.
+     *
+     * @throws HttpRequestException If the cursor is malformed.
+     */
+    public static String decodeCursor(String cursor) throws HttpRequestException {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new HttpRequestException(HttpStatus.BAD_REQUEST, "Invalid cursor.");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package net.tylerwade.registrationsystem.common;
+
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+
+/**
+ * A unit of request handling that may fail with an {@link HttpRequestException}.
+ * Used to wrap service calls in cross-cutting handling such as admission control or idempotency.
+ *
+ * @param <T> The type of the result.
+ */
+@FunctionalInterface
+public interface RequestAction<T> {
+
+    T run() throws HttpRequestException;
+
+}
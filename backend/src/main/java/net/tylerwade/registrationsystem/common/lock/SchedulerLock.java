@@ -0,0 +1,45 @@
+package net.tylerwade.registrationsystem.common.lock;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents the lock of a scheduled job that must only run on one node at a time.
+ * A node holds the lock while {@link #lockedUntil} is in the future.
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerLock {
+
+    /**
+     * Name of the scheduled job the lock guards.
+     */
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    /**
+     * Time until which the lock is held. Once passed, any node may take the lock.
+     */
+    @Column(nullable = false)
+    private LocalDateTime lockedUntil;
+
+    /**
+     * Time the lock was last taken.
+     */
+    @Column(nullable = false)
+    private LocalDateTime lockedAt;
+
+    /**
+     * Identifier of the node that last took the lock.
+     */
+    @Column(nullable = false)
+    private String lockedBy;
+}
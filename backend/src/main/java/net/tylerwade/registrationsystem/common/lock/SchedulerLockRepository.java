@@ -0,0 +1,45 @@
+package net.tylerwade.registrationsystem.common.lock;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    /*
+     * Compare-and-set on the lock row: only one node's update can match while the lock is free.
+     */
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :lockedUntil, l.lockedAt = :now, l.lockedBy = :lockedBy WHERE l.name = :name AND l.lockedUntil <= :now")
+    int acquire(@Param("name") String name,
+                @Param("lockedBy") String lockedBy,
+                @Param("now") LocalDateTime now,
+                @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /*
+     * A plain INSERT rather than save(), which would merge into a row another node just created.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO scheduler_locks (name, locked_until, locked_at, locked_by) VALUES (:name, :lockedUntil, :now, :lockedBy)", nativeQuery = true)
+    int insert(@Param("name") String name,
+               @Param("lockedBy") String lockedBy,
+               @Param("now") LocalDateTime now,
+               @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLock l SET l.lockedUntil = :lockedUntil WHERE l.name = :name AND l.lockedBy = :lockedBy")
+    int release(@Param("name") String name,
+                @Param("lockedBy") String lockedBy,
+                @Param("lockedUntil") LocalDateTime lockedUntil);
+
+}
@@ -0,0 +1,22 @@
+package net.tylerwade.registrationsystem.common.lock;
+
+import java.time.Duration;
+
+/**
+ * Runs scheduled jobs on at most one node at a time, coordinated through the database.
+ */
+public interface SchedulerLockService {
+
+    /**
+     * Runs the task if this node can take the named lock, and skips it otherwise.
+     *
+     * @param name           The name of the lock.
+     * @param lockAtMostFor  How long the lock is held if this node dies while running the task.
+     * @param lockAtLeastFor How long the lock is kept after the task finishes, so nodes whose clocks
+     *                       are slightly behind do not run the same task again.
+     * @param task           The task to run.
+     * @return true if the task ran on this node, false if another node held the lock.
+     */
+    boolean runExclusively(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task);
+
+}
@@ -0,0 +1,66 @@
+package net.tylerwade.registrationsystem.common.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Slf4j
+@Service
+public class SchedulerLockServiceImpl implements SchedulerLockService {
+
+    private final SchedulerLockRepository schedulerLockRepository;
+    private final String nodeId;
+
+    public SchedulerLockServiceImpl(SchedulerLockRepository schedulerLockRepository) {
+        this.schedulerLockRepository = schedulerLockRepository;
+        this.nodeId = hostName() + "/" + UUID.randomUUID();
+    }
+
+    @Override
+    public boolean runExclusively(String name, Duration lockAtMostFor, Duration lockAtLeastFor, Runnable task) {
+        LocalDateTime lockedAt = LocalDateTime.now();
+        if (!tryAcquire(name, lockedAt, lockedAt.plus(lockAtMostFor))) {
+            log.debug("Skipping {}, the lock is held by another node.", name);
+            return false;
+        }
+
+        try {
+            task.run();
+            return true;
+        } finally {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime minimumLockedUntil = lockedAt.plus(lockAtLeastFor);
+            schedulerLockRepository.release(name, nodeId, minimumLockedUntil.isAfter(now) ? minimumLockedUntil : now);
+        }
+    }
+
+    private boolean tryAcquire(String name, LocalDateTime now, LocalDateTime lockedUntil) {
+        if (schedulerLockRepository.acquire(name, nodeId, now, lockedUntil) > 0) {
+            return true;
+        }
+        if (schedulerLockRepository.existsById(name)) {
+            return false;
+        }
+
+        // First run of this job anywhere: create the row. If another node creates it first, that node has the lock.
+        try {
+            return schedulerLockRepository.insert(name, nodeId, now, lockedUntil) > 0;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
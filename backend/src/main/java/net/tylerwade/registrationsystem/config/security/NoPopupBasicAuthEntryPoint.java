@@ -2,6 +2,8 @@ package net.tylerwade.registrationsystem.config.security;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import net.tylerwade.registrationsystem.config.security.password.LoginThrottledException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 
@@ -15,6 +17,14 @@ public class NoPopupBasicAuthEntryPoint implements AuthenticationEntryPoint {
             HttpServletResponse response,
             AuthenticationException authException
     ) throws IOException {
+        // The password could not be checked yet, so ask the client to come back rather than reporting bad credentials
+        if (authException instanceof LoginThrottledException throttled) {
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(throttled.getRetryAfterSeconds()));
+            response.getWriter().write(throttled.getMessage());
+            return;
+        }
+
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
         // Do NOT set WWW-Authenticate header
         response.getWriter().write("Unauthorized");
@@ -1,15 +1,30 @@
 package net.tylerwade.registrationsystem.config.security;
 
+import lombok.extern.slf4j.Slf4j;
+import net.tylerwade.registrationsystem.config.security.password.BCryptCalibration;
+import net.tylerwade.registrationsystem.config.security.password.BCryptProperties;
+import net.tylerwade.registrationsystem.config.security.password.OffloadingPasswordEncoder;
+import net.tylerwade.registrationsystem.config.security.password.PasswordHashingProperties;
+import net.tylerwade.registrationsystem.config.security.password.RehashingBCryptPasswordEncoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
+@Slf4j
 @Configuration
 public class PasswordConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptCalibration bcryptCalibration(BCryptProperties bcryptProperties) {
+        BCryptCalibration calibration = BCryptCalibration.calibrate(bcryptProperties);
+        log.info("BCrypt cost {}: a password check takes {} ms (target {} ms)", calibration.strength(), String.format("%.1f", calibration.hashMs()), calibration.targetMs());
+        return calibration;
+    }
+
+    @Bean
+    public OffloadingPasswordEncoder passwordEncoder(BCryptCalibration bcryptCalibration, PasswordHashingProperties passwordHashingProperties) {
+        // Hash on a dedicated executor so login bursts cannot occupy every request thread and processor.
+        // Only a configured cost lowers stored hashes; a calibrated one may differ between nodes and only raises them.
+        RehashingBCryptPasswordEncoder bcrypt = new RehashingBCryptPasswordEncoder(bcryptCalibration.strength(), bcryptCalibration.fixed());
+        return new OffloadingPasswordEncoder(bcrypt, bcryptCalibration, passwordHashingProperties);
     }
 }
@@ -0,0 +1,79 @@
+package net.tylerwade.registrationsystem.config.security.jwt;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import net.tylerwade.registrationsystem.config.security.jwt.dto.JwtDecodeCacheStatsDTO;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves recently verified tokens from memory, so a client sending the same token on every request pays for
+ * signature verification and claim parsing once.
+ * <p>
+ * Only tokens the delegate accepted are cached, and a cached token is dropped once it expires, so the delegate still
+ * decides on every token that is new, changed or expired. Tokens are looked up by their full value, never by a digest
+ * alone, so a collision cannot return another user's claims.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> verified;
+    private final Clock clock;
+
+    public CachingJwtDecoder(JwtDecoder delegate, JwtDecodeCacheProperties jwtDecodeCacheProperties) {
+        this(delegate, jwtDecodeCacheProperties, Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, JwtDecodeCacheProperties jwtDecodeCacheProperties, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.verified = CacheBuilder.newBuilder()
+                .maximumSize(jwtDecodeCacheProperties.maxEntries())
+                .expireAfterWrite(jwtDecodeCacheProperties.ttlSeconds(), TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        Jwt cached = verified.getIfPresent(token);
+        if (cached != null) {
+            if (!isExpired(cached)) {
+                return cached;
+            }
+            verified.invalidate(token);
+        }
+
+        // Throws for invalid tokens, which are never cached
+        Jwt jwt = delegate.decode(token);
+        verified.put(token, jwt);
+        return jwt;
+    }
+
+    private boolean isExpired(Jwt jwt) {
+        Instant expiresAt = jwt.getExpiresAt();
+        return expiresAt != null && !clock.instant().isBefore(expiresAt);
+    }
+
+    /**
+     * Get a snapshot of the cache statistics. Reads only in-memory counters.
+     *
+     * @return The cache statistics.
+     */
+    public JwtDecodeCacheStatsDTO getStats() {
+        CacheStats stats = verified.stats();
+        return new JwtDecodeCacheStatsDTO(
+                verified.size(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount()
+        );
+    }
+}
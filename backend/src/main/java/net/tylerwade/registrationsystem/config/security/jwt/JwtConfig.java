@@ -20,9 +20,11 @@ import java.util.Collection;
 public class JwtConfig {
 
     private final JwtProperties jwtProperties;
+    private final JwtDecodeCacheProperties jwtDecodeCacheProperties;
 
-    public JwtConfig(JwtProperties jwtProperties) {
+    public JwtConfig(JwtProperties jwtProperties, JwtDecodeCacheProperties jwtDecodeCacheProperties) {
         this.jwtProperties = jwtProperties;
+        this.jwtDecodeCacheProperties = jwtDecodeCacheProperties;
     }
 
     @Bean
@@ -48,8 +50,10 @@ public class JwtConfig {
     }
 
     @Bean
-    JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withSecretKey(jwtProperties.getSecretKey()).build();
+    CachingJwtDecoder jwtDecoder() {
+        // The AuthToken cookie is resent with every request, so verify each token once and serve it from memory after
+        JwtDecoder nimbusJwtDecoder = NimbusJwtDecoder.withSecretKey(jwtProperties.getSecretKey()).build();
+        return new CachingJwtDecoder(nimbusJwtDecoder, jwtDecodeCacheProperties);
     }
 
     @Bean
@@ -0,0 +1,13 @@
+package net.tylerwade.registrationsystem.config.security.jwt;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the cache of verified tokens.
+ *
+ * @param maxEntries The maximum number of cached tokens.
+ * @param ttlSeconds The longest a verified token is served from the cache, in seconds. A token is never served past its expiry.
+ */
+@ConfigurationProperties(prefix = "jwt.decode-cache")
+public record JwtDecodeCacheProperties(Long maxEntries, Long ttlSeconds) {
+}
@@ -0,0 +1,17 @@
+package net.tylerwade.registrationsystem.config.security.jwt.dto;
+
+/**
+ * Snapshot of the verified token cache since startup.
+ *
+ * @param size      The number of tokens currently cached.
+ * @param hits      The number of decodes served from the cache.
+ * @param misses    The number of decodes that verified the token.
+ * @param hitRate   The share of decodes served from the cache, between 0 and 1.
+ * @param evictions The number of tokens dropped to stay within the size and age limits.
+ */
+public record JwtDecodeCacheStatsDTO(long size,
+                                     long hits,
+                                     long misses,
+                                     double hitRate,
+                                     long evictions) {
+}
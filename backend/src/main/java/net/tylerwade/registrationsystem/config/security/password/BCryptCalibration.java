@@ -0,0 +1,63 @@
+package net.tylerwade.registrationsystem.config.security.password;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * The BCrypt cost chosen for this machine, and how long a password check takes at that cost.
+ *
+ * @param strength The chosen cost.
+ * @param targetMs The time one password check should take, in milliseconds.
+ * @param hashMs   The measured time of one password check at the chosen cost, in milliseconds.
+ * @param fixed    Whether the cost was configured rather than calibrated.
+ */
+public record BCryptCalibration(int strength, long targetMs, double hashMs, boolean fixed) {
+
+    private static final int SAMPLES = 3;
+
+    /**
+     * Choose a cost by timing password checks. Each step of the cost doubles the work, so only the lowest cost is timed
+     * and the highest cost expected to stay within the target is chosen, then timed to confirm.
+     *
+     * @param bcryptProperties The BCrypt configuration.
+     * @return The calibration.
+     */
+    public static BCryptCalibration calibrate(BCryptProperties bcryptProperties) {
+        if (bcryptProperties.strength() > 0) {
+            return new BCryptCalibration(bcryptProperties.strength(), bcryptProperties.targetMs(), measure(bcryptProperties.strength()), true);
+        }
+
+        int strength = bcryptProperties.minStrength();
+        double hashMs = measure(strength);
+        double expectedMs = hashMs;
+        while (strength < bcryptProperties.maxStrength() && expectedMs * 2 <= bcryptProperties.targetMs()) {
+            strength++;
+            expectedMs *= 2;
+        }
+
+        if (strength != bcryptProperties.minStrength()) {
+            hashMs = measure(strength);
+        }
+        return new BCryptCalibration(strength, bcryptProperties.targetMs(), hashMs, false);
+    }
+
+    /**
+     * Time a password check at a cost.
+     *
+     * @return The median of a few checks, in milliseconds. Hashing the password first warms the code up.
+     */
+    private static double measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        String encoded = encoder.encode("calibration");
+
+        double[] samples = new double[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.matches("calibration", encoded);
+            samples[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
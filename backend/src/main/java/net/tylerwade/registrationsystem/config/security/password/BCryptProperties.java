@@ -0,0 +1,18 @@
+package net.tylerwade.registrationsystem.config.security.password;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the BCrypt cost.
+ * <p>
+ * Deployments with several nodes should set a fixed cost, so every node hashes at the same one. A calibrated cost only
+ * ever raises stored hashes, and a fixed cost also lowers hashes above it.
+ *
+ * @param strength    A fixed cost. 0 calibrates the cost at startup instead.
+ * @param minStrength The lowest cost calibration may choose.
+ * @param maxStrength The highest cost calibration may choose.
+ * @param targetMs    The time, in milliseconds, one password check should take on this machine.
+ */
+@ConfigurationProperties(prefix = "password.bcrypt")
+public record BCryptProperties(Integer strength, Integer minStrength, Integer maxStrength, Long targetMs) {
+}
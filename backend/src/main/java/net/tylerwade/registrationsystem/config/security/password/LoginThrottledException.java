@@ -0,0 +1,21 @@
+package net.tylerwade.registrationsystem.config.security.password;
+
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+
+/**
+ * Thrown when a password could not be checked because the hashing executor is saturated.
+ * An internal authentication error, so the provider manager stops at once instead of trying the password again.
+ */
+public class LoginThrottledException extends InternalAuthenticationServiceException {
+
+    private final int retryAfterSeconds;
+
+    public LoginThrottledException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
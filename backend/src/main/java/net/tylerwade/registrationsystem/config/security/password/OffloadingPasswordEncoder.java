@@ -0,0 +1,147 @@
+package net.tylerwade.registrationsystem.config.security.password;
+
+import net.tylerwade.registrationsystem.config.security.password.dto.PasswordHashingStatsDTO;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs the hashing of a {@link PasswordEncoder} on a small, dedicated executor.
+ * <p>
+ * BCrypt is deliberately slow, and HTTP Basic logins would otherwise hash on request threads, so a login burst at
+ * registration open could occupy every processor. Here the request thread waits while at most {@code threads} hashes
+ * run at once, leaving the remaining processors to other requests. Logins are turned away with a
+ * {@link LoginThrottledException} when {@code maxQueued} hashes are already waiting, or when a hash has not finished
+ * within {@code maxWaitMs}.
+ * <p>
+ * The delegate decides which stored hashes need re-encoding; after a successful login the re-encoded password is saved
+ * through the {@link org.springframework.security.core.userdetails.UserDetailsPasswordService}.
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final BCryptCalibration calibration;
+    private final long maxWaitMs;
+    private final int retryAfterSeconds;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder rehashes = new LongAdder();
+    private final LongAdder hashes = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, BCryptCalibration calibration, PasswordHashingProperties passwordHashingProperties) {
+        this.delegate = delegate;
+        this.calibration = calibration;
+        this.maxWaitMs = passwordHashingProperties.maxWaitMs();
+        this.retryAfterSeconds = passwordHashingProperties.retryAfterSeconds();
+
+        int threads = passwordHashingProperties.threads() > 0
+                ? passwordHashingProperties.threads()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(passwordHashingProperties.maxQueued()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hash(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Only inspects the stored hash, so it stays on the calling thread. Only asked after a successful login.
+        boolean upgrade = delegate.upgradeEncoding(encodedPassword);
+        if (upgrade) {
+            rehashes.increment();
+        }
+        return upgrade;
+    }
+
+    private <T> T hash(Supplier<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timed(work));
+        } catch (RejectedExecutionException e) {
+            throw throttled();
+        }
+
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw throttled();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new InternalAuthenticationServiceException("Interrupted while checking the password.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new InternalAuthenticationServiceException("Password check failed.", e.getCause());
+        }
+    }
+
+    private <T> T timed(Supplier<T> work) {
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            hashes.increment();
+            hashNanos.add(elapsed);
+            maxHashNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    private LoginThrottledException throttled() {
+        rejected.increment();
+        return new LoginThrottledException("Login is busy. Please try again shortly.", retryAfterSeconds);
+    }
+
+    /**
+     * Get a snapshot of the executor. Reads only in-memory counters.
+     *
+     * @return The executor statistics.
+     */
+    public PasswordHashingStatsDTO getStats() {
+        long completed = hashes.sum();
+        return new PasswordHashingStatsDTO(
+                executor.getMaximumPoolSize(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                completed,
+                rejected.sum(),
+                completed > 0 ? hashNanos.sum() / 1_000_000.0 / completed : 0.0,
+                maxHashNanos.get() / 1_000_000.0,
+                calibration.strength(),
+                calibration.targetMs(),
+                calibration.hashMs(),
+                rehashes.sum()
+        );
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
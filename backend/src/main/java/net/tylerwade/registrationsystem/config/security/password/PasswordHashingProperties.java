@@ -0,0 +1,16 @@
+package net.tylerwade.registrationsystem.config.security.password;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the executor that runs password hashing.
+ *
+ * @param threads           The number of threads hashing passwords. 0 uses half the available processors, at least one,
+ *                          so a burst of logins always leaves processors free for other requests.
+ * @param maxQueued         The maximum number of hashes waiting for a thread before new logins are turned away.
+ * @param maxWaitMs         The maximum time, in milliseconds, a login waits for its hash before it is turned away.
+ * @param retryAfterSeconds The Retry-After value sent with a turned away login, in seconds.
+ */
+@ConfigurationProperties(prefix = "password.hashing")
+public record PasswordHashingProperties(Integer threads, Integer maxQueued, Long maxWaitMs, Integer retryAfterSeconds) {
+}
@@ -0,0 +1,42 @@
+package net.tylerwade.registrationsystem.config.security.password;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A BCrypt encoder that asks for stored hashes below its cost to be re-encoded as users log in.
+ * <p>
+ * Hashes above its cost are re-encoded only when {@code downgrade} is set, i.e. when the cost was configured. A
+ * calibrated cost can differ between nodes and restarts, e.g. when a node boots under load, and re-encoding in both
+ * directions would make stored hashes flip between the costs of whichever nodes users happen to log in to.
+ */
+public class RehashingBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final int strength;
+    private final boolean downgrade;
+
+    public RehashingBCryptPasswordEncoder(int strength, boolean downgrade) {
+        super(strength);
+        this.strength = strength;
+        this.downgrade = downgrade;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            return false;
+        }
+
+        int cost = Integer.parseInt(matcher.group(1));
+        return cost < strength || (downgrade && cost > strength);
+    }
+}
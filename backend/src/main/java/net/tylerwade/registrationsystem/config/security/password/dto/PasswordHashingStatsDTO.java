@@ -0,0 +1,29 @@
+package net.tylerwade.registrationsystem.config.security.password.dto;
+
+/**
+ * Snapshot of the password hashing executor since startup.
+ *
+ * @param threads       The number of threads hashing passwords.
+ * @param active        The number of hashes currently running.
+ * @param queued        The number of hashes waiting for a thread.
+ * @param completed     The number of hashes completed.
+ * @param rejected      The number of logins turned away because the queue was full or the wait was too long.
+ * @param averageHashMs The average time a hash took on its thread, in milliseconds.
+ * @param maxHashMs     The longest time a hash took on its thread, in milliseconds.
+ * @param strength      The BCrypt cost chosen at startup.
+ * @param targetMs      The time one password check was calibrated to take, in milliseconds.
+ * @param calibratedMs  The time one password check took at the chosen cost during calibration, in milliseconds.
+ * @param rehashes      The number of stored passwords re-encoded at the chosen cost after a successful login.
+ */
+public record PasswordHashingStatsDTO(int threads,
+                                      int active,
+                                      int queued,
+                                      long completed,
+                                      long rejected,
+                                      double averageHashMs,
+                                      double maxHashMs,
+                                      int strength,
+                                      long targetMs,
+                                      double calibratedMs,
+                                      long rehashes) {
+}
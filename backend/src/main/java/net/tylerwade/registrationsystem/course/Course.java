@@ -6,6 +6,8 @@ import net.tylerwade.registrationsystem.course.dto.CourseAttributeDTO;
 import net.tylerwade.registrationsystem.course.dto.CourseDTO;
 import net.tylerwade.registrationsystem.coursesection.CourseSection;
 import net.tylerwade.registrationsystem.prerequisites.Prerequisite;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -76,17 +78,19 @@ public class Course {
     /**
      * List of prerequisites required for the course.
      * Mapped by the "course" field in the Prerequisite entity.
-     * Fetched eagerly and removed when orphaned.
+     * Fetched eagerly, for every course of a listing in one subselect, and removed when orphaned.
      */
     @OneToMany(mappedBy = "course", orphanRemoval = true, fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
     private List<Prerequisite> prerequisites = new ArrayList<>();
 
     /**
      * List of course sections associated with the course.
      * Mapped by the "course" field in the CourseSection entity.
-     * Fetched eagerly and removed when orphaned.
+     * Fetched eagerly, for every course of a listing in one subselect, and removed when orphaned.
      */
     @OneToMany(mappedBy = "course", orphanRemoval = true, fetch = FetchType.EAGER)
+    @Fetch(FetchMode.SUBSELECT)
     private List<CourseSection> courseSections = new ArrayList<>();
 
     /**
@@ -6,9 +6,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import net.tylerwade.registrationsystem.common.CursorPageResponse;
+import net.tylerwade.registrationsystem.common.PageResponse;
+import net.tylerwade.registrationsystem.course.catalog.CourseCatalogService;
+import net.tylerwade.registrationsystem.course.dto.CourseAttributeDTO;
 import net.tylerwade.registrationsystem.course.dto.CourseDTO;
+import net.tylerwade.registrationsystem.course.dto.CourseFilter;
+import net.tylerwade.registrationsystem.course.dto.CourseSearchHitDTO;
 import net.tylerwade.registrationsystem.course.dto.ManageCourseRequest;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -21,9 +29,11 @@ import java.util.List;
 public class CourseController {
 
     private final CourseService courseService;
+    private final CourseCatalogService courseCatalogService;
 
-    public CourseController(CourseService courseService) {
+    public CourseController(CourseService courseService, CourseCatalogService courseCatalogService) {
         this.courseService = courseService;
+        this.courseCatalogService = courseCatalogService;
     }
 
     /**
@@ -36,7 +46,68 @@ public class CourseController {
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public List<CourseDTO> findAll() {
-        return courseService.findAll().stream().map(Course::toDTO).toList();
+        return courseCatalogService.findAll();
+    }
+
+    /**
+     * Find a page of courses
+     */
+    @Operation(summary = "Get a page of courses", description = "Returns a page of courses without their sections or prerequisites, optionally filtered by department, credits, term and open seats. Sortable by department, code, title and credits.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Courses retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Unsupported sort property")
+    })
+    @GetMapping("/page")
+    @ResponseStatus(HttpStatus.OK)
+    public PageResponse<CourseAttributeDTO> findPage(@ParameterObject CourseFilter filter,
+                                                     @ParameterObject Pageable pageable) throws HttpRequestException {
+        return PageResponse.convertPage(courseCatalogService.findPage(filter, pageable));
+    }
+
+    /**
+     * Scroll through courses
+     */
+    @Operation(summary = "Scroll through courses", description = "Returns a keyset page of courses in department and code order. Pass the returned nextCursor to get the next page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Courses retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or size")
+    })
+    @GetMapping("/scroll")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageResponse<CourseAttributeDTO> scroll(@ParameterObject CourseFilter filter,
+                                                         @Parameter(description = "nextCursor of the previous page") @RequestParam(required = false) String cursor,
+                                                         @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) throws HttpRequestException {
+        return courseCatalogService.scroll(filter, cursor, size);
+    }
+
+    /**
+     * Search courses
+     */
+    @Operation(summary = "Search courses", description = "Returns the courses matching every word of the query in their department, code, title or description, best match first. A department and code, e.g. \"CS 101\", ranks that course first.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Search completed"),
+            @ApiResponse(responseCode = "400", description = "Invalid query or limit")
+    })
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    public List<CourseSearchHitDTO> search(@Parameter(description = "Search text") @RequestParam String q,
+                                           @Parameter(description = "Maximum number of results") @RequestParam(defaultValue = "20") int limit) throws HttpRequestException {
+        return courseCatalogService.search(q, limit);
+    }
+
+    /**
+     * Suggest courses while typing
+     */
+    @Operation(summary = "Suggest courses", description = "Typeahead: like search, but the last word of the query may be incomplete.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Suggestions retrieved"),
+            @ApiResponse(responseCode = "400", description = "Invalid query or limit")
+    })
+    @GetMapping("/suggest")
+    @ResponseStatus(HttpStatus.OK)
+    public List<CourseSearchHitDTO> suggest(@Parameter(description = "Partial search text") @RequestParam String q,
+                                            @Parameter(description = "Maximum number of suggestions") @RequestParam(defaultValue = "8") int limit) throws HttpRequestException {
+        return courseCatalogService.suggest(q, limit);
     }
 
     /**
@@ -51,7 +122,7 @@ public class CourseController {
     @ResponseStatus(HttpStatus.OK)
     public CourseDTO findById(
             @Parameter(description = "ID of the course") @PathVariable Long courseId) throws HttpRequestException {
-        return courseService.findById(courseId).toDTO();
+        return courseCatalogService.findById(courseId);
     }
 
     /**
@@ -1,8 +1,12 @@
 package net.tylerwade.registrationsystem.course;
 
+import net.tylerwade.registrationsystem.course.dto.CourseAttributeDTO;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,6 +14,13 @@ import java.util.List;
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
 
+    String ATTRIBUTES = "SELECT new net.tylerwade.registrationsystem.course.dto.CourseAttributeDTO(c.id, c.department, c.code, c.title, c.description, c.credits) FROM Course c";
+
+    String FILTER = " WHERE (:department IS NULL OR c.department = :department)"
+            + " AND (:credits IS NULL OR c.credits = :credits)"
+            + " AND ((:termId IS NULL AND :openSeats = false) OR EXISTS (SELECT cs.id FROM CourseSection cs WHERE cs.course = c"
+            + " AND (:termId IS NULL OR cs.term.id = :termId) AND (:openSeats = false OR cs.enrolledCount < cs.capacity)))";
+
     Page<Course> findAll(Pageable pageable);
 
     List<Course> findAllByDepartmentIgnoreCase(String department);
@@ -23,4 +34,32 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     boolean existsByTitleIgnoreCase(String title);
 
     boolean existsByTitleIgnoreCaseAndIdNot(String title, Long id);
+
+    /*
+     * Catalog listings read only the course columns; sections, terms and instructors are never loaded.
+     */
+
+    @Query(ATTRIBUTES)
+    List<CourseAttributeDTO> findAllAttributes();
+
+    @Query(value = ATTRIBUTES + FILTER, countQuery = "SELECT COUNT(c) FROM Course c" + FILTER)
+    Page<CourseAttributeDTO> findAttributes(@Param("department") String department,
+                                            @Param("credits") Integer credits,
+                                            @Param("termId") Long termId,
+                                            @Param("openSeats") boolean openSeats,
+                                            Pageable pageable);
+
+    /**
+     * Keyset page in (department, code) order, starting after the given course, or from the start if afterDepartment is null.
+     */
+    @Query(ATTRIBUTES + FILTER
+            + " AND (:afterDepartment IS NULL OR c.department > :afterDepartment OR (c.department = :afterDepartment AND c.code > :afterCode))"
+            + " ORDER BY c.department, c.code")
+    List<CourseAttributeDTO> scrollAttributes(@Param("department") String department,
+                                              @Param("credits") Integer credits,
+                                              @Param("termId") Long termId,
+                                              @Param("openSeats") boolean openSeats,
+                                              @Param("afterDepartment") String afterDepartment,
+                                              @Param("afterCode") Integer afterCode,
+                                              Limit limit);
 }
@@ -1,7 +1,11 @@
 package net.tylerwade.registrationsystem.course;
 
+import net.tylerwade.registrationsystem.course.catalog.CourseCatalogChangedEvent;
 import net.tylerwade.registrationsystem.course.dto.ManageCourseRequest;
+import net.tylerwade.registrationsystem.course.search.CourseSearchIndex;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import net.tylerwade.registrationsystem.prerequisites.PrerequisiteGraph;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -12,9 +16,15 @@ import java.util.List;
 public class CourseServiceImpl implements CourseService {
 
     private final CourseRepository courseRepository;
+    private final PrerequisiteGraph prerequisiteGraph;
+    private final CourseSearchIndex courseSearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CourseServiceImpl(CourseRepository courseRepository) {
+    public CourseServiceImpl(CourseRepository courseRepository, PrerequisiteGraph prerequisiteGraph, CourseSearchIndex courseSearchIndex, ApplicationEventPublisher eventPublisher) {
         this.courseRepository = courseRepository;
+        this.prerequisiteGraph = prerequisiteGraph;
+        this.courseSearchIndex = courseSearchIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -50,8 +60,11 @@ public class CourseServiceImpl implements CourseService {
                 .courseSections(new ArrayList<>())
                 .build();
 
-        // Save and return
-        return courseRepository.save(course);
+        // Save, refresh the catalog, and return
+        Course savedCourse = courseRepository.save(course);
+        courseSearchIndex.put(savedCourse.toAttributeDTO());
+        eventPublisher.publishEvent(CourseCatalogChangedEvent.forCourse(savedCourse.getId()));
+        return savedCourse;
     }
 
     @Override
@@ -76,8 +89,11 @@ public class CourseServiceImpl implements CourseService {
         course.setDescription(manageCourseRequest.description());
         course.setCredits(manageCourseRequest.credits());
 
-        // Save and return
-        return courseRepository.save(course);
+        // Save, refresh the catalog, and return. Other courses show this one's department and code in their prerequisites.
+        Course savedCourse = courseRepository.save(course);
+        courseSearchIndex.put(savedCourse.toAttributeDTO());
+        eventPublisher.publishEvent(CourseCatalogChangedEvent.all());
+        return savedCourse;
     }
 
     @Override
@@ -89,5 +105,8 @@ public class CourseServiceImpl implements CourseService {
 
         // Delete
         courseRepository.deleteById(courseId);
+        prerequisiteGraph.removeCourse(courseId);
+        courseSearchIndex.remove(courseId);
+        eventPublisher.publishEvent(CourseCatalogChangedEvent.all());
     }
 }
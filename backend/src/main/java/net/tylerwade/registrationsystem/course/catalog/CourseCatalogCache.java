@@ -0,0 +1,136 @@
+package net.tylerwade.registrationsystem.course.catalog;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.tylerwade.registrationsystem.auth.UserChangedEvent;
+import net.tylerwade.registrationsystem.common.RequestAction;
+import net.tylerwade.registrationsystem.course.dto.CourseDTO;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import net.tylerwade.registrationsystem.term.TermChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, time-expiring snapshots of the course catalog: one {@link CourseDTO} per course and the whole catalog.
+ * <p>
+ * Entries are invalidated after the transaction that changed them commits. Every invalidation bumps a generation
+ * counter, and a snapshot is only stored if no invalidation happened while it was being built, so a build that read
+ * data from before a change can never overwrite the invalidation.
+ */
+@Component
+public class CourseCatalogCache {
+
+    private final Cache<Long, CourseDTO> courses;
+    private final Cache<Boolean, List<CourseDTO>> catalog;
+    private final AtomicLong generation = new AtomicLong();
+    private final Object catalogLoadLock = new Object();
+
+    public CourseCatalogCache(CourseCatalogProperties courseCatalogProperties) {
+        this.courses = CacheBuilder.newBuilder()
+                .maximumSize(courseCatalogProperties.maxEntries())
+                .expireAfterWrite(courseCatalogProperties.ttlSeconds(), TimeUnit.SECONDS)
+                .build();
+        this.catalog = CacheBuilder.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(courseCatalogProperties.ttlSeconds(), TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Get the whole catalog, building it if it is not cached. Concurrent misses build it only once.
+     *
+     * @param loader Builds the catalog.
+     * @return The catalog snapshot.
+     */
+    public List<CourseDTO> getCatalog(Supplier<List<CourseDTO>> loader) {
+        List<CourseDTO> cached = catalog.getIfPresent(Boolean.TRUE);
+        if (cached != null) {
+            return cached;
+        }
+
+        synchronized (catalogLoadLock) {
+            cached = catalog.getIfPresent(Boolean.TRUE);
+            if (cached != null) {
+                return cached;
+            }
+
+            long loadGeneration = generation.get();
+            List<CourseDTO> loaded = List.copyOf(loader.get());
+            if (generation.get() == loadGeneration) {
+                catalog.put(Boolean.TRUE, loaded);
+                loaded.forEach(course -> courses.put(course.id(), course));
+            }
+            return loaded;
+        }
+    }
+
+    /**
+     * Get a single course, building it if it is not cached.
+     *
+     * @param courseId The ID of the course.
+     * @param loader   Builds the course.
+     * @return The course snapshot.
+     * @throws HttpRequestException If the loader fails, e.g. the course does not exist.
+     */
+    public CourseDTO getCourse(Long courseId, RequestAction<CourseDTO> loader) throws HttpRequestException {
+        CourseDTO cached = courses.getIfPresent(courseId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadGeneration = generation.get();
+        CourseDTO loaded = loader.run();
+        if (generation.get() == loadGeneration) {
+            courses.put(courseId, loaded);
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CourseCatalogChangedEvent event) {
+        generation.incrementAndGet();
+        if (event.courseId() == null) {
+            courses.invalidateAll();
+        } else {
+            courses.invalidate(event.courseId());
+        }
+        catalog.invalidateAll();
+    }
+
+    /**
+     * Sections embed their term, so any term change may change any course.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTermChanged(TermChangedEvent event) {
+        onCatalogChanged(CourseCatalogChangedEvent.all());
+    }
+
+    /**
+     * Sections embed their instructor, so the courses the user teaches are invalidated. Users also change on every
+     * password update, so courses taught by someone else are kept.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        generation.incrementAndGet();
+        List<Long> taughtCourseIds = courses.asMap().values().stream()
+                .filter(course -> isTaughtBy(course, event.username()))
+                .map(CourseDTO::id)
+                .toList();
+        courses.invalidateAll(taughtCourseIds);
+
+        List<CourseDTO> cachedCatalog = catalog.getIfPresent(Boolean.TRUE);
+        if (cachedCatalog != null && cachedCatalog.stream().anyMatch(course -> isTaughtBy(course, event.username()))) {
+            catalog.invalidateAll();
+        }
+    }
+
+    private static boolean isTaughtBy(CourseDTO course, String username) {
+        return course.courseSections().stream()
+                .anyMatch(section -> section.instructor() != null && section.instructor().username().equals(username));
+    }
+}
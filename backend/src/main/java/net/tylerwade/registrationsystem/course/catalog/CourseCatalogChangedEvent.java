@@ -0,0 +1,17 @@
+package net.tylerwade.registrationsystem.course.catalog;
+
+/**
+ * Published when data shown in the course catalog changes.
+ *
+ * @param courseId The ID of the course whose catalog entry changed, or null if any entry may have changed.
+ */
+public record CourseCatalogChangedEvent(Long courseId) {
+
+    public static CourseCatalogChangedEvent forCourse(Long courseId) {
+        return new CourseCatalogChangedEvent(courseId);
+    }
+
+    public static CourseCatalogChangedEvent all() {
+        return new CourseCatalogChangedEvent(null);
+    }
+}
@@ -0,0 +1,13 @@
+package net.tylerwade.registrationsystem.course.catalog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the course catalog cache.
+ *
+ * @param maxEntries The maximum number of cached courses.
+ * @param ttlSeconds How long a cached course or catalog is served before it is rebuilt, in seconds.
+ */
+@ConfigurationProperties(prefix = "course.catalog")
+public record CourseCatalogProperties(Long maxEntries, Long ttlSeconds) {
+}
@@ -0,0 +1,76 @@
+package net.tylerwade.registrationsystem.course.catalog;
+
+import net.tylerwade.registrationsystem.common.CursorPageResponse;
+import net.tylerwade.registrationsystem.course.dto.CourseAttributeDTO;
+import net.tylerwade.registrationsystem.course.dto.CourseDTO;
+import net.tylerwade.registrationsystem.course.dto.CourseFilter;
+import net.tylerwade.registrationsystem.course.dto.CourseSearchHitDTO;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Read side of the course catalog, served from cached snapshots.
+ */
+public interface CourseCatalogService {
+
+    /**
+     * Retrieves the whole course catalog.
+     *
+     * @return all courses, with live enrolled counts
+     */
+    List<CourseDTO> findAll();
+
+    /**
+     * Retrieves a single course of the catalog.
+     *
+     * @param courseId the ID of the course
+     * @return the course, with live enrolled counts
+     * @throws HttpRequestException if the course is not found
+     */
+    CourseDTO findById(Long courseId) throws HttpRequestException;
+
+    /**
+     * Retrieves a page of course attributes, without sections or prerequisites.
+     *
+     * @param filter   the filters to apply
+     * @param pageable the page to retrieve; sortable by department, code, title and credits
+     * @return the page of courses
+     * @throws HttpRequestException if the sort is not supported
+     */
+    Page<CourseAttributeDTO> findPage(CourseFilter filter, Pageable pageable) throws HttpRequestException;
+
+    /**
+     * Retrieves a keyset page of course attributes in department and code order.
+     *
+     * @param filter the filters to apply
+     * @param cursor the cursor of the previous page, or null for the first page
+     * @param size   the page size
+     * @return the page of courses and the cursor of the next page
+     * @throws HttpRequestException if the cursor or size is invalid
+     */
+    CursorPageResponse<CourseAttributeDTO> scroll(CourseFilter filter, String cursor, int size) throws HttpRequestException;
+
+    /**
+     * Searches courses by department, code, title and description, best match first.
+     *
+     * @param query the search text, e.g. "CS 101" or "linear algebra"
+     * @param limit the maximum number of results
+     * @return the matching courses
+     * @throws HttpRequestException if the query or limit is invalid
+     */
+    List<CourseSearchHitDTO> search(String query, int limit) throws HttpRequestException;
+
+    /**
+     * Suggests courses for a partially typed query; the last word may be incomplete.
+     *
+     * @param query the partial search text
+     * @param limit the maximum number of suggestions
+     * @return the suggested courses
+     * @throws HttpRequestException if the query or limit is invalid
+     */
+    List<CourseSearchHitDTO> suggest(String query, int limit) throws HttpRequestException;
+
+}
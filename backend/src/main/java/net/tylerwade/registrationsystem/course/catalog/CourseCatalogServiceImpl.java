@@ -0,0 +1,125 @@
+package net.tylerwade.registrationsystem.course.catalog;
+
+import net.tylerwade.registrationsystem.common.CursorPageResponse;
+import net.tylerwade.registrationsystem.common.Pageables;
+import net.tylerwade.registrationsystem.course.Course;
+import net.tylerwade.registrationsystem.course.CourseRepository;
+import net.tylerwade.registrationsystem.course.CourseService;
+import net.tylerwade.registrationsystem.course.dto.CourseAttributeDTO;
+import net.tylerwade.registrationsystem.course.dto.CourseDTO;
+import net.tylerwade.registrationsystem.course.dto.CourseFilter;
+import net.tylerwade.registrationsystem.course.dto.CourseSearchHitDTO;
+import net.tylerwade.registrationsystem.course.search.CourseSearchIndex;
+import net.tylerwade.registrationsystem.coursesection.CourseSectionRepository;
+import net.tylerwade.registrationsystem.coursesection.SectionSeatCount;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Serves catalog snapshots from {@link CourseCatalogCache}. Enrolled counts change with every enrollment, so they are
+ * not part of what is cached: they are read fresh from the course sections table, without joins, and laid over the
+ * snapshot on every request. Paged listings are not cached; they are column projections that stay cheap per page.
+ */
+@Service
+public class CourseCatalogServiceImpl implements CourseCatalogService {
+
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "department", "department",
+            "code", "code",
+            "title", "title",
+            "credits", "credits");
+
+    private static final Sort DEFAULT_SORT = Sort.by("department", "code");
+
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int MAX_SEARCH_RESULTS = 50;
+
+    private final CourseService courseService;
+    private final CourseRepository courseRepository;
+    private final CourseSectionRepository courseSectionRepository;
+    private final CourseCatalogCache courseCatalogCache;
+    private final CourseSearchIndex courseSearchIndex;
+
+    public CourseCatalogServiceImpl(CourseService courseService, CourseRepository courseRepository, CourseSectionRepository courseSectionRepository, CourseCatalogCache courseCatalogCache, CourseSearchIndex courseSearchIndex) {
+        this.courseService = courseService;
+        this.courseRepository = courseRepository;
+        this.courseSectionRepository = courseSectionRepository;
+        this.courseCatalogCache = courseCatalogCache;
+        this.courseSearchIndex = courseSearchIndex;
+    }
+
+    @Override
+    public List<CourseDTO> findAll() {
+        List<CourseDTO> snapshot = courseCatalogCache.getCatalog(() -> courseService.findAll().stream().map(Course::toDTO).toList());
+        Map<Long, Integer> enrolledCounts = toMap(courseSectionRepository.findAllSeatCounts());
+        return snapshot.stream().map(course -> course.withEnrolledCounts(enrolledCounts)).toList();
+    }
+
+    @Override
+    public CourseDTO findById(Long courseId) throws HttpRequestException {
+        CourseDTO snapshot = courseCatalogCache.getCourse(courseId, () -> courseService.findById(courseId).toDTO());
+        return snapshot.withEnrolledCounts(toMap(courseSectionRepository.findSeatCountsByCourseId(courseId)));
+    }
+
+    @Override
+    public Page<CourseAttributeDTO> findPage(CourseFilter filter, Pageable pageable) throws HttpRequestException {
+        return courseRepository.findAttributes(filter.department(), filter.credits(), filter.termId(), filter.openSeatsOnly(),
+                Pageables.mapSort(pageable, SORTABLE_PROPERTIES, DEFAULT_SORT));
+    }
+
+    @Override
+    public CursorPageResponse<CourseAttributeDTO> scroll(CourseFilter filter, String cursor, int size) throws HttpRequestException {
+        Pageables.checkSize(size);
+
+        // The cursor is the (code, department) of the last course of the previous page
+        String afterDepartment = null;
+        Integer afterCode = null;
+        if (cursor != null) {
+            String[] position = Pageables.decodeCursor(cursor).split(":", 2);
+            try {
+                afterCode = Integer.valueOf(position[0]);
+                afterDepartment = position[1];
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new HttpRequestException(HttpStatus.BAD_REQUEST, "Invalid cursor.");
+            }
+        }
+
+        List<CourseAttributeDTO> rows = courseRepository.scrollAttributes(filter.department(), filter.credits(), filter.termId(), filter.openSeatsOnly(),
+                afterDepartment, afterCode, Limit.of(size + 1));
+        return CursorPageResponse.of(rows, size, last -> Pageables.encodeCursor(last.code() + ":" + last.department()));
+    }
+
+    @Override
+    public List<CourseSearchHitDTO> search(String query, int limit) throws HttpRequestException {
+        checkSearch(query, limit);
+        return courseSearchIndex.search(query, limit);
+    }
+
+    @Override
+    public List<CourseSearchHitDTO> suggest(String query, int limit) throws HttpRequestException {
+        checkSearch(query, limit);
+        return courseSearchIndex.suggest(query, limit);
+    }
+
+    private static void checkSearch(String query, int limit) throws HttpRequestException {
+        if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH) {
+            throw new HttpRequestException(HttpStatus.BAD_REQUEST, "Query must be between 1 and " + MAX_QUERY_LENGTH + " characters.");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new HttpRequestException(HttpStatus.BAD_REQUEST, "Limit must be between 1 and " + MAX_SEARCH_RESULTS + ".");
+        }
+    }
+
+    private static Map<Long, Integer> toMap(List<SectionSeatCount> seatCounts) {
+        return seatCounts.stream().collect(Collectors.toMap(SectionSeatCount::courseSectionId, SectionSeatCount::enrolledCount));
+    }
+}
@@ -5,6 +5,7 @@ import net.tylerwade.registrationsystem.prerequisites.dto.PrerequisiteDTO;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 public record CourseDTO(
         Long id,
@@ -17,4 +18,14 @@ public record CourseDTO(
         List<CourseSectionDTO> courseSections,
         Date createdAt
 ) {
+
+    /**
+     * Copies this course with the enrolled count of each section replaced by the given live count, if present.
+     */
+    public CourseDTO withEnrolledCounts(Map<Long, Integer> enrolledCounts) {
+        List<CourseSectionDTO> liveCourseSections = courseSections.stream()
+                .map(section -> section.withEnrolledCount(enrolledCounts.getOrDefault(section.id(), section.enrolledCount())))
+                .toList();
+        return new CourseDTO(id, department, code, title, description, credits, prerequisites, liveCourseSections, createdAt);
+    }
 }
@@ -0,0 +1,16 @@
+package net.tylerwade.registrationsystem.course.dto;
+
+/**
+ * Optional filters for listing courses. Null fields do not filter.
+ *
+ * @param department Only courses of this department.
+ * @param credits    Only courses worth this many credits.
+ * @param termId     Only courses with a section in this term.
+ * @param openSeats  If true, only courses with a section that has an open seat, within the term if one is given.
+ */
+public record CourseFilter(String department, Integer credits, Long termId, Boolean openSeats) {
+
+    public boolean openSeatsOnly() {
+        return Boolean.TRUE.equals(openSeats);
+    }
+}
@@ -0,0 +1,11 @@
+package net.tylerwade.registrationsystem.course.dto;
+
+public record CourseSearchHitDTO(
+        Long id,
+        String department,
+        Integer code,
+        String title,
+        Integer credits,
+        float score
+) {
+}
@@ -0,0 +1,292 @@
+package net.tylerwade.registrationsystem.course.search;
+
+import lombok.extern.slf4j.Slf4j;
+import net.tylerwade.registrationsystem.course.CourseRepository;
+import net.tylerwade.registrationsystem.course.dto.CourseAttributeDTO;
+import net.tylerwade.registrationsystem.course.dto.CourseSearchHitDTO;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over the course catalog.
+ * <p>
+ * Every course is split into terms from its department, code, title and description, and each term maps to the
+ * courses containing it with a weight for the field it came from. Terms are kept sorted, so all terms starting with a
+ * prefix are one range lookup, which is what typeahead runs on. A query matches the courses containing all of its
+ * terms, scored by the summed weights, and a department followed by a code ("CS 101") ranks that exact course first.
+ * <p>
+ * The index is loaded from the database on first use and kept up to date as courses are created, updated and deleted.
+ * It is also rebuilt periodically to pick up changes made on other nodes.
+ */
+@Slf4j
+@Component
+public class CourseSearchIndex {
+
+    private static final float DEPARTMENT_WEIGHT = 4f;
+    private static final float CODE_WEIGHT = 4f;
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+    private static final float EXACT_COURSE_BOOST = 10f;
+
+    /**
+     * Upper bound on the terms a prefix expands to, so short prefixes cost the same as long ones.
+     */
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private static final Comparator<Map.Entry<Long, Float>> BY_SCORE = Map.Entry.<Long, Float>comparingByValue().reversed()
+            .thenComparing(Map.Entry.comparingByKey());
+
+    private final CourseRepository courseRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, CourseAttributeDTO> courses = new HashMap<>();
+    private final Map<Long, Set<String>> termsByCourse = new HashMap<>();
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<String, Long> courseIdByDepartmentAndCode = new HashMap<>();
+
+    private volatile boolean loaded;
+
+    /**
+     * Changes made while a rebuild reads the database, by course id; empty for a removed course. Null when no rebuild
+     * is running. Guarded by the write lock.
+     */
+    private Map<Long, Optional<CourseAttributeDTO>> changesDuringRebuild;
+
+    public CourseSearchIndex(CourseRepository courseRepository) {
+        this.courseRepository = courseRepository;
+    }
+
+    /**
+     * Find the courses containing every term of the query, best match first.
+     *
+     * @param query The search text.
+     * @param limit The maximum number of results.
+     * @return The matching courses.
+     */
+    public List<CourseSearchHitDTO> search(String query, int limit) {
+        return find(query, limit, false);
+    }
+
+    /**
+     * Like {@link #search(String, int)}, but the last term of the query also matches terms it is a prefix of, so
+     * results can be shown while the user is still typing.
+     *
+     * @param query The partial search text.
+     * @param limit The maximum number of results.
+     * @return The matching courses.
+     */
+    public List<CourseSearchHitDTO> suggest(String query, int limit) {
+        return find(query, limit, true);
+    }
+
+    /**
+     * Add a course to the index, or re-index it after an update.
+     *
+     * @param course The course.
+     */
+    public void put(CourseAttributeDTO course) {
+        lock.writeLock().lock();
+        try {
+            recordChange(course.id(), Optional.of(course));
+            if (loaded) {
+                removeInternal(course.id());
+                putInternal(course);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a course from the index, e.g. after the course is deleted.
+     *
+     * @param courseId The id of the course.
+     */
+    public void remove(Long courseId) {
+        lock.writeLock().lock();
+        try {
+            recordChange(courseId, Optional.empty());
+            if (loaded) {
+                removeInternal(courseId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuild the index from the database. Only course columns are read, never sections or prerequisites.
+     * <p>
+     * The database is read without holding the lock, so searches keep being served meanwhile. Courses put or removed
+     * during the read may or may not be part of it, so those changes are recorded and replayed on top of the result.
+     */
+    @Scheduled(cron = "${course.search.rebuild-cron}")
+    public synchronized void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<CourseAttributeDTO> allCourses = courseRepository.findAllAttributes();
+
+        lock.writeLock().lock();
+        try {
+            courses.clear();
+            termsByCourse.clear();
+            postings.clear();
+            courseIdByDepartmentAndCode.clear();
+            allCourses.forEach(this::putInternal);
+            changesDuringRebuild.forEach((courseId, course) -> {
+                removeInternal(courseId);
+                course.ifPresent(this::putInternal);
+            });
+            changesDuringRebuild = null;
+            loaded = true;
+            log.debug("Indexed {} courses with {} terms.", courses.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remembers the latest change to a course while a rebuild is reading the database. Must hold the write lock.
+     */
+    private void recordChange(Long courseId, Optional<CourseAttributeDTO> course) {
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.put(courseId, course);
+        }
+    }
+
+    private List<CourseSearchHitDTO> find(String query, int limit, boolean prefixLast) {
+        List<String> tokens = CourseTokenizer.tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            // Intersect the postings of every term, summing the weights
+            Map<Long, Float> scores = null;
+            for (int i = 0; i < tokens.size(); i++) {
+                boolean prefix = prefixLast && i == tokens.size() - 1;
+                Map<Long, Float> matches = prefix ? prefixMatches(tokens.get(i)) : postings.getOrDefault(tokens.get(i), Map.of());
+                if (scores == null) {
+                    scores = new HashMap<>(matches);
+                } else {
+                    scores.keySet().retainAll(matches.keySet());
+                    scores.replaceAll((courseId, score) -> score + matches.get(courseId));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            // A department directly followed by a code names one course
+            for (int i = 0; i + 1 < tokens.size(); i++) {
+                if (!CourseTokenizer.isNumber(tokens.get(i)) && CourseTokenizer.isNumber(tokens.get(i + 1))) {
+                    Long courseId = courseIdByDepartmentAndCode.get(key(tokens.get(i), tokens.get(i + 1)));
+                    if (courseId != null) {
+                        scores.computeIfPresent(courseId, (id, score) -> score + EXACT_COURSE_BOOST);
+                    }
+                }
+            }
+
+            return scores.entrySet().stream()
+                    .sorted(BY_SCORE)
+                    .limit(limit)
+                    .map(entry -> toHit(courses.get(entry.getKey()), entry.getValue()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Collect the courses containing any term that starts with the prefix. Closer matches weigh more, so "calc" ranks
+     * "calc" above "calculus".
+     */
+    private Map<Long, Float> prefixMatches(String prefix) {
+        Map<Long, Float> matches = new HashMap<>();
+        int expansions = 0;
+        for (Map.Entry<String, Map<Long, Float>> term : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).entrySet()) {
+            if (expansions++ == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            float closeness = (float) prefix.length() / term.getKey().length();
+            term.getValue().forEach((courseId, weight) -> matches.merge(courseId, weight * closeness, Math::max));
+        }
+        return matches;
+    }
+
+    private void putInternal(CourseAttributeDTO course) {
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, course.department(), DEPARTMENT_WEIGHT);
+        addField(weights, String.valueOf(course.code()), CODE_WEIGHT);
+        addField(weights, course.title(), TITLE_WEIGHT);
+        addField(weights, course.description(), DESCRIPTION_WEIGHT);
+
+        weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(course.id(), weight));
+        termsByCourse.put(course.id(), weights.keySet());
+        courses.put(course.id(), course);
+        courseIdByDepartmentAndCode.put(key(course.department(), String.valueOf(course.code())), course.id());
+    }
+
+    private void removeInternal(Long courseId) {
+        CourseAttributeDTO course = courses.remove(courseId);
+        if (course == null) {
+            return;
+        }
+
+        for (String term : termsByCourse.remove(courseId)) {
+            Map<Long, Float> termPostings = postings.get(term);
+            termPostings.remove(courseId);
+            if (termPostings.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        courseIdByDepartmentAndCode.remove(key(course.department(), String.valueOf(course.code())), courseId);
+    }
+
+    /**
+     * Each term counts once per field, so a long description cannot outweigh the title.
+     */
+    private static void addField(Map<String, Float> weights, String text, float weight) {
+        for (String term : new HashSet<>(CourseTokenizer.tokenize(text))) {
+            weights.merge(term, weight, Float::sum);
+        }
+    }
+
+    private static String key(String department, String code) {
+        return department.toLowerCase(Locale.ROOT) + ":" + code;
+    }
+
+    private static CourseSearchHitDTO toHit(CourseAttributeDTO course, float score) {
+        return new CourseSearchHitDTO(course.id(), course.department(), course.code(), course.title(), course.credits(), score);
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+    }
+}
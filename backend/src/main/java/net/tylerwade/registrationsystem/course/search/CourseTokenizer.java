@@ -0,0 +1,49 @@
+package net.tylerwade.registrationsystem.course.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits course text into lowercase search terms.
+ * Terms break on anything that is not a letter or digit, and between letters and digits, so "CS101" and "CS 101"
+ * both become "cs", "101".
+ */
+final class CourseTokenizer {
+
+    private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "for", "in", "of", "on", "or", "the", "to", "with");
+
+    private CourseTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            char c = i < lower.length() ? lower.charAt(i) : ' ';
+            boolean boundary = !Character.isLetterOrDigit(c)
+                    || (start >= 0 && Character.isDigit(c) != Character.isDigit(lower.charAt(i - 1)));
+            if (boundary && start >= 0) {
+                String token = lower.substring(start, i);
+                if (!STOP_WORDS.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+            if (Character.isLetterOrDigit(c) && start < 0) {
+                start = i;
+            }
+        }
+        return tokens;
+    }
+
+    static boolean isNumber(String token) {
+        return !token.isEmpty() && Character.isDigit(token.charAt(0));
+    }
+}
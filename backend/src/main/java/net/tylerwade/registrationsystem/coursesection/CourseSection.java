@@ -6,6 +6,8 @@ import net.tylerwade.registrationsystem.auth.User;
 import net.tylerwade.registrationsystem.course.Course;
 import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionDTO;
 import net.tylerwade.registrationsystem.coursesection.dto.InstructorCourseSectionDTO;
+import net.tylerwade.registrationsystem.coursesection.schedule.MeetingTime;
+import net.tylerwade.registrationsystem.coursesection.schedule.ScheduleParser;
 import net.tylerwade.registrationsystem.enrollment.Enrollment;
 import net.tylerwade.registrationsystem.term.Term;
 import org.springframework.data.annotation.CreatedDate;
@@ -14,6 +16,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Represents a course section entity in the registration system.
@@ -69,8 +72,9 @@ public class CourseSection {
 
     /**
      * The number of students currently enrolled in this course section.
+     * Only written on insert; afterwards it is maintained by the atomic seat statements in {@link CourseSectionRepository}.
      */
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer enrolledCount;
 
     /**
@@ -82,9 +86,10 @@ public class CourseSection {
 
     /**
      * The maximum capacity of students for this course section.
-     * Defaults to 0.
+     * Defaults to 0. Only written on insert; afterwards it is changed by {@link CourseSectionRepository#updateCapacity},
+     * which checks the enrolled count in the same statement.
      */
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private Integer capacity = 0;
 
     /**
@@ -93,6 +98,22 @@ public class CourseSection {
     @Column(nullable = false)
     private String schedule;
 
+    /**
+     * Bitmask of the days the course section meets, parsed from {@link #schedule}.
+     * Null when the schedule has no fixed meeting time.
+     */
+    private Integer meetingDays;
+
+    /**
+     * Minute of the day the course section starts, parsed from {@link #schedule}.
+     */
+    private Integer meetingStartMinute;
+
+    /**
+     * Minute of the day the course section ends, parsed from {@link #schedule}.
+     */
+    private Integer meetingEndMinute;
+
     /**
      * Timestamp indicating when the course section was created.
      * Automatically populated during creation.
@@ -100,6 +121,40 @@ public class CourseSection {
     @CreatedDate
     private Date createdAt;
 
+    /**
+     * Sets the schedule and the meeting time parsed from it.
+     *
+     * @param schedule The schedule string.
+     * @throws IllegalArgumentException If the schedule has a clock time that cannot be read, see {@link ScheduleParser}.
+     */
+    public void updateSchedule(String schedule) {
+        this.schedule = schedule;
+        setMeetingTime(ScheduleParser.parse(schedule).orElse(null));
+    }
+
+    /**
+     * Gets the parsed meeting time of this course section.
+     *
+     * @return The meeting time, or empty if the schedule has no fixed meeting time.
+     */
+    public Optional<MeetingTime> getMeetingTime() {
+        if (meetingDays == null || meetingStartMinute == null || meetingEndMinute == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new MeetingTime(meetingDays, meetingStartMinute, meetingEndMinute));
+    }
+
+    /**
+     * Sets the parsed meeting time of this course section.
+     *
+     * @param meetingTime The meeting time, or null if the schedule has no fixed meeting time.
+     */
+    public void setMeetingTime(MeetingTime meetingTime) {
+        this.meetingDays = meetingTime != null ? meetingTime.days() : null;
+        this.meetingStartMinute = meetingTime != null ? meetingTime.startMinute() : null;
+        this.meetingEndMinute = meetingTime != null ? meetingTime.endMinute() : null;
+    }
+
     /**
      * Converts the CourseSection entity to a CourseSectionDTO object.
      * Includes details about the course, term, instructor, room, capacity, schedule, and enrolled count.
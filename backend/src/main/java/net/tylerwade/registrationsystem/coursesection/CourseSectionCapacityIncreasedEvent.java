@@ -0,0 +1,10 @@
+package net.tylerwade.registrationsystem.coursesection;
+
+/**
+ * Published when a course section's capacity is raised, so waitlisted students can be given the new seats.
+ * Handled synchronously, inside the transaction that raised the capacity.
+ *
+ * @param courseSection The course section, with its new capacity.
+ */
+public record CourseSectionCapacityIncreasedEvent(CourseSection courseSection) {
+}
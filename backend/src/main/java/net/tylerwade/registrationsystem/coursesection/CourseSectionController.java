@@ -5,10 +5,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import net.tylerwade.registrationsystem.common.CursorPageResponse;
+import net.tylerwade.registrationsystem.common.PageResponse;
 import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionDTO;
+import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionFilter;
+import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionSummaryDTO;
 import net.tylerwade.registrationsystem.coursesection.dto.InstructorCourseSectionDTO;
 import net.tylerwade.registrationsystem.coursesection.dto.ManageCourseSectionRequest;
+import net.tylerwade.registrationsystem.coursesection.query.CourseSectionQueryService;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -22,9 +29,11 @@ import java.util.List;
 public class CourseSectionController {
 
     private final CourseSectionService courseSectionService;
+    private final CourseSectionQueryService courseSectionQueryService;
 
-    public CourseSectionController(CourseSectionService courseSectionService) {
+    public CourseSectionController(CourseSectionService courseSectionService, CourseSectionQueryService courseSectionQueryService) {
         this.courseSectionService = courseSectionService;
+        this.courseSectionQueryService = courseSectionQueryService;
     }
 
 
@@ -40,12 +49,43 @@ public class CourseSectionController {
     @ResponseStatus(HttpStatus.OK)
     public List<CourseSectionDTO> findAllByCourse_Id(@RequestParam(required = false) Long courseId) throws HttpRequestException {
         if (courseId != null) {
-            return courseSectionService.findAllByCourse_Id(courseId).stream().map(CourseSection::toDTO).toList();
+            return courseSectionQueryService.findAllByCourseId(courseId);
         } else {
-            return courseSectionService.findAll().stream().map(CourseSection::toDTO).toList();
+            return courseSectionQueryService.findAll();
         }
     }
 
+    /*
+     * Find a page of sections
+     */
+    @Operation(summary = "Retrieves a page of sections.", description = "Finds a page of flat section rows, optionally filtered by course, department, credits, term and open seats. Sortable by id, department, code, startDate, room, capacity and enrolledCount.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found"),
+            @ApiResponse(responseCode = "400", description = "Unsupported sort property.")
+    })
+    @GetMapping("/page")
+    @ResponseStatus(HttpStatus.OK)
+    public PageResponse<CourseSectionSummaryDTO> findPage(@ParameterObject CourseSectionFilter filter,
+                                                          @ParameterObject Pageable pageable) throws HttpRequestException {
+        return PageResponse.convertPage(courseSectionService.findPage(filter, pageable));
+    }
+
+    /*
+     * Scroll through sections
+     */
+    @Operation(summary = "Scrolls through sections.", description = "Finds a keyset page of flat section rows in id order. Pass the returned nextCursor to get the next page.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or size.")
+    })
+    @GetMapping("/scroll")
+    @ResponseStatus(HttpStatus.OK)
+    public CursorPageResponse<CourseSectionSummaryDTO> scroll(@ParameterObject CourseSectionFilter filter,
+                                                              @RequestParam(required = false) String cursor,
+                                                              @RequestParam(defaultValue = "20") int size) throws HttpRequestException {
+        return courseSectionService.scroll(filter, cursor, size);
+    }
+
     /*
      * Find by ID
      */
@@ -57,7 +97,7 @@ public class CourseSectionController {
     @GetMapping("/{sectionId}")
     @ResponseStatus(HttpStatus.OK)
     public CourseSectionDTO findById(@PathVariable Long sectionId) throws HttpRequestException {
-        return courseSectionService.findById(sectionId).toDTO();
+        return courseSectionQueryService.findById(sectionId);
     }
 
     /// --- INSTRUCTOR ENDPOINTS ---
@@ -71,8 +111,7 @@ public class CourseSectionController {
     @GetMapping("/assigned")
     @ResponseStatus(HttpStatus.OK)
     public List<InstructorCourseSectionDTO> findAssignedCourseSections(Authentication authentication) {
-        return courseSectionService.findAssignedCourseSections_AsInstructor(authentication).stream()
-                .map(CourseSection::toInstructorDTO).toList();
+        return courseSectionQueryService.findAssignedCourseSections_AsInstructor(authentication);
     }
 
     /*
@@ -87,7 +126,7 @@ public class CourseSectionController {
     @GetMapping("/assigned/{sectionId}")
     @ResponseStatus(HttpStatus.OK)
     public InstructorCourseSectionDTO findAssignedCourseSectionById(Authentication authentication, @PathVariable Long sectionId) throws HttpRequestException {
-        return courseSectionService.findAssignedCourseSectionById_AsInstructor(sectionId, authentication).toInstructorDTO();
+        return courseSectionQueryService.findAssignedCourseSectionById_AsInstructor(sectionId, authentication);
     }
 
     ///  --- ADMIN ENDPOINTS ---
@@ -1,16 +1,147 @@
 package net.tylerwade.registrationsystem.coursesection;
 
+import jakarta.persistence.LockModeType;
+import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionSummaryDTO;
+import net.tylerwade.registrationsystem.coursesection.query.CourseSectionRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CourseSectionRepository extends JpaRepository<CourseSection, Long> {
+
+    String SUMMARY = "SELECT new net.tylerwade.registrationsystem.coursesection.dto.CourseSectionSummaryDTO("
+            + "cs.id, c.id, c.department, c.code, c.title, c.credits, t.id, t.startDate, t.endDate, i.id, i.firstName, i.lastName,"
+            + " cs.room, cs.capacity, cs.schedule, cs.enrolledCount)"
+            + " FROM CourseSection cs JOIN cs.course c JOIN cs.term t LEFT JOIN cs.instructor i";
+
+    String FILTER = " WHERE (:courseId IS NULL OR c.id = :courseId)"
+            + " AND (:department IS NULL OR c.department = :department)"
+            + " AND (:credits IS NULL OR c.credits = :credits)"
+            + " AND (:termId IS NULL OR t.id = :termId)"
+            + " AND (:openSeats = false OR cs.enrolledCount < cs.capacity)";
+
+    String ROW = "SELECT new net.tylerwade.registrationsystem.coursesection.query.CourseSectionRow("
+            + "cs.id, c.id, c.department, c.code, c.title, c.description, c.credits,"
+            + " t.id, t.startDate, t.endDate, t.registrationStart, t.registrationEnd, t.createdAt,"
+            + " i.id, i.username, i.firstName, i.lastName, i.createdAt,"
+            + " cs.room, cs.capacity, cs.schedule, cs.enrolledCount, cs.createdAt)"
+            + " FROM CourseSection cs JOIN cs.course c JOIN cs.term t LEFT JOIN cs.instructor i";
+
     List<CourseSection> findAllByCourse_Id(Long courseId);
 
     List<CourseSection> findAllByInstructor_Id(Long instructorId);
 
     Optional<CourseSection> findByIdAndInstructor_Id(Long id, Long instructorId);
+
+    /**
+     * Locks a course section row until the transaction ends, so checks that count the rows of the section and then
+     * insert one are not interleaved with another request doing the same. Only the id is read; the section itself is
+     * loaded separately, with its associations joined.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT cs.id FROM CourseSection cs WHERE cs.id = :id")
+    Optional<Long> lockById(@Param("id") Long id);
+
+    List<CourseSection> findAllByMeetingDaysIsNull();
+
+    /*
+     * Full section rows for the DTO listings. Loading sections as entities pulls in the course with its eager
+     * sections and prerequisites and the instructor with its authorities, one select per row.
+     */
+
+    @Query(ROW + " ORDER BY cs.id")
+    List<CourseSectionRow> findAllRows();
+
+    @Query(ROW + " WHERE c.id = :courseId ORDER BY cs.id")
+    List<CourseSectionRow> findRowsByCourseId(@Param("courseId") Long courseId);
+
+    @Query(ROW + " WHERE cs.id IN :ids ORDER BY cs.id")
+    List<CourseSectionRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(ROW + " WHERE cs.id = :id")
+    Optional<CourseSectionRow> findRowById(@Param("id") Long id);
+
+    @Query(ROW + " WHERE i.id = :instructorId ORDER BY cs.id")
+    List<CourseSectionRow> findRowsByInstructorId(@Param("instructorId") Long instructorId);
+
+    @Query(ROW + " WHERE cs.id = :id AND i.id = :instructorId")
+    Optional<CourseSectionRow> findRowByIdAndInstructorId(@Param("id") Long id, @Param("instructorId") Long instructorId);
+
+    /*
+     * Section listings are flat projections over one join, so a page costs the same however many sections exist.
+     */
+
+    @Query(value = SUMMARY + FILTER, countQuery = "SELECT COUNT(cs) FROM CourseSection cs JOIN cs.course c JOIN cs.term t" + FILTER)
+    Page<CourseSectionSummaryDTO> findSummaries(@Param("courseId") Long courseId,
+                                                @Param("department") String department,
+                                                @Param("credits") Integer credits,
+                                                @Param("termId") Long termId,
+                                                @Param("openSeats") boolean openSeats,
+                                                Pageable pageable);
+
+    /**
+     * Keyset page in id order, starting after the given section, or from the start if afterId is null.
+     */
+    @Query(SUMMARY + FILTER + " AND (:afterId IS NULL OR cs.id > :afterId) ORDER BY cs.id")
+    List<CourseSectionSummaryDTO> scrollSummaries(@Param("courseId") Long courseId,
+                                                  @Param("department") String department,
+                                                  @Param("credits") Integer credits,
+                                                  @Param("termId") Long termId,
+                                                  @Param("openSeats") boolean openSeats,
+                                                  @Param("afterId") Long afterId,
+                                                  Limit limit);
+
+    @Query("SELECT cs FROM CourseSection cs JOIN FETCH cs.course JOIN FETCH cs.term WHERE cs.id IN :courseSectionIds")
+    List<CourseSection> findAllWithCourseAndTermByIdIn(@Param("courseSectionIds") Collection<Long> courseSectionIds);
+
+    @Query("SELECT new net.tylerwade.registrationsystem.coursesection.SectionSeatCount(cs.id, cs.enrolledCount) FROM CourseSection cs")
+    List<SectionSeatCount> findAllSeatCounts();
+
+    @Query("SELECT new net.tylerwade.registrationsystem.coursesection.SectionSeatCount(cs.id, cs.enrolledCount) FROM CourseSection cs WHERE cs.course.id = :courseId")
+    List<SectionSeatCount> findSeatCountsByCourseId(@Param("courseId") Long courseId);
+
+    /**
+     * Claims a seat in a single conditional statement. Returns 1 if a seat was claimed, 0 if the section is full.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CourseSection cs SET cs.enrolledCount = cs.enrolledCount + 1 WHERE cs.id = :courseSectionId AND cs.enrolledCount < cs.capacity")
+    int reserveSeat(@Param("courseSectionId") Long courseSectionId);
+
+    /**
+     * Changes the capacity in a single conditional statement, so no seat can be claimed between the check and the
+     * change. Returns 1 if the capacity was changed, 0 if more students are enrolled than the new capacity allows.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CourseSection cs SET cs.capacity = :capacity WHERE cs.id = :courseSectionId AND cs.enrolledCount <= :capacity")
+    int updateCapacity(@Param("courseSectionId") Long courseSectionId, @Param("capacity") Integer capacity);
+
+    /**
+     * Gives back a previously claimed seat. Never drops the count below zero.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CourseSection cs SET cs.enrolledCount = cs.enrolledCount - 1 WHERE cs.id = :courseSectionId AND cs.enrolledCount > 0")
+    int releaseSeat(@Param("courseSectionId") Long courseSectionId);
+
+    /**
+     * Reconciles the stored enrolled count with the actual number of enrollment rows.
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CourseSection cs SET cs.enrolledCount = (SELECT COUNT(e) FROM Enrollment e WHERE e.courseSectionId = cs.id) WHERE cs.id = :courseSectionId")
+    int recountEnrollments(@Param("courseSectionId") Long courseSectionId);
 }
@@ -1,10 +1,16 @@
 package net.tylerwade.registrationsystem.coursesection;
 
+import net.tylerwade.registrationsystem.common.CursorPageResponse;
+import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionFilter;
+import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionSummaryDTO;
 import net.tylerwade.registrationsystem.coursesection.dto.ManageCourseSectionRequest;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -37,6 +43,45 @@ public interface CourseSectionService {
      */
     CourseSection findById(Long sectionId) throws HttpRequestException;
 
+    /**
+     * Finds a course section by its ID and locks its row until the current transaction ends.
+     *
+     * @param sectionId the ID of the section
+     * @return the course section
+     * @throws HttpRequestException if not found
+     */
+    CourseSection findLockedById(Long sectionId) throws HttpRequestException;
+
+    /**
+     * Retrieves a page of flat course section rows.
+     *
+     * @param filter   The filters to apply.
+     * @param pageable The page to retrieve; sortable by id, department, code, startDate, room, capacity and enrolledCount.
+     * @return The page of course sections.
+     * @throws HttpRequestException If the sort is not supported.
+     */
+    Page<CourseSectionSummaryDTO> findPage(CourseSectionFilter filter, Pageable pageable) throws HttpRequestException;
+
+    /**
+     * Retrieves a keyset page of flat course section rows in id order.
+     *
+     * @param filter The filters to apply.
+     * @param cursor The cursor of the previous page, or null for the first page.
+     * @param size   The page size.
+     * @return The page of course sections and the cursor of the next page.
+     * @throws HttpRequestException If the cursor or size is invalid.
+     */
+    CursorPageResponse<CourseSectionSummaryDTO> scroll(CourseSectionFilter filter, String cursor, int size) throws HttpRequestException;
+
+    /**
+     * Find several course sections, with their course and term, in a single query.
+     * Ids that do not match a course section are ignored.
+     *
+     * @param sectionIds The IDs of the course sections.
+     * @return The course sections that were found, in no particular order.
+     */
+    List<CourseSection> findAllByIds(Collection<Long> sectionIds);
+
     /**
      * Finds all course sections assigned to the authenticated instructor.
      *
@@ -92,4 +137,19 @@ public interface CourseSectionService {
      */
     CourseSection refreshEnrollmentCount(Long courseSectionId) throws HttpRequestException;
 
+    /**
+     * Atomically reserves a seat in a course section if it still has capacity.
+     *
+     * @param courseSection the course section to reserve a seat in
+     * @return true if a seat was reserved, false if the section is full
+     */
+    boolean reserveSeat(CourseSection courseSection);
+
+    /**
+     * Releases a previously reserved seat in a course section.
+     *
+     * @param courseSection the course section to release a seat in
+     */
+    void releaseSeat(CourseSection courseSection);
+
 }
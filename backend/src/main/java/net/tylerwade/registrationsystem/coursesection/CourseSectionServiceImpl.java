@@ -2,31 +2,57 @@ package net.tylerwade.registrationsystem.coursesection;
 
 import net.tylerwade.registrationsystem.auth.User;
 import net.tylerwade.registrationsystem.auth.UserService;
+import net.tylerwade.registrationsystem.common.CursorPageResponse;
+import net.tylerwade.registrationsystem.common.Pageables;
 import net.tylerwade.registrationsystem.course.Course;
 import net.tylerwade.registrationsystem.course.CourseService;
+import net.tylerwade.registrationsystem.course.catalog.CourseCatalogChangedEvent;
+import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionFilter;
+import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionSummaryDTO;
 import net.tylerwade.registrationsystem.coursesection.dto.ManageCourseSectionRequest;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
 import net.tylerwade.registrationsystem.term.Term;
 import net.tylerwade.registrationsystem.term.TermService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class CourseSectionServiceImpl implements CourseSectionService {
 
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "id", "id",
+            "department", "c.department",
+            "code", "c.code",
+            "startDate", "t.startDate",
+            "room", "room",
+            "capacity", "capacity",
+            "enrolledCount", "enrolledCount");
+
+    private static final Sort DEFAULT_SORT = Sort.by("id");
+
     private final CourseSectionRepository courseSectionRepository;
     private final UserService userService;
     private final TermService termService;
     private final CourseService courseService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CourseSectionServiceImpl(CourseSectionRepository courseSectionRepository, UserService userService, TermService termService, CourseService courseService) {
+    public CourseSectionServiceImpl(CourseSectionRepository courseSectionRepository, UserService userService, TermService termService, CourseService courseService, ApplicationEventPublisher eventPublisher) {
         this.courseSectionRepository = courseSectionRepository;
         this.userService = userService;
         this.termService = termService;
         this.courseService = courseService;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -46,15 +72,51 @@ public class CourseSectionServiceImpl implements CourseSectionService {
         return courseSectionRepository.findById(sectionId).orElseThrow(() -> new HttpRequestException(HttpStatus.NOT_FOUND, "Course Section not found."));
     }
 
+    @Override
+    public CourseSection findLockedById(Long sectionId) throws HttpRequestException {
+        courseSectionRepository.lockById(sectionId).orElseThrow(() -> new HttpRequestException(HttpStatus.NOT_FOUND, "Course Section not found."));
+        return findById(sectionId);
+    }
+
+    @Override
+    public Page<CourseSectionSummaryDTO> findPage(CourseSectionFilter filter, Pageable pageable) throws HttpRequestException {
+        return courseSectionRepository.findSummaries(filter.courseId(), filter.department(), filter.credits(), filter.termId(), filter.openSeatsOnly(),
+                Pageables.mapSort(pageable, SORTABLE_PROPERTIES, DEFAULT_SORT));
+    }
+
+    @Override
+    public CursorPageResponse<CourseSectionSummaryDTO> scroll(CourseSectionFilter filter, String cursor, int size) throws HttpRequestException {
+        Pageables.checkSize(size);
+
+        // The cursor is the id of the last section of the previous page
+        Long afterId = null;
+        if (cursor != null) {
+            try {
+                afterId = Long.valueOf(Pageables.decodeCursor(cursor));
+            } catch (NumberFormatException e) {
+                throw new HttpRequestException(HttpStatus.BAD_REQUEST, "Invalid cursor.");
+            }
+        }
+
+        List<CourseSectionSummaryDTO> rows = courseSectionRepository.scrollSummaries(filter.courseId(), filter.department(), filter.credits(), filter.termId(), filter.openSeatsOnly(),
+                afterId, Limit.of(size + 1));
+        return CursorPageResponse.of(rows, size, last -> Pageables.encodeCursor(String.valueOf(last.id())));
+    }
+
+    @Override
+    public List<CourseSection> findAllByIds(Collection<Long> sectionIds) {
+        return courseSectionRepository.findAllWithCourseAndTermByIdIn(sectionIds);
+    }
+
     @Override
     public List<CourseSection> findAssignedCourseSections_AsInstructor(Authentication authentication) {
-        Long instructorId = userService.getUser(authentication).getId();
+        Long instructorId = userService.getAuthenticatedUser(authentication).id();
         return courseSectionRepository.findAllByInstructor_Id(instructorId);
     }
 
     @Override
     public CourseSection findAssignedCourseSectionById_AsInstructor(Long sectionId, Authentication authentication) throws HttpRequestException {
-        Long instructorId = userService.getUser(authentication).getId();
+        Long instructorId = userService.getAuthenticatedUser(authentication).id();
         return courseSectionRepository.findByIdAndInstructor_Id(sectionId, instructorId).orElseThrow(() -> new HttpRequestException(HttpStatus.NOT_FOUND, "Assigned Course section not found."));
     }
 
@@ -87,15 +149,18 @@ public class CourseSectionServiceImpl implements CourseSectionService {
                 .instructor(instructor)
                 .room(manageCourseSectionRequest.room())
                 .capacity(manageCourseSectionRequest.capacity())
-                .schedule(manageCourseSectionRequest.schedule())
                 .enrolledCount(0)
                 .build();
+        updateSchedule(courseSection, manageCourseSectionRequest.schedule());
 
-        // Save and return
-        return courseSectionRepository.save(courseSection);
+        // Save, refresh the catalog, and return
+        CourseSection savedCourseSection = courseSectionRepository.save(courseSection);
+        eventPublisher.publishEvent(CourseCatalogChangedEvent.forCourse(savedCourseSection.getCourse().getId()));
+        return savedCourseSection;
     }
 
     @Override
+    @Transactional(rollbackFor = HttpRequestException.class)
     public CourseSection update(Long sectionId, ManageCourseSectionRequest manageCourseSectionRequest) throws HttpRequestException {
 
         // Find target section
@@ -117,34 +182,66 @@ public class CourseSectionServiceImpl implements CourseSectionService {
             }
         }
 
-        // Check if trying to set capacity lower than current enrolled.
-        if (courseSection.getEnrollments().size() > manageCourseSectionRequest.capacity()) {
+        // Change the capacity unless more students are enrolled, atomically with concurrent seat claims
+        boolean capacityIncreased = manageCourseSectionRequest.capacity() > courseSection.getCapacity();
+        if (courseSectionRepository.updateCapacity(sectionId, manageCourseSectionRequest.capacity()) == 0) {
             throw new HttpRequestException(HttpStatus.CONFLICT, "You cannot set capacity lower than the amount of students already enrolled.");
         }
 
-        // Update
+        // Update. The capacity column is not updatable, so setting it only keeps the loaded entity in step.
         courseSection.setTerm(term);
         courseSection.setInstructor(instructor);
         courseSection.setRoom(manageCourseSectionRequest.room());
         courseSection.setCapacity(manageCourseSectionRequest.capacity());
-        courseSection.setSchedule(manageCourseSectionRequest.schedule());
+        updateSchedule(courseSection, manageCourseSectionRequest.schedule());
 
-        // Save and return
-        return courseSectionRepository.save(courseSection);
+        // Save, hand new seats to the waitlist, refresh the catalog, and return
+        CourseSection savedCourseSection = courseSectionRepository.save(courseSection);
+        if (capacityIncreased) {
+            eventPublisher.publishEvent(new CourseSectionCapacityIncreasedEvent(savedCourseSection));
+        }
+        eventPublisher.publishEvent(CourseCatalogChangedEvent.forCourse(savedCourseSection.getCourse().getId()));
+        return savedCourseSection;
     }
 
     @Override
     public void delete(Long sectionId) throws HttpRequestException {
-        if (!courseSectionRepository.existsById(sectionId)) {
+        CourseSection courseSection = findById(sectionId);
+        courseSectionRepository.delete(courseSection);
+        eventPublisher.publishEvent(CourseCatalogChangedEvent.forCourse(courseSection.getCourse().getId()));
+    }
+
+    @Override
+    public CourseSection refreshEnrollmentCount(Long courseSectionId) throws HttpRequestException {
+        if (courseSectionRepository.recountEnrollments(courseSectionId) == 0) {
             throw new HttpRequestException(HttpStatus.NOT_FOUND, "Course Section not found.");
         }
-        courseSectionRepository.deleteById(sectionId);
+        return findById(courseSectionId);
     }
 
     @Override
-    public CourseSection refreshEnrollmentCount(Long courseSectionId) throws HttpRequestException {
-        CourseSection courseSection = findById(courseSectionId);
-        courseSection.setEnrolledCount(courseSection.getEnrollments().size());
-        return courseSectionRepository.save(courseSection);
+    public boolean reserveSeat(CourseSection courseSection) {
+        if (courseSectionRepository.reserveSeat(courseSection.getId()) == 0) {
+            return false;
+        }
+
+        // Keep the loaded entity in step with the database. The column is not updatable, so this is never flushed.
+        courseSection.setEnrolledCount(courseSection.getEnrolledCount() + 1);
+        return true;
+    }
+
+    @Override
+    public void releaseSeat(CourseSection courseSection) {
+        if (courseSectionRepository.releaseSeat(courseSection.getId()) > 0) {
+            courseSection.setEnrolledCount(courseSection.getEnrolledCount() - 1);
+        }
+    }
+
+    private static void updateSchedule(CourseSection courseSection, String schedule) throws HttpRequestException {
+        try {
+            courseSection.updateSchedule(schedule);
+        } catch (IllegalArgumentException e) {
+            throw new HttpRequestException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
     }
 }
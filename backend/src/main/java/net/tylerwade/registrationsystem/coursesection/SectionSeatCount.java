@@ -0,0 +1,10 @@
+package net.tylerwade.registrationsystem.coursesection;
+
+/**
+ * The live enrolled count of a course section.
+ *
+ * @param courseSectionId The ID of the course section.
+ * @param enrolledCount   The number of students enrolled.
+ */
+public record SectionSeatCount(Long courseSectionId, Integer enrolledCount) {
+}
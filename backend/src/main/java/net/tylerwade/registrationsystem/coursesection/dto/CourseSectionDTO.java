@@ -17,4 +17,8 @@ public record CourseSectionDTO(
         Integer enrolledCount,
         Date createdAt
 ) {
+
+    public CourseSectionDTO withEnrolledCount(Integer enrolledCount) {
+        return new CourseSectionDTO(id, course, term, instructor, room, capacity, schedule, enrolledCount, createdAt);
+    }
 }
@@ -0,0 +1,17 @@
+package net.tylerwade.registrationsystem.coursesection.dto;
+
+/**
+ * Optional filters for listing course sections. Null fields do not filter.
+ *
+ * @param courseId   Only sections of this course.
+ * @param department Only sections of courses in this department.
+ * @param credits    Only sections of courses worth this many credits.
+ * @param termId     Only sections in this term.
+ * @param openSeats  If true, only sections with an open seat.
+ */
+public record CourseSectionFilter(Long courseId, String department, Integer credits, Long termId, Boolean openSeats) {
+
+    public boolean openSeatsOnly() {
+        return Boolean.TRUE.equals(openSeats);
+    }
+}
@@ -0,0 +1,26 @@
+package net.tylerwade.registrationsystem.coursesection.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Flat listing row of a course section, read with a single projection query.
+ */
+public record CourseSectionSummaryDTO(
+        Long id,
+        Long courseId,
+        String department,
+        Integer code,
+        String title,
+        Integer credits,
+        Long termId,
+        LocalDate termStartDate,
+        LocalDate termEndDate,
+        Long instructorId,
+        String instructorFirstName,
+        String instructorLastName,
+        String room,
+        Integer capacity,
+        String schedule,
+        Integer enrolledCount
+) {
+}
@@ -0,0 +1,67 @@
+package net.tylerwade.registrationsystem.coursesection.query;
+
+import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionDTO;
+import net.tylerwade.registrationsystem.coursesection.dto.InstructorCourseSectionDTO;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.springframework.security.core.Authentication;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Read side of the course sections. Builds section DTOs from flat projection rows,
+ * so a listing costs a fixed number of queries however many sections it returns.
+ */
+public interface CourseSectionQueryService {
+
+    /**
+     * Finds all course sections.
+     *
+     * @return list of course sections
+     */
+    List<CourseSectionDTO> findAll();
+
+    /**
+     * Finds all course sections for a given course.
+     *
+     * @param courseId the ID of the course
+     * @return list of course sections
+     * @throws HttpRequestException if the course is not found
+     */
+    List<CourseSectionDTO> findAllByCourseId(Long courseId) throws HttpRequestException;
+
+    /**
+     * Finds a course section by its ID.
+     *
+     * @param sectionId the ID of the section
+     * @return the course section
+     * @throws HttpRequestException if the section is not found
+     */
+    CourseSectionDTO findById(Long sectionId) throws HttpRequestException;
+
+    /**
+     * Finds the course sections with the given IDs. Unknown IDs are left out.
+     *
+     * @param sectionIds the IDs of the sections
+     * @return list of course sections in ID order
+     */
+    List<CourseSectionDTO> findAllByIds(Collection<Long> sectionIds);
+
+    /**
+     * Finds the sections assigned to the authenticated instructor, with their enrollments.
+     *
+     * @param authentication the authentication object of the instructor
+     * @return list of assigned course sections
+     */
+    List<InstructorCourseSectionDTO> findAssignedCourseSections_AsInstructor(Authentication authentication);
+
+    /**
+     * Finds a section assigned to the authenticated instructor, with its enrollments.
+     *
+     * @param sectionId      the ID of the section
+     * @param authentication the authentication object of the instructor
+     * @return the assigned course section
+     * @throws HttpRequestException if the section is not found or not assigned to the instructor
+     */
+    InstructorCourseSectionDTO findAssignedCourseSectionById_AsInstructor(Long sectionId, Authentication authentication) throws HttpRequestException;
+}
@@ -0,0 +1,123 @@
+package net.tylerwade.registrationsystem.coursesection.query;
+
+import net.tylerwade.registrationsystem.auth.UserRepository;
+import net.tylerwade.registrationsystem.auth.UserService;
+import net.tylerwade.registrationsystem.auth.authority.Authority;
+import net.tylerwade.registrationsystem.course.CourseRepository;
+import net.tylerwade.registrationsystem.coursesection.CourseSectionRepository;
+import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionDTO;
+import net.tylerwade.registrationsystem.coursesection.dto.InstructorCourseSectionDTO;
+import net.tylerwade.registrationsystem.enrollment.EnrollmentRepository;
+import net.tylerwade.registrationsystem.enrollment.dto.InstructorEnrollmentDTO;
+import net.tylerwade.registrationsystem.enrollment.query.EnrollmentRow;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class CourseSectionQueryServiceImpl implements CourseSectionQueryService {
+
+    private final CourseSectionRepository courseSectionRepository;
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final UserRepository userRepository;
+    private final UserService userService;
+
+    public CourseSectionQueryServiceImpl(CourseSectionRepository courseSectionRepository, CourseRepository courseRepository, EnrollmentRepository enrollmentRepository, UserRepository userRepository, UserService userService) {
+        this.courseSectionRepository = courseSectionRepository;
+        this.courseRepository = courseRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.userRepository = userRepository;
+        this.userService = userService;
+    }
+
+    @Override
+    public List<CourseSectionDTO> findAll() {
+        return toDTOs(courseSectionRepository.findAllRows());
+    }
+
+    @Override
+    public List<CourseSectionDTO> findAllByCourseId(Long courseId) throws HttpRequestException {
+        List<CourseSectionRow> rows = courseSectionRepository.findRowsByCourseId(courseId);
+
+        // Only tell an empty course apart from a missing one when there is nothing to return
+        if (rows.isEmpty() && !courseRepository.existsById(courseId)) {
+            throw new HttpRequestException(HttpStatus.NOT_FOUND, "Course not found.");
+        }
+        return toDTOs(rows);
+    }
+
+    @Override
+    public CourseSectionDTO findById(Long sectionId) throws HttpRequestException {
+        CourseSectionRow row = courseSectionRepository.findRowById(sectionId)
+                .orElseThrow(() -> new HttpRequestException(HttpStatus.NOT_FOUND, "Course Section not found."));
+        return toDTOs(List.of(row)).getFirst();
+    }
+
+    @Override
+    public List<CourseSectionDTO> findAllByIds(Collection<Long> sectionIds) {
+        if (sectionIds.isEmpty()) {
+            return List.of();
+        }
+        return toDTOs(courseSectionRepository.findRowsByIdIn(sectionIds));
+    }
+
+    @Override
+    public List<InstructorCourseSectionDTO> findAssignedCourseSections_AsInstructor(Authentication authentication) {
+        Long instructorId = userService.getAuthenticatedUser(authentication).id();
+        return toInstructorDTOs(courseSectionRepository.findRowsByInstructorId(instructorId));
+    }
+
+    @Override
+    public InstructorCourseSectionDTO findAssignedCourseSectionById_AsInstructor(Long sectionId, Authentication authentication) throws HttpRequestException {
+        Long instructorId = userService.getAuthenticatedUser(authentication).id();
+        CourseSectionRow row = courseSectionRepository.findRowByIdAndInstructorId(sectionId, instructorId)
+                .orElseThrow(() -> new HttpRequestException(HttpStatus.NOT_FOUND, "Assigned Course section not found."));
+        return toInstructorDTOs(List.of(row)).getFirst();
+    }
+
+    private List<CourseSectionDTO> toDTOs(List<CourseSectionRow> rows) {
+        Map<Long, Set<Authority>> authorities = userRepository.findAuthoritiesByUserIdIn(instructorIds(rows));
+        return rows.stream()
+                .map(row -> row.toDTO(authoritiesOf(authorities, row.instructorId())))
+                .toList();
+    }
+
+    private List<InstructorCourseSectionDTO> toInstructorDTOs(List<CourseSectionRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        // One query for the enrollments of every section, then one for the authorities of every instructor and student
+        List<EnrollmentRow> enrollmentRows = enrollmentRepository.findRowsByCourseSectionIdIn(rows.stream().map(CourseSectionRow::id).toList());
+
+        Set<Long> userIds = instructorIds(rows);
+        enrollmentRows.forEach(enrollment -> userIds.add(enrollment.studentId()));
+        Map<Long, Set<Authority>> authorities = userRepository.findAuthoritiesByUserIdIn(userIds);
+
+        Map<Long, List<InstructorEnrollmentDTO>> enrollments = enrollmentRows.stream()
+                .collect(Collectors.groupingBy(EnrollmentRow::courseSectionId,
+                        Collectors.mapping(enrollment -> enrollment.toInstructorDTO(authoritiesOf(authorities, enrollment.studentId())), Collectors.toList())));
+
+        return rows.stream()
+                .map(row -> row.toInstructorDTO(authoritiesOf(authorities, row.instructorId()), enrollments.getOrDefault(row.id(), List.of())))
+                .toList();
+    }
+
+    private static Set<Long> instructorIds(List<CourseSectionRow> rows) {
+        return rows.stream()
+                .map(CourseSectionRow::instructorId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private static Set<Authority> authoritiesOf(Map<Long, Set<Authority>> authorities, Long userId) {
+        return userId != null ? authorities.getOrDefault(userId, Set.of()) : Set.of();
+    }
+}
@@ -0,0 +1,98 @@
+package net.tylerwade.registrationsystem.coursesection.query;
+
+import net.tylerwade.registrationsystem.auth.authority.Authority;
+import net.tylerwade.registrationsystem.auth.dto.UserDTO;
+import net.tylerwade.registrationsystem.course.dto.CourseAttributeDTO;
+import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionDTO;
+import net.tylerwade.registrationsystem.coursesection.dto.InstructorCourseSectionDTO;
+import net.tylerwade.registrationsystem.enrollment.dto.InstructorEnrollmentDTO;
+import net.tylerwade.registrationsystem.term.dto.TermDTO;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A course section joined with its course, term and instructor, read as one flat row.
+ * The instructor columns are null when no instructor is assigned.
+ */
+public record CourseSectionRow(
+        Long id,
+        Long courseId,
+        String department,
+        Integer code,
+        String title,
+        String description,
+        Integer credits,
+        Long termId,
+        LocalDate startDate,
+        LocalDate endDate,
+        LocalDate registrationStart,
+        LocalDate registrationEnd,
+        Date termCreatedAt,
+        Long instructorId,
+        String instructorUsername,
+        String instructorFirstName,
+        String instructorLastName,
+        Date instructorCreatedAt,
+        String room,
+        Integer capacity,
+        String schedule,
+        Integer enrolledCount,
+        Date createdAt
+) {
+
+    /**
+     * Builds the CourseSectionDTO for this row.
+     *
+     * @param instructorAuthorities The authorities of the instructor.
+     * @return The CourseSectionDTO.
+     */
+    public CourseSectionDTO toDTO(Set<Authority> instructorAuthorities) {
+        return new CourseSectionDTO(id,
+                course(),
+                term(),
+                instructor(instructorAuthorities),
+                room,
+                capacity,
+                schedule,
+                enrolledCount,
+                createdAt);
+    }
+
+    /**
+     * Builds the InstructorCourseSectionDTO for this row.
+     *
+     * @param instructorAuthorities The authorities of the instructor.
+     * @param enrollments           The enrollments of this section.
+     * @return The InstructorCourseSectionDTO.
+     */
+    public InstructorCourseSectionDTO toInstructorDTO(Set<Authority> instructorAuthorities, List<InstructorEnrollmentDTO> enrollments) {
+        return new InstructorCourseSectionDTO(id,
+                course(),
+                term(),
+                instructor(instructorAuthorities),
+                room,
+                capacity,
+                schedule,
+                enrolledCount,
+                enrollments,
+                createdAt);
+    }
+
+    private CourseAttributeDTO course() {
+        return new CourseAttributeDTO(courseId, department, code, title, description, credits);
+    }
+
+    private TermDTO term() {
+        return new TermDTO(termId, startDate, endDate, registrationStart, registrationEnd, termCreatedAt);
+    }
+
+    private UserDTO instructor(Set<Authority> instructorAuthorities) {
+        if (instructorId == null) {
+            return null;
+        }
+        return new UserDTO(instructorId, instructorUsername, instructorFirstName, instructorLastName, instructorAuthorities, instructorCreatedAt);
+    }
+}
@@ -0,0 +1,40 @@
+package net.tylerwade.registrationsystem.coursesection.schedule;
+
+/**
+ * A weekly meeting time: a set of days and a time of day range.
+ *
+ * @param days        Bitmask of meeting days, see {@link #MONDAY} through {@link #SUNDAY}.
+ * @param startMinute Minute of the day the meeting starts, inclusive.
+ * @param endMinute   Minute of the day the meeting ends, exclusive.
+ */
+public record MeetingTime(int days, int startMinute, int endMinute) {
+
+    public static final int MONDAY = 1;
+    public static final int TUESDAY = 1 << 1;
+    public static final int WEDNESDAY = 1 << 2;
+    public static final int THURSDAY = 1 << 3;
+    public static final int FRIDAY = 1 << 4;
+    public static final int SATURDAY = 1 << 5;
+    public static final int SUNDAY = 1 << 6;
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    public MeetingTime {
+        if (days <= 0 || days > 0x7F) {
+            throw new IllegalArgumentException("Meeting days must be a non-empty set of weekdays.");
+        }
+        if (startMinute < 0 || endMinute > MINUTES_PER_DAY || startMinute >= endMinute) {
+            throw new IllegalArgumentException("Meeting must start before it ends, within a single day.");
+        }
+    }
+
+    /**
+     * Check whether two meeting times share a day and overlap on it. Back-to-back meetings do not overlap.
+     *
+     * @param other The other meeting time.
+     * @return True if they overlap.
+     */
+    public boolean overlaps(MeetingTime other) {
+        return (days & other.days) != 0 && startMinute < other.endMinute && other.startMinute < endMinute;
+    }
+}
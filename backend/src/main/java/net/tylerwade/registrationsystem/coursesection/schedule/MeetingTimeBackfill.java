@@ -0,0 +1,48 @@
+package net.tylerwade.registrationsystem.coursesection.schedule;
+
+import lombok.extern.slf4j.Slf4j;
+import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.coursesection.CourseSectionRepository;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses the meeting time of course sections saved before meeting times were stored.
+ * Sections without a fixed meeting time, or whose schedule cannot be parsed, are left without a meeting time; the
+ * unreadable ones are logged.
+ */
+@Slf4j
+@Component
+public class MeetingTimeBackfill implements CommandLineRunner {
+
+    private final CourseSectionRepository courseSectionRepository;
+
+    public MeetingTimeBackfill(CourseSectionRepository courseSectionRepository) {
+        this.courseSectionRepository = courseSectionRepository;
+    }
+
+    @Override
+    public void run(String... args) {
+        List<CourseSection> parsed = new ArrayList<>();
+        for (CourseSection courseSection : courseSectionRepository.findAllByMeetingDaysIsNull()) {
+            try {
+                courseSection.updateSchedule(courseSection.getSchedule());
+            } catch (IllegalArgumentException e) {
+                // A legacy schedule the parser cannot read must not stop the application from starting
+                log.warn("Course section {} has an unreadable schedule \"{}\"; leaving it without a meeting time.", courseSection.getId(), courseSection.getSchedule());
+                continue;
+            }
+            if (courseSection.getMeetingDays() != null) {
+                parsed.add(courseSection);
+            }
+        }
+
+        if (!parsed.isEmpty()) {
+            courseSectionRepository.saveAll(parsed);
+            log.info("Parsed meeting times for {} course sections.", parsed.size());
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package net.tylerwade.registrationsystem.coursesection.schedule;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses the free-form {@code CourseSection.schedule} string into a {@link MeetingTime}.
+ * <p>
+ * Understands a day list or range followed by a time range, for example {@code "M - F 12:00 PM - 1:30 PM"},
+ * {@code "MWF 10:00 AM - 10:50 AM"}, {@code "TTh 9:30-10:45"} or {@code "Mon, Wed 13:00 - 14:15"}.
+ * A schedule without any clock time, such as {@code "Spring"} or {@code "TBA"}, has no fixed meeting time. A schedule
+ * that does contain a clock time but cannot be read, such as {@code "10:00 - 11:15 AM"}, is rejected rather than
+ * stored without a meeting time, because it would silently be left out of conflict checks.
+ */
+public final class ScheduleParser {
+
+    private static final Pattern TIME = Pattern.compile("(\\d{1,2}):(\\d{2})\\s*([AaPp])\\.?[Mm]?\\.?");
+    private static final Pattern TIME_24H = Pattern.compile("(\\d{1,2}):(\\d{2})");
+    private static final Pattern DAY_RANGE = Pattern.compile("^([A-Z]+)\\s*(?:-|–|TO)\\s*([A-Z]+)$");
+
+    /**
+     * Day names with their abbreviations, longest first so that e.g. "TH" wins over "T".
+     */
+    private static final List<DayToken> DAY_TOKENS = List.of(
+            new DayToken("WEDNESDAY", MeetingTime.WEDNESDAY),
+            new DayToken("THURSDAY", MeetingTime.THURSDAY),
+            new DayToken("SATURDAY", MeetingTime.SATURDAY),
+            new DayToken("TUESDAY", MeetingTime.TUESDAY),
+            new DayToken("MONDAY", MeetingTime.MONDAY),
+            new DayToken("FRIDAY", MeetingTime.FRIDAY),
+            new DayToken("SUNDAY", MeetingTime.SUNDAY),
+            new DayToken("THURS", MeetingTime.THURSDAY),
+            new DayToken("TUES", MeetingTime.TUESDAY),
+            new DayToken("THUR", MeetingTime.THURSDAY),
+            new DayToken("MON", MeetingTime.MONDAY),
+            new DayToken("TUE", MeetingTime.TUESDAY),
+            new DayToken("WED", MeetingTime.WEDNESDAY),
+            new DayToken("THU", MeetingTime.THURSDAY),
+            new DayToken("FRI", MeetingTime.FRIDAY),
+            new DayToken("SAT", MeetingTime.SATURDAY),
+            new DayToken("SUN", MeetingTime.SUNDAY),
+            new DayToken("TU", MeetingTime.TUESDAY),
+            new DayToken("TH", MeetingTime.THURSDAY),
+            new DayToken("SA", MeetingTime.SATURDAY),
+            new DayToken("SU", MeetingTime.SUNDAY),
+            new DayToken("M", MeetingTime.MONDAY),
+            new DayToken("T", MeetingTime.TUESDAY),
+            new DayToken("W", MeetingTime.WEDNESDAY),
+            new DayToken("R", MeetingTime.THURSDAY),
+            new DayToken("F", MeetingTime.FRIDAY),
+            new DayToken("S", MeetingTime.SATURDAY),
+            new DayToken("U", MeetingTime.SUNDAY)
+    );
+
+    private ScheduleParser() {
+    }
+
+    /**
+     * Parse a schedule string.
+     *
+     * @param schedule The schedule string.
+     * @return The meeting time, or empty if the schedule has no clock time.
+     * @throws IllegalArgumentException If the schedule has a clock time but no recognizable days and time range.
+     */
+    public static Optional<MeetingTime> parse(String schedule) {
+        if (schedule == null || schedule.isBlank()) {
+            return Optional.empty();
+        }
+
+        String normalized = schedule.trim().toUpperCase(Locale.ROOT);
+        if (!TIME_24H.matcher(normalized).find()) {
+            return Optional.empty();
+        }
+
+        // Prefer 12-hour times; fall back to 24-hour times
+        Matcher times = TIME.matcher(normalized);
+        boolean twelveHour = times.find();
+        if (!twelveHour) {
+            times = TIME_24H.matcher(normalized);
+            times.find();
+        }
+
+        int daysEnd = times.start();
+        Integer startMinute = toMinute(times, twelveHour);
+        if (!times.find()) {
+            throw invalid(schedule);
+        }
+        Integer endMinute = toMinute(times, twelveHour);
+
+        int days = parseDays(normalized.substring(0, daysEnd).trim());
+        if (startMinute == null || endMinute == null || days == 0 || startMinute >= endMinute) {
+            throw invalid(schedule);
+        }
+
+        return Optional.of(new MeetingTime(days, startMinute, endMinute));
+    }
+
+    private static IllegalArgumentException invalid(String schedule) {
+        return new IllegalArgumentException("Could not read the meeting time in schedule \"" + schedule + "\". Use days followed by a time range, e.g. \"MWF 10:00 AM - 10:50 AM\".");
+    }
+
+    private static Integer toMinute(Matcher time, boolean twelveHour) {
+        int hour = Integer.parseInt(time.group(1));
+        int minute = Integer.parseInt(time.group(2));
+        if (minute > 59) {
+            return null;
+        }
+
+        if (twelveHour) {
+            if (hour < 1 || hour > 12) {
+                return null;
+            }
+            hour = hour % 12 + (time.group(3).equals("P") ? 12 : 0);
+        } else if (hour > 23) {
+            return null;
+        }
+
+        return hour * 60 + minute;
+    }
+
+    /**
+     * Parses a day range ("M - F", "Mon to Thu") or a day list ("MWF", "TTh", "Mon, Wed") into a bitmask.
+     * Returns 0 if any part is not a day.
+     */
+    private static int parseDays(String days) {
+        if (days.isEmpty()) {
+            return 0;
+        }
+
+        Matcher range = DAY_RANGE.matcher(days);
+        if (range.matches()) {
+            int from = singleDay(range.group(1));
+            int to = singleDay(range.group(2));
+            if (from == 0 || to == 0) {
+                return 0;
+            }
+
+            // Walk from the first day to the last, wrapping past Sunday
+            int mask = 0;
+            int day = from;
+            while (true) {
+                mask |= day;
+                if (day == to) {
+                    return mask;
+                }
+                day = day == MeetingTime.SUNDAY ? MeetingTime.MONDAY : day << 1;
+            }
+        }
+
+        int mask = 0;
+        int position = 0;
+        while (position < days.length()) {
+            char c = days.charAt(position);
+            if (c == ' ' || c == ',' || c == '/' || c == '&' || c == '.') {
+                position++;
+                continue;
+            }
+
+            DayToken token = matchAt(days, position);
+            if (token == null) {
+                return 0;
+            }
+            mask |= token.day();
+            position += token.text().length();
+        }
+        return mask;
+    }
+
+    private static int singleDay(String text) {
+        DayToken token = matchAt(text, 0);
+        return token != null && token.text().length() == text.length() ? token.day() : 0;
+    }
+
+    private static DayToken matchAt(String text, int position) {
+        for (DayToken token : DAY_TOKENS) {
+            if (text.startsWith(token.text(), position)) {
+                return token;
+            }
+        }
+        return null;
+    }
+
+    private record DayToken(String text, int day) {
+    }
+}
@@ -0,0 +1,16 @@
+package net.tylerwade.registrationsystem.coursesection.schedule;
+
+/**
+ * The meeting time of a course section, read without loading the section.
+ *
+ * @param courseSectionId The id of the course section.
+ * @param days            Bitmask of meeting days.
+ * @param startMinute     Minute of the day the meeting starts.
+ * @param endMinute       Minute of the day the meeting ends.
+ */
+public record SectionMeetingTime(Long courseSectionId, int days, int startMinute, int endMinute) {
+
+    public SectionMeetingTime(Long courseSectionId, MeetingTime meetingTime) {
+        this(courseSectionId, meetingTime.days(), meetingTime.startMinute(), meetingTime.endMinute());
+    }
+}
@@ -0,0 +1,80 @@
+package net.tylerwade.registrationsystem.coursesection.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * A student's booked meeting times for one term, indexed for interval lookups.
+ * <p>
+ * Each meeting is split into one interval per day and keyed by its start in minutes from the start of the week. A
+ * meeting never runs past the end of its day, so a conflict check only has to look at the bookings that start on the
+ * same day before the new meeting ends: one range lookup per meeting day. Every booking in that range is checked, so
+ * the result stays correct even if booked meetings overlap each other, e.g. when they were enrolled before conflicts
+ * were checked or a section's schedule changed later.
+ */
+public class WeeklySchedule {
+
+    private final TreeMap<Integer, List<Booking>> bookingsByStart = new TreeMap<>();
+
+    /**
+     * Create a schedule from already booked meeting times.
+     *
+     * @param bookedSections The booked meeting times.
+     */
+    public WeeklySchedule(Iterable<SectionMeetingTime> bookedSections) {
+        for (SectionMeetingTime bookedSection : bookedSections) {
+            add(bookedSection);
+        }
+    }
+
+    /**
+     * Find a booked course section whose meeting time overlaps the given one.
+     *
+     * @param meetingTime The meeting time to check.
+     * @return The id of a conflicting course section, or empty if there is no conflict.
+     */
+    public Optional<Long> findConflict(MeetingTime meetingTime) {
+        for (int day = 0; day < 7; day++) {
+            if ((meetingTime.days() & (1 << day)) == 0) {
+                continue;
+            }
+
+            int dayStart = day * MeetingTime.MINUTES_PER_DAY;
+            int start = dayStart + meetingTime.startMinute();
+            int end = dayStart + meetingTime.endMinute();
+
+            // Any booking that starts the same day before this one ends conflicts if it is still running at its start
+            for (List<Booking> bookings : bookingsByStart.subMap(dayStart, true, end, false).values()) {
+                for (Booking booking : bookings) {
+                    if (booking.end() > start) {
+                        return Optional.of(booking.courseSectionId());
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Book a course section's meeting time.
+     *
+     * @param sectionMeetingTime The meeting time to book.
+     */
+    public void add(SectionMeetingTime sectionMeetingTime) {
+        for (int day = 0; day < 7; day++) {
+            if ((sectionMeetingTime.days() & (1 << day)) == 0) {
+                continue;
+            }
+
+            int start = day * MeetingTime.MINUTES_PER_DAY + sectionMeetingTime.startMinute();
+            int end = day * MeetingTime.MINUTES_PER_DAY + sectionMeetingTime.endMinute();
+            bookingsByStart.computeIfAbsent(start, key -> new ArrayList<>(1))
+                    .add(new Booking(end, sectionMeetingTime.courseSectionId()));
+        }
+    }
+
+    private record Booking(int end, Long courseSectionId) {
+    }
+}
@@ -0,0 +1,41 @@
+package net.tylerwade.registrationsystem.enrollment;
+
+import net.tylerwade.registrationsystem.enrollment.dto.CheckoutItemResultDTO;
+import net.tylerwade.registrationsystem.enrollment.enums.CheckoutItemStatus;
+
+/**
+ * Outcome of a single course section in a checkout.
+ *
+ * @param courseSectionId The id of the course section.
+ * @param status          The outcome.
+ * @param message         Why the course section was not enrolled in, if it was not.
+ * @param enrollment      The created enrollment, if the course section was enrolled in.
+ */
+public record CheckoutItemResult(Long courseSectionId, CheckoutItemStatus status, String message, Enrollment enrollment) {
+
+    public static CheckoutItemResult enrolled(Enrollment enrollment) {
+        return new CheckoutItemResult(enrollment.getCourseSectionId(), CheckoutItemStatus.ENROLLED, null, enrollment);
+    }
+
+    public static CheckoutItemResult rejected(Long courseSectionId, String message) {
+        return new CheckoutItemResult(courseSectionId, CheckoutItemStatus.REJECTED, message, null);
+    }
+
+    public static CheckoutItemResult notAttempted(Long courseSectionId) {
+        return new CheckoutItemResult(courseSectionId, CheckoutItemStatus.NOT_ATTEMPTED, "Not attempted because another course section was rejected.", null);
+    }
+
+    /**
+     * @return A copy of this result for a checkout that was rolled back.
+     */
+    public CheckoutItemResult rolledBack() {
+        if (status != CheckoutItemStatus.ENROLLED) {
+            return this;
+        }
+        return new CheckoutItemResult(courseSectionId, CheckoutItemStatus.ROLLED_BACK, "Rolled back because another course section was rejected.", null);
+    }
+
+    public CheckoutItemResultDTO toDTO() {
+        return new CheckoutItemResultDTO(courseSectionId, status, message, enrollment == null ? null : enrollment.toDTO());
+    }
+}
@@ -0,0 +1,20 @@
+package net.tylerwade.registrationsystem.enrollment;
+
+import net.tylerwade.registrationsystem.enrollment.dto.CheckoutResultDTO;
+import net.tylerwade.registrationsystem.enrollment.enums.CheckoutMode;
+
+import java.util.List;
+
+/**
+ * Outcome of a checkout.
+ *
+ * @param mode      The checkout mode.
+ * @param committed Whether the enrollments were saved. False only for an all-or-nothing checkout that was rejected.
+ * @param items     The outcome of each course section, in request order.
+ */
+public record CheckoutResult(CheckoutMode mode, boolean committed, List<CheckoutItemResult> items) {
+
+    public CheckoutResultDTO toDTO() {
+        return new CheckoutResultDTO(mode, committed, items.stream().map(CheckoutItemResult::toDTO).toList());
+    }
+}
@@ -60,11 +60,18 @@ public class Enrollment {
     private CourseSection courseSection;
 
     /**
-     * The grade assigned to the student for this enrollment.
+     * The grade assigned to the student for this enrollment. Zero until the enrollment is graded.
      */
     @Column(nullable = false)
     private BigDecimal grade;
 
+    /**
+     * Whether an instructor has graded this enrollment. Ungraded enrollments are not completed or failed when their
+     * term ends, since their grade is only a placeholder.
+     */
+    @Column(nullable = false)
+    private boolean graded;
+
     /**
      * The status of the enrollment (e.g., "active", "completed").
      */
@@ -4,17 +4,27 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import net.tylerwade.registrationsystem.enrollment.admission.EnrollmentAdmissionQueue;
+import net.tylerwade.registrationsystem.enrollment.admission.dto.AdmissionStatusDTO;
+import net.tylerwade.registrationsystem.enrollment.admission.dto.AdmissionTicketDTO;
+import net.tylerwade.registrationsystem.enrollment.dto.CheckoutRequest;
+import net.tylerwade.registrationsystem.enrollment.dto.CheckoutResultDTO;
 import net.tylerwade.registrationsystem.enrollment.dto.CreateEnrollmentRequest;
 import net.tylerwade.registrationsystem.enrollment.dto.EnrollmentDTO;
 import net.tylerwade.registrationsystem.enrollment.dto.ManageEnrollmentRequest;
+import net.tylerwade.registrationsystem.enrollment.idempotency.IdempotencyStore;
+import net.tylerwade.registrationsystem.enrollment.query.EnrollmentQueryService;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.function.LongConsumer;
 
 @Tag(name = "Enrollment Controller", description = "Operations related to enrollments")
 @RestController
@@ -22,9 +32,15 @@ import java.util.List;
 public class EnrollmentController {
 
     private final EnrollmentService enrollmentService;
+    private final EnrollmentQueryService enrollmentQueryService;
+    private final EnrollmentAdmissionQueue admissionQueue;
+    private final IdempotencyStore idempotencyStore;
 
-    public EnrollmentController(EnrollmentService enrollmentService) {
+    public EnrollmentController(EnrollmentService enrollmentService, EnrollmentQueryService enrollmentQueryService, EnrollmentAdmissionQueue admissionQueue, IdempotencyStore idempotencyStore) {
         this.enrollmentService = enrollmentService;
+        this.enrollmentQueryService = enrollmentQueryService;
+        this.admissionQueue = admissionQueue;
+        this.idempotencyStore = idempotencyStore;
     }
 
     /**
@@ -37,41 +53,118 @@ public class EnrollmentController {
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public List<EnrollmentDTO> findAllByStudent(@RequestParam Long studentId, Authentication authentication) throws HttpRequestException {
-        return enrollmentService.findAllByStudent(studentId, authentication).stream().map(Enrollment::toDTO).toList();
+        return enrollmentQueryService.findAllByStudent(studentId, authentication);
     }
 
     /**
      * Create a new enrollment
      */
-    @Operation(summary = "Create enrollment", description = "Creates a new enrollment for the authenticated student. The authUser must be the student or an administrator.")
+    @Operation(summary = "Create enrollment", description = "Creates a new enrollment for the authenticated student. The authUser must be the student or an administrator. Retries that send the same Idempotency-Key header get the original response.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Enrollment created successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid input")
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "503", description = "Registration is busy, try again shortly")
     })
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public EnrollmentDTO create(@RequestParam Long studentId,
                                 Authentication authentication,
-                                @Valid @RequestBody CreateEnrollmentRequest createEnrollmentRequest) throws HttpRequestException {
-        return enrollmentService.create(studentId, createEnrollmentRequest, authentication).toDTO();
+                                @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                @RequestHeader(name = EnrollmentAdmissionQueue.TICKET_HEADER, required = false) Long admissionTicket,
+                                @Valid @RequestBody CreateEnrollmentRequest createEnrollmentRequest,
+                                HttpServletResponse response) throws HttpRequestException {
+        return idempotencyStore.execute(idempotencyKey, authentication, "enrollment.create", studentId + ":" + createEnrollmentRequest.courseSectionId(),
+                () -> admissionQueue.admit(admissionTicket, ticketHeader(response), () -> enrollmentService.create(studentId, createEnrollmentRequest, authentication)).toDTO());
+    }
+
+    /**
+     * Enroll in several course sections at once
+     */
+    @Operation(summary = "Checkout enrollments", description = "Enrolls the student in several course sections in one transaction and returns the outcome of each. In ALL_OR_NOTHING mode nothing is saved unless every course section succeeds. The authUser must be the student or an administrator. Retries that send the same Idempotency-Key header get the original response.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Checkout evaluated, see the result of each course section"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "503", description = "Registration is busy, try again shortly")
+    })
+    @PostMapping("/checkout")
+    @ResponseStatus(HttpStatus.OK)
+    public CheckoutResultDTO checkout(@RequestParam Long studentId,
+                                      Authentication authentication,
+                                      @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                      @RequestHeader(name = EnrollmentAdmissionQueue.TICKET_HEADER, required = false) Long admissionTicket,
+                                      @Valid @RequestBody CheckoutRequest checkoutRequest,
+                                      HttpServletResponse response) throws HttpRequestException {
+        return idempotencyStore.execute(idempotencyKey, authentication, "enrollment.checkout", studentId + ":" + checkoutRequest,
+                () -> admissionQueue.admit(admissionTicket, ticketHeader(response), () -> enrollmentService.checkout(studentId, checkoutRequest, authentication)).toDTO());
     }
 
     /**
      * Remove an enrollment
      */
-    @Operation(summary = "Delete enrollment", description = "Deletes an enrollment for the authenticated student. The authUser must be the student, the instructor for the course section, or an administrator.")
+    @Operation(summary = "Delete enrollment", description = "Deletes an enrollment for the authenticated student. The authUser must be the student, the instructor for the course section, or an administrator. Retries that send the same Idempotency-Key header get the original response.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Enrollment deleted successfully"),
-            @ApiResponse(responseCode = "404", description = "Enrollment not found")
+            @ApiResponse(responseCode = "404", description = "Enrollment not found"),
+            @ApiResponse(responseCode = "503", description = "Registration is busy, try again shortly")
     })
     @DeleteMapping
     @ResponseStatus(HttpStatus.OK)
     public String delete(Authentication authentication,
                          @RequestParam Long courseSectionId,
-                         @RequestParam Long studentId
+                         @RequestParam Long studentId,
+                         @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                         @RequestHeader(name = EnrollmentAdmissionQueue.TICKET_HEADER, required = false) Long admissionTicket,
+                         HttpServletResponse response
     ) throws HttpRequestException {
-        enrollmentService.delete(studentId, courseSectionId, authentication);
-        return "Enrollment deleted.";
+        return idempotencyStore.execute(idempotencyKey, authentication, "enrollment.delete", studentId + ":" + courseSectionId,
+                () -> admissionQueue.admit(admissionTicket, ticketHeader(response), () -> {
+                    enrollmentService.delete(studentId, courseSectionId, authentication);
+                    return "Enrollment deleted.";
+                }));
+    }
+
+    /**
+     * Get the status of the enrollment admission queue
+     */
+    @Operation(summary = "Get admission queue status", description = "Returns the current load on enrollment creation and deletion. Served from memory, so clients may poll it while waiting to retry.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Admission queue status retrieved successfully")
+    })
+    @GetMapping("/admission")
+    @ResponseStatus(HttpStatus.OK)
+    public AdmissionStatusDTO getAdmissionStatus() {
+        return admissionQueue.getStatus();
+    }
+
+    /**
+     * Take an admission ticket
+     */
+    @Operation(summary = "Take admission ticket", description = "Issues a place in the enrollment admission queue without waiting. Send it in the " + EnrollmentAdmissionQueue.TICKET_HEADER + " header of enrollment creation, checkout or deletion within the admission wait time, and poll the Location meanwhile to follow its position.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Admission ticket issued"),
+            @ApiResponse(responseCode = "503", description = "Registration is busy, try again shortly")
+    })
+    @PostMapping("/admission")
+    @ResponseStatus(HttpStatus.CREATED)
+    public AdmissionTicketDTO issueAdmissionTicket(HttpServletResponse response) throws HttpRequestException {
+        long ticket = admissionQueue.issueTicket();
+        ticketHeader(response).accept(ticket);
+        response.setHeader(HttpHeaders.LOCATION, "/api/enrollments/admission/" + ticket);
+        return admissionQueue.getTicketStatus(ticket);
+    }
+
+    /**
+     * Look up an admission ticket
+     */
+    @Operation(summary = "Get admission ticket status", description = "Returns whether the request holding the ticket is still waiting and how many tickets are ahead of it. Tickets are issued by taking one up front, or returned in the " + EnrollmentAdmissionQueue.TICKET_HEADER + " header of enrollment creation, checkout and deletion.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Admission ticket status retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Admission ticket not found")
+    })
+    @GetMapping("/admission/{ticket}")
+    @ResponseStatus(HttpStatus.OK)
+    public AdmissionTicketDTO getAdmissionTicketStatus(@PathVariable long ticket) throws HttpRequestException {
+        return admissionQueue.getTicketStatus(ticket);
     }
 
     ///  --- INSTRUCTOR ENDPOINTS
@@ -94,4 +187,8 @@ public class EnrollmentController {
                                 @Valid @RequestBody ManageEnrollmentRequest manageEnrollmentRequest) throws HttpRequestException {
         return enrollmentService.update(studentId, courseSectionId, manageEnrollmentRequest, authentication).toDTO();
     }
+
+    private static LongConsumer ticketHeader(HttpServletResponse response) {
+        return ticket -> response.setHeader(EnrollmentAdmissionQueue.TICKET_HEADER, Long.toString(ticket));
+    }
 }
@@ -1,17 +1,100 @@
 package net.tylerwade.registrationsystem.enrollment;
 
+import net.tylerwade.registrationsystem.coursesection.schedule.SectionMeetingTime;
+import net.tylerwade.registrationsystem.enrollment.query.EnrollmentRow;
+import net.tylerwade.registrationsystem.enrollment.transcript.CompletedCourse;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public interface EnrollmentRepository extends JpaRepository<Enrollment, EnrollmentId> {
 
-    List<Enrollment> findAllByStatusIsAndCourseSection_Term_StartDateBefore(String status, LocalDate courseSectionTermStartDateBefore);
+    String ROW = "SELECT new net.tylerwade.registrationsystem.enrollment.query.EnrollmentRow("
+            + "e.studentId, e.courseSectionId, s.username, s.firstName, s.lastName, s.createdAt, e.grade, e.status, e.createdAt)"
+            + " FROM Enrollment e JOIN e.student s";
 
     List<Enrollment> findAllByStudent_IdOrderByCourseSection_Term_StartDateDesc(Long studentId);
 
+    /*
+     * Flat enrollment rows for the DTO listings, so the student, section, course and instructor are not loaded per row.
+     */
+
+    @Query(ROW + " JOIN e.courseSection cs JOIN cs.term t WHERE e.studentId = :studentId ORDER BY t.startDate DESC, e.courseSectionId")
+    List<EnrollmentRow> findRowsByStudentId(@Param("studentId") Long studentId);
+
+    @Query(ROW + " WHERE e.courseSectionId IN :courseSectionIds ORDER BY e.courseSectionId, e.studentId")
+    List<EnrollmentRow> findRowsByCourseSectionIdIn(@Param("courseSectionIds") Collection<Long> courseSectionIds);
+
     boolean existsByStudent_IdAndCourseSection_Id(Long studentId, Long courseSectionId);
+
+    /**
+     * Loads the meeting times of the sections a student is enrolled in for a term, skipping sections without one.
+     */
+    @Query("""
+            SELECT new net.tylerwade.registrationsystem.coursesection.schedule.SectionMeetingTime(cs.id, cs.meetingDays, cs.meetingStartMinute, cs.meetingEndMinute)
+            FROM Enrollment e
+            JOIN e.courseSection cs
+            WHERE e.studentId = :studentId AND cs.term.id = :termId AND cs.meetingDays IS NOT NULL
+            """)
+    List<SectionMeetingTime> findMeetingTimesByStudentIdAndTermId(@Param("studentId") Long studentId, @Param("termId") Long termId);
+
+    @Query("SELECT e.courseSectionId FROM Enrollment e WHERE e.studentId = :studentId")
+    Set<Long> findCourseSectionIdsByStudentId(@Param("studentId") Long studentId);
+
+    @Query("SELECT DISTINCT e.courseSectionId FROM Enrollment e WHERE e.status = :status AND e.courseSection.term.startDate <= :date ORDER BY e.courseSectionId")
+    List<Long> findCourseSectionIdsWithStatusAndTermStartedBy(@Param("status") String status, @Param("date") LocalDate date);
+
+    @Query("SELECT DISTINCT e.courseSectionId FROM Enrollment e WHERE e.status = :status AND e.courseSection.term.endDate < :date ORDER BY e.courseSectionId")
+    List<Long> findCourseSectionIdsWithStatusAndTermEndedBefore(@Param("status") String status, @Param("date") LocalDate date);
+
+    /*
+     * Set-based status transitions over a chunk of course sections. JPQL has no UPDATE ... JOIN, so the term
+     * condition is resolved up front into the course section ids.
+     */
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Enrollment e SET e.status = :toStatus WHERE e.status = :fromStatus AND e.courseSectionId IN :courseSectionIds")
+    int updateStatusForCourseSections(@Param("fromStatus") String fromStatus,
+                                      @Param("toStatus") String toStatus,
+                                      @Param("courseSectionIds") Collection<Long> courseSectionIds);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Enrollment e SET e.status = :toStatus WHERE e.status = :fromStatus AND e.courseSectionId IN :courseSectionIds AND e.graded = true AND e.grade >= :grade")
+    int updateStatusForCourseSectionsWithGradeAtLeast(@Param("fromStatus") String fromStatus,
+                                                      @Param("toStatus") String toStatus,
+                                                      @Param("courseSectionIds") Collection<Long> courseSectionIds,
+                                                      @Param("grade") BigDecimal grade);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Enrollment e SET e.status = :toStatus WHERE e.status = :fromStatus AND e.courseSectionId IN :courseSectionIds AND e.graded = true AND e.grade < :grade")
+    int updateStatusForCourseSectionsWithGradeBelow(@Param("fromStatus") String fromStatus,
+                                                    @Param("toStatus") String toStatus,
+                                                    @Param("courseSectionIds") Collection<Long> courseSectionIds,
+                                                    @Param("grade") BigDecimal grade);
+
+    /**
+     * Loads a student's transcript in one query: the best grade per course and term, without loading any entities.
+     */
+    @Query("""
+            SELECT new net.tylerwade.registrationsystem.enrollment.transcript.CompletedCourse(cs.course.id, MAX(e.grade), t.endDate)
+            FROM Enrollment e
+            JOIN e.courseSection cs
+            JOIN cs.term t
+            WHERE e.studentId = :studentId
+            GROUP BY cs.course.id, t.endDate
+            """)
+    List<CompletedCourse> findCompletedCoursesByStudentId(@Param("studentId") Long studentId);
 }
@@ -1,5 +1,8 @@
 package net.tylerwade.registrationsystem.enrollment;
 
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.enrollment.dto.CheckoutRequest;
 import net.tylerwade.registrationsystem.enrollment.dto.CreateEnrollmentRequest;
 import net.tylerwade.registrationsystem.enrollment.dto.ManageEnrollmentRequest;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
@@ -41,6 +44,27 @@ public interface EnrollmentService {
      */
     Enrollment create(Long studentId, CreateEnrollmentRequest createEnrollmentRequest, Authentication authentication) throws HttpRequestException;
 
+    /**
+     * Enroll a student in several course sections in one transaction.
+     * The student, their current enrollments, their transcript and the course sections are each loaded once.
+     *
+     * @param studentId       The ID of the student.
+     * @param checkoutRequest The course sections and checkout mode.
+     * @param authentication  The authentication object of the user.
+     * @return The outcome of each course section.
+     * @throws HttpRequestException If the user may not enroll the student.
+     */
+    CheckoutResult checkout(Long studentId, CheckoutRequest checkoutRequest, Authentication authentication) throws HttpRequestException;
+
+    /**
+     * Checks that a student has completed every prerequisite of a course section's course.
+     *
+     * @param student       the student
+     * @param courseSection the target course section
+     * @throws HttpRequestException if a prerequisite has not been completed
+     */
+    void checkPrerequisites(User student, CourseSection courseSection) throws HttpRequestException;
+
     /**
      * Updates an existing enrollment.
      *
@@ -63,11 +87,4 @@ public interface EnrollmentService {
      */
     void delete(Long studentId, Long courseSectionId, Authentication authentication) throws HttpRequestException;
 
-    /**
-     * Updates the status of started enrollments.
-     *
-     * @return the number of updated enrollments
-     */
-    int updateStartedEnrollments();
-
 }
@@ -1,41 +1,75 @@
 package net.tylerwade.registrationsystem.enrollment;
 
+import com.google.common.base.Suppliers;
 import net.tylerwade.registrationsystem.auth.User;
 import net.tylerwade.registrationsystem.auth.UserService;
+import net.tylerwade.registrationsystem.auth.principal.AuthenticatedUser;
 import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.coursesection.CourseSectionCapacityIncreasedEvent;
 import net.tylerwade.registrationsystem.coursesection.CourseSectionService;
+import net.tylerwade.registrationsystem.coursesection.schedule.MeetingTime;
+import net.tylerwade.registrationsystem.coursesection.schedule.SectionMeetingTime;
+import net.tylerwade.registrationsystem.coursesection.schedule.WeeklySchedule;
+import net.tylerwade.registrationsystem.enrollment.dto.CheckoutRequest;
 import net.tylerwade.registrationsystem.enrollment.dto.CreateEnrollmentRequest;
 import net.tylerwade.registrationsystem.enrollment.dto.ManageEnrollmentRequest;
+import net.tylerwade.registrationsystem.enrollment.enums.CheckoutMode;
 import net.tylerwade.registrationsystem.enrollment.enums.EnrollmentStatus;
+import net.tylerwade.registrationsystem.enrollment.transcript.TranscriptChangedEvent;
+import net.tylerwade.registrationsystem.enrollment.transcript.TranscriptIndex;
+import net.tylerwade.registrationsystem.enrollment.transcript.TranscriptService;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
 import net.tylerwade.registrationsystem.prerequisites.Prerequisite;
+import net.tylerwade.registrationsystem.waitlist.WaitlistEntry;
+import net.tylerwade.registrationsystem.waitlist.WaitlistRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 public class EnrollmentServiceImpl implements EnrollmentService {
 
+    private static final String FULL_SECTION_MESSAGE = "This course section has reached the maximum capacity. Join the waitlist to be enrolled when a seat opens.";
+    private static final String WAITLISTED_SECTION_MESSAGE = "Students are waiting for a seat in this course section. Join the waitlist to be enrolled in turn.";
+
     private final UserService userService;
     private final EnrollmentRepository enrollmentRepository;
     private final CourseSectionService courseSectionService;
+    private final WaitlistRepository waitlistRepository;
+    private final TranscriptService transcriptService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public EnrollmentServiceImpl(UserService userService, EnrollmentRepository enrollmentRepository, CourseSectionService courseSectionService) {
+    public EnrollmentServiceImpl(UserService userService, EnrollmentRepository enrollmentRepository, CourseSectionService courseSectionService, WaitlistRepository waitlistRepository, TranscriptService transcriptService, ApplicationEventPublisher eventPublisher) {
         this.userService = userService;
         this.enrollmentRepository = enrollmentRepository;
         this.courseSectionService = courseSectionService;
+        this.waitlistRepository = waitlistRepository;
+        this.transcriptService = transcriptService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public List<Enrollment> findAllByStudent(Long studentId, Authentication authentication) throws HttpRequestException {
-        User authUser = userService.getUser(authentication);
+        AuthenticatedUser authUser = userService.getAuthenticatedUser(authentication);
 
         // Check if authUser is student, or an instructor/admin
-        if (!authUser.getId().equals(studentId) && !authUser.isInstructor() && !authUser.isAdmin()) {
+        if (!authUser.id().equals(studentId) && !authUser.isInstructor() && !authUser.isAdmin()) {
             throw new HttpRequestException(HttpStatus.FORBIDDEN, "You are not permitted to view this student's enrollment records.");
         }
 
@@ -48,12 +82,13 @@ public class EnrollmentServiceImpl implements EnrollmentService {
     }
 
     @Override
+    @Transactional(rollbackFor = HttpRequestException.class)
     public Enrollment create(Long studentId, CreateEnrollmentRequest createEnrollmentRequest, Authentication authentication) throws HttpRequestException {
 
-        User authUser = userService.getUser(authentication);
+        AuthenticatedUser authUser = userService.getAuthenticatedUser(authentication);
 
         // Check if authUser is student, or an admin
-        if (!authUser.getId().equals(studentId) && !authUser.isAdmin()) {
+        if (!authUser.id().equals(studentId) && !authUser.isAdmin()) {
             throw new HttpRequestException(HttpStatus.FORBIDDEN, "You are not permitted to create enrollments for this student.");
         }
 
@@ -67,7 +102,91 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         CourseSection courseSection = courseSectionService.findById(createEnrollmentRequest.courseSectionId());
 
         // Check if student already registered for the course
-        if (enrollmentRepository.existsByStudent_IdAndCourseSection_Id(student.getId(), courseSection.getId())) {
+        boolean alreadyEnrolled = enrollmentRepository.existsByStudent_IdAndCourseSection_Id(student.getId(), courseSection.getId());
+        boolean waitlisted = waitlistRepository.existsByCourseSection_Id(courseSection.getId());
+
+        Enrollment enrollment = enroll(student, courseSection, alreadyEnrolled, waitlisted,
+                () -> transcriptService.getTranscript(student.getId()),
+                termId -> loadSchedule(student.getId(), termId));
+        eventPublisher.publishEvent(TranscriptChangedEvent.forStudent(student.getId()));
+        return enrollment;
+    }
+
+    @Override
+    @Transactional(rollbackFor = HttpRequestException.class)
+    public CheckoutResult checkout(Long studentId, CheckoutRequest checkoutRequest, Authentication authentication) throws HttpRequestException {
+        AuthenticatedUser authUser = userService.getAuthenticatedUser(authentication);
+
+        // Check if authUser is student, or an admin
+        if (!authUser.id().equals(studentId) && !authUser.isAdmin()) {
+            throw new HttpRequestException(HttpStatus.FORBIDDEN, "You are not permitted to create enrollments for this student.");
+        }
+
+        // Get student
+        User student = userService.findById(studentId);
+        if (!student.isStudent()) {
+            throw new HttpRequestException(HttpStatus.FORBIDDEN, "User must be a student to enroll in a course section.");
+        }
+
+        // Shared lookups: every section in one query, the student's current enrollments in one query,
+        // and the transcript at most once
+        List<Long> courseSectionIds = checkoutRequest.courseSectionIds().stream().distinct().toList();
+        Map<Long, CourseSection> courseSections = courseSectionService.findAllByIds(courseSectionIds).stream()
+                .collect(Collectors.toMap(CourseSection::getId, Function.identity()));
+        Set<Long> enrolledCourseSectionIds = enrollmentRepository.findCourseSectionIdsByStudentId(studentId);
+        Set<Long> waitlistedCourseSectionIds = waitlistRepository.findCourseSectionIdsWithEntries(courseSectionIds);
+        Supplier<TranscriptIndex> transcript = Suppliers.memoize(() -> transcriptService.getTranscript(studentId));
+        Map<Long, WeeklySchedule> schedulesByTerm = new HashMap<>();
+
+        boolean allOrNothing = checkoutRequest.mode() == CheckoutMode.ALL_OR_NOTHING;
+        boolean rejected = false;
+        List<CheckoutItemResult> items = new ArrayList<>(courseSectionIds.size());
+        for (Long courseSectionId : courseSectionIds) {
+            // Nothing else can be saved once an all-or-nothing checkout is rejected
+            if (rejected && allOrNothing) {
+                items.add(CheckoutItemResult.notAttempted(courseSectionId));
+                continue;
+            }
+
+            try {
+                CourseSection courseSection = courseSections.get(courseSectionId);
+                if (courseSection == null) {
+                    throw new HttpRequestException(HttpStatus.NOT_FOUND, "Course section not found.");
+                }
+
+                Enrollment enrollment = enroll(student, courseSection, enrolledCourseSectionIds.contains(courseSectionId),
+                        waitlistedCourseSectionIds.contains(courseSectionId), transcript,
+                        termId -> schedulesByTerm.computeIfAbsent(termId, id -> loadSchedule(studentId, id)));
+                items.add(CheckoutItemResult.enrolled(enrollment));
+            } catch (HttpRequestException e) {
+                rejected = true;
+                items.add(CheckoutItemResult.rejected(courseSectionId, e.getMessage()));
+            }
+        }
+
+        if (rejected && allOrNothing) {
+            // Undo the seats and enrollments of the items that did succeed
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return new CheckoutResult(checkoutRequest.mode(), false, items.stream().map(CheckoutItemResult::rolledBack).toList());
+        }
+
+        eventPublisher.publishEvent(TranscriptChangedEvent.forStudent(studentId));
+        return new CheckoutResult(checkoutRequest.mode(), true, items);
+    }
+
+    /**
+     * Validates that a student may enroll in a course section, claims a seat and saves the enrollment.
+     *
+     * @param alreadyEnrolled Whether the student already has an enrollment in the course section.
+     * @param waitlisted      Whether students are waiting for the course section. They are served first, so direct
+     *                        enrollment is refused even if a seat is free.
+     * @param transcript      Supplies the student's transcript; only called if the course has prerequisites.
+     * @param scheduleForTerm Supplies the student's schedule for a term; only called if the section has a meeting time.
+     *                        The section is added to the returned schedule once enrolled.
+     */
+    private Enrollment enroll(User student, CourseSection courseSection, boolean alreadyEnrolled, boolean waitlisted,
+                              Supplier<TranscriptIndex> transcript, Function<Long, WeeklySchedule> scheduleForTerm) throws HttpRequestException {
+        if (alreadyEnrolled) {
             throw new HttpRequestException(HttpStatus.NOT_ACCEPTABLE, "You are already enrolled for this course section.");
         }
 
@@ -76,41 +195,68 @@ public class EnrollmentServiceImpl implements EnrollmentService {
             throw new HttpRequestException(HttpStatus.NOT_ACCEPTABLE, "This course section is currently not open for registration.");
         }
 
-        // Check if course section has room
-        if (courseSection.getEnrollments().size() >= courseSection.getCapacity()) {
-            throw new HttpRequestException(HttpStatus.NOT_ACCEPTABLE, "This course section has reached the maximum capacity.");
+        // Fail fast if the course section is already full. The seat itself is claimed atomically below.
+        if (courseSection.getEnrolledCount() >= courseSection.getCapacity()) {
+            throw new HttpRequestException(HttpStatus.NOT_ACCEPTABLE, FULL_SECTION_MESSAGE);
         }
 
-        // Find students enrolled courses
-        List<Enrollment> enrollments = findAllByStudent(student.getId());
-        List<Prerequisite> prerequisites = courseSection.getCourse().getPrerequisites();
+        // Seats freed while students are waiting belong to the waitlist
+        if (waitlisted) {
+            throw new HttpRequestException(HttpStatus.NOT_ACCEPTABLE, WAITLISTED_SECTION_MESSAGE);
+        }
 
-        // Check if user completed all prerequisites
-        try {
-            for (Prerequisite prerequisite : prerequisites) {
-                // Check if completed
-                Enrollment completedEnrollment = enrollments.stream()
-                        // Filter to find the prerequisite in enrollments
-                        .filter(enrollment -> enrollment
-                                .getCourseSection().getCourse().getId().equals(prerequisite.getCourse().getId())
-                        )
-                        .findFirst()
-                        .orElseThrow();
+        checkPrerequisites(courseSection.getCourse().getPrerequisites(), transcript);
 
-                // This means the student has enrolled in the prerequisites. Now check if term has ended.
-                if (!completedEnrollment.getCourseSection().getTerm().hasEnded()) {
-                    throw new RuntimeException();
-                }
+        // Check the meeting time against the student's other sections in the same term
+        Optional<MeetingTime> meetingTime = courseSection.getMeetingTime();
+        WeeklySchedule schedule = null;
+        if (meetingTime.isPresent()) {
+            schedule = scheduleForTerm.apply(courseSection.getTerm().getId());
+            Optional<Long> conflict = schedule.findConflict(meetingTime.get());
+            if (conflict.isPresent()) {
+                throw new HttpRequestException(HttpStatus.NOT_ACCEPTABLE, "This course section conflicts with the schedule of course section " + conflict.get() + " you are enrolled in.");
+            }
+        }
 
-                // Check if Grade passed
-                if (completedEnrollment.getGrade().compareTo(prerequisite.getMinimumGrade()) < 0) {
-                    throw new RuntimeException();
-                }
+        // Claim a seat. Only one of any number of concurrent requests can take the last seat.
+        if (!courseSectionService.reserveSeat(courseSection)) {
+            throw new HttpRequestException(HttpStatus.NOT_ACCEPTABLE, FULL_SECTION_MESSAGE);
+        }
+
+        if (schedule != null) {
+            schedule.add(new SectionMeetingTime(courseSection.getId(), meetingTime.get()));
+        }
+        return saveEnrollment(student, courseSection);
+    }
+
+    private WeeklySchedule loadSchedule(Long studentId, Long termId) {
+        return new WeeklySchedule(enrollmentRepository.findMeetingTimesByStudentIdAndTermId(studentId, termId));
+    }
+
+    @Override
+    public void checkPrerequisites(User student, CourseSection courseSection) throws HttpRequestException {
+        checkPrerequisites(courseSection.getCourse().getPrerequisites(), () -> transcriptService.getTranscript(student.getId()));
+    }
+
+    private void checkPrerequisites(List<Prerequisite> prerequisites, Supplier<TranscriptIndex> transcript) throws HttpRequestException {
+        if (prerequisites.isEmpty()) {
+            return;
+        }
+
+        // Check if user completed all prerequisites, in a term that has ended, with the minimum grade
+        TranscriptIndex transcriptIndex = transcript.get();
+        LocalDate today = LocalDate.now();
+        for (Prerequisite prerequisite : prerequisites) {
+            if (!transcriptIndex.hasCompleted(prerequisite.getRequiredCourse().getId(), prerequisite.getMinimumGrade(), today)) {
+                throw new HttpRequestException(HttpStatus.NOT_ACCEPTABLE, "You have not completed all prerequisites for this course.");
             }
-        } catch (Exception e) {
-            throw new HttpRequestException(HttpStatus.NOT_ACCEPTABLE, "You have not completed all prerequisites for this course.");
         }
+    }
 
+    /**
+     * Persists a new NOT_STARTED enrollment. The caller must already hold a seat in the course section.
+     */
+    private Enrollment saveEnrollment(User student, CourseSection courseSection) {
         // Create enrollment
         Enrollment enrollment = Enrollment.builder()
                 .studentId(student.getId())
@@ -125,9 +271,6 @@ public class EnrollmentServiceImpl implements EnrollmentService {
         // Save and return
         enrollmentRepository.save(enrollment);
 
-        // Update enrolledCount
-        courseSectionService.refreshEnrollmentCount(courseSection.getId());
-
         return enrollment;
     }
 
@@ -137,28 +280,32 @@ public class EnrollmentServiceImpl implements EnrollmentService {
                 .orElseThrow(() -> new HttpRequestException(HttpStatus.NOT_FOUND, "Enrollment not found."));
 
         // Check if user modifying is the instructor for the course section, or an administrator
-        User authUser = userService.getUser(authentication);
-        if (!enrollment.getCourseSection().getInstructor().getId().equals(authUser.getId()) && !authUser.isAdmin()) {
+        AuthenticatedUser authUser = userService.getAuthenticatedUser(authentication);
+        if (!enrollment.getCourseSection().getInstructor().getId().equals(authUser.id()) && !authUser.isAdmin()) {
             throw new HttpRequestException(HttpStatus.UNAUTHORIZED, "You are not authorized to perform that action.");
         }
 
         // Update
         enrollment.setGrade(manageEnrollmentRequest.grade());
+        enrollment.setGraded(true);
         enrollment.setStatus(manageEnrollmentRequest.status().getValue());
 
         // save and return
-        return enrollmentRepository.save(enrollment);
+        Enrollment updatedEnrollment = enrollmentRepository.save(enrollment);
+        eventPublisher.publishEvent(TranscriptChangedEvent.forStudent(studentId));
+        return updatedEnrollment;
     }
 
     @Override
+    @Transactional(rollbackFor = HttpRequestException.class)
     public void delete(Long studentId, Long courseSectionId, Authentication authentication) throws HttpRequestException {
         // Check if enrollment exists
         Enrollment enrollment = enrollmentRepository.findById(new EnrollmentId(studentId, courseSectionId))
                 .orElseThrow(() -> new HttpRequestException(HttpStatus.NOT_FOUND, "Enrollment not found."));
 
         // Check if AuthUser is either the student, the course section instructor, or an admin
-        User authUser = userService.getUser(authentication);
-        if (!enrollment.getStudent().getId().equals(authUser.getId()) && !enrollment.getCourseSection().getInstructor().getId().equals(authUser.getId()) && !authUser.isAdmin()) {
+        AuthenticatedUser authUser = userService.getAuthenticatedUser(authentication);
+        if (!enrollment.getStudent().getId().equals(authUser.id()) && !enrollment.getCourseSection().getInstructor().getId().equals(authUser.id()) && !authUser.isAdmin()) {
             throw new HttpRequestException(HttpStatus.UNAUTHORIZED, "You are not authorized to perform that action.");
         }
 
@@ -172,16 +319,63 @@ public class EnrollmentServiceImpl implements EnrollmentService {
             throw new HttpRequestException(HttpStatus.NOT_ACCEPTABLE, "You have already completed this course.");
         }
 
-        courseSectionService.refreshEnrollmentCount(enrollment.getCourseSection().getId());
         enrollmentRepository.delete(enrollment);
+        eventPublisher.publishEvent(TranscriptChangedEvent.forStudent(studentId));
+        courseSectionService.releaseSeat(enrollment.getCourseSection());
+
+        // Hand the freed seat to the next student in line
+        promoteFromWaitlist(enrollment.getCourseSection());
     }
 
-    @Override
-    public int updateStartedEnrollments() {
-        List<Enrollment> unupdatedStartedEnrollments = enrollmentRepository.findAllByStatusIsAndCourseSection_Term_StartDateBefore(EnrollmentStatus.NOT_STARTED.getValue(), LocalDate.now());
-        unupdatedStartedEnrollments.forEach(enrollment -> enrollment.setStatus(EnrollmentStatus.STARTED.getValue()));
-        enrollmentRepository.saveAll(unupdatedStartedEnrollments);
+    /**
+     * Gives the seats added by a capacity increase to waitlisted students, inside the transaction that raised it.
+     *
+     * @param event The capacity increase.
+     */
+    @EventListener
+    @Transactional
+    public void onCapacityIncreased(CourseSectionCapacityIncreasedEvent event) {
+        promoteFromWaitlist(event.courseSection());
+    }
+
+    /**
+     * Enrolls waitlisted students into a course section, in waitlist order, while it has free seats.
+     * Runs inside the caller's transaction, so a promotion commits or rolls back together with the change that freed the seats.
+     */
+    private void promoteFromWaitlist(CourseSection courseSection) {
+        if (!courseSection.getTerm().isRegistrationOpen()) {
+            return;
+        }
+
+        Optional<WaitlistEntry> next = waitlistRepository.findFirstByCourseSection_IdOrderByIdAsc(courseSection.getId());
+        while (next.isPresent()) {
+            WaitlistEntry waitlistEntry = next.get();
+            User student = waitlistEntry.getStudent();
+
+            // Students who enrolled directly, or into a conflicting section, in the meantime simply leave the line
+            if (!enrollmentRepository.existsByStudent_IdAndCourseSection_Id(student.getId(), courseSection.getId())
+                    && !hasScheduleConflict(student, courseSection)) {
+                if (!courseSectionService.reserveSeat(courseSection)) {
+                    return;
+                }
+                saveEnrollment(student, courseSection);
+                eventPublisher.publishEvent(TranscriptChangedEvent.forStudent(student.getId()));
+            }
+
+            waitlistRepository.delete(waitlistEntry);
+            waitlistRepository.flush();
+
+            // The seat count is kept in step by reserveSeat, so a full section needs no further lookup
+            if (courseSection.getEnrolledCount() >= courseSection.getCapacity()) {
+                return;
+            }
+            next = waitlistRepository.findFirstByCourseSection_IdOrderByIdAsc(courseSection.getId());
+        }
+    }
 
-        return unupdatedStartedEnrollments.size();
+    private boolean hasScheduleConflict(User student, CourseSection courseSection) {
+        return courseSection.getMeetingTime()
+                .map(meetingTime -> loadSchedule(student.getId(), courseSection.getTerm().getId()).findConflict(meetingTime).isPresent())
+                .orElse(false);
     }
 }
@@ -0,0 +1,15 @@
+package net.tylerwade.registrationsystem.enrollment.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the enrollment admission queue.
+ *
+ * @param maxConcurrent The maximum number of enrollment transactions allowed to run at once. Should stay below the
+ *                      database connection pool size so other endpoints always have a connection available.
+ * @param maxQueued     The maximum number of requests allowed to wait for admission before new requests are turned away.
+ * @param maxWaitMs     The maximum time, in milliseconds, a request waits for admission before it is turned away.
+ */
+@ConfigurationProperties(prefix = "enrollment.admission")
+public record AdmissionProperties(Integer maxConcurrent, Integer maxQueued, Long maxWaitMs) {
+}
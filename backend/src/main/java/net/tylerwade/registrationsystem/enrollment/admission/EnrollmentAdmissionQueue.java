@@ -0,0 +1,273 @@
+package net.tylerwade.registrationsystem.enrollment.admission;
+
+import net.tylerwade.registrationsystem.common.RequestAction;
+import net.tylerwade.registrationsystem.enrollment.admission.dto.AdmissionStatusDTO;
+import net.tylerwade.registrationsystem.enrollment.admission.dto.AdmissionTicketDTO;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * Admission control in front of the enrollment transactions.
+ * <p>
+ * Every request holds a ticket and is admitted in ticket order once one of the {@code maxConcurrent} slots is free.
+ * Requests wait here, before a transaction is opened, so a registration rush queues in memory instead of on the
+ * database connection pool. Requests are turned away with 503 when the queue is full or when they have waited longer
+ * than {@code maxWaitMs}, which keeps the latency of admitted requests bounded.
+ * <p>
+ * A response only reaches the client once its request has been admitted or turned away, so a client that wants to
+ * follow its place in line takes a ticket first with {@link #issueTicket()}, which does not wait, and then claims it by
+ * sending it with the request. Its position can be looked up in the meantime, see {@link #getTicketStatus(long)}. An
+ * issued ticket holds its place for {@code maxWaitMs}; a ticket that is not claimed by then is dropped so the line
+ * behind it moves on. Requests without a ticket are issued one on arrival.
+ */
+@Component
+public class EnrollmentAdmissionQueue {
+
+    public static final String TICKET_HEADER = "Admission-Ticket";
+
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long maxWaitNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Guarded by lock: the waiting requests by ticket, and the issued tickets not claimed yet with their claim deadline
+    private final Map<Long, Condition> claimed = new HashMap<>();
+    private final Map<Long, Long> unclaimed = new HashMap<>();
+
+    // Tickets above the head that left without being admitted. Written under the lock, read by the ticket lookup.
+    private final Set<Long> abandoned = ConcurrentHashMap.newKeySet();
+
+    // Written under the lock, read without it by the status lookups
+    private volatile long lastIssuedTicket;
+    private volatile long headTicket = 1;
+    private volatile long nowServing;
+    private volatile int queued;
+    private volatile int active;
+
+    public EnrollmentAdmissionQueue(AdmissionProperties admissionProperties) {
+        this.maxConcurrent = admissionProperties.maxConcurrent();
+        this.maxQueued = admissionProperties.maxQueued();
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(admissionProperties.maxWaitMs());
+    }
+
+    /**
+     * Take a place in line without waiting. The ticket must be claimed within {@code maxWaitMs} by passing it to
+     * {@link #admit(Long, LongConsumer, RequestAction)}.
+     *
+     * @return The ticket.
+     * @throws HttpRequestException 503 if the queue is full.
+     */
+    public long issueTicket() throws HttpRequestException {
+        lock.lock();
+        try {
+            long ticket = issue();
+            unclaimed.put(ticket, System.nanoTime() + maxWaitNanos);
+            return ticket;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Run an action once the request has been admitted.
+     *
+     * @param action The action to run.
+     * @param <T>    The type of the result.
+     * @return The result of the action.
+     * @throws HttpRequestException 503 if the request could not be admitted, or any exception thrown by the action.
+     */
+    public <T> T admit(RequestAction<T> action) throws HttpRequestException {
+        return admit(null, ticket -> {
+        }, action);
+    }
+
+    /**
+     * Run an action once the request has been admitted.
+     *
+     * @param onTicket Called with the ticket as soon as it is issued, before the request waits for admission.
+     * @param action   The action to run.
+     * @param <T>      The type of the result.
+     * @return The result of the action.
+     * @throws HttpRequestException 503 if the request could not be admitted, or any exception thrown by the action.
+     */
+    public <T> T admit(LongConsumer onTicket, RequestAction<T> action) throws HttpRequestException {
+        return admit(null, onTicket, action);
+    }
+
+    /**
+     * Run an action once the request has been admitted.
+     *
+     * @param ticket   A ticket from {@link #issueTicket()} to claim, or null to issue one now.
+     * @param onTicket Called with the ticket before the request waits for admission.
+     * @param action   The action to run.
+     * @param <T>      The type of the result.
+     * @return The result of the action.
+     * @throws HttpRequestException 404 if the ticket is unknown, already claimed or expired, 503 if the request could
+     *                              not be admitted, or any exception thrown by the action.
+     */
+    public <T> T admit(Long ticket, LongConsumer onTicket, RequestAction<T> action) throws HttpRequestException {
+        awaitTurn(ticket, onTicket);
+        try {
+            return action.run();
+        } finally {
+            lock.lock();
+            try {
+                active--;
+                signalHead();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Look up a ticket's place in the queue. Reads only in-memory counters, so clients may poll it while they wait.
+     * The number of tickets ahead can be slightly low while requests behind the ticket are giving up.
+     *
+     * @param ticket The ticket issued to the request.
+     * @return The ticket's status.
+     * @throws HttpRequestException 404 if the ticket has not been issued.
+     */
+    public AdmissionTicketDTO getTicketStatus(long ticket) throws HttpRequestException {
+        if (ticket < 1 || ticket > lastIssuedTicket) {
+            throw new HttpRequestException(HttpStatus.NOT_FOUND, "Admission ticket not found.");
+        }
+
+        // Tickets are admitted in order, so every ticket between the head and this one is waiting unless it gave up
+        long head = headTicket;
+        boolean isWaiting = ticket >= head && !abandoned.contains(ticket);
+        int ahead = isWaiting ? (int) Math.max(0, ticket - head - abandoned.size()) : 0;
+        return new AdmissionTicketDTO(ticket, isWaiting, ahead, nowServing);
+    }
+
+    /**
+     * Get a snapshot of the queue. Reads only in-memory counters.
+     *
+     * @return The queue status.
+     */
+    public AdmissionStatusDTO getStatus() {
+        return new AdmissionStatusDTO(
+                maxConcurrent,
+                active,
+                queued,
+                lastIssuedTicket,
+                nowServing
+        );
+    }
+
+    private void awaitTurn(Long claimedTicket, LongConsumer onTicket) throws HttpRequestException {
+        lock.lock();
+        try {
+            long ticket = claimedTicket != null ? claim(claimedTicket) : issue();
+            onTicket.accept(ticket);
+
+            Condition turn = lock.newCondition();
+            claimed.put(ticket, turn);
+            long deadline = System.nanoTime() + maxWaitNanos;
+            try {
+                while (ticket != headTicket || active >= maxConcurrent) {
+                    long now = System.nanoTime();
+                    if (deadline - now <= 0) {
+                        abandon(ticket);
+                        throw busy(ticket);
+                    }
+                    // An unclaimed ticket at the head is dropped at its claim deadline, so wake up for that too
+                    Long headDeadline = unclaimed.get(headTicket);
+                    long wait = headDeadline != null ? Math.min(deadline, headDeadline) - now : deadline - now;
+                    turn.awaitNanos(Math.max(wait, 1));
+                    advanceHead();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                abandon(ticket);
+                throw busy(ticket);
+            } finally {
+                claimed.remove(ticket);
+            }
+
+            queued--;
+            active++;
+            nowServing = ticket;
+            headTicket = ticket + 1;
+            advanceHead();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long issue() throws HttpRequestException {
+        // Bounded queue: shed load immediately rather than letting waiters pile up
+        if (queued >= maxQueued) {
+            throw new HttpRequestException(HttpStatus.SERVICE_UNAVAILABLE, "Registration is busy. Please try again shortly.");
+        }
+        queued++;
+        return ++lastIssuedTicket;
+    }
+
+    private long claim(long ticket) throws HttpRequestException {
+        Long claimDeadline = unclaimed.remove(ticket);
+        if (claimDeadline == null) {
+            throw new HttpRequestException(HttpStatus.NOT_FOUND, "Admission ticket not found or already used.");
+        }
+        if (claimDeadline - System.nanoTime() <= 0) {
+            abandon(ticket);
+            throw new HttpRequestException(HttpStatus.NOT_FOUND, "Admission ticket expired. Please take a new one.");
+        }
+        return ticket;
+    }
+
+    private void abandon(long ticket) {
+        queued--;
+        if (ticket == headTicket) {
+            headTicket = ticket + 1;
+            advanceHead();
+        } else {
+            abandoned.add(ticket);
+        }
+    }
+
+    /**
+     * Move the head past tickets that gave up and past unclaimed tickets whose claim deadline has passed, then wake the
+     * request holding the head ticket, if it is waiting.
+     */
+    private void advanceHead() {
+        while (true) {
+            long head = headTicket;
+            if (abandoned.remove(head)) {
+                headTicket = head + 1;
+                continue;
+            }
+            Long claimDeadline = unclaimed.get(head);
+            if (claimDeadline != null && claimDeadline - System.nanoTime() <= 0) {
+                unclaimed.remove(head);
+                queued--;
+                headTicket = head + 1;
+                continue;
+            }
+            signalHead();
+            return;
+        }
+    }
+
+    private void signalHead() {
+        Condition turn = claimed.get(headTicket);
+        if (turn != null) {
+            turn.signal();
+        }
+    }
+
+    private static HttpRequestException busy(long ticket) {
+        return new HttpRequestException(HttpStatus.SERVICE_UNAVAILABLE, "Registration is busy (ticket " + ticket + "). Please try again shortly.");
+    }
+}
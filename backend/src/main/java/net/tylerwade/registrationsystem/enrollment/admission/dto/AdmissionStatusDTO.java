@@ -0,0 +1,18 @@
+package net.tylerwade.registrationsystem.enrollment.admission.dto;
+
+/**
+ * Snapshot of the enrollment admission queue.
+ *
+ * @param maxConcurrent    The number of enrollment transactions that may run at once.
+ * @param active           The number of enrollment transactions currently running.
+ * @param queued           The number of requests waiting for admission.
+ * @param lastIssuedTicket The most recently issued ticket.
+ * @param nowServing       The most recently admitted ticket. Tickets are admitted in order, so every ticket below it
+ *                         has been admitted or turned away. Use the ticket lookup for the position of a waiting ticket.
+ */
+public record AdmissionStatusDTO(int maxConcurrent,
+                                 int active,
+                                 int queued,
+                                 long lastIssuedTicket,
+                                 long nowServing) {
+}
@@ -0,0 +1,16 @@
+package net.tylerwade.registrationsystem.enrollment.admission.dto;
+
+/**
+ * Status of a single admission ticket.
+ *
+ * @param ticket     The ticket.
+ * @param waiting    Whether the request holding the ticket is still waiting for admission. False once it has been
+ *                   admitted or turned away.
+ * @param ahead      The number of waiting tickets ahead of this one. Zero when the ticket is not waiting.
+ * @param nowServing The highest ticket admitted so far.
+ */
+public record AdmissionTicketDTO(long ticket,
+                                 boolean waiting,
+                                 int ahead,
+                                 long nowServing) {
+}
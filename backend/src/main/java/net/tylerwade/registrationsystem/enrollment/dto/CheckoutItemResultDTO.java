@@ -0,0 +1,11 @@
+package net.tylerwade.registrationsystem.enrollment.dto;
+
+import net.tylerwade.registrationsystem.enrollment.enums.CheckoutItemStatus;
+
+public record CheckoutItemResultDTO(
+        Long courseSectionId,
+        CheckoutItemStatus status,
+        String message,
+        EnrollmentDTO enrollment
+) {
+}
@@ -0,0 +1,18 @@
+package net.tylerwade.registrationsystem.enrollment.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import net.tylerwade.registrationsystem.enrollment.enums.CheckoutMode;
+
+import java.util.List;
+
+public record CheckoutRequest(
+        @NotEmpty(message = "At least one Course Section ID is required.")
+        @Size(max = 12, message = "A checkout may contain at most 12 course sections.")
+        List<@NotNull(message = "Course Section IDs must not be null.") Long> courseSectionIds,
+
+        @NotNull(message = "Checkout mode is required.")
+        CheckoutMode mode
+) {
+}
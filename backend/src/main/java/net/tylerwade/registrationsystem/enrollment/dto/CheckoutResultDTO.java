@@ -0,0 +1,12 @@
+package net.tylerwade.registrationsystem.enrollment.dto;
+
+import net.tylerwade.registrationsystem.enrollment.enums.CheckoutMode;
+
+import java.util.List;
+
+public record CheckoutResultDTO(
+        CheckoutMode mode,
+        boolean committed,
+        List<CheckoutItemResultDTO> items
+) {
+}
@@ -0,0 +1,11 @@
+package net.tylerwade.registrationsystem.enrollment.enums;
+
+/**
+ * Outcome of a single course section in a checkout.
+ */
+public enum CheckoutItemStatus {
+    ENROLLED,
+    REJECTED,
+    ROLLED_BACK,
+    NOT_ATTEMPTED
+}
@@ -0,0 +1,16 @@
+package net.tylerwade.registrationsystem.enrollment.enums;
+
+/**
+ * How a checkout handles course sections that cannot be enrolled in.
+ */
+public enum CheckoutMode {
+    /**
+     * Enroll in every course section or in none of them.
+     */
+    ALL_OR_NOTHING,
+
+    /**
+     * Enroll in every course section that can be enrolled in and report the rest.
+     */
+    BEST_EFFORT
+}
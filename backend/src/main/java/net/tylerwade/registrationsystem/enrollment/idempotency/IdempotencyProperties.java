@@ -0,0 +1,13 @@
+package net.tylerwade.registrationsystem.enrollment.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for idempotent enrollment requests.
+ *
+ * @param maxEntries The maximum number of stored responses.
+ * @param ttlSeconds How long a stored response is replayed for, in seconds.
+ */
+@ConfigurationProperties(prefix = "enrollment.idempotency")
+public record IdempotencyProperties(Long maxEntries, Long ttlSeconds) {
+}
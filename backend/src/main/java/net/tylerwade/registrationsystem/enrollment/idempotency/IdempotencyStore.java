@@ -0,0 +1,100 @@
+package net.tylerwade.registrationsystem.enrollment.idempotency;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import net.tylerwade.registrationsystem.common.RequestAction;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded, time-expiring store of responses to requests that carry an {@code Idempotency-Key} header.
+ * <p>
+ * The first request with a key runs normally and its outcome, a result or a client error, is stored. Retries with the
+ * same key get the stored outcome without running the request again, and a retry that arrives while the first request
+ * is still running waits for it rather than running in parallel. Server errors are not stored, so they can be retried.
+ * Keys are scoped to the authenticated user and the operation.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, StoredOutcome> outcomes;
+
+    public IdempotencyStore(IdempotencyProperties idempotencyProperties) {
+        this.outcomes = CacheBuilder.newBuilder()
+                .maximumSize(idempotencyProperties.maxEntries())
+                .expireAfterWrite(idempotencyProperties.ttlSeconds(), TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Run a request once per idempotency key.
+     *
+     * @param idempotencyKey The key sent by the client, or null to run the request without deduplication.
+     * @param authentication The authentication of the user.
+     * @param operation      The name of the operation, e.g. "enrollment.create".
+     * @param fingerprint    Identifies the request parameters. Reusing a key with different parameters is rejected.
+     * @param action         The request to run.
+     * @param <T>            The type of the result.
+     * @return The result of the request, or the stored result of an earlier request with the same key.
+     * @throws HttpRequestException The error of the request, or of an earlier request with the same key.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String idempotencyKey, Authentication authentication, String operation, String fingerprint, RequestAction<T> action) throws HttpRequestException {
+        if (idempotencyKey == null) {
+            return action.run();
+        }
+
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new HttpRequestException(HttpStatus.BAD_REQUEST, HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters.");
+        }
+
+        String key = authentication.getName() + '\n' + operation + '\n' + idempotencyKey;
+
+        StoredOutcome outcome;
+        try {
+            outcome = outcomes.get(key, () -> run(fingerprint, action));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            // Not stored: a server error, or a failure outside the request itself
+            if (e.getCause() instanceof HttpRequestException httpRequestException) {
+                throw httpRequestException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+
+        if (!Objects.equals(outcome.fingerprint(), fingerprint)) {
+            throw new HttpRequestException(HttpStatus.UNPROCESSABLE_ENTITY, HEADER + " was already used for a different request.");
+        }
+        if (outcome.error() != null) {
+            throw outcome.error();
+        }
+        return (T) outcome.result();
+    }
+
+    private static StoredOutcome run(String fingerprint, RequestAction<?> action) throws HttpRequestException {
+        try {
+            return new StoredOutcome(fingerprint, action.run(), null);
+        } catch (HttpRequestException e) {
+            if (e.getHttpStatus().is5xxServerError()) {
+                throw e;
+            }
+            return new StoredOutcome(fingerprint, null, e);
+        }
+    }
+
+    private record StoredOutcome(String fingerprint, Object result, HttpRequestException error) {
+    }
+}
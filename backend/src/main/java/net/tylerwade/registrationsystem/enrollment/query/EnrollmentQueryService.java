@@ -0,0 +1,24 @@
+package net.tylerwade.registrationsystem.enrollment.query;
+
+import net.tylerwade.registrationsystem.enrollment.dto.EnrollmentDTO;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+
+/**
+ * Read side of the enrollments. Builds enrollment DTOs from flat projection rows,
+ * so a listing costs a fixed number of queries however many enrollments it returns.
+ */
+public interface EnrollmentQueryService {
+
+    /**
+     * Finds all enrollments for a student, latest term first.
+     *
+     * @param studentId      the ID of the student
+     * @param authentication the authentication object of the user
+     * @return list of enrollments
+     * @throws HttpRequestException if the user is not the student, an instructor or an admin
+     */
+    List<EnrollmentDTO> findAllByStudent(Long studentId, Authentication authentication) throws HttpRequestException;
+}
@@ -0,0 +1,62 @@
+package net.tylerwade.registrationsystem.enrollment.query;
+
+import net.tylerwade.registrationsystem.auth.UserRepository;
+import net.tylerwade.registrationsystem.auth.UserService;
+import net.tylerwade.registrationsystem.auth.principal.AuthenticatedUser;
+import net.tylerwade.registrationsystem.auth.authority.Authority;
+import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionDTO;
+import net.tylerwade.registrationsystem.coursesection.query.CourseSectionQueryService;
+import net.tylerwade.registrationsystem.enrollment.EnrollmentRepository;
+import net.tylerwade.registrationsystem.enrollment.dto.EnrollmentDTO;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class EnrollmentQueryServiceImpl implements EnrollmentQueryService {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseSectionQueryService courseSectionQueryService;
+    private final UserRepository userRepository;
+    private final UserService userService;
+
+    public EnrollmentQueryServiceImpl(EnrollmentRepository enrollmentRepository, CourseSectionQueryService courseSectionQueryService, UserRepository userRepository, UserService userService) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.courseSectionQueryService = courseSectionQueryService;
+        this.userRepository = userRepository;
+        this.userService = userService;
+    }
+
+    @Override
+    public List<EnrollmentDTO> findAllByStudent(Long studentId, Authentication authentication) throws HttpRequestException {
+        AuthenticatedUser authUser = userService.getAuthenticatedUser(authentication);
+
+        // Check if authUser is student, or an instructor/admin
+        if (!authUser.id().equals(studentId) && !authUser.isInstructor() && !authUser.isAdmin()) {
+            throw new HttpRequestException(HttpStatus.FORBIDDEN, "You are not permitted to view this student's enrollment records.");
+        }
+
+        List<EnrollmentRow> rows = enrollmentRepository.findRowsByStudentId(studentId);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        // Every row belongs to the same student, and the sections come back in one batch
+        Set<Authority> studentAuthorities = userRepository.findAuthoritiesByUserIdIn(List.of(studentId)).getOrDefault(studentId, Set.of());
+        Map<Long, CourseSectionDTO> courseSections = courseSectionQueryService.findAllByIds(rows.stream().map(EnrollmentRow::courseSectionId).toList()).stream()
+                .collect(Collectors.toMap(CourseSectionDTO::id, Function.identity()));
+
+        return rows.stream()
+                .map(row -> row.toDTO(studentAuthorities, courseSections.get(row.courseSectionId())))
+                .toList();
+    }
+}
@@ -0,0 +1,52 @@
+package net.tylerwade.registrationsystem.enrollment.query;
+
+import net.tylerwade.registrationsystem.auth.authority.Authority;
+import net.tylerwade.registrationsystem.auth.dto.UserDTO;
+import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionDTO;
+import net.tylerwade.registrationsystem.enrollment.dto.EnrollmentDTO;
+import net.tylerwade.registrationsystem.enrollment.dto.InstructorEnrollmentDTO;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * An enrollment joined with its student, read as one flat row.
+ */
+public record EnrollmentRow(
+        Long studentId,
+        Long courseSectionId,
+        String studentUsername,
+        String studentFirstName,
+        String studentLastName,
+        Date studentCreatedAt,
+        BigDecimal grade,
+        String status,
+        Date createdAt
+) {
+
+    /**
+     * Builds the EnrollmentDTO for this row.
+     *
+     * @param studentAuthorities The authorities of the student.
+     * @param courseSection      The course section of this enrollment.
+     * @return The EnrollmentDTO.
+     */
+    public EnrollmentDTO toDTO(Set<Authority> studentAuthorities, CourseSectionDTO courseSection) {
+        return new EnrollmentDTO(student(studentAuthorities), courseSection, grade, status, createdAt);
+    }
+
+    /**
+     * Builds the InstructorEnrollmentDTO for this row.
+     *
+     * @param studentAuthorities The authorities of the student.
+     * @return The InstructorEnrollmentDTO.
+     */
+    public InstructorEnrollmentDTO toInstructorDTO(Set<Authority> studentAuthorities) {
+        return new InstructorEnrollmentDTO(student(studentAuthorities), courseSectionId, grade, status, createdAt);
+    }
+
+    private UserDTO student(Set<Authority> studentAuthorities) {
+        return new UserDTO(studentId, studentUsername, studentFirstName, studentLastName, studentAuthorities, studentCreatedAt);
+    }
+}
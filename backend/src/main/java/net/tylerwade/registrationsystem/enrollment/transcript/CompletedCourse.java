@@ -0,0 +1,24 @@
+package net.tylerwade.registrationsystem.enrollment.transcript;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * A course a student took in a single term, as read by {@link TranscriptServiceImpl}.
+ *
+ * @param courseId  The id of the course.
+ * @param bestGrade The best grade the student received for the course in that term.
+ * @param termEnd   The end date of the term.
+ */
+public record CompletedCourse(Long courseId, BigDecimal bestGrade, LocalDate termEnd) {
+
+    /**
+     * Check whether the term has ended as of the given date, matching {@code Term.hasEnded()}.
+     *
+     * @param today The current date.
+     * @return True if the term ended before today.
+     */
+    public boolean hasEnded(LocalDate today) {
+        return today.isAfter(termEnd);
+    }
+}
@@ -0,0 +1,13 @@
+package net.tylerwade.registrationsystem.enrollment.transcript;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the transcript cache.
+ *
+ * @param maxEntries The maximum number of cached transcripts.
+ * @param ttlSeconds How long a cached transcript is served before it is loaded again, in seconds.
+ */
+@ConfigurationProperties(prefix = "enrollment.transcript-cache")
+public record TranscriptCacheProperties(Long maxEntries, Long ttlSeconds) {
+}
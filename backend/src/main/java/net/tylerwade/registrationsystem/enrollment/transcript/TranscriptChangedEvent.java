@@ -0,0 +1,17 @@
+package net.tylerwade.registrationsystem.enrollment.transcript;
+
+/**
+ * Published when a student's enrollments are created, deleted, or graded, so the cached transcript can be discarded.
+ *
+ * @param studentId The ID of the student whose transcript changed, or null if any transcript may have changed.
+ */
+public record TranscriptChangedEvent(Long studentId) {
+
+    public static TranscriptChangedEvent forStudent(Long studentId) {
+        return new TranscriptChangedEvent(studentId);
+    }
+
+    public static TranscriptChangedEvent all() {
+        return new TranscriptChangedEvent(null);
+    }
+}
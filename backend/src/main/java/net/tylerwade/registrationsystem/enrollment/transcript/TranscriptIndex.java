@@ -0,0 +1,57 @@
+package net.tylerwade.registrationsystem.enrollment.transcript;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index of the courses a student has taken, keyed by course id.
+ * <p>
+ * Only the best grade per course and term is kept, so checking a prerequisite is a single map lookup. Term end dates
+ * are kept rather than filtered out up front so the index stays correct as terms end while it is cached.
+ */
+public class TranscriptIndex {
+
+    private final Map<Long, List<CompletedCourse>> coursesById;
+
+    public TranscriptIndex(List<CompletedCourse> completedCourses) {
+        Map<Long, List<CompletedCourse>> index = new HashMap<>();
+        for (CompletedCourse completedCourse : completedCourses) {
+            index.computeIfAbsent(completedCourse.courseId(), id -> new ArrayList<>(1)).add(completedCourse);
+        }
+        index.replaceAll((id, courses) -> List.copyOf(courses));
+        this.coursesById = Map.copyOf(index);
+    }
+
+    /**
+     * Check whether the student completed a course, in a term that has ended, with at least the minimum grade.
+     *
+     * @param courseId     The id of the required course.
+     * @param minimumGrade The minimum grade required.
+     * @param today        The current date.
+     * @return True if the requirement is satisfied.
+     */
+    public boolean hasCompleted(Long courseId, BigDecimal minimumGrade, LocalDate today) {
+        List<CompletedCourse> attempts = coursesById.get(courseId);
+        if (attempts == null) {
+            return false;
+        }
+
+        for (CompletedCourse attempt : attempts) {
+            if (attempt.hasEnded(today) && attempt.bestGrade().compareTo(minimumGrade) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The number of distinct courses in the index.
+     */
+    public int size() {
+        return coursesById.size();
+    }
+}
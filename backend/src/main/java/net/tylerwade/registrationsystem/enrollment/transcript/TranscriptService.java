@@ -0,0 +1,14 @@
+package net.tylerwade.registrationsystem.enrollment.transcript;
+
+public interface TranscriptService {
+
+    /**
+     * Get the transcript index for a student, loading it with a single query if it is not cached. Publish a
+     * {@link TranscriptChangedEvent} whenever one of the student's enrollments is created, deleted, or graded.
+     *
+     * @param studentId The ID of the student.
+     * @return The student's transcript index.
+     */
+    TranscriptIndex getTranscript(Long studentId);
+
+}
@@ -0,0 +1,58 @@
+package net.tylerwade.registrationsystem.enrollment.transcript;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.tylerwade.registrationsystem.enrollment.EnrollmentRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches each student's transcript index.
+ * <p>
+ * Entries are invalidated after the transaction that changed the student's enrollments commits, so a transcript loaded
+ * by a concurrent request cannot be cached from data the transaction has not committed yet. As in the course catalog
+ * cache, a loaded transcript is only stored if no invalidation happened while it was being loaded.
+ */
+@Service
+public class TranscriptServiceImpl implements TranscriptService {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final Cache<Long, TranscriptIndex> transcripts;
+    private final AtomicLong generation = new AtomicLong();
+
+    public TranscriptServiceImpl(EnrollmentRepository enrollmentRepository, TranscriptCacheProperties transcriptCacheProperties) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.transcripts = CacheBuilder.newBuilder()
+                .maximumSize(transcriptCacheProperties.maxEntries())
+                .expireAfterWrite(transcriptCacheProperties.ttlSeconds(), TimeUnit.SECONDS)
+                .build();
+    }
+
+    @Override
+    public TranscriptIndex getTranscript(Long studentId) {
+        TranscriptIndex cached = transcripts.getIfPresent(studentId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadGeneration = generation.get();
+        TranscriptIndex loaded = new TranscriptIndex(enrollmentRepository.findCompletedCoursesByStudentId(studentId));
+        if (generation.get() == loadGeneration) {
+            transcripts.put(studentId, loaded);
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTranscriptChanged(TranscriptChangedEvent event) {
+        generation.incrementAndGet();
+        if (event.studentId() == null) {
+            transcripts.invalidateAll();
+        } else {
+            transcripts.invalidate(event.studentId());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package net.tylerwade.registrationsystem.enrollment.transition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for scheduling enrollment status transitions at term boundaries.
+ *
+ * @param lockAtMostFor  How long a node holds the transition lock if it dies mid-run.
+ * @param lockAtLeastFor How long the transition lock is kept after a run, so other nodes firing at the same boundary skip it.
+ * @param rearmCron      Cron on which every node re-reads the term calendar, picking up terms changed on other nodes.
+ */
+@ConfigurationProperties(prefix = "enrollment.scheduler")
+public record EnrollmentSchedulerProperties(Duration lockAtMostFor, Duration lockAtLeastFor, String rearmCron) {
+}
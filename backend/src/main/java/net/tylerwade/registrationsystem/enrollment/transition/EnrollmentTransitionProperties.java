@@ -0,0 +1,15 @@
+package net.tylerwade.registrationsystem.enrollment.transition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+
+/**
+ * Configuration for bulk enrollment status transitions.
+ *
+ * @param chunkSize    The number of course sections whose enrollments are updated per statement.
+ * @param passingGrade The minimum grade for an enrollment to be COMPLETED rather than FAILED when its term ends.
+ */
+@ConfigurationProperties(prefix = "enrollment.transition")
+public record EnrollmentTransitionProperties(Integer chunkSize, BigDecimal passingGrade) {
+}
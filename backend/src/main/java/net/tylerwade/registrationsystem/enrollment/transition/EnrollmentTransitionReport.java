@@ -0,0 +1,20 @@
+package net.tylerwade.registrationsystem.enrollment.transition;
+
+/**
+ * Number of enrollments moved by each status transition in one run.
+ *
+ * @param started   NOT_STARTED enrollments set to STARTED because their term started.
+ * @param completed STARTED enrollments set to COMPLETED because their term ended with a passing grade.
+ * @param failed    STARTED enrollments set to FAILED because their term ended without a passing grade.
+ */
+public record EnrollmentTransitionReport(int started, int completed, int failed) {
+
+    public int total() {
+        return started + completed + failed;
+    }
+
+    @Override
+    public String toString() {
+        return started + " enrollments set to STARTED, " + completed + " to COMPLETED, " + failed + " to FAILED.";
+    }
+}
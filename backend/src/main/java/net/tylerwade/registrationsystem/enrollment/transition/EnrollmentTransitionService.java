@@ -0,0 +1,15 @@
+package net.tylerwade.registrationsystem.enrollment.transition;
+
+public interface EnrollmentTransitionService {
+
+    /**
+     * Moves enrollments through their status lifecycle based on their term's dates:
+     * NOT_STARTED to STARTED once the term has started, then STARTED to COMPLETED or FAILED, by grade, once the term
+     * has ended. Enrollments an instructor has not graded yet stay STARTED until they are graded. Updates run as
+     * set-based statements over chunks of course sections.
+     *
+     * @return The number of enrollments moved by each transition.
+     */
+    EnrollmentTransitionReport transitionStatuses();
+
+}
@@ -0,0 +1,58 @@
+package net.tylerwade.registrationsystem.enrollment.transition;
+
+import com.google.common.collect.Lists;
+import net.tylerwade.registrationsystem.enrollment.EnrollmentRepository;
+import net.tylerwade.registrationsystem.enrollment.enums.EnrollmentStatus;
+import net.tylerwade.registrationsystem.enrollment.transcript.TranscriptChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+public class EnrollmentTransitionServiceImpl implements EnrollmentTransitionService {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentTransitionProperties transitionProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public EnrollmentTransitionServiceImpl(EnrollmentRepository enrollmentRepository, EnrollmentTransitionProperties transitionProperties, ApplicationEventPublisher eventPublisher) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.transitionProperties = transitionProperties;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public EnrollmentTransitionReport transitionStatuses() {
+        LocalDate today = LocalDate.now();
+        String notStarted = EnrollmentStatus.NOT_STARTED.getValue();
+        String started = EnrollmentStatus.STARTED.getValue();
+        BigDecimal passingGrade = transitionProperties.passingGrade();
+
+        // Start first, so enrollments in a term that has already ended are completed in the same run
+        int startedCount = 0;
+        for (List<Long> chunk : chunks(enrollmentRepository.findCourseSectionIdsWithStatusAndTermStartedBy(notStarted, today))) {
+            startedCount += enrollmentRepository.updateStatusForCourseSections(notStarted, started, chunk);
+        }
+
+        int completedCount = 0;
+        int failedCount = 0;
+        for (List<Long> chunk : chunks(enrollmentRepository.findCourseSectionIdsWithStatusAndTermEndedBefore(started, today))) {
+            completedCount += enrollmentRepository.updateStatusForCourseSectionsWithGradeAtLeast(started, EnrollmentStatus.COMPLETED.getValue(), chunk, passingGrade);
+            failedCount += enrollmentRepository.updateStatusForCourseSectionsWithGradeBelow(started, EnrollmentStatus.FAILED.getValue(), chunk, passingGrade);
+        }
+
+        // Completed enrollments are on the transcript, and the bulk updates do not say whose they were
+        if (completedCount + failedCount > 0) {
+            eventPublisher.publishEvent(TranscriptChangedEvent.all());
+        }
+
+        return new EnrollmentTransitionReport(startedCount, completedCount, failedCount);
+    }
+
+    private List<List<Long>> chunks(List<Long> courseSectionIds) {
+        return Lists.partition(courseSectionIds, transitionProperties.chunkSize());
+    }
+}
@@ -1,24 +1,91 @@
 package net.tylerwade.registrationsystem.enrollment.util;
 
 import lombok.extern.slf4j.Slf4j;
-import net.tylerwade.registrationsystem.enrollment.EnrollmentService;
+import net.tylerwade.registrationsystem.common.lock.SchedulerLockService;
+import net.tylerwade.registrationsystem.enrollment.transition.EnrollmentSchedulerProperties;
+import net.tylerwade.registrationsystem.enrollment.transition.EnrollmentTransitionService;
+import net.tylerwade.registrationsystem.term.TermChangedEvent;
+import net.tylerwade.registrationsystem.term.TermService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Runs enrollment status transitions exactly when a term starts or ends, instead of polling.
+ * After every run, and whenever the term calendar changes, the next boundary is read from the terms and armed.
+ */
 @Slf4j
 @Component
 public class ScheduledEnrollmentTasks {
 
-    private final EnrollmentService enrollmentService;
+    private static final String TRANSITION_LOCK = "enrollment-status-transitions";
+
+    private final EnrollmentTransitionService enrollmentTransitionService;
+    private final TermService termService;
+    private final SchedulerLockService schedulerLockService;
+    private final TaskScheduler taskScheduler;
+    private final EnrollmentSchedulerProperties schedulerProperties;
+
+    private ScheduledFuture<?> nextRun;
+
+    public ScheduledEnrollmentTasks(EnrollmentTransitionService enrollmentTransitionService, TermService termService, SchedulerLockService schedulerLockService, TaskScheduler taskScheduler, EnrollmentSchedulerProperties schedulerProperties) {
+        this.enrollmentTransitionService = enrollmentTransitionService;
+        this.termService = termService;
+        this.schedulerLockService = schedulerLockService;
+        this.taskScheduler = taskScheduler;
+        this.schedulerProperties = schedulerProperties;
+    }
+
+    /**
+     * Catches up on any boundary passed while no node was running, then arms the next one.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        updateEnrollmentStatuses();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTermChanged(TermChangedEvent event) {
+        armNextBoundary();
+    }
 
-    public ScheduledEnrollmentTasks(EnrollmentService enrollmentService) {
-        this.enrollmentService = enrollmentService;
+    @Scheduled(cron = "${enrollment.scheduler.rearm-cron}")
+    public void rearm() {
+        armNextBoundary();
     }
 
-    @Scheduled(fixedRate = 43200000)
     public void updateEnrollmentStatuses() {
-        int totalUpdatedCount = enrollmentService.updateStartedEnrollments();
-        log.info(totalUpdatedCount + " enrollments set to STARTED.");
+        try {
+            schedulerLockService.runExclusively(TRANSITION_LOCK, schedulerProperties.lockAtMostFor(), schedulerProperties.lockAtLeastFor(),
+                    () -> log.info(enrollmentTransitionService.transitionStatuses().toString()));
+        } finally {
+            armNextBoundary();
+        }
+    }
+
+    /**
+     * Replaces the armed run with one at the start of the next term boundary, if there is one.
+     */
+    public synchronized void armNextBoundary() {
+        if (nextRun != null) {
+            nextRun.cancel(false);
+            nextRun = null;
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        termService.findNextBoundary(LocalDate.now(zone)).ifPresentOrElse(boundary -> {
+            Instant runAt = boundary.atStartOfDay(zone).toInstant();
+            nextRun = taskScheduler.schedule(this::updateEnrollmentStatuses, runAt);
+            log.info("Next enrollment status transition scheduled for {}.", runAt);
+        }, () -> log.info("No upcoming term boundary, enrollment status transitions are idle."));
     }
 
 }
@@ -3,7 +3,9 @@ package net.tylerwade.registrationsystem.exception;
 import lombok.extern.slf4j.Slf4j;
 import net.tylerwade.registrationsystem.common.ErrorResponse;
 import net.tylerwade.registrationsystem.config.AppProperties;
+import net.tylerwade.registrationsystem.config.security.password.LoginThrottledException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -108,6 +110,20 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /**
+     * Handles LoginThrottledException thrown outside the Basic auth filter, e.g. when hashing the password of a new
+     * account, and asks the client to retry once the password hashing executor has caught up.
+     *
+     * @param e The LoginThrottledException to handle.
+     * @return A ResponseEntity containing the error response and a Retry-After header.
+     */
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<?> handleLoginThrottledException(LoginThrottledException e) {
+        return ResponseEntity.status(SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ErrorResponse(Instant.now(), SERVICE_UNAVAILABLE.value(), SERVICE_UNAVAILABLE.getReasonPhrase(), e.getMessage()));
+    }
+
     /**
      * Handles generic exceptions and returns an appropriate error response.
      * Provides a generic message in production mode.
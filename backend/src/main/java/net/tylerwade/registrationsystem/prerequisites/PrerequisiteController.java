@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
 import net.tylerwade.registrationsystem.prerequisites.dto.ManagePrerequisiteRequest;
+import net.tylerwade.registrationsystem.prerequisites.dto.PrerequisiteChainDTO;
 import net.tylerwade.registrationsystem.prerequisites.dto.PrerequisiteDTO;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -40,13 +41,28 @@ public class PrerequisiteController {
         return prerequisiteService.findAllByCourseId(courseId).stream().map(Prerequisite::toDTO).toList();
     }
 
+    /**
+     * Find the full requirement chain for a course
+     */
+    @Operation(summary = "Get the requirement chain for a course", description = "Returns the IDs of every course the specified course requires, directly or transitively, in an order they can be taken.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Requirement chain retrieved successfully")
+    })
+    @GetMapping("/chain")
+    @ResponseStatus(HttpStatus.OK)
+    public PrerequisiteChainDTO findRequirementChain(
+            @Parameter(description = "ID of the course") @PathVariable Long courseId) {
+        return new PrerequisiteChainDTO(courseId, prerequisiteService.findRequirementChain(courseId));
+    }
+
     /**
      * Create a new prerequisite for a course
      */
     @Operation(summary = "Create a prerequisite for a course (ADMIN)", description = "Creates a new prerequisite for the specified course. Admin only.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Prerequisite created successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid input")
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "409", description = "Prerequisite already exists or would create a cycle")
     })
     @PreAuthorize("hasRole('ROLE_ADMIN')")
     @PostMapping
@@ -0,0 +1,10 @@
+package net.tylerwade.registrationsystem.prerequisites;
+
+/**
+ * A single prerequisite relationship, read without loading either course.
+ *
+ * @param courseId         The id of the course that has the prerequisite.
+ * @param requiredCourseId The id of the course that must be completed first.
+ */
+public record PrerequisiteEdge(Long courseId, Long requiredCourseId) {
+}
@@ -0,0 +1,350 @@
+package net.tylerwade.registrationsystem.prerequisites;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory graph of prerequisite relationships between courses.
+ * <p>
+ * Courses are mapped to dense indexes so that both the direct requirements and the full transitive closure of every
+ * course can be stored as bitsets. Asking what a course ultimately requires, or whether a new prerequisite would
+ * create a cycle, is then a bitset read with no SQL. The graph is loaded from the database on first use and kept up
+ * to date incrementally as prerequisites are created and deleted. It is also reloaded periodically to pick up changes
+ * made on other nodes.
+ * <p>
+ * Changes to the graph, including the database write that goes with a new prerequisite, are serialized by a mutation
+ * lock that readers never take. A reload therefore cannot interleave with an insert and its save, and undoing a failed
+ * save cannot remove an edge another insert just added.
+ */
+@Slf4j
+@Component
+public class PrerequisiteGraph {
+
+    private final PrerequisiteRepository prerequisiteRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReentrantLock mutationLock = new ReentrantLock();
+
+    private final Map<Long, Integer> indexByCourseId = new HashMap<>();
+    private long[] courseIds = new long[64];
+    private int size;
+
+    /**
+     * Direct requirements of each course, by index.
+     */
+    private final List<BitSet> requires = new ArrayList<>();
+
+    /**
+     * Everything each course requires, directly or transitively, by index.
+     */
+    private final List<BitSet> closure = new ArrayList<>();
+
+    private volatile boolean loaded;
+
+    public PrerequisiteGraph(PrerequisiteRepository prerequisiteRepository) {
+        this.prerequisiteRepository = prerequisiteRepository;
+    }
+
+    /**
+     * Check whether adding a prerequisite would create a cycle.
+     *
+     * @param courseId         The id of the course that would have the prerequisite.
+     * @param requiredCourseId The id of the course that would be required.
+     * @return True if the required course already requires the course, directly or transitively, or they are the same.
+     */
+    public boolean createsCycle(Long courseId, Long requiredCourseId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return createsCycleInternal(courseId, requiredCourseId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Add a prerequisite to the graph and save it, unless it would create a cycle. The check and the insert happen
+     * atomically, so two concurrent inserts cannot close a cycle between them. If the save throws, the edge is taken
+     * out again unless it was already in the graph.
+     *
+     * @param courseId         The id of the course that has the prerequisite.
+     * @param requiredCourseId The id of the required course.
+     * @param save             Saves the prerequisite. Runs after the edge is added, while no other change can happen.
+     * @param <T>              The type of the saved prerequisite.
+     * @return The result of the save, or empty if the prerequisite would create a cycle.
+     */
+    public <T> Optional<T> tryAddEdge(Long courseId, Long requiredCourseId, Supplier<T> save) {
+        ensureLoaded();
+        mutationLock.lock();
+        try {
+            boolean existed;
+            lock.writeLock().lock();
+            try {
+                if (createsCycleInternal(courseId, requiredCourseId)) {
+                    return Optional.empty();
+                }
+                int course = indexOf(courseId);
+                int requiredCourse = indexOf(requiredCourseId);
+                existed = requires.get(course).get(requiredCourse);
+                addEdgeInternal(course, requiredCourse);
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            try {
+                return Optional.of(save.get());
+            } catch (RuntimeException e) {
+                if (!existed) {
+                    removeEdgeLocked(courseId, requiredCourseId);
+                }
+                throw e;
+            }
+        } finally {
+            mutationLock.unlock();
+        }
+    }
+
+    /**
+     * Remove a prerequisite from the graph. Only the closures of courses that depended on the course are recomputed.
+     *
+     * @param courseId         The id of the course that had the prerequisite.
+     * @param requiredCourseId The id of the required course.
+     */
+    public void removeEdge(Long courseId, Long requiredCourseId) {
+        if (!loaded) {
+            return;
+        }
+
+        mutationLock.lock();
+        try {
+            removeEdgeLocked(courseId, requiredCourseId);
+        } finally {
+            mutationLock.unlock();
+        }
+    }
+
+    /**
+     * Remove every prerequisite to or from a course, e.g. after the course is deleted.
+     *
+     * @param courseId The id of the course.
+     */
+    public void removeCourse(Long courseId) {
+        if (!loaded) {
+            return;
+        }
+
+        mutationLock.lock();
+        lock.writeLock().lock();
+        try {
+            Integer course = indexByCourseId.get(courseId);
+            if (course == null) {
+                return;
+            }
+
+            requires.get(course).clear();
+            for (int i = 0; i < size; i++) {
+                requires.get(i).clear(course);
+            }
+            recomputeDependentsOf(course);
+        } finally {
+            lock.writeLock().unlock();
+            mutationLock.unlock();
+        }
+    }
+
+    /**
+     * Reload the graph from the database. The edges are read while holding only the mutation lock, so lookups keep
+     * being served until the new graph is swapped in.
+     */
+    @Scheduled(cron = "${prerequisites.graph.reload-cron}")
+    public void reload() {
+        mutationLock.lock();
+        try {
+            List<PrerequisiteEdge> edges = prerequisiteRepository.findAllEdges();
+
+            lock.writeLock().lock();
+            try {
+                indexByCourseId.clear();
+                requires.clear();
+                closure.clear();
+                size = 0;
+                loadInternal(edges);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            mutationLock.unlock();
+        }
+    }
+
+    /**
+     * Find every course a course requires, directly or transitively, ordered so that each course appears after all of
+     * the courses it requires.
+     *
+     * @param courseId The id of the course.
+     * @return The ids of the required courses, in the order they can be taken.
+     */
+    public List<Long> findRequirementChain(Long courseId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Integer course = indexByCourseId.get(courseId);
+            if (course == null) {
+                return List.of();
+            }
+
+            // Post-order depth-first walk: a course is emitted once everything it requires has been emitted
+            List<Long> chain = new ArrayList<>(closure.get(course).cardinality());
+            BitSet visited = new BitSet(size);
+            visited.set(course);
+            Deque<int[]> stack = new ArrayDeque<>();
+            stack.push(new int[]{course, requires.get(course).nextSetBit(0)});
+            while (!stack.isEmpty()) {
+                int[] frame = stack.peek();
+                int next = frame[1];
+                if (next < 0) {
+                    stack.pop();
+                    if (frame[0] != course) {
+                        chain.add(courseIds[frame[0]]);
+                    }
+                    continue;
+                }
+
+                frame[1] = requires.get(frame[0]).nextSetBit(next + 1);
+                if (!visited.get(next)) {
+                    visited.set(next);
+                    stack.push(new int[]{next, requires.get(next).nextSetBit(0)});
+                }
+            }
+            return chain;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeEdgeLocked(Long courseId, Long requiredCourseId) {
+        lock.writeLock().lock();
+        try {
+            Integer course = indexByCourseId.get(courseId);
+            Integer requiredCourse = indexByCourseId.get(requiredCourseId);
+            if (course == null || requiredCourse == null) {
+                return;
+            }
+
+            requires.get(course).clear(requiredCourse);
+            recomputeDependentsOf(course);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean createsCycleInternal(Long courseId, Long requiredCourseId) {
+        if (courseId.equals(requiredCourseId)) {
+            return true;
+        }
+
+        Integer course = indexByCourseId.get(courseId);
+        Integer requiredCourse = indexByCourseId.get(requiredCourseId);
+        return course != null && requiredCourse != null && closure.get(requiredCourse).get(course);
+    }
+
+    /**
+     * Adds an edge and extends the closure of the course and of everything that requires it.
+     */
+    private void addEdgeInternal(int course, int requiredCourse) {
+        requires.get(course).set(requiredCourse);
+
+        BitSet gained = (BitSet) closure.get(requiredCourse).clone();
+        gained.set(requiredCourse);
+        for (int i = 0; i < size; i++) {
+            if (i == course || closure.get(i).get(course)) {
+                closure.get(i).or(gained);
+            }
+        }
+    }
+
+    /**
+     * Recomputes the closure of a course and of every course that required it before the graph changed.
+     */
+    private void recomputeDependentsOf(int course) {
+        for (int i = 0; i < size; i++) {
+            if (i == course || closure.get(i).get(course)) {
+                closure.set(i, reachableFrom(i));
+            }
+        }
+    }
+
+    private BitSet reachableFrom(int course) {
+        BitSet reachable = new BitSet(size);
+        Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(course);
+        while (!queue.isEmpty()) {
+            BitSet direct = requires.get(queue.poll());
+            for (int next = direct.nextSetBit(0); next >= 0; next = direct.nextSetBit(next + 1)) {
+                if (!reachable.get(next)) {
+                    reachable.set(next);
+                    queue.add(next);
+                }
+            }
+        }
+        return reachable;
+    }
+
+    private int indexOf(Long courseId) {
+        Integer index = indexByCourseId.get(courseId);
+        if (index != null) {
+            return index;
+        }
+
+        if (size == courseIds.length) {
+            long[] grown = new long[size * 2];
+            System.arraycopy(courseIds, 0, grown, 0, size);
+            courseIds = grown;
+        }
+        courseIds[size] = courseId;
+        requires.add(new BitSet());
+        closure.add(new BitSet());
+        indexByCourseId.put(courseId, size);
+        return size++;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+
+            loadInternal(prerequisiteRepository.findAllEdges());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void loadInternal(List<PrerequisiteEdge> edges) {
+        for (PrerequisiteEdge edge : edges) {
+            if (createsCycleInternal(edge.courseId(), edge.requiredCourseId())) {
+                log.warn("Existing prerequisite {} -> {} creates a cycle.", edge.courseId(), edge.requiredCourseId());
+            }
+            addEdgeInternal(indexOf(edge.courseId()), indexOf(edge.requiredCourseId()));
+        }
+        loaded = true;
+        log.debug("Loaded prerequisite graph with {} courses and {} prerequisites.", size, edges.size());
+    }
+}
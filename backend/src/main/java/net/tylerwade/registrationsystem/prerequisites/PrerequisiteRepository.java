@@ -1,6 +1,7 @@
 package net.tylerwade.registrationsystem.prerequisites;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,5 +15,7 @@ public interface PrerequisiteRepository extends JpaRepository<Prerequisite, Long
 
     List<Prerequisite> findByCourse_Id(Long courseId);
 
+    @Query("SELECT new net.tylerwade.registrationsystem.prerequisites.PrerequisiteEdge(p.course.id, p.requiredCourse.id) FROM Prerequisite p")
+    List<PrerequisiteEdge> findAllEdges();
 
 }
@@ -20,6 +20,14 @@ public interface PrerequisiteService {
      */
     List<Prerequisite> findAllByCourseId(Long courseId);
 
+    /**
+     * Finds every course a course requires, directly or transitively.
+     *
+     * @param courseId the ID of the course
+     * @return the IDs of the required courses, each listed after the courses it requires
+     */
+    List<Long> findRequirementChain(Long courseId);
+
     /**
      * Creates a new prerequisite for a course.
      *
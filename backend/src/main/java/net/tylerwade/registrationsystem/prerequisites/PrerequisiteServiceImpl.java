@@ -2,8 +2,10 @@ package net.tylerwade.registrationsystem.prerequisites;
 
 import net.tylerwade.registrationsystem.course.Course;
 import net.tylerwade.registrationsystem.course.CourseService;
+import net.tylerwade.registrationsystem.course.catalog.CourseCatalogChangedEvent;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
 import net.tylerwade.registrationsystem.prerequisites.dto.ManagePrerequisiteRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
@@ -14,10 +16,14 @@ public class PrerequisiteServiceImpl implements PrerequisiteService{
 
     private final CourseService courseService;
     private final PrerequisiteRepository prerequisiteRepository;
+    private final PrerequisiteGraph prerequisiteGraph;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public PrerequisiteServiceImpl(CourseService courseService, PrerequisiteRepository prerequisiteRepository) {
+    public PrerequisiteServiceImpl(CourseService courseService, PrerequisiteRepository prerequisiteRepository, PrerequisiteGraph prerequisiteGraph, ApplicationEventPublisher eventPublisher) {
         this.courseService = courseService;
         this.prerequisiteRepository = prerequisiteRepository;
+        this.prerequisiteGraph = prerequisiteGraph;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -25,6 +31,11 @@ public class PrerequisiteServiceImpl implements PrerequisiteService{
         return prerequisiteRepository.findByCourse_Id(courseId);
     }
 
+    @Override
+    public List<Long> findRequirementChain(Long courseId) {
+        return prerequisiteGraph.findRequirementChain(courseId);
+    }
+
     @Override
     public Prerequisite create(Long courseId, ManagePrerequisiteRequest managePrerequisiteRequest) throws HttpRequestException {
         // Check if prerequisite already exists for course and required course.
@@ -43,8 +54,13 @@ public class PrerequisiteServiceImpl implements PrerequisiteService{
                 .minimumGrade(managePrerequisiteRequest.minimumGrade())
                 .build();
 
-        // Save and return
-        return prerequisiteRepository.save(prerequisite);
+        // Save unless it would create a cycle, e.g. a course that (transitively) requires itself
+        Prerequisite savedPrerequisite = prerequisiteGraph.tryAddEdge(course.getId(), requiredCourse.getId(), () -> prerequisiteRepository.save(prerequisite))
+                .orElseThrow(() -> new HttpRequestException(HttpStatus.CONFLICT, "That prerequisite would create a cycle: the required course already depends on this course."));
+
+        // Refresh the catalog and return
+        eventPublisher.publishEvent(CourseCatalogChangedEvent.forCourse(course.getId()));
+        return savedPrerequisite;
     }
 
     @Override
@@ -57,16 +73,19 @@ public class PrerequisiteServiceImpl implements PrerequisiteService{
         // Update
         prerequisite.setMinimumGrade(managePrerequisiteRequest.minimumGrade());
 
-        // save and return
-        return prerequisiteRepository.save(prerequisite);
+        // Save, refresh the catalog, and return
+        Prerequisite savedPrerequisite = prerequisiteRepository.save(prerequisite);
+        eventPublisher.publishEvent(CourseCatalogChangedEvent.forCourse(prerequisite.getCourse().getId()));
+        return savedPrerequisite;
     }
 
     @Override
     public void delete(Long prerequisiteId) throws HttpRequestException {
-        if (!prerequisiteRepository.existsById(prerequisiteId)) {
-            throw new HttpRequestException(HttpStatus.NOT_FOUND, "Prerequisite not found.");
-        }
+        Prerequisite prerequisite = prerequisiteRepository.findById(prerequisiteId)
+                .orElseThrow(() -> new HttpRequestException(HttpStatus.NOT_FOUND, "Prerequisite not found."));
 
-        prerequisiteRepository.deleteById(prerequisiteId);
+        prerequisiteRepository.delete(prerequisite);
+        prerequisiteGraph.removeEdge(prerequisite.getCourse().getId(), prerequisite.getRequiredCourse().getId());
+        eventPublisher.publishEvent(CourseCatalogChangedEvent.forCourse(prerequisite.getCourse().getId()));
     }
 }
@@ -0,0 +1,9 @@
+package net.tylerwade.registrationsystem.prerequisites.dto;
+
+import java.util.List;
+
+public record PrerequisiteChainDTO(
+    Long courseId,
+    List<Long> requiredCourseIds
+) {
+}
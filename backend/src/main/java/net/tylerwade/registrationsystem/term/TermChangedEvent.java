@@ -0,0 +1,9 @@
+package net.tylerwade.registrationsystem.term;
+
+/**
+ * Published when a term is created, updated, or deleted, so anything derived from the term calendar can be refreshed.
+ *
+ * @param termId The ID of the changed term.
+ */
+public record TermChangedEvent(Long termId) {
+}
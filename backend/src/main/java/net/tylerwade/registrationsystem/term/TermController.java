@@ -5,9 +5,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import net.tylerwade.registrationsystem.common.PageResponse;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
 import net.tylerwade.registrationsystem.term.dto.ManageTermRequest;
 import net.tylerwade.registrationsystem.term.dto.TermDTO;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -34,6 +37,18 @@ public class TermController {
         return termService.findAll().stream().map(Term::toDTO).toList();
     }
 
+    // Find a page of terms
+    @Operation(summary = "Find a page of terms.", description = "Returns a page of terms, newest first unless sorted by startDate, endDate, registrationStart or registrationEnd.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Terms retrieved."),
+            @ApiResponse(responseCode = "400", description = "Unsupported sort property.")
+    })
+    @GetMapping("/page")
+    @ResponseStatus(HttpStatus.OK)
+    public PageResponse<TermDTO> findPage(@ParameterObject Pageable pageable) throws HttpRequestException {
+        return PageResponse.convertPage(termService.findPage(pageable).map(Term::toDTO));
+    }
+
     // Find Specific term
     @Operation(summary = "Find a specific term.", description = "Returns an APIResponse of a term.")
     @ApiResponses(value = {
@@ -3,9 +3,12 @@ package net.tylerwade.registrationsystem.term;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Optional;
 
 @Repository
 public interface TermRepository extends JpaRepository<Term, Long> {
@@ -16,4 +19,10 @@ public interface TermRepository extends JpaRepository<Term, Long> {
 
     boolean existsByStartDateAndEndDateAndIdNot(LocalDate startDate, LocalDate endDate, Long id);
 
+    @Query("SELECT MIN(t.startDate) FROM Term t WHERE t.startDate > :date")
+    Optional<LocalDate> findFirstStartDateAfter(@Param("date") LocalDate date);
+
+    @Query("SELECT MIN(t.endDate) FROM Term t WHERE t.endDate >= :date")
+    Optional<LocalDate> findFirstEndDateOnOrAfter(@Param("date") LocalDate date);
+
 }
\ No newline at end of file
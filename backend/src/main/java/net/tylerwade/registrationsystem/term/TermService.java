@@ -2,9 +2,13 @@ package net.tylerwade.registrationsystem.term;
 
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
 import net.tylerwade.registrationsystem.term.dto.ManageTermRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Service interface for managing academic terms.
@@ -19,6 +23,15 @@ public interface TermService {
      */
     List<Term> findAll();
 
+    /**
+     * Retrieves a page of terms.
+     *
+     * @param pageable the page to retrieve; sortable by startDate, endDate, registrationStart and registrationEnd
+     * @return a page of terms
+     * @throws HttpRequestException if the sort is not supported
+     */
+    Page<Term> findPage(Pageable pageable) throws HttpRequestException;
+
     /**
      * Finds a term by its ID.
      *
@@ -28,6 +41,14 @@ public interface TermService {
      */
     Term findById(Long termId) throws HttpRequestException;
 
+    /**
+     * Finds the next day after the given date on which a term starts, or on which a term has just ended.
+     *
+     * @param date the date to search from, exclusive
+     * @return the next term boundary, or empty if no term starts or ends later
+     */
+    Optional<LocalDate> findNextBoundary(LocalDate date);
+
     /**
      * Creates a new term.
      *
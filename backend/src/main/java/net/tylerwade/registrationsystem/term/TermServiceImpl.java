@@ -1,19 +1,38 @@
 package net.tylerwade.registrationsystem.term;
 
+import net.tylerwade.registrationsystem.common.Pageables;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
 import net.tylerwade.registrationsystem.term.dto.ManageTermRequest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Service
 public class TermServiceImpl implements TermService{
 
+    private static final Map<String, String> SORTABLE_PROPERTIES = Map.of(
+            "startDate", "startDate",
+            "endDate", "endDate",
+            "registrationStart", "registrationStart",
+            "registrationEnd", "registrationEnd");
+
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "startDate");
+
     private final TermRepository termRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TermServiceImpl(TermRepository termRepository) {
+    public TermServiceImpl(TermRepository termRepository, ApplicationEventPublisher eventPublisher) {
         this.termRepository = termRepository;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -22,11 +41,27 @@ public class TermServiceImpl implements TermService{
         return termRepository.findAll();
     }
 
+    @Override
+    public Page<Term> findPage(Pageable pageable) throws HttpRequestException {
+        return termRepository.findAll(Pageables.mapSort(pageable, SORTABLE_PROPERTIES, DEFAULT_SORT));
+    }
+
     @Override
     public Term findById(Long termId) throws HttpRequestException {
         return termRepository.findById(termId).orElseThrow(() -> new HttpRequestException(HttpStatus.NOT_FOUND, "Term not found."));
     }
 
+    @Override
+    public Optional<LocalDate> findNextBoundary(LocalDate date) {
+        // A term's end is observed the day after its end date, once the end date is in the past
+        Optional<LocalDate> nextStart = termRepository.findFirstStartDateAfter(date);
+        Optional<LocalDate> nextEnd = termRepository.findFirstEndDateOnOrAfter(date).map(endDate -> endDate.plusDays(1));
+
+        return Stream.of(nextStart, nextEnd)
+                .flatMap(Optional::stream)
+                .min(LocalDate::compareTo);
+    }
+
     @Override
     public Term create(ManageTermRequest manageTermRequest) throws HttpRequestException {
         // Check if valid
@@ -47,8 +82,10 @@ public class TermServiceImpl implements TermService{
                 .registrationEnd(manageTermRequest.registrationEnd())
                 .build();
 
-        // Save and return
-        return termRepository.save(term);
+        // Save, notify, and return
+        Term savedTerm = termRepository.save(term);
+        eventPublisher.publishEvent(new TermChangedEvent(savedTerm.getId()));
+        return savedTerm;
     }
 
     @Override
@@ -71,8 +108,10 @@ public class TermServiceImpl implements TermService{
         term.setRegistrationStart(manageTermRequest.registrationStart());
         term.setRegistrationEnd(manageTermRequest.registrationEnd());
 
-        // Save and return
-        return termRepository.save(term);
+        // Save, notify, and return
+        Term savedTerm = termRepository.save(term);
+        eventPublisher.publishEvent(new TermChangedEvent(savedTerm.getId()));
+        return savedTerm;
     }
 
     @Override
@@ -84,5 +123,6 @@ public class TermServiceImpl implements TermService{
 
         // Delete term
         termRepository.deleteById(termId);
+        eventPublisher.publishEvent(new TermChangedEvent(termId));
     }
 }
@@ -0,0 +1,99 @@
+package net.tylerwade.registrationsystem.waitlist;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import net.tylerwade.registrationsystem.waitlist.dto.JoinWaitlistRequest;
+import net.tylerwade.registrationsystem.waitlist.dto.WaitlistEntryDTO;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Tag(name = "Waitlist Controller", description = "Operations related to course section waitlists")
+@RestController
+@RequestMapping("/api/waitlist")
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+
+    public WaitlistController(WaitlistService waitlistService) {
+        this.waitlistService = waitlistService;
+    }
+
+    /**
+     * Find all waitlist entries for a student
+     */
+    @Operation(summary = "Get all waitlist entries for student", description = "Returns the student's waitlist entries with their current positions. The authUser must be the student or an administrator/instructor.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Waitlist entries retrieved successfully")
+    })
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public List<WaitlistEntryDTO> findAllByStudent(@RequestParam Long studentId, Authentication authentication) throws HttpRequestException {
+        List<WaitlistEntry> entries = waitlistService.findAllByStudent(studentId, authentication);
+        Map<Long, Long> positions = waitlistService.getPositions(studentId);
+
+        // An entry promoted between the two reads has no position row, so it falls back to its own count
+        return entries.stream()
+                .map(entry -> entry.toDTO(positions.containsKey(entry.getId()) ? positions.get(entry.getId()) : waitlistService.getPosition(entry)))
+                .toList();
+    }
+
+    /**
+     * Find a student's position in a course section waitlist
+     */
+    @Operation(summary = "Get waitlist position", description = "Returns the student's waitlist entry and position for a course section. The authUser must be the student or an administrator.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Waitlist entry retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Waitlist entry not found")
+    })
+    @GetMapping("/position")
+    @ResponseStatus(HttpStatus.OK)
+    public WaitlistEntryDTO findPosition(Authentication authentication,
+                                         @RequestParam Long courseSectionId,
+                                         @RequestParam Long studentId) throws HttpRequestException {
+        WaitlistEntry waitlistEntry = waitlistService.findEntry(studentId, courseSectionId, authentication);
+        return waitlistEntry.toDTO(waitlistService.getPosition(waitlistEntry));
+    }
+
+    /**
+     * Join a course section waitlist
+     */
+    @Operation(summary = "Join waitlist", description = "Adds the student to the waitlist of a full course section. The student is enrolled automatically when a seat opens. The authUser must be the student or an administrator.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Joined waitlist successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "409", description = "Already waitlisted or the section still has seats")
+    })
+    @PostMapping
+    @ResponseStatus(HttpStatus.CREATED)
+    public WaitlistEntryDTO join(@RequestParam Long studentId,
+                                 Authentication authentication,
+                                 @Valid @RequestBody JoinWaitlistRequest joinWaitlistRequest) throws HttpRequestException {
+        WaitlistEntry waitlistEntry = waitlistService.join(studentId, joinWaitlistRequest, authentication);
+        return waitlistEntry.toDTO(waitlistService.getPosition(waitlistEntry));
+    }
+
+    /**
+     * Leave a course section waitlist
+     */
+    @Operation(summary = "Leave waitlist", description = "Removes the student from a course section waitlist. The authUser must be the student or an administrator.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Left waitlist successfully"),
+            @ApiResponse(responseCode = "404", description = "Waitlist entry not found")
+    })
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.OK)
+    public String leave(Authentication authentication,
+                        @RequestParam Long courseSectionId,
+                        @RequestParam Long studentId) throws HttpRequestException {
+        waitlistService.leave(studentId, courseSectionId, authentication);
+        return "Left waitlist.";
+    }
+}
@@ -0,0 +1,77 @@
+package net.tylerwade.registrationsystem.waitlist;
+
+import jakarta.persistence.*;
+import lombok.*;
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.waitlist.dto.WaitlistEntryDTO;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.util.Date;
+
+/**
+ * Represents a student's place in the waitlist of a full course section.
+ * Entries are served in insertion order, so the generated id doubles as the queue order.
+ */
+@Entity
+@Table(name = "waitlist_entries",
+        uniqueConstraints = {
+                @UniqueConstraint(columnNames = {"course_section_id", "student_id"})
+        },
+        indexes = {
+                @Index(name = "IDX_waitlist_entries_section", columnList = "course_section_id, id")
+        }
+)
+@EntityListeners(AuditingEntityListener.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitlistEntry {
+
+    /**
+     * Unique identifier for the waitlist entry. Increases with every entry, so it also orders the queue.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The waitlisted student.
+     * Mapped as a lazy-loaded many-to-one relationship.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_id", nullable = false)
+    private User student;
+
+    /**
+     * The course section the student is waiting for.
+     * Mapped as a lazy-loaded many-to-one relationship.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_section_id", nullable = false)
+    private CourseSection courseSection;
+
+    /**
+     * Timestamp indicating when the student joined the waitlist.
+     * Automatically populated during creation.
+     */
+    @CreatedDate
+    private Date createdAt;
+
+    /**
+     * Converts the WaitlistEntry entity to a WaitlistEntryDTO object.
+     *
+     * @param position The 1-based position of this entry in its section's waitlist.
+     * @return A WaitlistEntryDTO representation of the waitlist entry.
+     */
+    public WaitlistEntryDTO toDTO(long position) {
+        return new WaitlistEntryDTO(id,
+                student.getId(),
+                courseSection.getId(),
+                position,
+                createdAt);
+    }
+}
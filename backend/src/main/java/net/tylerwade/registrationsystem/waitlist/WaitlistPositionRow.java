@@ -0,0 +1,8 @@
+package net.tylerwade.registrationsystem.waitlist;
+
+/**
+ * The position of one waitlist entry in its course section's waitlist, read as a flat row so a student's listing
+ * gets every position from one query.
+ */
+public record WaitlistPositionRow(Long entryId, Long position) {
+}
@@ -0,0 +1,12 @@
+package net.tylerwade.registrationsystem.waitlist;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for course section waitlists.
+ *
+ * @param maxSize The maximum number of students that may wait for a single course section.
+ */
+@ConfigurationProperties(prefix = "waitlist")
+public record WaitlistProperties(Integer maxSize) {
+}
@@ -0,0 +1,46 @@
+package net.tylerwade.registrationsystem.waitlist;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Repository
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    boolean existsByStudent_IdAndCourseSection_Id(Long studentId, Long courseSectionId);
+
+    Optional<WaitlistEntry> findByStudent_IdAndCourseSection_Id(Long studentId, Long courseSectionId);
+
+    List<WaitlistEntry> findAllByStudent_IdOrderByIdAsc(Long studentId);
+
+    Optional<WaitlistEntry> findFirstByCourseSection_IdOrderByIdAsc(Long courseSectionId);
+
+    long countByCourseSection_Id(Long courseSectionId);
+
+    boolean existsByCourseSection_Id(Long courseSectionId);
+
+    @Query("SELECT DISTINCT w.courseSection.id FROM WaitlistEntry w WHERE w.courseSection.id IN :courseSectionIds")
+    Set<Long> findCourseSectionIdsWithEntries(@Param("courseSectionIds") Collection<Long> courseSectionIds);
+
+    long countByCourseSection_IdAndIdLessThan(Long courseSectionId, Long id);
+
+    @Query("SELECT new net.tylerwade.registrationsystem.waitlist.WaitlistPositionRow(w.id, COUNT(o.id)) FROM WaitlistEntry w, WaitlistEntry o"
+            + " WHERE w.student.id = :studentId AND o.courseSection.id = w.courseSection.id AND o.id <= w.id GROUP BY w.id")
+    List<WaitlistPositionRow> findPositionRowsByStudentId(@Param("studentId") Long studentId);
+
+    /**
+     * Loads the position of every waitlist entry of a student in one query, keyed by entry id.
+     */
+    default Map<Long, Long> findPositionsByStudentId(Long studentId) {
+        return findPositionRowsByStudentId(studentId).stream()
+                .collect(Collectors.toMap(WaitlistPositionRow::entryId, WaitlistPositionRow::position));
+    }
+}
@@ -0,0 +1,74 @@
+package net.tylerwade.registrationsystem.waitlist;
+
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import net.tylerwade.registrationsystem.waitlist.dto.JoinWaitlistRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service interface for managing course section waitlists.
+ */
+@Service
+public interface WaitlistService {
+
+    /**
+     * Finds all waitlist entries for a student, oldest first.
+     *
+     * @param studentId      the student ID
+     * @param authentication the authentication object
+     * @return list of waitlist entries
+     * @throws HttpRequestException if the authenticated user may not view the student's waitlist
+     */
+    List<WaitlistEntry> findAllByStudent(Long studentId, Authentication authentication) throws HttpRequestException;
+
+    /**
+     * Adds a student to the waitlist of a full course section.
+     *
+     * @param studentId           the target student ID
+     * @param joinWaitlistRequest the waitlist request
+     * @param authentication      the authentication object
+     * @return the created waitlist entry
+     * @throws HttpRequestException if the student cannot join the waitlist
+     */
+    WaitlistEntry join(Long studentId, JoinWaitlistRequest joinWaitlistRequest, Authentication authentication) throws HttpRequestException;
+
+    /**
+     * Removes a student from the waitlist of a course section.
+     *
+     * @param studentId       the student ID
+     * @param courseSectionId the course section ID
+     * @param authentication  the authentication object
+     * @throws HttpRequestException if the entry is not found or the user is not permitted
+     */
+    void leave(Long studentId, Long courseSectionId, Authentication authentication) throws HttpRequestException;
+
+    /**
+     * Finds a student's waitlist entry for a course section.
+     *
+     * @param studentId       the student ID
+     * @param courseSectionId the course section ID
+     * @param authentication  the authentication object
+     * @return the waitlist entry
+     * @throws HttpRequestException if the entry is not found or the user is not permitted
+     */
+    WaitlistEntry findEntry(Long studentId, Long courseSectionId, Authentication authentication) throws HttpRequestException;
+
+    /**
+     * Gets the 1-based position of a waitlist entry within its course section's waitlist.
+     *
+     * @param waitlistEntry the waitlist entry
+     * @return the position in the waitlist
+     */
+    long getPosition(WaitlistEntry waitlistEntry);
+
+    /**
+     * Get the positions of all of a student's waitlist entries with one query.
+     *
+     * @param studentId The id of the student.
+     * @return The position of each entry, keyed by entry id.
+     */
+    Map<Long, Long> getPositions(Long studentId);
+}
@@ -0,0 +1,136 @@
+package net.tylerwade.registrationsystem.waitlist;
+
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.auth.UserService;
+import net.tylerwade.registrationsystem.auth.principal.AuthenticatedUser;
+import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.coursesection.CourseSectionService;
+import net.tylerwade.registrationsystem.enrollment.EnrollmentRepository;
+import net.tylerwade.registrationsystem.enrollment.EnrollmentService;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import net.tylerwade.registrationsystem.waitlist.dto.JoinWaitlistRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class WaitlistServiceImpl implements WaitlistService {
+
+    private final WaitlistRepository waitlistRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentService enrollmentService;
+    private final CourseSectionService courseSectionService;
+    private final UserService userService;
+    private final WaitlistProperties waitlistProperties;
+
+    public WaitlistServiceImpl(WaitlistRepository waitlistRepository, EnrollmentRepository enrollmentRepository, EnrollmentService enrollmentService, CourseSectionService courseSectionService, UserService userService, WaitlistProperties waitlistProperties) {
+        this.waitlistRepository = waitlistRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.enrollmentService = enrollmentService;
+        this.courseSectionService = courseSectionService;
+        this.userService = userService;
+        this.waitlistProperties = waitlistProperties;
+    }
+
+    @Override
+    public List<WaitlistEntry> findAllByStudent(Long studentId, Authentication authentication) throws HttpRequestException {
+        AuthenticatedUser authUser = userService.getAuthenticatedUser(authentication);
+
+        // Check if authUser is student, or an instructor/admin
+        if (!authUser.id().equals(studentId) && !authUser.isInstructor() && !authUser.isAdmin()) {
+            throw new HttpRequestException(HttpStatus.FORBIDDEN, "You are not permitted to view this student's waitlist.");
+        }
+
+        return waitlistRepository.findAllByStudent_IdOrderByIdAsc(studentId);
+    }
+
+    @Override
+    @Transactional(rollbackFor = HttpRequestException.class)
+    public WaitlistEntry join(Long studentId, JoinWaitlistRequest joinWaitlistRequest, Authentication authentication) throws HttpRequestException {
+        AuthenticatedUser authUser = userService.getAuthenticatedUser(authentication);
+
+        // Check if authUser is student, or an admin
+        if (!authUser.id().equals(studentId) && !authUser.isAdmin()) {
+            throw new HttpRequestException(HttpStatus.FORBIDDEN, "You are not permitted to join waitlists for this student.");
+        }
+
+        // Get student
+        User student = userService.findById(studentId);
+        if (!student.isStudent()) {
+            throw new HttpRequestException(HttpStatus.FORBIDDEN, "User must be a student to join a waitlist.");
+        }
+
+        // Find target course section, locked so concurrent joins cannot all pass the size check below
+        CourseSection courseSection = courseSectionService.findLockedById(joinWaitlistRequest.courseSectionId());
+
+        // Check if registration open
+        if (!courseSection.getTerm().isRegistrationOpen()) {
+            throw new HttpRequestException(HttpStatus.NOT_ACCEPTABLE, "This course section is currently not open for registration.");
+        }
+
+        // Check if student already registered for the course
+        if (enrollmentRepository.existsByStudent_IdAndCourseSection_Id(student.getId(), courseSection.getId())) {
+            throw new HttpRequestException(HttpStatus.NOT_ACCEPTABLE, "You are already enrolled for this course section.");
+        }
+
+        // Check if student is already waiting
+        if (waitlistRepository.existsByStudent_IdAndCourseSection_Id(student.getId(), courseSection.getId())) {
+            throw new HttpRequestException(HttpStatus.CONFLICT, "You are already on the waitlist for this course section.");
+        }
+
+        // Only full sections start a waitlist. Once students are waiting, everyone joins behind them.
+        if (courseSection.getEnrolledCount() < courseSection.getCapacity() && !waitlistRepository.existsByCourseSection_Id(courseSection.getId())) {
+            throw new HttpRequestException(HttpStatus.CONFLICT, "This course section still has open seats. Enroll directly instead.");
+        }
+
+        // Check if the waitlist has room
+        if (waitlistRepository.countByCourseSection_Id(courseSection.getId()) >= waitlistProperties.maxSize()) {
+            throw new HttpRequestException(HttpStatus.NOT_ACCEPTABLE, "The waitlist for this course section is full.");
+        }
+
+        // Promotion does not re-validate, so prerequisites are checked now
+        enrollmentService.checkPrerequisites(student, courseSection);
+
+        // Create entry
+        WaitlistEntry waitlistEntry = WaitlistEntry.builder()
+                .student(student)
+                .courseSection(courseSection)
+                .build();
+
+        // Save and return
+        return waitlistRepository.save(waitlistEntry);
+    }
+
+    @Override
+    public void leave(Long studentId, Long courseSectionId, Authentication authentication) throws HttpRequestException {
+        WaitlistEntry waitlistEntry = findEntry(studentId, courseSectionId, authentication);
+        waitlistRepository.delete(waitlistEntry);
+    }
+
+    @Override
+    public WaitlistEntry findEntry(Long studentId, Long courseSectionId, Authentication authentication) throws HttpRequestException {
+        AuthenticatedUser authUser = userService.getAuthenticatedUser(authentication);
+
+        // Check if authUser is student, or an admin
+        if (!authUser.id().equals(studentId) && !authUser.isAdmin()) {
+            throw new HttpRequestException(HttpStatus.FORBIDDEN, "You are not permitted to manage this student's waitlist.");
+        }
+
+        return waitlistRepository.findByStudent_IdAndCourseSection_Id(studentId, courseSectionId)
+                .orElseThrow(() -> new HttpRequestException(HttpStatus.NOT_FOUND, "Waitlist entry not found."));
+    }
+
+    @Override
+    public long getPosition(WaitlistEntry waitlistEntry) {
+        return waitlistRepository.countByCourseSection_IdAndIdLessThan(waitlistEntry.getCourseSection().getId(), waitlistEntry.getId()) + 1;
+    }
+
+    @Override
+    public Map<Long, Long> getPositions(Long studentId) {
+        return waitlistRepository.findPositionsByStudentId(studentId);
+    }
+}
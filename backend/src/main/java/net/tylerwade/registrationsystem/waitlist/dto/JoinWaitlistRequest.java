@@ -0,0 +1,9 @@
+package net.tylerwade.registrationsystem.waitlist.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public record JoinWaitlistRequest(
+        @NotNull(message = "Course Section ID is required.")
+        Long courseSectionId
+) {
+}
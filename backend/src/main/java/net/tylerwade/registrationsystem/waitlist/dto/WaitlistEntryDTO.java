@@ -0,0 +1,12 @@
+package net.tylerwade.registrationsystem.waitlist.dto;
+
+import java.util.Date;
+
+public record WaitlistEntryDTO(
+        Long id,
+        Long studentId,
+        Long courseSectionId,
+        long position,
+        Date createdAt
+) {
+}
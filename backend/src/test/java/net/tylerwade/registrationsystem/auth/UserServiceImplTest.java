@@ -2,19 +2,27 @@ package net.tylerwade.registrationsystem.auth;
 
 import net.tylerwade.registrationsystem.auth.authority.Authority;
 import net.tylerwade.registrationsystem.auth.authority.AuthorityService;
+import net.tylerwade.registrationsystem.auth.authority.Role;
 import net.tylerwade.registrationsystem.auth.dto.SignupRequest;
 import net.tylerwade.registrationsystem.auth.dto.UpdateUserRequest;
+import net.tylerwade.registrationsystem.auth.principal.AuthenticatedUser;
+import net.tylerwade.registrationsystem.auth.principal.PrincipalCache;
+import net.tylerwade.registrationsystem.auth.principal.PrincipalCacheProperties;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 
 import java.util.Optional;
 import java.util.Set;
@@ -35,6 +43,12 @@ public class UserServiceImplTest {
     @Mock
     private AuthorityService authorityService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private PrincipalCache principalCache = new PrincipalCache(new PrincipalCacheProperties(100L, 60L));
+
     @Mock
     private Authentication authentication;
 
@@ -114,6 +128,74 @@ public class UserServiceImplTest {
         verify(userRepository, times(1)).findByUsername("nonexistent@example.com");
     }
 
+    @Test
+    void getUser_RepeatedCalls_LoadsUserOnce() {
+        // Arrange
+        when(authentication.getName()).thenReturn("test@example.com");
+        when(userRepository.findByUsername("test@example.com")).thenReturn(Optional.of(testUser));
+
+        // Act
+        User first = userService.getUser(authentication);
+        User second = userService.getUser(authentication);
+
+        // Assert
+        assertSame(testUser, first);
+        assertSame(testUser, second);
+        verify(userRepository, times(1)).findByUsername("test@example.com");
+    }
+
+    @Test
+    void getAuthenticatedUser_TokenWithUserClaims_SkipsLookup() {
+        // Arrange
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject("test@example.com")
+                .claim(AuthenticatedUser.USER_ID_CLAIM, 1L)
+                .claim(AuthenticatedUser.ROLE_MASK_CLAIM, Role.STUDENT.bit())
+                .build();
+
+        // Act
+        AuthenticatedUser authUser = userService.getAuthenticatedUser(new JwtAuthenticationToken(jwt));
+
+        // Assert
+        assertEquals(new AuthenticatedUser(1L, "test@example.com", Role.STUDENT.bit()), authUser);
+        assertTrue(authUser.isStudent());
+        assertFalse(authUser.isAdmin());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void getAuthenticatedUser_TokenWithoutUserClaims_LoadsUser() {
+        // Arrange
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject("test@example.com")
+                .build();
+        when(userRepository.findByUsername("test@example.com")).thenReturn(Optional.of(testUser));
+
+        // Act
+        AuthenticatedUser authUser = userService.getAuthenticatedUser(new JwtAuthenticationToken(jwt));
+
+        // Assert
+        assertEquals(1L, authUser.id());
+        assertTrue(authUser.isStudent());
+    }
+
+    @Test
+    void updatePassword_StoresNewHash() {
+        // Arrange
+        when(userRepository.findByUsername("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        User updatedUser = userService.updatePassword(testUser, "rehashedPassword");
+
+        // Assert
+        assertEquals("rehashedPassword", updatedUser.getPassword());
+        verify(userRepository, times(1)).save(testUser);
+        verify(eventPublisher, times(1)).publishEvent(new UserChangedEvent("test@example.com"));
+    }
+
     @Test
     void signup_NewUser_ReturnsCreatedUser() throws HttpRequestException {
         // Arrange
@@ -183,6 +265,7 @@ public class UserServiceImplTest {
         verify(userRepository, times(1)).findById(userId);
         verify(authorityService, times(1)).findByName("ADMIN");
         verify(userRepository, times(1)).save(testUser);
+        verify(eventPublisher, times(1)).publishEvent(new UserChangedEvent("test@example.com"));
     }
 
     @Test
@@ -0,0 +1,60 @@
+package net.tylerwade.registrationsystem.auth;
+
+import net.tylerwade.registrationsystem.auth.authority.Authority;
+import net.tylerwade.registrationsystem.auth.authority.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserTest {
+
+    private static final Authority ADMIN = Authority.builder().id(1).name("ADMIN").build();
+    private static final Authority STUDENT = Authority.builder().id(3).name("STUDENT").build();
+
+    @Test
+    void roleChecks_FollowAuthorities() {
+        // Arrange
+        User user = User.builder().username("test@example.com").userAuthorities(Set.of(STUDENT)).build();
+
+        // Act & Assert
+        assertTrue(user.isStudent());
+        assertFalse(user.isAdmin());
+        assertFalse(user.isInstructor());
+        assertEquals(Role.STUDENT.bit(), user.getRoleMask());
+        assertEquals(Set.of(new SimpleGrantedAuthority("ROLE_STUDENT")), user.getAuthorities());
+    }
+
+    @Test
+    void getAuthorities_RepeatedCalls_ReturnsSameImmutableSet() {
+        User user = User.builder().username("test@example.com").userAuthorities(Set.of(STUDENT)).build();
+
+        assertSame(user.getAuthorities(), user.getAuthorities());
+        assertThrows(UnsupportedOperationException.class, () -> user.getAuthorities().clear());
+    }
+
+    @Test
+    void setUserAuthorities_RecomputesRoles() {
+        // Arrange
+        User user = User.builder().username("test@example.com").userAuthorities(Set.of(STUDENT)).build();
+        assertTrue(user.isStudent());
+
+        // Act
+        user.setUserAuthorities(Set.of(ADMIN));
+
+        // Assert
+        assertTrue(user.isAdmin());
+        assertFalse(user.isStudent());
+        assertEquals(Set.of(new SimpleGrantedAuthority("ROLE_ADMIN")), user.getAuthorities());
+    }
+
+    @Test
+    void roleChecks_NoAuthorities_HasNoRoles() {
+        User user = User.builder().username("test@example.com").build();
+
+        assertEquals(0, user.getRoleMask());
+        assertTrue(user.getAuthorities().isEmpty());
+    }
+}
@@ -0,0 +1,85 @@
+package net.tylerwade.registrationsystem.auth.authority;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AuthorityRegistryTest {
+
+    @Mock
+    private AuthorityRepository authorityRepository;
+
+    @InjectMocks
+    private AuthorityRegistry authorityRegistry;
+
+    private Authority admin;
+    private Authority student;
+
+    @BeforeEach
+    void setup() {
+        admin = new Authority(1, "ADMIN");
+        student = new Authority(3, "STUDENT");
+    }
+
+    @Test
+    void findByName_IgnoresCase_LoadsOnce() {
+        // Arrange
+        when(authorityRepository.findAll()).thenReturn(List.of(admin, student));
+
+        // Act
+        Authority first = authorityRegistry.findByName("STUDENT").orElseThrow();
+        Authority second = authorityRegistry.findByName("student").orElseThrow();
+
+        // Assert
+        assertSame(student, first);
+        assertSame(student, second);
+        verify(authorityRepository, times(1)).findAll();
+    }
+
+    @Test
+    void findById_Found() {
+        when(authorityRepository.findAll()).thenReturn(List.of(admin, student));
+
+        assertSame(admin, authorityRegistry.findById(1).orElseThrow());
+        verify(authorityRepository, times(1)).findAll();
+    }
+
+    @Test
+    void findByName_Miss_ReloadsOnce() {
+        // Arrange: the table is empty at first and seeded later
+        when(authorityRepository.findAll()).thenReturn(List.of()).thenReturn(List.of(admin, student));
+
+        // Act & Assert
+        assertSame(admin, authorityRegistry.findByName("ADMIN").orElseThrow());
+        assertSame(student, authorityRegistry.findByName("STUDENT").orElseThrow());
+        verify(authorityRepository, times(2)).findAll();
+    }
+
+    @Test
+    void findByName_Unknown_Empty() {
+        when(authorityRepository.findAll()).thenReturn(List.of(admin, student));
+
+        assertTrue(authorityRegistry.findByName("REGISTRAR").isEmpty());
+        assertTrue(authorityRegistry.findByName(null).isEmpty());
+    }
+
+    @Test
+    void refresh_PicksUpChanges() {
+        when(authorityRepository.findAll()).thenReturn(List.of(admin)).thenReturn(List.of(admin, student));
+        authorityRegistry.findByName("ADMIN");
+
+        authorityRegistry.refresh();
+
+        assertSame(student, authorityRegistry.findById(3).orElseThrow());
+        verify(authorityRepository, times(2)).findAll();
+    }
+}
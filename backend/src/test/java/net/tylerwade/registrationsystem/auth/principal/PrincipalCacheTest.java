@@ -0,0 +1,77 @@
+package net.tylerwade.registrationsystem.auth.principal;
+
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.auth.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrincipalCacheTest {
+
+    private PrincipalCache principalCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setup() {
+        principalCache = new PrincipalCache(new PrincipalCacheProperties(100L, 60L));
+        loads = new AtomicInteger();
+    }
+
+    private User load(String username) {
+        loads.incrementAndGet();
+        return User.builder().id(1L).username(username).build();
+    }
+
+    @Test
+    void get_SameUsername_LoadsOnce() {
+        // Act
+        User first = principalCache.get("student@example.com", this::load);
+        User second = principalCache.get("student@example.com", this::load);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void onUserChanged_LoadsAgain() {
+        principalCache.get("student@example.com", this::load);
+
+        principalCache.onUserChanged(new UserChangedEvent("student@example.com"));
+        principalCache.get("student@example.com", this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ChangedWhileLoading_DoesNotCacheStaleUser() {
+        // Arrange: the user changes after the loader has read it
+        principalCache.get("student@example.com", username -> {
+            User user = load(username);
+            principalCache.onUserChanged(new UserChangedEvent(username));
+            return user;
+        });
+
+        // Act
+        principalCache.get("student@example.com", this::load);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_UnknownUser_ThrowsAndCachesNothing() {
+        assertThrows(UsernameNotFoundException.class, () -> principalCache.get("missing@example.com", username -> {
+            loads.incrementAndGet();
+            throw new UsernameNotFoundException("User not found.");
+        }));
+
+        principalCache.get("missing@example.com", this::load);
+
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,103 @@
+package net.tylerwade.registrationsystem.auth.provisioning;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UserImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private UserImportReader open(UserImportFormat format, String contents) throws IOException {
+        return UserImportReader.open(format, new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8)), objectMapper);
+    }
+
+    @Test
+    void csv_ReadsInChunks() throws IOException {
+        // Arrange
+        String csv = """
+                username,firstName,lastName,password
+                ada@example.com,Ada,Lovelace,secret1
+                alan@example.com,Alan,Turing,secret2
+                grace@example.com,Grace,Hopper,secret3
+                """;
+
+        // Act
+        try (UserImportReader reader = open(UserImportFormat.CSV, csv)) {
+            List<UserImportRow> first = reader.next(2);
+            List<UserImportRow> second = reader.next(2);
+            List<UserImportRow> third = reader.next(2);
+
+            // Assert
+            assertEquals(List.of(1L, 2L), first.stream().map(UserImportRow::row).toList());
+            assertEquals("grace@example.com", second.getFirst().username());
+            assertEquals(3L, second.getFirst().row());
+            assertTrue(third.isEmpty());
+        }
+    }
+
+    @Test
+    void csv_MatchesColumnNamesLoosely_HandlesQuotes() throws IOException {
+        String csv = "\uFEFFPassword,Last Name,first_name,USERNAME,student_number\r\n"
+                + "\"pa,ss\"\"word\",\"O'Neil\", Tess ,tess@example.com,123\r\n";
+
+        try (UserImportReader reader = open(UserImportFormat.CSV, csv)) {
+            UserImportRow row = reader.next(10).getFirst();
+
+            assertEquals("tess@example.com", row.username());
+            assertEquals("Tess", row.firstName());
+            assertEquals("O'Neil", row.lastName());
+            assertEquals("pa,ss\"word", row.password());
+        }
+    }
+
+    @Test
+    void csv_MissingColumn_BadRequest() {
+        HttpRequestException exception = assertThrows(HttpRequestException.class, () -> {
+            try (UserImportReader reader = open(UserImportFormat.CSV, "username,firstName,lastName\n")) {
+                reader.next(10);
+            }
+        });
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        assertEquals("The import file has no password column.", exception.getMessage());
+    }
+
+    @Test
+    void json_ReadsArray_IgnoresUnknownFields() throws IOException {
+        String json = """
+                [
+                  {"username": " ada@example.com ", "firstName": "Ada", "lastName": "Lovelace", "password": "secret1", "major": "Math"},
+                  {"username": "alan@example.com", "firstName": "Alan", "lastName": "Turing", "password": "secret2"}
+                ]
+                """;
+
+        try (UserImportReader reader = open(UserImportFormat.JSON, json)) {
+            List<UserImportRow> rows = reader.next(10);
+
+            assertEquals(2, rows.size());
+            assertEquals("ada@example.com", rows.getFirst().username());
+            assertEquals(2L, rows.getLast().row());
+            assertTrue(reader.next(10).isEmpty());
+        }
+    }
+
+    @Test
+    void json_NotAnArray_BadRequest() {
+        HttpRequestException exception = assertThrows(HttpRequestException.class, () -> {
+            try (UserImportReader reader = open(UserImportFormat.JSON, "{\"username\": \"ada@example.com\"}")) {
+                reader.next(10);
+            }
+        });
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+    }
+}
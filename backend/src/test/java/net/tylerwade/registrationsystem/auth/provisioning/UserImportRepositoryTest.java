@@ -0,0 +1,82 @@
+package net.tylerwade.registrationsystem.auth.provisioning;
+
+import jakarta.persistence.EntityManager;
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.auth.UserRepository;
+import net.tylerwade.registrationsystem.auth.authority.Authority;
+import net.tylerwade.registrationsystem.auth.authority.AuthorityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the bulk import statements against a real database: the ignore-case username check and the batched inserts.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(UserImportRepository.class)
+public class UserImportRepositoryTest {
+
+    @Autowired
+    private UserImportRepository userImportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthorityRepository authorityRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Authority student;
+
+    @BeforeEach
+    void setup() {
+        student = authorityRepository.save(Authority.builder().name("STUDENT").build());
+        userRepository.save(User.builder()
+                .username("Taken@Example.com")
+                .firstName("Taken")
+                .lastName("Already")
+                .password("hash")
+                .userAuthorities(Set.of(student))
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    void findExistingUsernames_IgnoresCase() {
+        Set<String> existing = userImportRepository.findExistingUsernames(List.of("TAKEN@EXAMPLE.COM", "NEW@EXAMPLE.COM"));
+
+        assertEquals(Set.of("TAKEN@EXAMPLE.COM"), existing);
+    }
+
+    @Test
+    void insert_CreatesUsersWithAuthority() {
+        // Arrange
+        List<UserImportRow> rows = List.of(
+                new UserImportRow(1, "ada@example.com", "Ada", "Lovelace", "secret1"),
+                new UserImportRow(2, "alan@example.com", "Alan", "Turing", "secret2"));
+
+        // Act
+        int inserted = userImportRepository.insert(rows, List.of("hash1", "hash2"), student.getId());
+        entityManager.clear();
+
+        // Assert
+        assertEquals(2, inserted);
+        User alan = userRepository.findByUsername("alan@example.com").orElseThrow();
+        assertEquals("Turing", alan.getLastName());
+        assertEquals("hash2", alan.getPassword());
+        assertNotNull(alan.getCreatedAt());
+        assertTrue(alan.isStudent());
+        assertTrue(userRepository.findByUsername("ada@example.com").orElseThrow().isStudent());
+    }
+}
@@ -0,0 +1,155 @@
+package net.tylerwade.registrationsystem.auth.provisioning;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import net.tylerwade.registrationsystem.auth.authority.Authority;
+import net.tylerwade.registrationsystem.auth.authority.AuthorityService;
+import net.tylerwade.registrationsystem.auth.provisioning.dto.UserImportErrorDTO;
+import net.tylerwade.registrationsystem.auth.provisioning.dto.UserImportStatusDTO;
+import net.tylerwade.registrationsystem.config.security.password.BCryptCalibration;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserImportServiceImplTest {
+
+    @Mock
+    private UserImportRepository userImportRepository;
+
+    @Mock
+    private AuthorityService authorityService;
+
+    private UserImportServiceImpl userImportService;
+
+    @BeforeEach
+    void setup() {
+        userImportService = new UserImportServiceImpl(userImportRepository, authorityService,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(),
+                new BCryptCalibration(4, 250, 1.0, false), new UserImportProperties(2, 2, 10, 60L));
+    }
+
+    @AfterEach
+    void teardown() {
+        userImportService.close();
+    }
+
+    private static InputStream csv(String contents) {
+        return new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private UserImportStatusDTO awaitFinished(String importId) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        UserImportStatusDTO status = userImportService.getStatus(importId);
+        while (status.state() == UserImportState.QUEUED || status.state() == UserImportState.RUNNING) {
+            assertTrue(System.currentTimeMillis() < deadline, "Import did not finish in time.");
+            Thread.sleep(10);
+            status = userImportService.getStatus(importId);
+        }
+        return status;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void start_ImportsNewStudents_SkipsDuplicates_ReportsInvalidRows() throws Exception {
+        // Arrange: row 2 already exists, row 3 repeats row 1, row 4 is invalid
+        when(authorityService.getStudentAuthority()).thenReturn(new Authority(3, "STUDENT"));
+        when(userImportRepository.findExistingUsernames(anyCollection()))
+                .thenReturn(Set.of("TAKEN@EXAMPLE.COM"))
+                .thenReturn(Set.of());
+        when(userImportRepository.insert(anyList(), anyList(), eq(3)))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        String file = """
+                username,firstName,lastName,password
+                ada@example.com,Ada,Lovelace,secret1
+                taken@example.com,Taken,Already,secret2
+                ADA@example.com,Ada,Again,secret3
+                not-an-email,Bob,Builder,secret4
+                grace@example.com,Grace,Hopper,secret5
+                """;
+
+        // Act
+        UserImportStatusDTO started = userImportService.start(UserImportFormat.CSV, csv(file));
+        UserImportStatusDTO finished = awaitFinished(started.id());
+
+        // Assert
+        assertEquals(UserImportState.COMPLETED, finished.state());
+        assertEquals(5, finished.rowsRead());
+        assertEquals(2, finished.imported());
+        assertEquals(2, finished.skipped());
+        assertEquals(1, finished.failed());
+        assertEquals(List.of(new UserImportErrorDTO(4, "not-an-email", "Email must be valid.")), finished.errors());
+
+        ArgumentCaptor<List<UserImportRow>> rows = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<String>> hashes = ArgumentCaptor.forClass(List.class);
+        verify(userImportRepository, times(2)).insert(rows.capture(), hashes.capture(), eq(3));
+        assertEquals("ada@example.com", rows.getAllValues().getFirst().getFirst().username());
+        assertEquals("grace@example.com", rows.getAllValues().getLast().getFirst().username());
+        assertTrue(new BCryptPasswordEncoder().matches("secret5", hashes.getAllValues().getLast().getFirst()));
+    }
+
+    @Test
+    void getStatus_RunningLongerThanRetention_StillFound() throws Exception {
+        // Arrange: nothing is retained, and the import blocks until released
+        userImportService.close();
+        userImportService = new UserImportServiceImpl(userImportRepository, authorityService,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(),
+                new BCryptCalibration(4, 250, 1.0, false), new UserImportProperties(2, 2, 10, 0L));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(authorityService.getStudentAuthority()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return new Authority(3, "STUDENT");
+        });
+
+        // Act
+        UserImportStatusDTO queued = userImportService.start(UserImportFormat.CSV, csv("username,firstName,lastName,password\n"));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        // Assert
+        try {
+            assertEquals(UserImportState.RUNNING, userImportService.getStatus(queued.id()).state());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void start_MalformedFile_Fails() throws Exception {
+        when(authorityService.getStudentAuthority()).thenReturn(new Authority(3, "STUDENT"));
+
+        UserImportStatusDTO started = userImportService.start(UserImportFormat.CSV, csv("username,password\n"));
+        UserImportStatusDTO finished = awaitFinished(started.id());
+
+        assertEquals(UserImportState.FAILED, finished.state());
+        assertEquals("The import file has no firstName column.", finished.message());
+        verifyNoInteractions(userImportRepository);
+    }
+
+    @Test
+    void getStatus_NotFound() {
+        HttpRequestException exception = assertThrows(HttpRequestException.class, () -> userImportService.getStatus("missing"));
+
+        assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+    }
+}
@@ -0,0 +1,108 @@
+package net.tylerwade.registrationsystem.common.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+public class SchedulerLockServiceImplTest {
+
+    private static final String LOCK = "job";
+    private static final Duration AT_MOST = Duration.ofMinutes(10);
+    private static final Duration AT_LEAST = Duration.ofSeconds(30);
+
+    @Mock
+    private SchedulerLockRepository schedulerLockRepository;
+
+    private SchedulerLockServiceImpl schedulerLockService;
+
+    private AtomicInteger runs;
+
+    @BeforeEach
+    void setup() {
+        schedulerLockService = new SchedulerLockServiceImpl(schedulerLockRepository);
+        runs = new AtomicInteger();
+    }
+
+    @Test
+    void runExclusively_LockFree_RunsAndReleases() {
+        // Arrange
+        Mockito.when(schedulerLockRepository.acquire(eq(LOCK), any(), any(), any())).thenReturn(1);
+
+        // Act
+        boolean ran = schedulerLockService.runExclusively(LOCK, AT_MOST, AT_LEAST, runs::incrementAndGet);
+
+        // Assert
+        assertTrue(ran);
+        assertEquals(1, runs.get());
+        Mockito.verify(schedulerLockRepository).release(eq(LOCK), any(), any());
+    }
+
+    @Test
+    void runExclusively_LockHeld_Skips() {
+        // Arrange
+        Mockito.when(schedulerLockRepository.acquire(eq(LOCK), any(), any(), any())).thenReturn(0);
+        Mockito.when(schedulerLockRepository.existsById(LOCK)).thenReturn(true);
+
+        // Act
+        boolean ran = schedulerLockService.runExclusively(LOCK, AT_MOST, AT_LEAST, runs::incrementAndGet);
+
+        // Assert
+        assertFalse(ran);
+        assertEquals(0, runs.get());
+        Mockito.verify(schedulerLockRepository, Mockito.never()).release(any(), any(), any());
+    }
+
+    @Test
+    void runExclusively_NoLockRow_CreatesRowAndRuns() {
+        // Arrange
+        Mockito.when(schedulerLockRepository.acquire(eq(LOCK), any(), any(), any())).thenReturn(0);
+        Mockito.when(schedulerLockRepository.existsById(LOCK)).thenReturn(false);
+        Mockito.when(schedulerLockRepository.insert(eq(LOCK), any(), any(), any())).thenReturn(1);
+
+        // Act
+        boolean ran = schedulerLockService.runExclusively(LOCK, AT_MOST, AT_LEAST, runs::incrementAndGet);
+
+        // Assert
+        assertTrue(ran);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void runExclusively_RowCreatedByOtherNode_Skips() {
+        // Arrange
+        Mockito.when(schedulerLockRepository.acquire(eq(LOCK), any(), any(), any())).thenReturn(0);
+        Mockito.when(schedulerLockRepository.existsById(LOCK)).thenReturn(false);
+        Mockito.when(schedulerLockRepository.insert(eq(LOCK), any(), any(), any())).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+        // Act
+        boolean ran = schedulerLockService.runExclusively(LOCK, AT_MOST, AT_LEAST, runs::incrementAndGet);
+
+        // Assert
+        assertFalse(ran);
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void runExclusively_TaskThrows_StillReleases() {
+        // Arrange
+        Mockito.when(schedulerLockRepository.acquire(eq(LOCK), any(), any(), any())).thenReturn(1);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> schedulerLockService.runExclusively(LOCK, AT_MOST, AT_LEAST, () -> {
+            throw new IllegalStateException("boom");
+        }));
+        Mockito.verify(schedulerLockRepository).release(eq(LOCK), any(), any());
+    }
+}
@@ -0,0 +1,91 @@
+package net.tylerwade.registrationsystem.config.security.jwt;
+
+import net.tylerwade.registrationsystem.config.security.jwt.dto.JwtDecodeCacheStatsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-15T12:00:00Z");
+
+    private AtomicInteger verifications;
+    private Instant expiresAt;
+    private CachingJwtDecoder cachingJwtDecoder;
+
+    @BeforeEach
+    void setup() {
+        verifications = new AtomicInteger();
+        expiresAt = NOW.plus(Duration.ofHours(1));
+        JwtDecoder delegate = token -> {
+            verifications.incrementAndGet();
+            if (token.startsWith("bad")) {
+                throw new BadJwtException("Invalid signature");
+            }
+            return Jwt.withTokenValue(token)
+                    .header("alg", "HS256")
+                    .subject("student@example.com")
+                    .issuedAt(NOW.minus(Duration.ofMinutes(1)))
+                    .expiresAt(expiresAt)
+                    .build();
+        };
+        cachingJwtDecoder = new CachingJwtDecoder(delegate, new JwtDecodeCacheProperties(100L, 600L), Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void decode_SameToken_VerifiesOnce() {
+        // Act
+        Jwt first = cachingJwtDecoder.decode("token-1");
+        Jwt second = cachingJwtDecoder.decode("token-1");
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(1, verifications.get());
+
+        JwtDecodeCacheStatsDTO stats = cachingJwtDecoder.getStats();
+        assertEquals(1, stats.size());
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    void decode_DifferentTokens_VerifiesEach() {
+        cachingJwtDecoder.decode("token-1");
+        cachingJwtDecoder.decode("token-2");
+
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    void decode_InvalidToken_IsNeverCached() {
+        assertThrows(BadJwtException.class, () -> cachingJwtDecoder.decode("bad-token"));
+        assertThrows(BadJwtException.class, () -> cachingJwtDecoder.decode("bad-token"));
+
+        assertEquals(2, verifications.get());
+        assertEquals(0, cachingJwtDecoder.getStats().size());
+    }
+
+    @Test
+    void decode_ExpiredCachedToken_VerifiesAgain() {
+        // Arrange: a token that has expired since it was cached
+        expiresAt = NOW;
+        cachingJwtDecoder.decode("token-1");
+
+        // Act
+        cachingJwtDecoder.decode("token-1");
+
+        // Assert
+        assertEquals(2, verifications.get());
+    }
+}
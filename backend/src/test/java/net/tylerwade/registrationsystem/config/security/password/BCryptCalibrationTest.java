@@ -0,0 +1,65 @@
+package net.tylerwade.registrationsystem.config.security.password;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BCryptCalibrationTest {
+
+    @Test
+    void calibrate_FixedStrength_UsesIt() {
+        BCryptCalibration calibration = BCryptCalibration.calibrate(new BCryptProperties(5, 4, 8, 250L));
+
+        assertEquals(5, calibration.strength());
+        assertTrue(calibration.hashMs() > 0);
+    }
+
+    @Test
+    void calibrate_GenerousTarget_ChoosesMaxStrength() {
+        BCryptCalibration calibration = BCryptCalibration.calibrate(new BCryptProperties(0, 4, 6, 60_000L));
+
+        assertEquals(6, calibration.strength());
+    }
+
+    @Test
+    void calibrate_TargetBelowMinStrength_ChoosesMinStrength() {
+        BCryptCalibration calibration = BCryptCalibration.calibrate(new BCryptProperties(0, 4, 8, 0L));
+
+        assertEquals(4, calibration.strength());
+    }
+
+    @Test
+    void calibrate_FixedOnlyWhenConfigured() {
+        assertTrue(BCryptCalibration.calibrate(new BCryptProperties(5, 4, 8, 250L)).fixed());
+        assertFalse(BCryptCalibration.calibrate(new BCryptProperties(0, 4, 5, 250L)).fixed());
+    }
+
+    @Test
+    void upgradeEncoding_ConfiguredCost_RehashesBothWays() {
+        // Arrange
+        RehashingBCryptPasswordEncoder encoder = new RehashingBCryptPasswordEncoder(5, true);
+        String current = encoder.encode("secret");
+        String weaker = new RehashingBCryptPasswordEncoder(4, true).encode("secret");
+        String stronger = new RehashingBCryptPasswordEncoder(6, true).encode("secret");
+
+        // Act & Assert
+        assertFalse(encoder.upgradeEncoding(current));
+        assertTrue(encoder.upgradeEncoding(weaker));
+        assertTrue(encoder.upgradeEncoding(stronger));
+        assertFalse(encoder.upgradeEncoding("not a bcrypt hash"));
+        assertTrue(encoder.matches("secret", stronger));
+    }
+
+    @Test
+    void upgradeEncoding_CalibratedCost_OnlyRaises() {
+        // Arrange: another node calibrated a higher cost
+        RehashingBCryptPasswordEncoder encoder = new RehashingBCryptPasswordEncoder(5, false);
+        String weaker = new RehashingBCryptPasswordEncoder(4, false).encode("secret");
+        String stronger = new RehashingBCryptPasswordEncoder(6, false).encode("secret");
+
+        // Act & Assert
+        assertTrue(encoder.upgradeEncoding(weaker));
+        assertFalse(encoder.upgradeEncoding(stronger));
+        assertTrue(encoder.matches("secret", stronger));
+    }
+}
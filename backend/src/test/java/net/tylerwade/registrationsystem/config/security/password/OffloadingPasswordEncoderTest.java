@@ -0,0 +1,95 @@
+package net.tylerwade.registrationsystem.config.security.password;
+
+import net.tylerwade.registrationsystem.config.security.password.dto.PasswordHashingStatsDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OffloadingPasswordEncoderTest {
+
+    private static final BCryptCalibration CALIBRATION = new BCryptCalibration(10, 250L, 80.0, false);
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private OffloadingPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void cleanup() {
+        release.countDown();
+        callers.shutdownNow();
+        passwordEncoder.close();
+    }
+
+    /**
+     * A fake hash that blocks until released, so tests can fill the executor deterministically.
+     */
+    private PasswordEncoder blockingEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return "hashed:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+    }
+
+    @Test
+    void matches_RunsOnExecutorAndRecordsHash() {
+        // Arrange
+        release.countDown();
+        passwordEncoder = new OffloadingPasswordEncoder(blockingEncoder(), CALIBRATION, new PasswordHashingProperties(1, 10, 1000L, 5));
+
+        // Act & Assert
+        assertTrue(passwordEncoder.matches("secret", "hashed:secret"));
+        assertFalse(passwordEncoder.matches("wrong", "hashed:secret"));
+
+        PasswordHashingStatsDTO stats = passwordEncoder.getStats();
+        assertEquals(1, stats.threads());
+        assertEquals(2, stats.completed());
+        assertEquals(0, stats.rejected());
+        assertEquals(10, stats.strength());
+    }
+
+    @Test
+    void matches_QueueFull_ThrowsLoginThrottled() throws Exception {
+        // Arrange: one hash running and one waiting fills a single thread with a queue of one
+        passwordEncoder = new OffloadingPasswordEncoder(blockingEncoder(), CALIBRATION, new PasswordHashingProperties(1, 1, 5000L, 7));
+        Future<Boolean> running = callers.submit(() -> passwordEncoder.matches("secret", "hashed:secret"));
+        Future<Boolean> waiting = callers.submit(() -> passwordEncoder.matches("secret", "hashed:secret"));
+        while (passwordEncoder.getStats().active() < 1 || passwordEncoder.getStats().queued() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // Act
+        LoginThrottledException exception = assertThrows(LoginThrottledException.class, () -> passwordEncoder.matches("secret", "hashed:secret"));
+
+        // Assert
+        assertEquals(7, exception.getRetryAfterSeconds());
+        assertEquals(1, passwordEncoder.getStats().rejected());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(waiting.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void matches_WaitTooLong_ThrowsLoginThrottled() {
+        passwordEncoder = new OffloadingPasswordEncoder(blockingEncoder(), CALIBRATION, new PasswordHashingProperties(1, 10, 50L, 5));
+
+        assertThrows(LoginThrottledException.class, () -> passwordEncoder.matches("secret", "hashed:secret"));
+        assertEquals(1, passwordEncoder.getStats().rejected());
+    }
+}
@@ -1,7 +1,9 @@
 package net.tylerwade.registrationsystem.course;
 
 import net.tylerwade.registrationsystem.course.dto.ManageCourseRequest;
+import net.tylerwade.registrationsystem.course.search.CourseSearchIndex;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import net.tylerwade.registrationsystem.prerequisites.PrerequisiteGraph;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,6 +12,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 
 import java.util.ArrayList;
@@ -26,6 +29,15 @@ public class CourseServiceImplTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private PrerequisiteGraph prerequisiteGraph;
+
+    @Mock
+    private CourseSearchIndex courseSearchIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CourseServiceImpl courseService;
 
@@ -195,6 +207,7 @@ public class CourseServiceImplTest {
 
         // Assert
         verify(courseRepository, times(1)).deleteById(courseId);
+        verify(prerequisiteGraph, times(1)).removeCourse(courseId);
     }
 
 }
@@ -0,0 +1,203 @@
+package net.tylerwade.registrationsystem.course.catalog;
+
+import net.tylerwade.registrationsystem.auth.UserService;
+import net.tylerwade.registrationsystem.common.CursorPageResponse;
+import net.tylerwade.registrationsystem.course.Course;
+import net.tylerwade.registrationsystem.course.CourseRepository;
+import net.tylerwade.registrationsystem.course.CourseService;
+import net.tylerwade.registrationsystem.course.dto.CourseAttributeDTO;
+import net.tylerwade.registrationsystem.course.dto.CourseFilter;
+import net.tylerwade.registrationsystem.course.search.CourseSearchIndex;
+import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.coursesection.CourseSectionRepository;
+import net.tylerwade.registrationsystem.coursesection.CourseSectionServiceImpl;
+import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionFilter;
+import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionSummaryDTO;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import net.tylerwade.registrationsystem.term.Term;
+import net.tylerwade.registrationsystem.term.TermRepository;
+import net.tylerwade.registrationsystem.term.TermService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the catalog and section listing queries against a real database: filters, whitelisted sorting, and keyset paging.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({CourseCatalogServiceImpl.class, CourseCatalogCache.class, CourseSearchIndex.class, CourseSectionServiceImpl.class})
+public class CatalogPagingTest {
+
+    @Autowired
+    private CourseCatalogService courseCatalogService;
+
+    @Autowired
+    private CourseSectionServiceImpl courseSectionService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseSectionRepository courseSectionRepository;
+
+    @Autowired
+    private TermRepository termRepository;
+
+    @MockitoBean
+    private CourseService courseService;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private TermService termService;
+
+    @MockitoBean
+    private CourseCatalogProperties courseCatalogProperties;
+
+    private Term spring;
+    private Term fall;
+
+    @BeforeEach
+    void setup() {
+        spring = termRepository.save(term(LocalDate.of(2026, 1, 15)));
+        fall = termRepository.save(term(LocalDate.of(2026, 8, 15)));
+
+        // CMSC 100..104 (3 credits) and MATH 200..201 (4 credits). Even CMSC courses are offered in spring, full.
+        for (int code = 100; code < 105; code++) {
+            Course course = courseRepository.save(course("CMSC", code, 3));
+            courseSectionRepository.save(section(course, code % 2 == 0 ? spring : fall, code % 2 == 0 ? 10 : 0));
+        }
+        for (int code = 200; code < 202; code++) {
+            Course course = courseRepository.save(course("MATH", code, 4));
+            courseSectionRepository.save(section(course, fall, 0));
+        }
+    }
+
+    @Test
+    void findPage_FilterByDepartmentAndCredits_ReturnsMatching() throws HttpRequestException {
+        Page<CourseAttributeDTO> page = courseCatalogService.findPage(new CourseFilter("MATH", 4, null, null), PageRequest.of(0, 10));
+
+        assertEquals(2, page.getTotalElements());
+        assertEquals(List.of(200, 201), page.getContent().stream().map(CourseAttributeDTO::code).toList());
+    }
+
+    @Test
+    void findPage_FilterByTermAndOpenSeats_ReturnsCoursesWithOpenSections() throws HttpRequestException {
+        Page<CourseAttributeDTO> inSpring = courseCatalogService.findPage(new CourseFilter(null, null, spring.getId(), null), PageRequest.of(0, 10));
+        Page<CourseAttributeDTO> openInSpring = courseCatalogService.findPage(new CourseFilter(null, null, spring.getId(), true), PageRequest.of(0, 10));
+        Page<CourseAttributeDTO> open = courseCatalogService.findPage(new CourseFilter(null, null, null, true), PageRequest.of(0, 10));
+
+        assertEquals(3, inSpring.getTotalElements());
+        assertEquals(0, openInSpring.getTotalElements());
+        assertEquals(4, open.getTotalElements());
+    }
+
+    @Test
+    void findPage_SortDescending_Ordered() throws HttpRequestException {
+        Page<CourseAttributeDTO> page = courseCatalogService.findPage(new CourseFilter(null, null, null, null), PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "code")));
+
+        assertEquals(7, page.getTotalElements());
+        assertEquals(List.of(201, 200, 104), page.getContent().stream().map(CourseAttributeDTO::code).toList());
+    }
+
+    @Test
+    void findPage_UnsupportedSort_ThrowsBadRequest() {
+        HttpRequestException exception = assertThrows(HttpRequestException.class,
+                () -> courseCatalogService.findPage(new CourseFilter(null, null, null, null), PageRequest.of(0, 3, Sort.by("description"))));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+    }
+
+    @Test
+    void scroll_AllPages_VisitsEveryCourseOnceInOrder() throws HttpRequestException {
+        List<String> visited = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponse<CourseAttributeDTO> page = courseCatalogService.scroll(new CourseFilter(null, null, null, null), cursor, 3);
+            page.content().forEach(course -> visited.add(course.department() + " " + course.code()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(List.of("CMSC 100", "CMSC 101", "CMSC 102", "CMSC 103", "CMSC 104", "MATH 200", "MATH 201"), visited);
+    }
+
+    @Test
+    void scroll_InvalidCursor_ThrowsBadRequest() {
+        HttpRequestException exception = assertThrows(HttpRequestException.class,
+                () -> courseCatalogService.scroll(new CourseFilter(null, null, null, null), "not a cursor", 3));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+    }
+
+    @Test
+    void findSectionPage_FilterAndSortByTermStart_ReturnsFlatRows() throws HttpRequestException {
+        Page<CourseSectionSummaryDTO> page = courseSectionService.findPage(new CourseSectionFilter(null, "CMSC", null, null, true),
+                PageRequest.of(0, 10, Sort.by("startDate", "code")));
+
+        assertEquals(List.of(101, 103), page.getContent().stream().map(CourseSectionSummaryDTO::code).toList());
+        assertEquals(fall.getId(), page.getContent().getFirst().termId());
+        assertNull(page.getContent().getFirst().instructorId());
+    }
+
+    @Test
+    void scrollSections_AllPages_VisitsEverySectionOnce() throws HttpRequestException {
+        List<Long> visited = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponse<CourseSectionSummaryDTO> page = courseSectionService.scroll(new CourseSectionFilter(null, null, null, fall.getId(), null), cursor, 2);
+            page.content().forEach(section -> visited.add(section.id()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(4, visited.size());
+        assertEquals(visited.stream().sorted().toList(), visited);
+    }
+
+    private static Term term(LocalDate startDate) {
+        return Term.builder()
+                .registrationStart(startDate.minusMonths(2))
+                .registrationEnd(startDate.minusDays(7))
+                .startDate(startDate)
+                .endDate(startDate.plusMonths(3))
+                .build();
+    }
+
+    private static Course course(String department, int code, int credits) {
+        return Course.builder()
+                .department(department)
+                .code(code)
+                .title(department + " " + code)
+                .description("Description of " + department + " " + code)
+                .credits(credits)
+                .prerequisites(new ArrayList<>())
+                .courseSections(new ArrayList<>())
+                .build();
+    }
+
+    private static CourseSection section(Course course, Term term, int enrolledCount) {
+        return CourseSection.builder()
+                .course(course)
+                .term(term)
+                .room("Remote")
+                .capacity(10)
+                .schedule("TBA")
+                .enrolledCount(enrolledCount)
+                .build();
+    }
+}
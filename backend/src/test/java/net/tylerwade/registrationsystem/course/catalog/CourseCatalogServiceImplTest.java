@@ -0,0 +1,212 @@
+package net.tylerwade.registrationsystem.course.catalog;
+
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.auth.UserChangedEvent;
+import net.tylerwade.registrationsystem.course.Course;
+import net.tylerwade.registrationsystem.course.CourseRepository;
+import net.tylerwade.registrationsystem.course.CourseService;
+import net.tylerwade.registrationsystem.course.dto.CourseDTO;
+import net.tylerwade.registrationsystem.course.search.CourseSearchIndex;
+import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.coursesection.CourseSectionRepository;
+import net.tylerwade.registrationsystem.coursesection.SectionSeatCount;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import net.tylerwade.registrationsystem.term.Term;
+import net.tylerwade.registrationsystem.term.TermChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CourseCatalogServiceImplTest {
+
+    @Mock
+    private CourseService courseService;
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private CourseSectionRepository courseSectionRepository;
+
+    @Mock
+    private CourseSearchIndex courseSearchIndex;
+
+    private CourseCatalogCache courseCatalogCache;
+
+    private CourseCatalogServiceImpl courseCatalogService;
+
+    private Course course;
+
+    @BeforeEach
+    void setup() {
+        courseCatalogCache = new CourseCatalogCache(new CourseCatalogProperties(100L, 300L));
+        courseCatalogService = new CourseCatalogServiceImpl(courseService, courseRepository, courseSectionRepository, courseCatalogCache, courseSearchIndex);
+
+        Term term = Term.builder()
+                .id(1L)
+                .registrationStart(LocalDate.now())
+                .registrationEnd(LocalDate.now().plusWeeks(1))
+                .startDate(LocalDate.now().plusWeeks(2))
+                .endDate(LocalDate.now().plusWeeks(10))
+                .build();
+
+        course = Course.builder()
+                .id(1L)
+                .department("CMSC")
+                .code(325)
+                .title("Software Principles I")
+                .description("Learn about software principles!")
+                .credits(3)
+                .prerequisites(new ArrayList<>())
+                .courseSections(new ArrayList<>())
+                .build();
+
+        course.getCourseSections().add(CourseSection.builder()
+                .id(10L)
+                .course(course)
+                .term(term)
+                .room("Remote")
+                .capacity(30)
+                .schedule("TBA")
+                .enrolledCount(5)
+                .build());
+    }
+
+    @Test
+    void findAll_Cached_LoadsCoursesOnceWithLiveSeatCounts() {
+        // Arrange
+        Mockito.when(courseService.findAll()).thenReturn(List.of(course));
+        Mockito.when(courseSectionRepository.findAllSeatCounts())
+                .thenReturn(List.of(new SectionSeatCount(10L, 6)))
+                .thenReturn(List.of(new SectionSeatCount(10L, 7)));
+
+        // Act
+        List<CourseDTO> first = courseCatalogService.findAll();
+        List<CourseDTO> second = courseCatalogService.findAll();
+
+        // Assert
+        Mockito.verify(courseService, Mockito.times(1)).findAll();
+        assertEquals(6, first.getFirst().courseSections().getFirst().enrolledCount());
+        assertEquals(7, second.getFirst().courseSections().getFirst().enrolledCount());
+    }
+
+    @Test
+    void findById_AfterCatalogLoad_ServedFromSnapshot() throws HttpRequestException {
+        // Arrange
+        Mockito.when(courseService.findAll()).thenReturn(List.of(course));
+        Mockito.when(courseSectionRepository.findAllSeatCounts()).thenReturn(List.of());
+        Mockito.when(courseSectionRepository.findSeatCountsByCourseId(1L)).thenReturn(List.of(new SectionSeatCount(10L, 8)));
+
+        // Act
+        courseCatalogService.findAll();
+        CourseDTO result = courseCatalogService.findById(1L);
+
+        // Assert
+        Mockito.verify(courseService, Mockito.never()).findById(1L);
+        assertEquals("CMSC", result.department());
+        assertEquals(8, result.courseSections().getFirst().enrolledCount());
+    }
+
+    @Test
+    void findById_CourseChanged_Reloads() throws HttpRequestException {
+        // Arrange
+        Mockito.when(courseService.findById(1L)).thenReturn(course);
+        Mockito.when(courseSectionRepository.findSeatCountsByCourseId(1L)).thenReturn(List.of());
+
+        // Act
+        courseCatalogService.findById(1L);
+        course.setTitle("Software Principles II");
+        courseCatalogCache.onCatalogChanged(CourseCatalogChangedEvent.forCourse(1L));
+        CourseDTO result = courseCatalogService.findById(1L);
+
+        // Assert
+        Mockito.verify(courseService, Mockito.times(2)).findById(1L);
+        assertEquals("Software Principles II", result.title());
+    }
+
+    @Test
+    void findAll_TermChanged_Reloads() {
+        // Arrange
+        Mockito.when(courseService.findAll()).thenReturn(List.of(course));
+        Mockito.when(courseSectionRepository.findAllSeatCounts()).thenReturn(List.of());
+
+        // Act
+        courseCatalogService.findAll();
+        courseCatalogCache.onTermChanged(new TermChangedEvent(1L));
+        courseCatalogService.findAll();
+
+        // Assert
+        Mockito.verify(courseService, Mockito.times(2)).findAll();
+    }
+
+    @Test
+    void findAll_InstructorChanged_Reloads() {
+        // Arrange: sections embed their instructor, so a renamed instructor must not be served from the snapshot
+        course.getCourseSections().getFirst().setInstructor(User.builder()
+                .id(7L)
+                .username("instructor@example.com")
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .userAuthorities(new HashSet<>())
+                .build());
+        Mockito.when(courseService.findAll()).thenReturn(List.of(course));
+        Mockito.when(courseSectionRepository.findAllSeatCounts()).thenReturn(List.of());
+
+        // Act
+        courseCatalogService.findAll();
+        courseCatalogCache.onUserChanged(new UserChangedEvent("student@example.com"));
+        courseCatalogService.findAll();
+        courseCatalogCache.onUserChanged(new UserChangedEvent("instructor@example.com"));
+        courseCatalogService.findAll();
+
+        // Assert
+        Mockito.verify(courseService, Mockito.times(2)).findAll();
+    }
+
+    @Test
+    void findById_InvalidatedDuringLoad_NotCached() throws HttpRequestException {
+        // Arrange: the course changes while its snapshot is being built
+        Mockito.when(courseService.findById(1L)).thenAnswer(invocation -> {
+            courseCatalogCache.onCatalogChanged(CourseCatalogChangedEvent.forCourse(1L));
+            return course;
+        }).thenReturn(course);
+        Mockito.when(courseSectionRepository.findSeatCountsByCourseId(1L)).thenReturn(List.of());
+
+        // Act
+        courseCatalogService.findById(1L);
+        courseCatalogService.findById(1L);
+
+        // Assert
+        Mockito.verify(courseService, Mockito.times(2)).findById(1L);
+    }
+
+    @Test
+    void findById_NotFound_ThrowsHttpRequestException() throws HttpRequestException {
+        // Arrange
+        Mockito.when(courseService.findById(2L)).thenThrow(new HttpRequestException(HttpStatus.NOT_FOUND, "Course not found."));
+
+        // Act & Assert
+        HttpRequestException exception = assertThrows(HttpRequestException.class, () -> courseCatalogService.findById(2L));
+        assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+    }
+
+    @Test
+    void search_BlankQuery_ThrowsBadRequest() {
+        HttpRequestException exception = assertThrows(HttpRequestException.class, () -> courseCatalogService.search("  ", 10));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        Mockito.verifyNoInteractions(courseSearchIndex);
+    }
+}
@@ -0,0 +1,113 @@
+package net.tylerwade.registrationsystem.course.search;
+
+import net.tylerwade.registrationsystem.course.CourseRepository;
+import net.tylerwade.registrationsystem.course.dto.CourseAttributeDTO;
+import net.tylerwade.registrationsystem.course.dto.CourseSearchHitDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CourseSearchIndexTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CourseSearchIndex courseSearchIndex;
+
+    @BeforeEach
+    void setup() {
+        courseSearchIndex = new CourseSearchIndex(courseRepository);
+        Mockito.when(courseRepository.findAllAttributes()).thenReturn(List.of(
+                new CourseAttributeDTO(1L, "CS", 101, "Introduction to Programming", "Variables, loops and functions.", 3),
+                new CourseAttributeDTO(2L, "CS", 201, "Data Structures", "Lists, trees and graphs. Builds on CS 101 programming.", 3),
+                new CourseAttributeDTO(3L, "MATH", 101, "Calculus I", "Limits and derivatives.", 4),
+                new CourseAttributeDTO(4L, "MATH", 240, "Linear Algebra", "Vectors, matrices and linear maps.", 4)
+        ));
+    }
+
+    @Test
+    void search_DepartmentAndCode_RanksExactCourseFirst() {
+        List<CourseSearchHitDTO> hits = courseSearchIndex.search("CS 101", 10);
+
+        assertEquals(List.of(1L, 2L), ids(hits));
+    }
+
+    @Test
+    void search_CompactDepartmentAndCode_SameAsSpaced() {
+        assertEquals(ids(courseSearchIndex.search("CS 101", 10)), ids(courseSearchIndex.search("cs101", 10)));
+    }
+
+    @Test
+    void search_TitleOutweighsDescription() {
+        List<CourseSearchHitDTO> hits = courseSearchIndex.search("programming", 10);
+
+        assertEquals(List.of(1L, 2L), ids(hits));
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    void search_AllTermsRequired() {
+        assertEquals(List.of(4L), ids(courseSearchIndex.search("linear maps", 10)));
+        assertTrue(courseSearchIndex.search("linear programming", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_IncompleteLastWord_MatchesPrefix() {
+        assertEquals(List.of(3L), ids(courseSearchIndex.suggest("calc", 10)));
+        assertTrue(courseSearchIndex.search("calc", 10).isEmpty());
+    }
+
+    @Test
+    void put_UpdatedCourse_ReindexesTerms() {
+        courseSearchIndex.search("warmup", 1);
+
+        courseSearchIndex.put(new CourseAttributeDTO(3L, "MATH", 101, "Differential Calculus", "Limits and derivatives.", 4));
+
+        assertEquals(List.of(3L), ids(courseSearchIndex.search("differential", 10)));
+        assertEquals(List.of(3L), ids(courseSearchIndex.search("MATH 101", 10)));
+    }
+
+    @Test
+    void remove_DeletedCourse_NoLongerFound() {
+        courseSearchIndex.search("warmup", 1);
+
+        courseSearchIndex.remove(4L);
+
+        assertTrue(courseSearchIndex.search("algebra", 10).isEmpty());
+    }
+
+    @Test
+    void rebuild_ChangesDuringRead_AreKept() {
+        // Arrange: a course is created and another deleted while the rebuild reads the database
+        courseSearchIndex.search("warmup", 1);
+        List<CourseAttributeDTO> staleRead = List.of(
+                new CourseAttributeDTO(1L, "CS", 101, "Introduction to Programming", "Variables, loops and functions.", 3),
+                new CourseAttributeDTO(3L, "MATH", 101, "Calculus I", "Limits and derivatives.", 4)
+        );
+        Mockito.when(courseRepository.findAllAttributes()).thenAnswer(invocation -> {
+            courseSearchIndex.put(new CourseAttributeDTO(5L, "PHYS", 150, "Mechanics", "Forces and motion.", 4));
+            courseSearchIndex.remove(1L);
+            return staleRead;
+        });
+
+        // Act
+        courseSearchIndex.rebuild();
+
+        // Assert
+        assertEquals(List.of(5L), ids(courseSearchIndex.search("mechanics", 10)));
+        assertTrue(courseSearchIndex.search("programming", 10).isEmpty());
+        assertEquals(List.of(3L), ids(courseSearchIndex.search("calculus", 10)));
+    }
+
+    private static List<Long> ids(List<CourseSearchHitDTO> hits) {
+        return hits.stream().map(CourseSearchHitDTO::id).toList();
+    }
+}
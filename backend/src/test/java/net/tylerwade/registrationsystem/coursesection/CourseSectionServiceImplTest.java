@@ -3,8 +3,10 @@ package net.tylerwade.registrationsystem.coursesection;
 import net.tylerwade.registrationsystem.auth.User;
 import net.tylerwade.registrationsystem.auth.UserService;
 import net.tylerwade.registrationsystem.auth.authority.Authority;
+import net.tylerwade.registrationsystem.auth.principal.AuthenticatedUser;
 import net.tylerwade.registrationsystem.course.Course;
 import net.tylerwade.registrationsystem.course.CourseService;
+import net.tylerwade.registrationsystem.course.catalog.CourseCatalogChangedEvent;
 import net.tylerwade.registrationsystem.coursesection.dto.ManageCourseSectionRequest;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
 import net.tylerwade.registrationsystem.term.Term;
@@ -16,6 +18,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -44,6 +47,9 @@ public class CourseSectionServiceImplTest {
     @Mock
     private CourseService courseService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CourseSectionServiceImpl courseSectionService;
 
@@ -141,7 +147,7 @@ public class CourseSectionServiceImplTest {
     void findAssignedCourseSections_AsInstructor_ValidInstructor_ReturnsCourseSections() {
         Authentication authentication = new UsernamePasswordAuthenticationToken("test@example.com", "encodedpassword", null);
 
-        Mockito.when(userService.getUser(authentication)).thenReturn(mockUsers.getFirst());
+        Mockito.when(userService.getAuthenticatedUser(authentication)).thenReturn(AuthenticatedUser.of(mockUsers.getFirst()));
 
         var expectedResult = List.of(mockSections.getFirst());
 
@@ -163,7 +169,7 @@ public class CourseSectionServiceImplTest {
                 2L,
                 "Remote",
                 33,
-                "W-F 12:00 AM"
+                "W-F 12:00 PM - 1:00 PM"
         );
 
         var term = mockTerms.getFirst();
@@ -190,7 +196,7 @@ public class CourseSectionServiceImplTest {
                 1L,
                 "Remote",
                 33,
-                "W-F 12:00 AM"
+                "W-F 12:00 PM - 1:00 PM"
         );
 
         var term = mockTerms.getFirst();
@@ -222,6 +228,30 @@ public class CourseSectionServiceImplTest {
         assertEquals(term.getId(), courseSection.getTerm().getId());
     }
 
+    @Test
+    void create_UnreadableSchedule_ThrowsHttpRequestException() throws HttpRequestException {
+        // Arrange
+        var courseId = 1L;
+
+        ManageCourseSectionRequest manageCourseSectionRequest = new ManageCourseSectionRequest(
+                1L,
+                1L,
+                "Remote",
+                33,
+                "10:00 - 11:15 AM"
+        );
+
+        Mockito.when(termService.findById(1L)).thenReturn(mockTerms.getFirst());
+        Mockito.when(courseService.findById(1L)).thenReturn(mockCourses.getFirst());
+        Mockito.when(userService.findById(1L)).thenReturn(mockUsers.getFirst());
+
+        // Act & Assert
+        HttpRequestException exception = assertThrows(HttpRequestException.class, () -> courseSectionService.create(courseId, manageCourseSectionRequest));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getHttpStatus());
+        Mockito.verify(courseSectionRepository, Mockito.never()).save(any());
+    }
+
     @Test
     void update_TargetInstructorNotPermitted_ThrowsHttpRequestException() throws HttpRequestException {
         // Arrange
@@ -232,7 +262,7 @@ public class CourseSectionServiceImplTest {
                 2L,
                 "Remote",
                 33,
-                "W-F 12:00 AM"
+                "W-F 12:00 PM - 1:00 PM"
         );
 
         var term = mockTerms.getFirst();
@@ -258,7 +288,7 @@ public class CourseSectionServiceImplTest {
                 1L,
                 "Remote",
                 33,
-                "W-F 12:00 AM"
+                "W-F 12:00 PM - 1:00 PM"
         );
 
         var term = mockTerms.getFirst();
@@ -268,6 +298,7 @@ public class CourseSectionServiceImplTest {
         Mockito.when(courseSectionRepository.findById(courseSectionId)).thenReturn(Optional.ofNullable(mockSections.getFirst()));
         Mockito.when(termService.findById(1L)).thenReturn(term);
         Mockito.when(userService.findById(1L)).thenReturn(targetInstructor);
+        Mockito.when(courseSectionRepository.updateCapacity(courseSectionId, 33)).thenReturn(1);
 
         CourseSection expectedResult = CourseSection.builder()
                 .course(course)
@@ -288,13 +319,41 @@ public class CourseSectionServiceImplTest {
         assertEquals(course.getId(), courseSection.getCourse().getId());
         assertEquals(targetInstructor.getId(), courseSection.getInstructor().getId());
         assertEquals(term.getId(), courseSection.getTerm().getId());
+
+        // Capacity went from 30 to 33, so the waitlist is offered the new seats
+        Mockito.verify(eventPublisher).publishEvent(any(CourseSectionCapacityIncreasedEvent.class));
+    }
+
+    @Test
+    void update_CapacityBelowEnrolled_ThrowsHttpRequestException() throws HttpRequestException {
+        // Arrange: the conditional update finds more students enrolled than the new capacity
+        var courseSectionId = 1L;
+
+        ManageCourseSectionRequest manageCourseSectionRequest = new ManageCourseSectionRequest(
+                1L,
+                1L,
+                "Remote",
+                5,
+                "W-F 12:00 PM - 1:00 PM"
+        );
+
+        Mockito.when(courseSectionRepository.findById(courseSectionId)).thenReturn(Optional.ofNullable(mockSections.getFirst()));
+        Mockito.when(termService.findById(1L)).thenReturn(mockTerms.getFirst());
+        Mockito.when(userService.findById(1L)).thenReturn(mockUsers.getFirst());
+        Mockito.when(courseSectionRepository.updateCapacity(courseSectionId, 5)).thenReturn(0);
+
+        // Act & Assert
+        HttpRequestException exception = assertThrows(HttpRequestException.class, () -> courseSectionService.update(courseSectionId, manageCourseSectionRequest));
+
+        assertEquals(HttpStatus.CONFLICT, exception.getHttpStatus());
+        Mockito.verify(courseSectionRepository, Mockito.never()).save(any());
     }
 
     @Test
     void delete_NotFound_ThrowsHttpRequestException() {
         // Arrange
         var courseSectionId = 4L;
-        Mockito.when(courseSectionRepository.existsById(courseSectionId)).thenReturn(false);
+        Mockito.when(courseSectionRepository.findById(courseSectionId)).thenReturn(Optional.empty());
 
         // Act & Assert
         HttpRequestException exception = assertThrows(HttpRequestException.class, () -> courseSectionService.delete(courseSectionId));
@@ -306,12 +365,14 @@ public class CourseSectionServiceImplTest {
     void delete_Found_Executes() throws HttpRequestException {
         // Arrange
         var courseSectionId = 4L;
-        Mockito.when(courseSectionRepository.existsById(courseSectionId)).thenReturn(true);
+        CourseSection courseSection = mockSections.getFirst();
+        Mockito.when(courseSectionRepository.findById(courseSectionId)).thenReturn(Optional.of(courseSection));
 
         // Act & Assert
         courseSectionService.delete(courseSectionId);
 
-        Mockito.verify(courseSectionRepository, Mockito.times(1)).deleteById(courseSectionId);
+        Mockito.verify(courseSectionRepository, Mockito.times(1)).delete(courseSection);
+        Mockito.verify(eventPublisher, Mockito.times(1)).publishEvent(CourseCatalogChangedEvent.forCourse(courseSection.getCourse().getId()));
     }
 }
 
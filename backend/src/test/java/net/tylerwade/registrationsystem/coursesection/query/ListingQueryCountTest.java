@@ -0,0 +1,238 @@
+package net.tylerwade.registrationsystem.coursesection.query;
+
+import jakarta.persistence.EntityManagerFactory;
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.auth.UserService;
+import net.tylerwade.registrationsystem.auth.authority.Authority;
+import net.tylerwade.registrationsystem.auth.principal.AuthenticatedUser;
+import net.tylerwade.registrationsystem.course.Course;
+import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.coursesection.dto.CourseSectionDTO;
+import net.tylerwade.registrationsystem.coursesection.dto.InstructorCourseSectionDTO;
+import net.tylerwade.registrationsystem.enrollment.Enrollment;
+import net.tylerwade.registrationsystem.enrollment.dto.EnrollmentDTO;
+import net.tylerwade.registrationsystem.enrollment.query.EnrollmentQueryService;
+import net.tylerwade.registrationsystem.enrollment.query.EnrollmentQueryServiceImpl;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import net.tylerwade.registrationsystem.term.Term;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Counts the statements the section and enrollment listings prepare, and checks the count does not grow with the number of rows.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({CourseSectionQueryServiceImpl.class, EnrollmentQueryServiceImpl.class})
+public class ListingQueryCountTest {
+
+    @Autowired
+    private CourseSectionQueryService courseSectionQueryService;
+
+    @Autowired
+    private EnrollmentQueryService enrollmentQueryService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private UserService userService;
+
+    private Statistics statistics;
+    private Authority instructorAuthority;
+    private Authority studentAuthority;
+    private Course course;
+    private Term term;
+    private User instructor;
+    private int users;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        instructorAuthority = entityManager.persist(Authority.builder().name("INSTRUCTOR").build());
+        studentAuthority = entityManager.persist(Authority.builder().name("STUDENT").build());
+
+        term = entityManager.persist(Term.builder()
+                .registrationStart(LocalDate.of(2026, 1, 1))
+                .registrationEnd(LocalDate.of(2026, 1, 10))
+                .startDate(LocalDate.of(2026, 1, 15))
+                .endDate(LocalDate.of(2026, 5, 15))
+                .build());
+
+        course = entityManager.persist(Course.builder()
+                .department("CMSC")
+                .code(325)
+                .title("Software Principles I")
+                .description("Learn about software principles!")
+                .credits(3)
+                .prerequisites(new ArrayList<>())
+                .courseSections(new ArrayList<>())
+                .build());
+
+        instructor = user(instructorAuthority);
+        Mockito.when(userService.getAuthenticatedUser(any())).thenReturn(AuthenticatedUser.of(instructor));
+    }
+
+    @Test
+    void findAll_ConstantQueriesAsSectionsGrow() {
+        // Arrange
+        seedSections(2, 1);
+        long few = countStatements(() -> courseSectionQueryService.findAll());
+        seedSections(30, 1);
+
+        // Act
+        List<CourseSectionDTO> sections = new ArrayList<>();
+        long many = countStatements(() -> sections.addAll(courseSectionQueryService.findAll()));
+
+        // Assert: one query for the rows, one for the instructor authorities
+        assertEquals(2, few);
+        assertEquals(few, many);
+        assertEquals(32, sections.size());
+        assertEquals("CMSC", sections.getFirst().course().department());
+        assertEquals(instructor.getId(), sections.getFirst().instructor().id());
+        assertEquals(Set.of("INSTRUCTOR"), authorityNames(sections.getFirst().instructor().userAuthorities()));
+    }
+
+    @Test
+    void findAllByCourseId_UnknownCourse_ThrowsNotFound() {
+        HttpRequestException ex = assertThrows(HttpRequestException.class, () -> courseSectionQueryService.findAllByCourseId(-1L));
+        assertEquals(HttpStatus.NOT_FOUND, ex.getHttpStatus());
+    }
+
+    @Test
+    void findAssignedCourseSections_ConstantQueriesAsEnrollmentsGrow() {
+        // Arrange
+        Authentication authentication = new UsernamePasswordAuthenticationToken(instructor.getUsername(), null);
+        seedSections(1, 2);
+        long few = countStatements(() -> courseSectionQueryService.findAssignedCourseSections_AsInstructor(authentication));
+        seedSections(10, 10);
+
+        // Act
+        List<InstructorCourseSectionDTO> sections = new ArrayList<>();
+        long many = countStatements(() -> sections.addAll(courseSectionQueryService.findAssignedCourseSections_AsInstructor(authentication)));
+
+        // Assert: rows, enrollments, and the authorities of every instructor and student
+        assertEquals(3, few);
+        assertEquals(few, many);
+        assertEquals(11, sections.size());
+        assertEquals(2, sections.getFirst().enrollments().size());
+        assertEquals(10, sections.getLast().enrollments().size());
+        assertEquals(Set.of("STUDENT"), authorityNames(sections.getLast().enrollments().getFirst().student().userAuthorities()));
+    }
+
+    @Test
+    void findAllByStudent_ConstantQueriesAsEnrollmentsGrow() {
+        // Arrange
+        User student = user(studentAuthority);
+        Mockito.when(userService.getAuthenticatedUser(any())).thenReturn(AuthenticatedUser.of(student));
+        Authentication authentication = new UsernamePasswordAuthenticationToken(student.getUsername(), null);
+
+        enroll(student, seedSections(1, 0));
+        long few = countStatements(() -> enrollmentQueryService.findAllByStudent(student.getId(), authentication));
+        seedSections(20, 0).forEach(section -> enroll(student, List.of(section)));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<EnrollmentDTO> enrollments = new ArrayList<>();
+        long many = countStatements(() -> enrollments.addAll(enrollmentQueryService.findAllByStudent(student.getId(), authentication)));
+
+        // Assert: enrollment rows, student authorities, section rows, instructor authorities
+        assertEquals(4, few);
+        assertEquals(few, many);
+        assertEquals(21, enrollments.size());
+        assertEquals(student.getId(), enrollments.getFirst().student().id());
+        assertNotNull(enrollments.getFirst().courseSection());
+        assertEquals(instructor.getId(), enrollments.getFirst().courseSection().instructor().id());
+    }
+
+    private User user(Authority authority) {
+        users++;
+        return entityManager.persist(User.builder()
+                .username("user" + users + "@example.com")
+                .firstName("User")
+                .lastName(String.valueOf(users))
+                .password("encodedPassword")
+                .userAuthorities(new HashSet<>(Set.of(authority)))
+                .build());
+    }
+
+    private List<CourseSection> seedSections(int sections, int studentsPerSection) {
+        List<CourseSection> seeded = new ArrayList<>();
+        for (int i = 0; i < sections; i++) {
+            CourseSection section = entityManager.persist(CourseSection.builder()
+                    .course(course)
+                    .term(term)
+                    .instructor(instructor)
+                    .room("Room " + i)
+                    .capacity(50)
+                    .schedule("M - F 12:00 PM - 1:30 PM")
+                    .enrolledCount(studentsPerSection)
+                    .build());
+            for (int j = 0; j < studentsPerSection; j++) {
+                enroll(user(studentAuthority), List.of(section));
+            }
+            seeded.add(section);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return seeded;
+    }
+
+    private void enroll(User student, List<CourseSection> sections) {
+        for (CourseSection section : sections) {
+            entityManager.persist(Enrollment.builder()
+                    .studentId(student.getId())
+                    .courseSectionId(section.getId())
+                    .grade(BigDecimal.ZERO)
+                    .status("NOT_STARTED")
+                    .build());
+        }
+    }
+
+    private long countStatements(ThrowingRunnable listing) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        try {
+            listing.run();
+        } catch (HttpRequestException e) {
+            fail(e);
+        }
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static Set<String> authorityNames(Set<Authority> authorities) {
+        Set<String> names = new HashSet<>();
+        authorities.forEach(authority -> names.add(authority.getName()));
+        return names;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws HttpRequestException;
+    }
+}
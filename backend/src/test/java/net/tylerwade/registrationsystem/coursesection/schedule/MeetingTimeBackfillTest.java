@@ -0,0 +1,43 @@
+package net.tylerwade.registrationsystem.coursesection.schedule;
+
+import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.coursesection.CourseSectionRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class MeetingTimeBackfillTest {
+
+    @Mock
+    private CourseSectionRepository courseSectionRepository;
+
+    @InjectMocks
+    private MeetingTimeBackfill meetingTimeBackfill;
+
+    @Test
+    void run_UnreadableLegacySchedule_SkipsItAndSavesTheRest() {
+        // Arrange
+        CourseSection unreadable = CourseSection.builder().id(1L).schedule("10:00 AM - 11:15").build();
+        CourseSection readable = CourseSection.builder().id(2L).schedule("MWF 10:00 AM - 10:50 AM").build();
+        CourseSection noFixedTime = CourseSection.builder().id(3L).schedule("TBA").build();
+        when(courseSectionRepository.findAllByMeetingDaysIsNull()).thenReturn(List.of(unreadable, readable, noFixedTime));
+
+        // Act
+        assertDoesNotThrow(() -> meetingTimeBackfill.run());
+
+        // Assert
+        verify(courseSectionRepository).saveAll(List.of(readable));
+        assertTrue(readable.getMeetingTime().isPresent());
+        assertNull(unreadable.getMeetingDays());
+        assertNull(unreadable.getMeetingStartMinute());
+        assertNull(unreadable.getMeetingEndMinute());
+    }
+}
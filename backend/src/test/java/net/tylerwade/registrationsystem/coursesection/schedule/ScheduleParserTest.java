@@ -0,0 +1,77 @@
+package net.tylerwade.registrationsystem.coursesection.schedule;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static net.tylerwade.registrationsystem.coursesection.schedule.MeetingTime.*;
+
+public class ScheduleParserTest {
+
+    @Test
+    void parse_DayRangeWithTwelveHourTimes() {
+        Optional<MeetingTime> meetingTime = ScheduleParser.parse("M - F 12:00 PM - 1:30 PM");
+
+        Assertions.assertEquals(Optional.of(new MeetingTime(MONDAY | TUESDAY | WEDNESDAY | THURSDAY | FRIDAY, 12 * 60, 13 * 60 + 30)), meetingTime);
+    }
+
+    @Test
+    void parse_CompactDayList() {
+        Assertions.assertEquals(Optional.of(new MeetingTime(MONDAY | WEDNESDAY | FRIDAY, 10 * 60, 10 * 60 + 50)),
+                ScheduleParser.parse("MWF 10:00 AM - 10:50 AM"));
+        Assertions.assertEquals(Optional.of(new MeetingTime(TUESDAY | THURSDAY, 9 * 60 + 30, 10 * 60 + 45)),
+                ScheduleParser.parse("TTh 9:30-10:45"));
+    }
+
+    @Test
+    void parse_DayNamesWithTwentyFourHourTimes() {
+        Assertions.assertEquals(Optional.of(new MeetingTime(MONDAY | WEDNESDAY, 13 * 60, 14 * 60 + 15)),
+                ScheduleParser.parse("Mon, Wed 13:00 - 14:15"));
+    }
+
+    @Test
+    void parse_NoFixedMeetingTime_ReturnsEmpty() {
+        for (String schedule : List.of("Spring", "TBA", "", "M - F")) {
+            Assertions.assertTrue(ScheduleParser.parse(schedule).isEmpty(), schedule);
+        }
+    }
+
+    @Test
+    void parse_UnreadableMeetingTime_Throws() {
+        for (String schedule : List.of("10:00 - 11:15 AM", "MWF 10:00 AM - 11:15", "MWF 2:00 PM - 1:00 PM", "Xyz 10:00 - 11:00", "W-F 12:00 AM")) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> ScheduleParser.parse(schedule), schedule);
+        }
+    }
+
+    @Test
+    void findConflict_OverlappingSameDay_ReturnsConflictingSection() {
+        // Arrange
+        WeeklySchedule schedule = new WeeklySchedule(List.of(
+                new SectionMeetingTime(1L, MONDAY | WEDNESDAY, 9 * 60, 10 * 60),
+                new SectionMeetingTime(2L, TUESDAY, 13 * 60, 14 * 60)
+        ));
+
+        // Act & Assert
+        Assertions.assertEquals(Optional.of(1L), schedule.findConflict(new MeetingTime(WEDNESDAY | FRIDAY, 9 * 60 + 30, 11 * 60)));
+        Assertions.assertEquals(Optional.of(2L), schedule.findConflict(new MeetingTime(TUESDAY, 12 * 60, 13 * 60 + 1)));
+        // Back to back is fine, as is the same time on another day
+        Assertions.assertEquals(Optional.empty(), schedule.findConflict(new MeetingTime(MONDAY, 10 * 60, 11 * 60)));
+        Assertions.assertEquals(Optional.empty(), schedule.findConflict(new MeetingTime(THURSDAY, 13 * 60, 14 * 60)));
+    }
+
+    @Test
+    void findConflict_OverlappingBookings_ChecksEveryBooking() {
+        // Arrange: a long booking followed by a short one inside it, e.g. enrolled before conflicts were checked
+        WeeklySchedule schedule = new WeeklySchedule(List.of(
+                new SectionMeetingTime(1L, MONDAY, 9 * 60, 12 * 60),
+                new SectionMeetingTime(2L, MONDAY, 9 * 60 + 30, 10 * 60),
+                new SectionMeetingTime(3L, MONDAY, 9 * 60, 9 * 60 + 15)
+        ));
+
+        // Act & Assert: only the first booking is still running after 10:00
+        Assertions.assertEquals(Optional.of(1L), schedule.findConflict(new MeetingTime(MONDAY, 11 * 60, 11 * 60 + 30)));
+        Assertions.assertEquals(Optional.empty(), schedule.findConflict(new MeetingTime(MONDAY, 12 * 60, 13 * 60)));
+    }
+}
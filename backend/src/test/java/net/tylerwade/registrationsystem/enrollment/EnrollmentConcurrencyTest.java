@@ -0,0 +1,270 @@
+package net.tylerwade.registrationsystem.enrollment;
+
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.auth.UserRepository;
+import net.tylerwade.registrationsystem.auth.UserService;
+import net.tylerwade.registrationsystem.auth.authority.Authority;
+import net.tylerwade.registrationsystem.auth.principal.AuthenticatedUser;
+import net.tylerwade.registrationsystem.course.Course;
+import net.tylerwade.registrationsystem.course.CourseRepository;
+import net.tylerwade.registrationsystem.course.CourseService;
+import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.coursesection.CourseSectionRepository;
+import net.tylerwade.registrationsystem.coursesection.CourseSectionServiceImpl;
+import net.tylerwade.registrationsystem.enrollment.dto.CheckoutRequest;
+import net.tylerwade.registrationsystem.enrollment.dto.CreateEnrollmentRequest;
+import net.tylerwade.registrationsystem.enrollment.enums.CheckoutMode;
+import net.tylerwade.registrationsystem.enrollment.transcript.TranscriptCacheProperties;
+import net.tylerwade.registrationsystem.enrollment.transcript.TranscriptServiceImpl;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import net.tylerwade.registrationsystem.term.Term;
+import net.tylerwade.registrationsystem.term.TermRepository;
+import net.tylerwade.registrationsystem.term.TermService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Fires many parallel enrollments at a single section against a real database
+ * and checks that the section is never oversold, and that rejected checkouts give their seats back.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({EnrollmentServiceImpl.class, CourseSectionServiceImpl.class, TranscriptServiceImpl.class})
+@EnableConfigurationProperties(TranscriptCacheProperties.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class EnrollmentConcurrencyTest {
+
+    private static final int CAPACITY = 10;
+    private static final int STUDENTS = 60;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private CourseSectionRepository courseSectionRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TermRepository termRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private TermService termService;
+
+    @MockitoBean
+    private CourseService courseService;
+
+    private CourseSection courseSection;
+    private List<User> students;
+
+    @BeforeEach
+    void setup() throws HttpRequestException {
+        Term term = termRepository.save(Term.builder()
+                .registrationStart(LocalDate.now().minusDays(7))
+                .registrationEnd(LocalDate.now().plusDays(7))
+                .startDate(LocalDate.now().plusDays(14))
+                .endDate(LocalDate.now().plusDays(90))
+                .build());
+
+        Course course = courseRepository.save(Course.builder()
+                .department("CMSC")
+                .code(325)
+                .title("Software Principles I")
+                .description("Learn about software principles!")
+                .credits(3)
+                .prerequisites(new ArrayList<>())
+                .courseSections(new ArrayList<>())
+                .build());
+
+        courseSection = courseSectionRepository.save(CourseSection.builder()
+                .course(course)
+                .term(term)
+                .room("Remote")
+                .capacity(CAPACITY)
+                .schedule("M - F 12:00 PM - 1:30 PM")
+                .enrolledCount(0)
+                .build());
+
+        // Persist the students, then hand the service in-memory copies that carry the STUDENT role
+        Authority studentAuthority = Authority.builder().id(3).name("STUDENT").build();
+        students = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            User student = userRepository.save(User.builder()
+                    .username("student" + i + "@example.com")
+                    .firstName("Student")
+                    .lastName(String.valueOf(i))
+                    .password("encodedPassword")
+                    .userAuthorities(new HashSet<>())
+                    .build());
+            student.setUserAuthorities(Set.of(studentAuthority));
+            students.add(student);
+        }
+
+        Map<String, User> byUsername = new HashMap<>();
+        Map<Long, User> byId = new HashMap<>();
+        students.forEach(student -> {
+            byUsername.put(student.getUsername(), student);
+            byId.put(student.getId(), student);
+        });
+
+        Mockito.when(userService.getAuthenticatedUser(any())).thenAnswer(invocation -> AuthenticatedUser.of(byUsername.get(((Authentication) invocation.getArgument(0)).getName())));
+        Mockito.when(userService.findById(any())).thenAnswer(invocation -> byId.get((Long) invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    void cleanup() {
+        enrollmentRepository.deleteAll();
+        courseSectionRepository.deleteAll();
+        courseRepository.deleteAll();
+        termRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void create_ParallelRequests_ExactlyCapacitySucceed() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejectedAsFull = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (User student : students) {
+            futures.add(executor.submit(() -> {
+                Authentication authentication = new UsernamePasswordAuthenticationToken(student.getUsername(), null);
+                startGate.await();
+                try {
+                    enrollmentService.create(student.getId(), new CreateEnrollmentRequest(courseSection.getId()), authentication);
+                    succeeded.incrementAndGet();
+                } catch (HttpRequestException e) {
+                    if (e.getHttpStatus() == HttpStatus.NOT_ACCEPTABLE) {
+                        rejectedAsFull.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        // Act
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(CAPACITY, succeeded.get());
+        assertEquals(STUDENTS - CAPACITY, rejectedAsFull.get());
+        assertEquals(CAPACITY, enrollmentRepository.count());
+        assertEquals(CAPACITY, courseSectionRepository.findById(courseSection.getId()).orElseThrow().getEnrolledCount());
+    }
+
+    @Test
+    void checkout_AllOrNothingRejected_ReleasesSeats() throws Exception {
+        // Arrange: every cart contains the section and one that does not exist
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicInteger committed = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (User student : students.subList(0, CAPACITY * 2)) {
+            futures.add(executor.submit(() -> {
+                Authentication authentication = new UsernamePasswordAuthenticationToken(student.getUsername(), null);
+                startGate.await();
+                CheckoutResult result = enrollmentService.checkout(student.getId(),
+                        new CheckoutRequest(List.of(courseSection.getId(), -1L), CheckoutMode.ALL_OR_NOTHING), authentication);
+                if (result.committed()) {
+                    committed.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        // Act
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(0, committed.get());
+        assertEquals(0, enrollmentRepository.count());
+        assertEquals(0, courseSectionRepository.findById(courseSection.getId()).orElseThrow().getEnrolledCount());
+    }
+
+    @Test
+    void updateCapacity_ShrinkDuringEnrollment_NeverBelowEnrolled() throws Exception {
+        // Arrange: students enroll while an admin keeps trying to shrink the section to half its capacity
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicInteger shrunk = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (User student : students) {
+            futures.add(executor.submit(() -> {
+                Authentication authentication = new UsernamePasswordAuthenticationToken(student.getUsername(), null);
+                startGate.await();
+                try {
+                    enrollmentService.create(student.getId(), new CreateEnrollmentRequest(courseSection.getId()), authentication);
+                } catch (HttpRequestException ignored) {
+                    // Full
+                }
+                return null;
+            }));
+        }
+        futures.add(executor.submit(() -> {
+            startGate.await();
+            for (int i = 0; i < 20; i++) {
+                shrunk.addAndGet(courseSectionRepository.updateCapacity(courseSection.getId(), CAPACITY / 2));
+            }
+            return null;
+        }));
+
+        // Act
+        startGate.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert: whichever way the race went, the section never holds more students than its capacity
+        CourseSection saved = courseSectionRepository.findById(courseSection.getId()).orElseThrow();
+        assertTrue(saved.getEnrolledCount() <= saved.getCapacity(), saved.getEnrolledCount() + " enrolled > capacity " + saved.getCapacity());
+        assertEquals(saved.getEnrolledCount(), (int) enrollmentRepository.count());
+        assertEquals(shrunk.get() > 0 ? CAPACITY / 2 : CAPACITY, saved.getCapacity());
+    }
+}
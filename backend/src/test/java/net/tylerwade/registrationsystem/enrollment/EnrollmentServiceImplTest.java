@@ -3,14 +3,28 @@ package net.tylerwade.registrationsystem.enrollment;
 import net.tylerwade.registrationsystem.auth.User;
 import net.tylerwade.registrationsystem.auth.UserService;
 import net.tylerwade.registrationsystem.auth.authority.Authority;
+import net.tylerwade.registrationsystem.auth.principal.AuthenticatedUser;
 import net.tylerwade.registrationsystem.course.Course;
 import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.coursesection.CourseSectionCapacityIncreasedEvent;
 import net.tylerwade.registrationsystem.coursesection.CourseSectionService;
+import net.tylerwade.registrationsystem.coursesection.schedule.MeetingTime;
+import net.tylerwade.registrationsystem.coursesection.schedule.SectionMeetingTime;
+import net.tylerwade.registrationsystem.enrollment.dto.CheckoutRequest;
 import net.tylerwade.registrationsystem.enrollment.dto.CreateEnrollmentRequest;
 import net.tylerwade.registrationsystem.enrollment.dto.ManageEnrollmentRequest;
+import net.tylerwade.registrationsystem.enrollment.enums.CheckoutItemStatus;
+import net.tylerwade.registrationsystem.enrollment.enums.CheckoutMode;
 import net.tylerwade.registrationsystem.enrollment.enums.EnrollmentStatus;
+import net.tylerwade.registrationsystem.enrollment.transcript.CompletedCourse;
+import net.tylerwade.registrationsystem.enrollment.transcript.TranscriptChangedEvent;
+import net.tylerwade.registrationsystem.enrollment.transcript.TranscriptIndex;
+import net.tylerwade.registrationsystem.enrollment.transcript.TranscriptService;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import net.tylerwade.registrationsystem.prerequisites.Prerequisite;
 import net.tylerwade.registrationsystem.term.Term;
+import net.tylerwade.registrationsystem.waitlist.WaitlistEntry;
+import net.tylerwade.registrationsystem.waitlist.WaitlistRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +32,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -44,6 +59,15 @@ public class EnrollmentServiceImplTest {
     @Mock
     private CourseSectionService courseSectionService;
 
+    @Mock
+    private WaitlistRepository waitlistRepository;
+
+    @Mock
+    private TranscriptService transcriptService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EnrollmentServiceImpl enrollmentService;
 
@@ -168,7 +192,7 @@ public class EnrollmentServiceImplTest {
         Long studentId = 3L;
         User studentUser = mockUsers.get(2); // The student user
 
-        Mockito.when(userService.getUser(studentAuth)).thenReturn(studentUser);
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(studentUser));
         Mockito.when(enrollmentRepository.findAllByStudent_IdOrderByCourseSection_Term_StartDateDesc(studentId))
                 .thenReturn(mockEnrollments);
 
@@ -187,7 +211,7 @@ public class EnrollmentServiceImplTest {
         Long studentId = 3L;
         User instructorUser = mockUsers.get(1); // The instructor user
 
-        Mockito.when(userService.getUser(instructorAuth)).thenReturn(instructorUser);
+        Mockito.when(userService.getAuthenticatedUser(instructorAuth)).thenReturn(AuthenticatedUser.of(instructorUser));
         Mockito.when(enrollmentRepository.findAllByStudent_IdOrderByCourseSection_Term_StartDateDesc(studentId))
                 .thenReturn(mockEnrollments);
 
@@ -206,7 +230,7 @@ public class EnrollmentServiceImplTest {
         Long studentId = 3L;
         User otherStudentUser = mockUsers.get(3); // The other student user
 
-        Mockito.when(userService.getUser(studentAuth)).thenReturn(otherStudentUser);
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(otherStudentUser));
 
         // Act & Assert
         HttpRequestException exception = assertThrows(HttpRequestException.class,
@@ -225,11 +249,12 @@ public class EnrollmentServiceImplTest {
 
         CreateEnrollmentRequest createRequest = new CreateEnrollmentRequest(courseSectionId);
 
-        Mockito.when(userService.getUser(studentAuth)).thenReturn(studentUser);
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(studentUser));
         Mockito.when(userService.findById(studentId)).thenReturn(studentUser);
         Mockito.when(courseSectionService.findById(courseSectionId)).thenReturn(courseSection);
         Mockito.when(enrollmentRepository.existsByStudent_IdAndCourseSection_Id(studentId, courseSectionId))
                 .thenReturn(false);
+        Mockito.when(courseSectionService.reserveSeat(courseSection)).thenReturn(true);
 
         Enrollment expectedEnrollment = Enrollment.builder()
                 .studentId(studentId)
@@ -241,8 +266,6 @@ public class EnrollmentServiceImplTest {
                 .build();
 
         Mockito.when(enrollmentRepository.save(any(Enrollment.class))).thenReturn(expectedEnrollment);
-        Mockito.when(enrollmentRepository.findAllByStudent_IdOrderByCourseSection_Term_StartDateDesc(studentId))
-                .thenReturn(new ArrayList<>());
 
         // Act
         Enrollment enrollment = enrollmentService.create(studentId, createRequest, studentAuth);
@@ -254,6 +277,189 @@ public class EnrollmentServiceImplTest {
         assertEquals(EnrollmentStatus.NOT_STARTED.getValue(), enrollment.getStatus());
     }
 
+    @Test
+    void create_SeatTakenConcurrently_ThrowsHttpRequestException() throws HttpRequestException {
+        // Arrange
+        Long studentId = 3L;
+        Long courseSectionId = 1L;
+        User studentUser = mockUsers.get(2);
+        CourseSection courseSection = mockCourseSections.getFirst();
+
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(studentUser));
+        Mockito.when(userService.findById(studentId)).thenReturn(studentUser);
+        Mockito.when(courseSectionService.findById(courseSectionId)).thenReturn(courseSection);
+        Mockito.when(enrollmentRepository.existsByStudent_IdAndCourseSection_Id(studentId, courseSectionId))
+                .thenReturn(false);
+        Mockito.when(courseSectionService.reserveSeat(courseSection)).thenReturn(false);
+
+        // Act & Assert
+        HttpRequestException exception = assertThrows(HttpRequestException.class,
+            () -> enrollmentService.create(studentId, new CreateEnrollmentRequest(courseSectionId), studentAuth));
+
+        assertEquals(HttpStatus.NOT_ACCEPTABLE, exception.getHttpStatus());
+        Mockito.verify(enrollmentRepository, Mockito.never()).save(any(Enrollment.class));
+    }
+
+    @Test
+    void create_PrerequisiteNotCompleted_ThrowsHttpRequestException() throws HttpRequestException {
+        // Arrange
+        Long studentId = 3L;
+        Long courseSectionId = 1L;
+        User studentUser = mockUsers.get(2);
+        CourseSection courseSection = mockCourseSections.getFirst();
+        addPrerequisite(courseSection, 2L, new BigDecimal("70"));
+
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(studentUser));
+        Mockito.when(userService.findById(studentId)).thenReturn(studentUser);
+        Mockito.when(courseSectionService.findById(courseSectionId)).thenReturn(courseSection);
+        Mockito.when(enrollmentRepository.existsByStudent_IdAndCourseSection_Id(studentId, courseSectionId))
+                .thenReturn(false);
+        // Passed the required course, but its term has not ended yet
+        Mockito.when(transcriptService.getTranscript(studentId)).thenReturn(new TranscriptIndex(List.of(
+                new CompletedCourse(2L, new BigDecimal("90"), LocalDate.now().plusDays(1))
+        )));
+
+        // Act & Assert
+        HttpRequestException exception = assertThrows(HttpRequestException.class,
+            () -> enrollmentService.create(studentId, new CreateEnrollmentRequest(courseSectionId), studentAuth));
+
+        assertEquals(HttpStatus.NOT_ACCEPTABLE, exception.getHttpStatus());
+        Mockito.verify(courseSectionService, Mockito.never()).reserveSeat(any(CourseSection.class));
+    }
+
+    @Test
+    void create_PrerequisiteCompleted_ReturnsEnrollment() throws HttpRequestException {
+        // Arrange
+        Long studentId = 3L;
+        Long courseSectionId = 1L;
+        User studentUser = mockUsers.get(2);
+        CourseSection courseSection = mockCourseSections.getFirst();
+        addPrerequisite(courseSection, 2L, new BigDecimal("70"));
+
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(studentUser));
+        Mockito.when(userService.findById(studentId)).thenReturn(studentUser);
+        Mockito.when(courseSectionService.findById(courseSectionId)).thenReturn(courseSection);
+        Mockito.when(enrollmentRepository.existsByStudent_IdAndCourseSection_Id(studentId, courseSectionId))
+                .thenReturn(false);
+        // Failed the required course once, then passed it in a later term
+        Mockito.when(transcriptService.getTranscript(studentId)).thenReturn(new TranscriptIndex(List.of(
+                new CompletedCourse(2L, new BigDecimal("50"), LocalDate.now().minusYears(1)),
+                new CompletedCourse(2L, new BigDecimal("85"), LocalDate.now().minusMonths(3))
+        )));
+        Mockito.when(courseSectionService.reserveSeat(courseSection)).thenReturn(true);
+
+        // Act
+        Enrollment enrollment = enrollmentService.create(studentId, new CreateEnrollmentRequest(courseSectionId), studentAuth);
+
+        // Assert
+        assertEquals(studentId, enrollment.getStudentId());
+        Mockito.verify(eventPublisher).publishEvent(TranscriptChangedEvent.forStudent(studentId));
+    }
+
+    @Test
+    void create_ScheduleConflict_ThrowsHttpRequestException() throws HttpRequestException {
+        // Arrange
+        Long studentId = 3L;
+        Long courseSectionId = 1L;
+        User studentUser = mockUsers.get(2);
+        CourseSection courseSection = mockCourseSections.getFirst();
+        courseSection.updateSchedule("MWF 10:00 AM - 10:50 AM");
+
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(studentUser));
+        Mockito.when(userService.findById(studentId)).thenReturn(studentUser);
+        Mockito.when(courseSectionService.findById(courseSectionId)).thenReturn(courseSection);
+        Mockito.when(enrollmentRepository.existsByStudent_IdAndCourseSection_Id(studentId, courseSectionId))
+                .thenReturn(false);
+        Mockito.when(enrollmentRepository.findMeetingTimesByStudentIdAndTermId(studentId, courseSection.getTerm().getId()))
+                .thenReturn(List.of(new SectionMeetingTime(7L, MeetingTime.FRIDAY, 10 * 60 + 30, 11 * 60 + 30)));
+
+        // Act & Assert
+        HttpRequestException exception = assertThrows(HttpRequestException.class,
+            () -> enrollmentService.create(studentId, new CreateEnrollmentRequest(courseSectionId), studentAuth));
+
+        assertEquals(HttpStatus.NOT_ACCEPTABLE, exception.getHttpStatus());
+        assertTrue(exception.getMessage().contains("7"));
+        Mockito.verify(courseSectionService, Mockito.never()).reserveSeat(any(CourseSection.class));
+    }
+
+    @Test
+    void checkout_ConflictingSectionsInCart_EnrollsOnlyTheFirst() throws HttpRequestException {
+        // Arrange
+        Long studentId = 3L;
+        User studentUser = mockUsers.get(2);
+        CourseSection firstSection = mockCourseSections.getFirst();
+        firstSection.updateSchedule("TTh 9:30 AM - 10:45 AM");
+        CourseSection overlappingSection = copyOf(firstSection, 2L);
+        overlappingSection.updateSchedule("Thursday 10:00 AM - 11:00 AM");
+
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(studentUser));
+        Mockito.when(userService.findById(studentId)).thenReturn(studentUser);
+        Mockito.when(courseSectionService.findAllByIds(List.of(1L, 2L))).thenReturn(List.of(firstSection, overlappingSection));
+        Mockito.when(enrollmentRepository.findCourseSectionIdsByStudentId(studentId)).thenReturn(Set.of());
+        Mockito.when(enrollmentRepository.findMeetingTimesByStudentIdAndTermId(studentId, firstSection.getTerm().getId())).thenReturn(List.of());
+        Mockito.when(courseSectionService.reserveSeat(firstSection)).thenReturn(true);
+
+        // Act
+        CheckoutResult result = enrollmentService.checkout(studentId, new CheckoutRequest(List.of(1L, 2L), CheckoutMode.BEST_EFFORT), studentAuth);
+
+        // Assert
+        assertEquals(CheckoutItemStatus.ENROLLED, result.items().get(0).status());
+        assertEquals(CheckoutItemStatus.REJECTED, result.items().get(1).status());
+        Mockito.verify(enrollmentRepository, Mockito.times(1)).findMeetingTimesByStudentIdAndTermId(any(), any());
+    }
+
+    @Test
+    void checkout_BestEffort_EnrollsAvailableSectionsAndReportsTheRest() throws HttpRequestException {
+        // Arrange
+        Long studentId = 3L;
+        User studentUser = mockUsers.get(2);
+        CourseSection openSection = mockCourseSections.getFirst();
+        CourseSection fullSection = copyOf(openSection, 2L);
+        fullSection.setEnrolledCount(fullSection.getCapacity());
+
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(studentUser));
+        Mockito.when(userService.findById(studentId)).thenReturn(studentUser);
+        Mockito.when(courseSectionService.findAllByIds(List.of(1L, 2L, 9L))).thenReturn(List.of(fullSection, openSection));
+        Mockito.when(enrollmentRepository.findCourseSectionIdsByStudentId(studentId)).thenReturn(Set.of());
+        Mockito.when(courseSectionService.reserveSeat(openSection)).thenReturn(true);
+
+        // Act
+        CheckoutResult result = enrollmentService.checkout(studentId, new CheckoutRequest(List.of(1L, 2L, 9L, 1L), CheckoutMode.BEST_EFFORT), studentAuth);
+
+        // Assert
+        assertTrue(result.committed());
+        assertEquals(3, result.items().size());
+        assertEquals(CheckoutItemStatus.ENROLLED, result.items().get(0).status());
+        assertEquals(CheckoutItemStatus.REJECTED, result.items().get(1).status());
+        assertEquals(CheckoutItemStatus.REJECTED, result.items().get(2).status());
+        Mockito.verify(enrollmentRepository, Mockito.times(1)).save(any(Enrollment.class));
+        Mockito.verify(transcriptService, Mockito.never()).getTranscript(studentId);
+        Mockito.verify(eventPublisher).publishEvent(TranscriptChangedEvent.forStudent(studentId));
+    }
+
+    @Test
+    void checkout_AllOrNothing_AllAvailable_EnrollsEverySection() throws HttpRequestException {
+        // Arrange
+        Long studentId = 3L;
+        User studentUser = mockUsers.get(2);
+        CourseSection firstSection = mockCourseSections.getFirst();
+        CourseSection secondSection = copyOf(firstSection, 2L);
+
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(studentUser));
+        Mockito.when(userService.findById(studentId)).thenReturn(studentUser);
+        Mockito.when(courseSectionService.findAllByIds(List.of(1L, 2L))).thenReturn(List.of(firstSection, secondSection));
+        Mockito.when(enrollmentRepository.findCourseSectionIdsByStudentId(studentId)).thenReturn(Set.of());
+        Mockito.when(courseSectionService.reserveSeat(any(CourseSection.class))).thenReturn(true);
+
+        // Act
+        CheckoutResult result = enrollmentService.checkout(studentId, new CheckoutRequest(List.of(1L, 2L), CheckoutMode.ALL_OR_NOTHING), studentAuth);
+
+        // Assert
+        assertTrue(result.committed());
+        assertTrue(result.items().stream().allMatch(item -> item.status() == CheckoutItemStatus.ENROLLED));
+        Mockito.verify(enrollmentRepository, Mockito.times(2)).save(any(Enrollment.class));
+    }
+
     @Test
     void create_Unauthorized_ThrowsHttpRequestException() {
         // Arrange
@@ -262,7 +468,7 @@ public class EnrollmentServiceImplTest {
 
         CreateEnrollmentRequest createRequest = new CreateEnrollmentRequest(1L);
 
-        Mockito.when(userService.getUser(studentAuth)).thenReturn(otherStudentUser);
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(otherStudentUser));
 
         // Act & Assert
         HttpRequestException exception = assertThrows(HttpRequestException.class,
@@ -293,7 +499,7 @@ public class EnrollmentServiceImplTest {
                 .status(EnrollmentStatus.STARTED.getValue())
                 .build();
 
-        Mockito.when(userService.getUser(instructorAuth)).thenReturn(instructorUser);
+        Mockito.when(userService.getAuthenticatedUser(instructorAuth)).thenReturn(AuthenticatedUser.of(instructorUser));
         Mockito.when(enrollmentRepository.findById(enrollmentId)).thenReturn(Optional.of(existingEnrollment));
 
         Enrollment updatedEnrollment = Enrollment.builder()
@@ -314,6 +520,7 @@ public class EnrollmentServiceImplTest {
         assertNotNull(enrollment);
         assertEquals(new BigDecimal("3.5"), enrollment.getGrade());
         assertEquals(EnrollmentStatus.COMPLETED.getValue(), enrollment.getStatus());
+        assertTrue(existingEnrollment.isGraded());
     }
 
     @Test
@@ -338,7 +545,7 @@ public class EnrollmentServiceImplTest {
                 .status(EnrollmentStatus.STARTED.getValue())
                 .build();
 
-        Mockito.when(userService.getUser(studentAuth)).thenReturn(otherStudentUser);
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(otherStudentUser));
         Mockito.when(enrollmentRepository.findById(enrollmentId)).thenReturn(Optional.of(existingEnrollment));
 
         // Act & Assert
@@ -367,7 +574,7 @@ public class EnrollmentServiceImplTest {
                 .status(EnrollmentStatus.NOT_STARTED.getValue())
                 .build();
 
-        Mockito.when(userService.getUser(studentAuth)).thenReturn(studentUser);
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(studentUser));
         Mockito.when(enrollmentRepository.findById(enrollmentId)).thenReturn(Optional.of(existingEnrollment));
 
         // Act
@@ -375,6 +582,92 @@ public class EnrollmentServiceImplTest {
 
         // Assert
         Mockito.verify(enrollmentRepository, Mockito.times(1)).delete(existingEnrollment);
+        Mockito.verify(courseSectionService, Mockito.times(1)).releaseSeat(courseSection);
+    }
+
+    @Test
+    void delete_WaitlistedStudent_IsPromotedIntoFreedSeat() throws HttpRequestException {
+        // Arrange
+        Long studentId = 3L;
+        Long courseSectionId = 1L;
+        User studentUser = mockUsers.get(2);
+        User waitlistedStudent = mockUsers.get(3);
+        CourseSection courseSection = mockCourseSections.getFirst();
+
+        Enrollment existingEnrollment = Enrollment.builder()
+                .studentId(studentId)
+                .student(studentUser)
+                .courseSectionId(courseSectionId)
+                .courseSection(courseSection)
+                .grade(new BigDecimal(0))
+                .status(EnrollmentStatus.NOT_STARTED.getValue())
+                .build();
+
+        WaitlistEntry waitlistEntry = WaitlistEntry.builder()
+                .id(1L)
+                .student(waitlistedStudent)
+                .courseSection(courseSection)
+                .build();
+
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(studentUser));
+        Mockito.when(enrollmentRepository.findById(new EnrollmentId(studentId, courseSectionId))).thenReturn(Optional.of(existingEnrollment));
+        Mockito.when(waitlistRepository.findFirstByCourseSection_IdOrderByIdAsc(courseSectionId)).thenReturn(Optional.of(waitlistEntry), Optional.empty());
+        Mockito.when(enrollmentRepository.existsByStudent_IdAndCourseSection_Id(waitlistedStudent.getId(), courseSectionId)).thenReturn(false);
+        Mockito.when(courseSectionService.reserveSeat(courseSection)).thenReturn(true);
+
+        // Act
+        enrollmentService.delete(studentId, courseSectionId, studentAuth);
+
+        // Assert
+        Mockito.verify(enrollmentRepository).save(Mockito.argThat(enrollment -> enrollment.getStudentId().equals(waitlistedStudent.getId())));
+        Mockito.verify(waitlistRepository).delete(waitlistEntry);
+    }
+
+    @Test
+    void onCapacityIncreased_PromotesWaitlistInOrderUntilFull() {
+        // Arrange: two seats were added and three students are waiting
+        CourseSection courseSection = mockCourseSections.getFirst();
+        courseSection.setEnrolledCount(28);
+        List<WaitlistEntry> entries = List.of(mockUsers.get(2), mockUsers.get(3), mockUsers.get(0)).stream()
+                .map(student -> WaitlistEntry.builder().id(student.getId()).student(student).courseSection(courseSection).build())
+                .toList();
+
+        Mockito.when(waitlistRepository.findFirstByCourseSection_IdOrderByIdAsc(courseSection.getId()))
+                .thenReturn(Optional.of(entries.get(0)), Optional.of(entries.get(1)), Optional.of(entries.get(2)));
+        Mockito.when(courseSectionService.reserveSeat(courseSection)).thenAnswer(invocation -> {
+            courseSection.setEnrolledCount(courseSection.getEnrolledCount() + 1);
+            return true;
+        });
+
+        // Act
+        enrollmentService.onCapacityIncreased(new CourseSectionCapacityIncreasedEvent(courseSection));
+
+        // Assert: the first two are enrolled, the third keeps waiting
+        Mockito.verify(enrollmentRepository).save(Mockito.argThat(enrollment -> enrollment.getStudentId().equals(3L)));
+        Mockito.verify(enrollmentRepository).save(Mockito.argThat(enrollment -> enrollment.getStudentId().equals(4L)));
+        Mockito.verify(enrollmentRepository, Mockito.times(2)).save(any(Enrollment.class));
+        Mockito.verify(waitlistRepository, Mockito.never()).delete(entries.get(2));
+        Mockito.verify(waitlistRepository, Mockito.times(2)).findFirstByCourseSection_IdOrderByIdAsc(courseSection.getId());
+    }
+
+    @Test
+    void create_StudentsWaitlisted_ThrowsHttpRequestException() throws HttpRequestException {
+        // Arrange: a seat is free, but other students are already waiting for it
+        Long studentId = 3L;
+        Long courseSectionId = 1L;
+        User studentUser = mockUsers.get(2);
+        CourseSection courseSection = mockCourseSections.getFirst();
+
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(studentUser));
+        Mockito.when(userService.findById(studentId)).thenReturn(studentUser);
+        Mockito.when(courseSectionService.findById(courseSectionId)).thenReturn(courseSection);
+        Mockito.when(waitlistRepository.existsByCourseSection_Id(courseSectionId)).thenReturn(true);
+
+        // Act & Assert
+        HttpRequestException exception = assertThrows(HttpRequestException.class, () -> enrollmentService.create(studentId, new CreateEnrollmentRequest(courseSectionId), studentAuth));
+
+        assertEquals(HttpStatus.NOT_ACCEPTABLE, exception.getHttpStatus());
+        Mockito.verify(courseSectionService, Mockito.never()).reserveSeat(any());
     }
 
     @Test
@@ -413,7 +706,7 @@ public class EnrollmentServiceImplTest {
                 .status(EnrollmentStatus.COMPLETED.getValue())
                 .build();
 
-        Mockito.when(userService.getUser(studentAuth)).thenReturn(studentUser);
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(studentUser));
         Mockito.when(enrollmentRepository.findById(enrollmentId)).thenReturn(Optional.of(completedEnrollment));
 
         // Act & Assert
@@ -422,4 +715,39 @@ public class EnrollmentServiceImplTest {
 
         assertEquals(HttpStatus.NOT_ACCEPTABLE, exception.getHttpStatus());
     }
+
+    private CourseSection copyOf(CourseSection courseSection, Long id) {
+        return CourseSection.builder()
+                .id(id)
+                .course(courseSection.getCourse())
+                .term(courseSection.getTerm())
+                .instructor(courseSection.getInstructor())
+                .enrollments(new ArrayList<>())
+                .enrolledCount(courseSection.getEnrolledCount())
+                .room(courseSection.getRoom())
+                .capacity(courseSection.getCapacity())
+                .schedule(courseSection.getSchedule())
+                .meetingDays(courseSection.getMeetingDays())
+                .meetingStartMinute(courseSection.getMeetingStartMinute())
+                .meetingEndMinute(courseSection.getMeetingEndMinute())
+                .build();
+    }
+
+    private void addPrerequisite(CourseSection courseSection, Long requiredCourseId, BigDecimal minimumGrade) {
+        Course requiredCourse = Course.builder()
+                .id(requiredCourseId)
+                .department("CMSC")
+                .code(125)
+                .title("Introduction to Software")
+                .credits(3)
+                .prerequisites(new ArrayList<>())
+                .build();
+
+        courseSection.getCourse().getPrerequisites().add(Prerequisite.builder()
+                .id(1L)
+                .course(courseSection.getCourse())
+                .requiredCourse(requiredCourse)
+                .minimumGrade(minimumGrade)
+                .build());
+    }
 }
@@ -0,0 +1,249 @@
+package net.tylerwade.registrationsystem.enrollment.admission;
+
+import net.tylerwade.registrationsystem.enrollment.admission.dto.AdmissionStatusDTO;
+import net.tylerwade.registrationsystem.enrollment.admission.dto.AdmissionTicketDTO;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EnrollmentAdmissionQueueTest {
+
+    @Test
+    void admit_FreeSlot_RunsAction() throws HttpRequestException {
+        // Arrange
+        EnrollmentAdmissionQueue admissionQueue = new EnrollmentAdmissionQueue(new AdmissionProperties(1, 10, 100L));
+
+        // Act
+        String result = admissionQueue.admit(() -> "done");
+
+        // Assert
+        assertEquals("done", result);
+        AdmissionStatusDTO status = admissionQueue.getStatus();
+        assertEquals(0, status.active());
+        assertEquals(0, status.queued());
+        assertEquals(1, status.lastIssuedTicket());
+        assertEquals(1, status.nowServing());
+    }
+
+    @Test
+    void admit_ActionThrows_ReleasesSlot() {
+        // Arrange
+        EnrollmentAdmissionQueue admissionQueue = new EnrollmentAdmissionQueue(new AdmissionProperties(1, 10, 100L));
+
+        // Act
+        assertThrows(HttpRequestException.class, () -> admissionQueue.admit(() -> {
+            throw new HttpRequestException(HttpStatus.BAD_REQUEST, "Invalid");
+        }));
+
+        // Assert
+        assertEquals(0, admissionQueue.getStatus().active());
+    }
+
+    @Test
+    void admit_AllSlotsBusy_ThrowsAfterMaxWait() throws Exception {
+        // Arrange
+        EnrollmentAdmissionQueue admissionQueue = new EnrollmentAdmissionQueue(new AdmissionProperties(1, 10, 50L));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<Object> holder = executor.submit(() -> admissionQueue.admit(() -> {
+                holding.countDown();
+                awaitQuietly(release);
+                return null;
+            }));
+            assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+            // Act & Assert
+            HttpRequestException exception = assertThrows(HttpRequestException.class, () -> admissionQueue.admit(() -> "never"));
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
+            assertEquals(1, admissionQueue.getStatus().active());
+
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(0, admissionQueue.getStatus().active());
+    }
+
+    @Test
+    void admit_QueueFull_ThrowsImmediately() throws Exception {
+        // Arrange
+        EnrollmentAdmissionQueue admissionQueue = new EnrollmentAdmissionQueue(new AdmissionProperties(1, 0, 5_000L));
+
+        // Act & Assert
+        long start = System.nanoTime();
+        HttpRequestException exception = assertThrows(HttpRequestException.class, () -> admissionQueue.admit(() -> "never"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1_000);
+        assertEquals(0, admissionQueue.getStatus().queued());
+    }
+
+    @Test
+    void admit_QueueFull_IssuesNoTicket() {
+        // Arrange
+        EnrollmentAdmissionQueue admissionQueue = new EnrollmentAdmissionQueue(new AdmissionProperties(1, 0, 5_000L));
+        AtomicLong issued = new AtomicLong();
+
+        // Act
+        assertThrows(HttpRequestException.class, () -> admissionQueue.admit(issued::set, () -> "never"));
+
+        // Assert: turned away requests leave no gap in the ticket numbers, so positions stay exact
+        assertEquals(0, issued.get());
+        AdmissionStatusDTO status = admissionQueue.getStatus();
+        assertEquals(0, status.lastIssuedTicket());
+        assertEquals(0, status.nowServing());
+    }
+
+    @Test
+    void getTicketStatus_IssuedTicket_ReportsPositionWhileItsRequestWaits() throws Exception {
+        // Arrange: one request holds the only slot, and a client takes two tickets up front
+        EnrollmentAdmissionQueue admissionQueue = new EnrollmentAdmissionQueue(new AdmissionProperties(1, 10, 5_000L));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(3)) {
+            Future<Object> holder = executor.submit(() -> admissionQueue.admit(() -> {
+                holding.countDown();
+                awaitQuietly(release);
+                return null;
+            }));
+            assertTrue(holding.await(5, TimeUnit.SECONDS));
+            long second = admissionQueue.issueTicket();
+            long third = admissionQueue.issueTicket();
+
+            // Act: the later ticket is claimed first, and its request blocks
+            Future<String> thirdRequest = executor.submit(() -> admissionQueue.admit(third, ticket -> {
+            }, () -> {
+                order.add("third");
+                return "third";
+            }));
+            Thread.sleep(50);
+            AdmissionTicketDTO thirdStatus = admissionQueue.getTicketStatus(third);
+            Future<String> secondRequest = executor.submit(() -> admissionQueue.admit(second, ticket -> {
+            }, () -> {
+                order.add("second");
+                return "second";
+            }));
+
+            // Assert
+            assertFalse(thirdRequest.isDone());
+            assertTrue(thirdStatus.waiting());
+            assertEquals(1, thirdStatus.ahead());
+            assertEquals(0, admissionQueue.getTicketStatus(second).ahead());
+
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+            assertEquals("second", secondRequest.get(5, TimeUnit.SECONDS));
+            assertEquals("third", thirdRequest.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(List.of("second", "third"), order);
+        assertEquals(0, admissionQueue.getStatus().queued());
+    }
+
+    @Test
+    void admit_UnclaimedTicketAhead_IsDroppedAtItsDeadline() throws HttpRequestException {
+        // Arrange: a ticket is taken and never claimed
+        EnrollmentAdmissionQueue admissionQueue = new EnrollmentAdmissionQueue(new AdmissionProperties(1, 10, 200L));
+        long unclaimed = admissionQueue.issueTicket();
+
+        // Act
+        String result = admissionQueue.admit(() -> "done");
+
+        // Assert
+        assertEquals("done", result);
+        assertFalse(admissionQueue.getTicketStatus(unclaimed).waiting());
+        assertEquals(0, admissionQueue.getStatus().queued());
+    }
+
+    @Test
+    void admit_UnknownTicket_ThrowsHttpRequestException() {
+        EnrollmentAdmissionQueue admissionQueue = new EnrollmentAdmissionQueue(new AdmissionProperties(1, 10, 100L));
+
+        HttpRequestException exception = assertThrows(HttpRequestException.class, () -> admissionQueue.admit(7L, ticket -> {
+        }, () -> "never"));
+        assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+        assertEquals(0, admissionQueue.getStatus().queued());
+    }
+
+    @Test
+    void getTicketStatus_WaitingTicket_ReportsTicketsAhead() throws Exception {
+        // Arrange: one request holds the only slot and two more wait behind it
+        EnrollmentAdmissionQueue admissionQueue = new EnrollmentAdmissionQueue(new AdmissionProperties(1, 10, 5_000L));
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicLong secondTicket = new AtomicLong();
+        AtomicLong thirdTicket = new AtomicLong();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(3)) {
+            Future<Object> holder = executor.submit(() -> admissionQueue.admit(() -> {
+                holding.countDown();
+                awaitQuietly(release);
+                return null;
+            }));
+            assertTrue(holding.await(5, TimeUnit.SECONDS));
+            Future<String> second = executor.submit(() -> admissionQueue.admit(secondTicket::set, () -> "second"));
+            awaitQueued(admissionQueue, 1);
+            Future<String> third = executor.submit(() -> admissionQueue.admit(thirdTicket::set, () -> "third"));
+            awaitQueued(admissionQueue, 2);
+
+            // Act
+            AdmissionTicketDTO secondStatus = admissionQueue.getTicketStatus(secondTicket.get());
+            AdmissionTicketDTO thirdStatus = admissionQueue.getTicketStatus(thirdTicket.get());
+
+            // Assert
+            assertTrue(secondStatus.waiting());
+            assertEquals(0, secondStatus.ahead());
+            assertTrue(thirdStatus.waiting());
+            assertEquals(1, thirdStatus.ahead());
+            assertEquals(1, thirdStatus.nowServing());
+
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+            assertEquals("second", second.get(5, TimeUnit.SECONDS));
+            assertEquals("third", third.get(5, TimeUnit.SECONDS));
+        }
+
+        AdmissionTicketDTO done = admissionQueue.getTicketStatus(thirdTicket.get());
+        assertFalse(done.waiting());
+        assertEquals(0, done.ahead());
+        assertEquals(thirdTicket.get(), done.nowServing());
+    }
+
+    @Test
+    void getTicketStatus_UnknownTicket_ThrowsHttpRequestException() {
+        EnrollmentAdmissionQueue admissionQueue = new EnrollmentAdmissionQueue(new AdmissionProperties(1, 10, 100L));
+
+        HttpRequestException exception = assertThrows(HttpRequestException.class, () -> admissionQueue.getTicketStatus(1));
+        assertEquals(HttpStatus.NOT_FOUND, exception.getHttpStatus());
+    }
+
+    private static void awaitQueued(EnrollmentAdmissionQueue admissionQueue, int queued) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (admissionQueue.getStatus().queued() < queued && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(queued, admissionQueue.getStatus().queued());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package net.tylerwade.registrationsystem.enrollment.idempotency;
+
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdempotencyStoreTest {
+
+    private IdempotencyStore idempotencyStore;
+    private Authentication studentAuth;
+    private Authentication otherStudentAuth;
+
+    @BeforeEach
+    void setup() {
+        idempotencyStore = new IdempotencyStore(new IdempotencyProperties(100L, 60L));
+        studentAuth = new UsernamePasswordAuthenticationToken("student@example.com", null);
+        otherStudentAuth = new UsernamePasswordAuthenticationToken("otherstudent@example.com", null);
+    }
+
+    @Test
+    void execute_SameKey_RunsOnceAndReplaysResult() throws HttpRequestException {
+        // Arrange
+        AtomicInteger runs = new AtomicInteger();
+
+        // Act
+        String first = idempotencyStore.execute("key-1", studentAuth, "enrollment.create", "3:1", () -> "created " + runs.incrementAndGet());
+        String retry = idempotencyStore.execute("key-1", studentAuth, "enrollment.create", "3:1", () -> "created " + runs.incrementAndGet());
+
+        // Assert
+        assertEquals("created 1", first);
+        assertEquals(first, retry);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void execute_NoKey_AlwaysRuns() throws HttpRequestException {
+        AtomicInteger runs = new AtomicInteger();
+
+        idempotencyStore.execute(null, studentAuth, "enrollment.create", "3:1", runs::incrementAndGet);
+        idempotencyStore.execute(null, studentAuth, "enrollment.create", "3:1", runs::incrementAndGet);
+
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void execute_KeysAreScopedToUserAndOperation() throws HttpRequestException {
+        AtomicInteger runs = new AtomicInteger();
+
+        idempotencyStore.execute("key-1", studentAuth, "enrollment.create", "3:1", runs::incrementAndGet);
+        idempotencyStore.execute("key-1", otherStudentAuth, "enrollment.create", "3:1", runs::incrementAndGet);
+        idempotencyStore.execute("key-1", studentAuth, "enrollment.delete", "3:1", runs::incrementAndGet);
+
+        assertEquals(3, runs.get());
+    }
+
+    @Test
+    void execute_ClientError_IsReplayed() {
+        // Arrange
+        AtomicInteger runs = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < 2; i++) {
+            HttpRequestException exception = assertThrows(HttpRequestException.class, () -> idempotencyStore.execute("key-1", studentAuth, "enrollment.create", "3:1", () -> {
+                runs.incrementAndGet();
+                throw new HttpRequestException(HttpStatus.NOT_ACCEPTABLE, "Full");
+            }));
+            assertEquals(HttpStatus.NOT_ACCEPTABLE, exception.getHttpStatus());
+        }
+
+        // Assert
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void execute_ServerError_IsNotStored() throws HttpRequestException {
+        // Arrange
+        AtomicInteger runs = new AtomicInteger();
+
+        // Act
+        HttpRequestException exception = assertThrows(HttpRequestException.class, () -> idempotencyStore.execute("key-1", studentAuth, "enrollment.create", "3:1", () -> {
+            runs.incrementAndGet();
+            throw new HttpRequestException(HttpStatus.SERVICE_UNAVAILABLE, "Busy");
+        }));
+        Integer retry = idempotencyStore.execute("key-1", studentAuth, "enrollment.create", "3:1", runs::incrementAndGet);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getHttpStatus());
+        assertEquals(2, retry);
+    }
+
+    @Test
+    void execute_SameKeyDifferentRequest_ThrowsHttpRequestException() throws HttpRequestException {
+        idempotencyStore.execute("key-1", studentAuth, "enrollment.create", "3:1", () -> "created");
+
+        HttpRequestException exception = assertThrows(HttpRequestException.class,
+                () -> idempotencyStore.execute("key-1", studentAuth, "enrollment.create", "3:2", () -> "created"));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, exception.getHttpStatus());
+    }
+}
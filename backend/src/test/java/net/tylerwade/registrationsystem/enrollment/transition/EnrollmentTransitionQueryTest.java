@@ -0,0 +1,142 @@
+package net.tylerwade.registrationsystem.enrollment.transition;
+
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.auth.UserRepository;
+import net.tylerwade.registrationsystem.course.Course;
+import net.tylerwade.registrationsystem.course.CourseRepository;
+import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.coursesection.CourseSectionRepository;
+import net.tylerwade.registrationsystem.enrollment.Enrollment;
+import net.tylerwade.registrationsystem.enrollment.EnrollmentId;
+import net.tylerwade.registrationsystem.enrollment.EnrollmentRepository;
+import net.tylerwade.registrationsystem.enrollment.enums.EnrollmentStatus;
+import net.tylerwade.registrationsystem.term.Term;
+import net.tylerwade.registrationsystem.term.TermRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the bulk status transitions against a real database, so the grade conditions of the update statements are
+ * exercised rather than mocked.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class EnrollmentTransitionQueryTest {
+
+    private static final BigDecimal PASSING_GRADE = new BigDecimal("60");
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private CourseSectionRepository courseSectionRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TermRepository termRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private EnrollmentTransitionServiceImpl enrollmentTransitionService;
+    private CourseSection courseSection;
+
+    @BeforeEach
+    void setup() {
+        enrollmentTransitionService = new EnrollmentTransitionServiceImpl(enrollmentRepository,
+                new EnrollmentTransitionProperties(100, PASSING_GRADE), event -> {
+                });
+
+        // A term that ended yesterday
+        Term term = termRepository.save(Term.builder()
+                .registrationStart(LocalDate.now().minusDays(120))
+                .registrationEnd(LocalDate.now().minusDays(100))
+                .startDate(LocalDate.now().minusDays(90))
+                .endDate(LocalDate.now().minusDays(1))
+                .build());
+
+        Course course = courseRepository.save(Course.builder()
+                .department("CMSC")
+                .code(325)
+                .title("Software Principles I")
+                .description("Learn about software principles!")
+                .credits(3)
+                .prerequisites(new ArrayList<>())
+                .courseSections(new ArrayList<>())
+                .build());
+
+        courseSection = courseSectionRepository.save(CourseSection.builder()
+                .course(course)
+                .term(term)
+                .room("Remote")
+                .capacity(10)
+                .schedule("TBA")
+                .enrolledCount(3)
+                .build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        enrollmentRepository.deleteAll();
+        courseSectionRepository.deleteAll();
+        courseRepository.deleteAll();
+        termRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void transitionStatuses_EndedTerm_OnlyGradedEnrollmentsLeaveStarted() {
+        // Arrange
+        Long passed = enroll("passed@example.com", new BigDecimal("85"), true);
+        Long failed = enroll("failed@example.com", new BigDecimal("40"), true);
+        Long ungraded = enroll("ungraded@example.com", BigDecimal.ZERO, false);
+
+        // Act
+        EnrollmentTransitionReport report = enrollmentTransitionService.transitionStatuses();
+
+        // Assert
+        assertEquals(new EnrollmentTransitionReport(0, 1, 1), report);
+        assertEquals(EnrollmentStatus.COMPLETED.getValue(), statusOf(passed));
+        assertEquals(EnrollmentStatus.FAILED.getValue(), statusOf(failed));
+        assertEquals(EnrollmentStatus.STARTED.getValue(), statusOf(ungraded));
+    }
+
+    private Long enroll(String username, BigDecimal grade, boolean graded) {
+        User student = userRepository.save(User.builder()
+                .username(username)
+                .firstName("Student")
+                .lastName("Test")
+                .password("encodedPassword")
+                .userAuthorities(new HashSet<>())
+                .build());
+
+        enrollmentRepository.save(Enrollment.builder()
+                .studentId(student.getId())
+                .courseSectionId(courseSection.getId())
+                .grade(grade)
+                .graded(graded)
+                .status(EnrollmentStatus.STARTED.getValue())
+                .build());
+        return student.getId();
+    }
+
+    private String statusOf(Long studentId) {
+        return enrollmentRepository.findById(new EnrollmentId(studentId, courseSection.getId())).orElseThrow().getStatus();
+    }
+}
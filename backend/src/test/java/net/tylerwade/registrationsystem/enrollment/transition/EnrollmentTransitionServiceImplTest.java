@@ -0,0 +1,73 @@
+package net.tylerwade.registrationsystem.enrollment.transition;
+
+import net.tylerwade.registrationsystem.enrollment.EnrollmentRepository;
+import net.tylerwade.registrationsystem.enrollment.transcript.TranscriptChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+@ExtendWith(MockitoExtension.class)
+public class EnrollmentTransitionServiceImplTest {
+
+    private static final BigDecimal PASSING_GRADE = new BigDecimal("60");
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private EnrollmentTransitionServiceImpl enrollmentTransitionService;
+
+    @BeforeEach
+    void setup() {
+        enrollmentTransitionService = new EnrollmentTransitionServiceImpl(enrollmentRepository, new EnrollmentTransitionProperties(2, PASSING_GRADE), eventPublisher);
+    }
+
+    @Test
+    void transitionStatuses_StartedTerms_UpdatesInChunks() {
+        // Arrange
+        Mockito.when(enrollmentRepository.findCourseSectionIdsWithStatusAndTermStartedBy(eq("NOT_STARTED"), any())).thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+        Mockito.when(enrollmentRepository.findCourseSectionIdsWithStatusAndTermEndedBefore(eq("STARTED"), any())).thenReturn(List.of());
+        Mockito.when(enrollmentRepository.updateStatusForCourseSections(eq("NOT_STARTED"), eq("STARTED"), any())).thenReturn(10);
+
+        // Act
+        EnrollmentTransitionReport report = enrollmentTransitionService.transitionStatuses();
+
+        // Assert
+        assertEquals(new EnrollmentTransitionReport(30, 0, 0), report);
+        Mockito.verify(enrollmentRepository).updateStatusForCourseSections("NOT_STARTED", "STARTED", List.of(1L, 2L));
+        Mockito.verify(enrollmentRepository).updateStatusForCourseSections("NOT_STARTED", "STARTED", List.of(3L, 4L));
+        Mockito.verify(enrollmentRepository).updateStatusForCourseSections("NOT_STARTED", "STARTED", List.of(5L));
+        Mockito.verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void transitionStatuses_EndedTerms_SplitsByPassingGrade() {
+        // Arrange
+        Mockito.when(enrollmentRepository.findCourseSectionIdsWithStatusAndTermStartedBy(eq("NOT_STARTED"), any())).thenReturn(List.of());
+        Mockito.when(enrollmentRepository.findCourseSectionIdsWithStatusAndTermEndedBefore(eq("STARTED"), any())).thenReturn(List.of(7L, 8L, 9L));
+        Mockito.when(enrollmentRepository.updateStatusForCourseSectionsWithGradeAtLeast(eq("STARTED"), eq("COMPLETED"), any(), eq(PASSING_GRADE))).thenReturn(4);
+        Mockito.when(enrollmentRepository.updateStatusForCourseSectionsWithGradeBelow(eq("STARTED"), eq("FAILED"), any(), eq(PASSING_GRADE))).thenReturn(1);
+
+        // Act
+        EnrollmentTransitionReport report = enrollmentTransitionService.transitionStatuses();
+
+        // Assert
+        assertEquals(new EnrollmentTransitionReport(0, 8, 2), report);
+        assertEquals(10, report.total());
+        Mockito.verify(enrollmentRepository, Mockito.never()).updateStatusForCourseSections(any(), any(), any());
+        Mockito.verify(eventPublisher).publishEvent(TranscriptChangedEvent.all());
+    }
+}
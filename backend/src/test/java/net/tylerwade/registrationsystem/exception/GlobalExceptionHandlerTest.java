@@ -0,0 +1,31 @@
+package net.tylerwade.registrationsystem.exception;
+
+import net.tylerwade.registrationsystem.common.ErrorResponse;
+import net.tylerwade.registrationsystem.config.AppProperties;
+import net.tylerwade.registrationsystem.config.security.password.LoginThrottledException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+public class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler(new AppProperties("production"));
+
+    @Test
+    void handleLoginThrottledException_ServiceUnavailableWithRetryAfter() {
+        // Arrange
+        LoginThrottledException exception = new LoginThrottledException("Login is busy. Please try again shortly.", 3);
+
+        // Act
+        ResponseEntity<?> response = globalExceptionHandler.handleLoginThrottledException(exception);
+
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("3", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(exception.getMessage(), assertInstanceOf(ErrorResponse.class, response.getBody()).getMessage());
+    }
+}
@@ -0,0 +1,136 @@
+package net.tylerwade.registrationsystem.prerequisite;
+
+import net.tylerwade.registrationsystem.prerequisites.PrerequisiteEdge;
+import net.tylerwade.registrationsystem.prerequisites.PrerequisiteGraph;
+import net.tylerwade.registrationsystem.prerequisites.PrerequisiteRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+@ExtendWith(MockitoExtension.class)
+public class PrerequisiteGraphTest {
+
+    @Mock
+    private PrerequisiteRepository prerequisiteRepository;
+
+    private PrerequisiteGraph prerequisiteGraph;
+
+    @BeforeEach
+    void setup() {
+        // 4 requires 2 and 3, 2 and 3 both require 1
+        Mockito.when(prerequisiteRepository.findAllEdges()).thenReturn(List.of(
+                new PrerequisiteEdge(2L, 1L),
+                new PrerequisiteEdge(3L, 1L),
+                new PrerequisiteEdge(4L, 2L),
+                new PrerequisiteEdge(4L, 3L)
+        ));
+
+        prerequisiteGraph = new PrerequisiteGraph(prerequisiteRepository);
+    }
+
+    @Test
+    void findRequirementChain_ListsRequirementsBeforeDependents() {
+        // Act
+        List<Long> chain = prerequisiteGraph.findRequirementChain(4L);
+
+        // Assert
+        Assertions.assertEquals(3, chain.size());
+        Assertions.assertEquals(1L, chain.getFirst());
+        Assertions.assertTrue(chain.containsAll(List.of(2L, 3L)));
+    }
+
+    @Test
+    void findRequirementChain_UnknownCourse_ReturnsEmpty() {
+        Assertions.assertTrue(prerequisiteGraph.findRequirementChain(99L).isEmpty());
+    }
+
+    @Test
+    void tryAddEdge_TransitiveCycle_ReturnsFalse() {
+        // 1 -> 4 would close 4 -> 2 -> 1
+        Assertions.assertTrue(prerequisiteGraph.createsCycle(1L, 4L));
+        Assertions.assertTrue(prerequisiteGraph.tryAddEdge(1L, 4L, () -> "saved").isEmpty());
+        Assertions.assertTrue(prerequisiteGraph.tryAddEdge(1L, 1L, () -> "saved").isEmpty());
+    }
+
+    @Test
+    void tryAddEdge_ExtendsClosureOfDependents() {
+        // Act
+        Assertions.assertEquals(Optional.of("saved"), prerequisiteGraph.tryAddEdge(1L, 5L, () -> "saved"));
+
+        // Assert
+        Assertions.assertTrue(prerequisiteGraph.findRequirementChain(4L).contains(5L));
+        Assertions.assertTrue(prerequisiteGraph.createsCycle(5L, 4L));
+    }
+
+    @Test
+    void tryAddEdge_SaveFails_RemovesEdge() {
+        // Act
+        Assertions.assertThrows(IllegalStateException.class, () -> prerequisiteGraph.tryAddEdge(1L, 5L, () -> {
+            throw new IllegalStateException("Save failed");
+        }));
+
+        // Assert
+        Assertions.assertFalse(prerequisiteGraph.findRequirementChain(4L).contains(5L));
+        Assertions.assertFalse(prerequisiteGraph.createsCycle(5L, 4L));
+    }
+
+    @Test
+    void tryAddEdge_SaveFailsForExistingEdge_KeepsEdge() {
+        // Act: 2 -> 1 is already in the graph, e.g. because a concurrent create saved it
+        Assertions.assertThrows(IllegalStateException.class, () -> prerequisiteGraph.tryAddEdge(2L, 1L, () -> {
+            throw new IllegalStateException("Duplicate prerequisite");
+        }));
+
+        // Assert
+        Assertions.assertEquals(List.of(1L), prerequisiteGraph.findRequirementChain(2L));
+    }
+
+    @Test
+    void reload_PicksUpChangesFromOtherNodes() {
+        // Arrange
+        prerequisiteGraph.findRequirementChain(4L);
+        Mockito.when(prerequisiteRepository.findAllEdges()).thenReturn(List.of(
+                new PrerequisiteEdge(2L, 1L),
+                new PrerequisiteEdge(4L, 2L),
+                new PrerequisiteEdge(5L, 4L)
+        ));
+
+        // Act
+        prerequisiteGraph.reload();
+
+        // Assert
+        Assertions.assertEquals(List.of(1L, 2L), prerequisiteGraph.findRequirementChain(4L));
+        Assertions.assertEquals(List.of(1L, 2L, 4L), prerequisiteGraph.findRequirementChain(5L));
+        Assertions.assertTrue(prerequisiteGraph.findRequirementChain(3L).isEmpty());
+    }
+
+    @Test
+    void removeEdge_KeepsRequirementsReachableByAnotherPath() {
+        // Act
+        prerequisiteGraph.findRequirementChain(4L);
+        prerequisiteGraph.removeEdge(2L, 1L);
+
+        // Assert
+        Assertions.assertEquals(List.of(), prerequisiteGraph.findRequirementChain(2L));
+        Assertions.assertTrue(prerequisiteGraph.findRequirementChain(4L).contains(1L)); // Still via 3
+        Assertions.assertFalse(prerequisiteGraph.createsCycle(1L, 2L));
+    }
+
+    @Test
+    void removeCourse_RemovesAllEdges() {
+        // Act
+        prerequisiteGraph.findRequirementChain(4L);
+        prerequisiteGraph.removeCourse(4L);
+
+        // Assert
+        Assertions.assertTrue(prerequisiteGraph.findRequirementChain(4L).isEmpty());
+        Assertions.assertFalse(prerequisiteGraph.createsCycle(1L, 4L));
+    }
+}
@@ -4,6 +4,7 @@ import net.tylerwade.registrationsystem.course.Course;
 import net.tylerwade.registrationsystem.course.CourseService;
 import net.tylerwade.registrationsystem.exception.HttpRequestException;
 import net.tylerwade.registrationsystem.prerequisites.Prerequisite;
+import net.tylerwade.registrationsystem.prerequisites.PrerequisiteGraph;
 import net.tylerwade.registrationsystem.prerequisites.PrerequisiteRepository;
 import net.tylerwade.registrationsystem.prerequisites.PrerequisiteServiceImpl;
 import net.tylerwade.registrationsystem.prerequisites.dto.ManagePrerequisiteRequest;
@@ -15,13 +16,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
 @ExtendWith(MockitoExtension.class)
 public class PrerequisiteServiceImplTest {
@@ -32,6 +36,12 @@ public class PrerequisiteServiceImplTest {
     @Mock
     private PrerequisiteRepository prerequisiteRepository;
 
+    @Mock
+    private PrerequisiteGraph prerequisiteGraph;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PrerequisiteServiceImpl prerequisiteService;
 
@@ -127,6 +137,8 @@ public class PrerequisiteServiceImplTest {
                 .minimumGrade(managePrerequisiteRequest.minimumGrade())
                 .build();
 
+        Mockito.when(prerequisiteGraph.tryAddEdge(eq(course.getId()), eq(requiredCourse.getId()), any()))
+                .thenAnswer(invocation -> Optional.of(invocation.<Supplier<?>>getArgument(2).get()));
         Mockito.when(prerequisiteRepository.save(any())).thenReturn(expected);
 
         // Act & Assert
@@ -138,6 +150,29 @@ public class PrerequisiteServiceImplTest {
         Assertions.assertEquals(managePrerequisiteRequest.minimumGrade(), prerequisite.getMinimumGrade());
     }
 
+    @Test
+    void create_CreatesCycle_ThrowsHttpRequestException() throws HttpRequestException {
+        // Arrange
+        var course = mockCourses.get(0);
+        var requiredCourse = mockCourses.get(1); // Already requires course
+
+        ManagePrerequisiteRequest managePrerequisiteRequest = new ManagePrerequisiteRequest(
+                requiredCourse.getId(),
+                new BigDecimal(80)
+        );
+
+        Mockito.when(prerequisiteRepository.existsByCourse_IdAndRequiredCourse_Id(course.getId(), requiredCourse.getId())).thenReturn(false);
+        Mockito.when(courseService.findById(course.getId())).thenReturn(course);
+        Mockito.when(courseService.findById(requiredCourse.getId())).thenReturn(requiredCourse);
+        Mockito.when(prerequisiteGraph.tryAddEdge(eq(course.getId()), eq(requiredCourse.getId()), any())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        var exception = Assertions.assertThrows(HttpRequestException.class, () -> prerequisiteService.create(course.getId(), managePrerequisiteRequest));
+
+        Assertions.assertEquals(HttpStatus.CONFLICT, exception.getHttpStatus());
+        Mockito.verify(prerequisiteRepository, Mockito.never()).save(any());
+    }
+
     @Test
     void update_NotFound_ThrowsHttpRequestException() {
         // Arrange
@@ -192,7 +227,7 @@ public class PrerequisiteServiceImplTest {
         // Arrange
         Long nonExistentPrerequisiteId = 999L;
 
-        Mockito.when(prerequisiteRepository.existsById(nonExistentPrerequisiteId)).thenReturn(false);
+        Mockito.when(prerequisiteRepository.findById(nonExistentPrerequisiteId)).thenReturn(Optional.empty());
 
         // Act & Assert
         HttpRequestException exception = Assertions.assertThrows(HttpRequestException.class, () ->
@@ -207,14 +242,16 @@ public class PrerequisiteServiceImplTest {
         // Arrange
         Long existingPrerequisiteId = 1L;
 
-        Mockito.when(prerequisiteRepository.existsById(existingPrerequisiteId)).thenReturn(true);
-        Mockito.doNothing().when(prerequisiteRepository).deleteById(existingPrerequisiteId);
+        Prerequisite prerequisite = mockPrerequisites.getFirst();
+
+        Mockito.when(prerequisiteRepository.findById(existingPrerequisiteId)).thenReturn(Optional.of(prerequisite));
 
         // Act
         prerequisiteService.delete(existingPrerequisiteId);
 
         // Assert
-        Mockito.verify(prerequisiteRepository).deleteById(existingPrerequisiteId);
+        Mockito.verify(prerequisiteRepository).delete(prerequisite);
+        Mockito.verify(prerequisiteGraph).removeEdge(prerequisite.getCourse().getId(), prerequisite.getRequiredCourse().getId());
     }
 
 
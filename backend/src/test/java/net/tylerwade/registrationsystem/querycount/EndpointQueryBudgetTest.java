@@ -0,0 +1,372 @@
+package net.tylerwade.registrationsystem.querycount;
+
+import jakarta.persistence.EntityManagerFactory;
+import net.tylerwade.registrationsystem.auth.DefaultAccountsInitializer;
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.auth.UserRepository;
+import net.tylerwade.registrationsystem.auth.authority.Authority;
+import net.tylerwade.registrationsystem.auth.authority.AuthorityRepository;
+import net.tylerwade.registrationsystem.course.Course;
+import net.tylerwade.registrationsystem.course.CourseRepository;
+import net.tylerwade.registrationsystem.course.catalog.CourseCatalogChangedEvent;
+import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.coursesection.CourseSectionRepository;
+import net.tylerwade.registrationsystem.enrollment.Enrollment;
+import net.tylerwade.registrationsystem.enrollment.EnrollmentRepository;
+import net.tylerwade.registrationsystem.enrollment.enums.EnrollmentStatus;
+import net.tylerwade.registrationsystem.prerequisites.Prerequisite;
+import net.tylerwade.registrationsystem.prerequisites.PrerequisiteRepository;
+import net.tylerwade.registrationsystem.term.Term;
+import net.tylerwade.registrationsystem.term.TermRepository;
+import net.tylerwade.registrationsystem.waitlist.WaitlistEntry;
+import net.tylerwade.registrationsystem.waitlist.WaitlistRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Seeds a realistic dataset into H2 and holds every read endpoint, and the enrollment and waitlist writes, to a
+ * budget of statements, entities loaded and collections fetched, so a query regression such as an N+1 fails the build.
+ * Each request runs against a cold course catalog cache.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "jwt.secret=query-count-test-secret-0123456789abcdef",
+        "jwt.issuer=query-count-test",
+        "cors.client-url=http://localhost"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class EndpointQueryBudgetTest {
+
+    private static final int COURSES = 20;
+    private static final int SECTIONS_PER_COURSE = 3;
+    private static final int STUDENTS = 40;
+    private static final int ENROLLMENTS_PER_STUDENT = 4;
+
+    private static final String ADMIN = "admin@example.com";
+    private static final String INSTRUCTOR = "instructor@example.com";
+    private static final String STUDENT = "student0@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private AuthorityRepository authorityRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TermRepository termRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseSectionRepository courseSectionRepository;
+
+    @Autowired
+    private PrerequisiteRepository prerequisiteRepository;
+
+    @Autowired
+    private EnrollmentRepository enrollmentRepository;
+
+    @Autowired
+    private WaitlistRepository waitlistRepository;
+
+    // The dataset below brings its own accounts
+    @MockitoBean
+    private DefaultAccountsInitializer defaultAccountsInitializer;
+
+    private Statistics statistics;
+    private final Map<String, Long> ids = new HashMap<>();
+
+    @BeforeAll
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Authority admin = authorityRepository.save(Authority.builder().name("ADMIN").build());
+        Authority instructor = authorityRepository.save(Authority.builder().name("INSTRUCTOR").build());
+        Authority student = authorityRepository.save(Authority.builder().name("STUDENT").build());
+
+        ids.put("admin", user(ADMIN, admin).getId());
+        User teacher = user(INSTRUCTOR, instructor);
+        List<User> students = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            students.add(user("student" + i + "@example.com", student));
+        }
+        ids.put("student", students.getFirst().getId());
+
+        List<Term> terms = List.of(
+                termRepository.save(term(LocalDate.of(2025, 1, 15))),
+                termRepository.save(term(LocalDate.of(2025, 8, 15))),
+                termRepository.save(term(LocalDate.of(2026, 1, 15))));
+        ids.put("term", terms.getFirst().getId());
+
+        List<CourseSection> sections = new ArrayList<>();
+        Course previous = null;
+        for (int i = 0; i < COURSES; i++) {
+            Course course = courseRepository.save(Course.builder()
+                    .department(i % 2 == 0 ? "CMSC" : "MATH")
+                    .code(100 + i)
+                    .title("Course " + i)
+                    .description("Description of course " + i)
+                    .credits(3)
+                    .prerequisites(new ArrayList<>())
+                    .courseSections(new ArrayList<>())
+                    .build());
+
+            // Chains of five courses, each requiring the one before it
+            if (previous != null && i % 5 != 0) {
+                prerequisiteRepository.save(Prerequisite.builder().course(course).requiredCourse(previous).minimumGrade(new BigDecimal(60)).build());
+            }
+            previous = course;
+
+            for (int j = 0; j < SECTIONS_PER_COURSE; j++) {
+                sections.add(courseSectionRepository.save(CourseSection.builder()
+                        .course(course)
+                        .term(terms.get(j))
+                        .instructor(teacher)
+                        .room("Room " + i + j)
+                        .capacity(30)
+                        .schedule("M - F 12:00 PM - 1:30 PM")
+                        .enrolledCount(0)
+                        .build()));
+            }
+        }
+        ids.put("course", sections.getLast().getCourse().getId());
+        ids.put("section", sections.getFirst().getId());
+
+        for (int i = 0; i < STUDENTS; i++) {
+            for (int j = 0; j < ENROLLMENTS_PER_STUDENT; j++) {
+                CourseSection section = sections.get((i + j * 7) % sections.size());
+                enrollmentRepository.save(Enrollment.builder()
+                        .studentId(students.get(i).getId())
+                        .courseSectionId(section.getId())
+                        .grade(BigDecimal.ZERO)
+                        .status(EnrollmentStatus.NOT_STARTED.getValue())
+                        .build());
+            }
+        }
+        sections.forEach(section -> courseSectionRepository.recountEnrollments(section.getId()));
+
+        for (int j = 1; j <= 3; j++) {
+            waitlistRepository.save(WaitlistEntry.builder().student(students.getFirst()).courseSection(sections.get(sections.size() - j)).build());
+        }
+
+        seedOpenTerm(students, teacher);
+    }
+
+    /**
+     * The write endpoints need a term that is open for registration. Each write case acts as its own student, so the
+     * cases do not depend on the order they run in.
+     */
+    private void seedOpenTerm(List<User> students, User teacher) {
+        Term open = termRepository.save(term(LocalDate.now().plusDays(14)));
+        Course course = courseRepository.save(Course.builder()
+                .department("CMSC")
+                .code(100 + COURSES)
+                .title("Course " + COURSES)
+                .description("Description of course " + COURSES)
+                .credits(3)
+                .prerequisites(new ArrayList<>())
+                .courseSections(new ArrayList<>())
+                .build());
+
+        CourseSection morning = courseSectionRepository.save(section(course, open, teacher, 30, "M - F 8:00 AM - 9:00 AM"));
+        CourseSection afternoon = courseSectionRepository.save(section(course, open, teacher, 30, "M - F 2:00 PM - 3:00 PM"));
+        CourseSection full = courseSectionRepository.save(section(course, open, teacher, 1, "M - F 4:00 PM - 5:00 PM"));
+        ids.put("morning", morning.getId());
+        ids.put("afternoon", afternoon.getId());
+        ids.put("full", full.getId());
+
+        for (int i = 1; i <= 4; i++) {
+            ids.put("student" + i, students.get(i).getId());
+        }
+
+        // student3 drops the afternoon section, student5 holds the only seat of the full one
+        enrollmentRepository.save(openEnrollment(students.get(3), afternoon));
+        enrollmentRepository.save(openEnrollment(students.get(5), full));
+        courseSectionRepository.recountEnrollments(afternoon.getId());
+        courseSectionRepository.recountEnrollments(full.getId());
+    }
+
+    /**
+     * Budgets per endpoint: statements, entities loaded, collections fetched.
+     * Raise one only together with the change that justifies it.
+     * The entity-backed course reads load the prerequisite chain one course at a time, so theirs track the chain length above.
+     */
+    Stream<Arguments> endpoints() {
+        return Stream.of(
+                endpoint("current user", ADMIN, "/api/auth", 2, 2, 1),
+                endpoint("all users", ADMIN, "/api/auth/users", 2, 45, 1),
+                endpoint("all courses", ADMIN, "/api/courses", 5, 106, 3),
+                endpoint("course by id", ADMIN, "/api/courses/{course}", 13, 29, 11),
+                endpoint("course page", ADMIN, "/api/courses/page?size=20", 2, 0, 0),
+                endpoint("course scroll", ADMIN, "/api/courses/scroll?size=20", 1, 0, 0),
+                endpoint("course search", ADMIN, "/api/courses/search?q=course", 1, 0, 0),
+                endpoint("course suggest", ADMIN, "/api/courses/suggest?q=cm", 1, 0, 0),
+                endpoint("prerequisites", ADMIN, "/api/courses/{course}/prerequisites", 14, 29, 11),
+                endpoint("requirement chain", ADMIN, "/api/courses/{course}/prerequisites/chain", 1, 0, 0),
+                endpoint("all sections", ADMIN, "/api/sections", 2, 0, 0),
+                endpoint("sections of course", ADMIN, "/api/sections?courseId={course}", 2, 0, 0),
+                endpoint("section by id", ADMIN, "/api/sections/{section}", 2, 0, 0),
+                endpoint("section page", ADMIN, "/api/sections/page?size=20", 2, 0, 0),
+                endpoint("section scroll", ADMIN, "/api/sections/scroll?size=20", 1, 0, 0),
+                endpoint("assigned sections", INSTRUCTOR, "/api/sections/assigned", 5, 2, 1),
+                endpoint("assigned section by id", INSTRUCTOR, "/api/sections/assigned/{section}", 5, 2, 1),
+                endpoint("student enrollments", STUDENT, "/api/enrollments?studentId={student}", 6, 2, 1),
+                endpoint("student waitlist", STUDENT, "/api/waitlist?studentId={student}", 2, 3, 0),
+                endpoint("all terms", ADMIN, "/api/terms", 1, 4, 0),
+                endpoint("term page", ADMIN, "/api/terms/page?size=20", 2, 4, 0),
+                endpoint("term by id", ADMIN, "/api/terms/{term}", 1, 1, 0));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("endpoints")
+    void endpointStaysWithinBudget(String name, String username, String url, QueryCount budget) throws Exception {
+        // Arrange: a cold catalog cache and a clean slate
+        eventPublisher.publishEvent(CourseCatalogChangedEvent.all());
+        statistics.clear();
+
+        // Act
+        mockMvc.perform(get(expand(url)).with(jwt().jwt(token -> token.subject(username)).authorities(authoritiesOf(username))))
+                .andExpect(status().isOk());
+        QueryCount actual = QueryCount.of(statistics);
+
+        // Assert
+        assertTrue(actual.fits(budget), () -> name + " exceeded its query budget: " + actual + " > " + budget);
+    }
+
+    /**
+     * Budgets per write endpoint, measured the same way as the reads.
+     */
+    Stream<Arguments> writeEndpoints() {
+        return Stream.of(
+                write("enroll", "student1@example.com", HttpMethod.POST, "/api/enrollments?studentId={student1}",
+                        "{\"courseSectionId\": {morning}}", 11, 9, 4),
+                write("checkout", "student2@example.com", HttpMethod.POST, "/api/enrollments/checkout?studentId={student2}",
+                        "{\"courseSectionIds\": [{morning}, {afternoon}], \"mode\": \"ALL_OR_NOTHING\"}", 15, 9, 4),
+                write("drop", "student3@example.com", HttpMethod.DELETE, "/api/enrollments?studentId={student3}&courseSectionId={afternoon}",
+                        null, 10, 10, 4),
+                write("join waitlist", "student4@example.com", HttpMethod.POST, "/api/waitlist?studentId={student4}",
+                        "{\"courseSectionId\": {full}}", 12, 9, 4));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("writeEndpoints")
+    void writeEndpointStaysWithinBudget(String name, String username, HttpMethod method, String url, String body, QueryCount budget) throws Exception {
+        // Arrange
+        statistics.clear();
+        MockHttpServletRequestBuilder request = request(method, expand(url))
+                .with(jwt().jwt(token -> token.subject(username)).authorities(authoritiesOf(username)));
+        if (body != null) {
+            request.contentType(MediaType.APPLICATION_JSON).content(expand(body));
+        }
+
+        // Act
+        mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+        QueryCount actual = QueryCount.of(statistics);
+
+        // Assert
+        assertTrue(actual.fits(budget), () -> name + " exceeded its query budget: " + actual + " > " + budget);
+    }
+
+    private static Arguments write(String name, String username, HttpMethod method, String url, String body,
+                                   long statements, long entitiesLoaded, long collectionsFetched) {
+        return Arguments.of(name, username, method, url, body, new QueryCount(statements, entitiesLoaded, collectionsFetched));
+    }
+
+    private static Arguments endpoint(String name, String username, String url, long statements, long entitiesLoaded, long collectionsFetched) {
+        return Arguments.of(name, username, url, new QueryCount(statements, entitiesLoaded, collectionsFetched));
+    }
+
+    private String expand(String url) {
+        for (Map.Entry<String, Long> id : ids.entrySet()) {
+            url = url.replace("{" + id.getKey() + "}", String.valueOf(id.getValue()));
+        }
+        return url;
+    }
+
+    private static SimpleGrantedAuthority authoritiesOf(String username) {
+        return switch (username) {
+            case ADMIN -> new SimpleGrantedAuthority("ROLE_ADMIN");
+            case INSTRUCTOR -> new SimpleGrantedAuthority("ROLE_INSTRUCTOR");
+            default -> new SimpleGrantedAuthority("ROLE_STUDENT");
+        };
+    }
+
+    private User user(String username, Authority authority) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .firstName("First")
+                .lastName("Last")
+                .password("encodedPassword")
+                .userAuthorities(new HashSet<>(Set.of(authority)))
+                .build());
+    }
+
+    private static CourseSection section(Course course, Term term, User instructor, int capacity, String schedule) {
+        return CourseSection.builder()
+                .course(course)
+                .term(term)
+                .instructor(instructor)
+                .room("Room " + schedule.hashCode())
+                .capacity(capacity)
+                .schedule(schedule)
+                .enrolledCount(0)
+                .build();
+    }
+
+    private static Enrollment openEnrollment(User student, CourseSection section) {
+        return Enrollment.builder()
+                .studentId(student.getId())
+                .courseSectionId(section.getId())
+                .grade(BigDecimal.ZERO)
+                .status(EnrollmentStatus.NOT_STARTED.getValue())
+                .build();
+    }
+
+    private static Term term(LocalDate startDate) {
+        return Term.builder()
+                .registrationStart(startDate.minusDays(30))
+                .registrationEnd(startDate.minusDays(7))
+                .startDate(startDate)
+                .endDate(startDate.plusDays(110))
+                .build();
+    }
+}
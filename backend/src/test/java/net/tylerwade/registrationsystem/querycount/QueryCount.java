@@ -0,0 +1,21 @@
+package net.tylerwade.registrationsystem.querycount;
+
+import org.hibernate.stat.Statistics;
+
+/**
+ * What one request cost the persistence layer, read from Hibernate statistics.
+ *
+ * @param statements         JDBC statements prepared
+ * @param entitiesLoaded     entities hydrated from result sets
+ * @param collectionsFetched collections initialized, each by its own select
+ */
+record QueryCount(long statements, long entitiesLoaded, long collectionsFetched) {
+
+    static QueryCount of(Statistics statistics) {
+        return new QueryCount(statistics.getPrepareStatementCount(), statistics.getEntityLoadCount(), statistics.getCollectionFetchCount());
+    }
+
+    boolean fits(QueryCount budget) {
+        return statements <= budget.statements && entitiesLoaded <= budget.entitiesLoaded && collectionsFetched <= budget.collectionsFetched;
+    }
+}
@@ -10,6 +10,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 
 import java.time.LocalDate;
@@ -27,6 +28,9 @@ public class TermServiceImplTest {
     @Mock
     private TermRepository termRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
 
     @InjectMocks
     private TermServiceImpl termService;
@@ -206,6 +210,40 @@ public class TermServiceImplTest {
 
         // Assert
         verify(termRepository, times(1)).deleteById(termId);
+        verify(eventPublisher, times(1)).publishEvent(new TermChangedEvent(termId));
+    }
+
+    @Test
+    void findNextBoundary_StartBeforeEnd_ReturnsStartDate() {
+        // Arrange
+        LocalDate today = LocalDate.of(2025, 1, 1);
+        Mockito.when(termRepository.findFirstStartDateAfter(today)).thenReturn(Optional.of(LocalDate.of(2025, 1, 15)));
+        Mockito.when(termRepository.findFirstEndDateOnOrAfter(today)).thenReturn(Optional.of(LocalDate.of(2025, 4, 15)));
+
+        // Act & Assert
+        Assertions.assertEquals(Optional.of(LocalDate.of(2025, 1, 15)), termService.findNextBoundary(today));
+    }
+
+    @Test
+    void findNextBoundary_TermEndsToday_ReturnsDayAfterEnd() {
+        // Arrange
+        LocalDate today = LocalDate.of(2025, 4, 15);
+        Mockito.when(termRepository.findFirstStartDateAfter(today)).thenReturn(Optional.of(LocalDate.of(2025, 4, 22)));
+        Mockito.when(termRepository.findFirstEndDateOnOrAfter(today)).thenReturn(Optional.of(today));
+
+        // Act & Assert
+        Assertions.assertEquals(Optional.of(LocalDate.of(2025, 4, 16)), termService.findNextBoundary(today));
+    }
+
+    @Test
+    void findNextBoundary_NoUpcomingTerms_ReturnsEmpty() {
+        // Arrange
+        LocalDate today = LocalDate.of(2030, 1, 1);
+        Mockito.when(termRepository.findFirstStartDateAfter(today)).thenReturn(Optional.empty());
+        Mockito.when(termRepository.findFirstEndDateOnOrAfter(today)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        Assertions.assertTrue(termService.findNextBoundary(today).isEmpty());
     }
 
 
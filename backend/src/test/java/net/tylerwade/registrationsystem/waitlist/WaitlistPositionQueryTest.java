@@ -0,0 +1,113 @@
+package net.tylerwade.registrationsystem.waitlist;
+
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.auth.UserRepository;
+import net.tylerwade.registrationsystem.course.Course;
+import net.tylerwade.registrationsystem.course.CourseRepository;
+import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.coursesection.CourseSectionRepository;
+import net.tylerwade.registrationsystem.term.Term;
+import net.tylerwade.registrationsystem.term.TermRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the grouped waitlist position query against a real database.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class WaitlistPositionQueryTest {
+
+    @Autowired
+    private WaitlistRepository waitlistRepository;
+
+    @Autowired
+    private CourseSectionRepository courseSectionRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TermRepository termRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void cleanup() {
+        waitlistRepository.deleteAll();
+        courseSectionRepository.deleteAll();
+        courseRepository.deleteAll();
+        termRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void findPositionsByStudentId_CountsEntriesAheadInEachSection() {
+        // Arrange: the student is second in one section and first in another
+        Term term = termRepository.save(Term.builder()
+                .registrationStart(LocalDate.now().minusDays(7))
+                .registrationEnd(LocalDate.now().plusDays(7))
+                .startDate(LocalDate.now().plusDays(14))
+                .endDate(LocalDate.now().plusDays(90))
+                .build());
+        Course course = courseRepository.save(Course.builder()
+                .department("CMSC")
+                .code(325)
+                .title("Software Principles I")
+                .description("Learn about software principles!")
+                .credits(3)
+                .prerequisites(new ArrayList<>())
+                .courseSections(new ArrayList<>())
+                .build());
+        CourseSection first = section(course, term);
+        CourseSection second = section(course, term);
+        User student = student("student@example.com");
+        User other = student("other@example.com");
+
+        waitlistRepository.save(WaitlistEntry.builder().student(other).courseSection(first).build());
+        WaitlistEntry behind = waitlistRepository.save(WaitlistEntry.builder().student(student).courseSection(first).build());
+        WaitlistEntry ahead = waitlistRepository.save(WaitlistEntry.builder().student(student).courseSection(second).build());
+        waitlistRepository.save(WaitlistEntry.builder().student(other).courseSection(second).build());
+
+        // Act
+        Map<Long, Long> positions = waitlistRepository.findPositionsByStudentId(student.getId());
+
+        // Assert
+        assertEquals(Map.of(behind.getId(), 2L, ahead.getId(), 1L), positions);
+    }
+
+    private CourseSection section(Course course, Term term) {
+        return courseSectionRepository.save(CourseSection.builder()
+                .course(course)
+                .term(term)
+                .room("Remote")
+                .capacity(1)
+                .schedule("TBA")
+                .enrolledCount(1)
+                .build());
+    }
+
+    private User student(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .firstName("Student")
+                .lastName("Test")
+                .password("encodedPassword")
+                .userAuthorities(new HashSet<>())
+                .build());
+    }
+}
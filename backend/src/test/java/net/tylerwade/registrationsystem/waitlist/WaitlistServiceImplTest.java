@@ -0,0 +1,196 @@
+package net.tylerwade.registrationsystem.waitlist;
+
+import net.tylerwade.registrationsystem.auth.User;
+import net.tylerwade.registrationsystem.auth.UserService;
+import net.tylerwade.registrationsystem.auth.authority.Authority;
+import net.tylerwade.registrationsystem.auth.principal.AuthenticatedUser;
+import net.tylerwade.registrationsystem.course.Course;
+import net.tylerwade.registrationsystem.coursesection.CourseSection;
+import net.tylerwade.registrationsystem.coursesection.CourseSectionService;
+import net.tylerwade.registrationsystem.enrollment.EnrollmentRepository;
+import net.tylerwade.registrationsystem.enrollment.EnrollmentService;
+import net.tylerwade.registrationsystem.exception.HttpRequestException;
+import net.tylerwade.registrationsystem.term.Term;
+import net.tylerwade.registrationsystem.waitlist.dto.JoinWaitlistRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+
+@ExtendWith(MockitoExtension.class)
+public class WaitlistServiceImplTest {
+
+    private static final int MAX_WAITLIST_SIZE = 2;
+
+    @Mock
+    private WaitlistRepository waitlistRepository;
+
+    @Mock
+    private EnrollmentRepository enrollmentRepository;
+
+    @Mock
+    private EnrollmentService enrollmentService;
+
+    @Mock
+    private CourseSectionService courseSectionService;
+
+    @Mock
+    private UserService userService;
+
+    private WaitlistServiceImpl waitlistService;
+
+    private User studentUser;
+    private User otherStudentUser;
+    private CourseSection fullSection;
+    private Authentication studentAuth;
+
+    @BeforeEach
+    void setup() {
+        waitlistService = new WaitlistServiceImpl(waitlistRepository, enrollmentRepository, enrollmentService,
+                courseSectionService, userService, new WaitlistProperties(MAX_WAITLIST_SIZE));
+
+        Authority studentAuthority = Authority.builder()
+                .id(3)
+                .name("STUDENT")
+                .build();
+
+        studentUser = User.builder()
+                .id(3L)
+                .username("student@example.com")
+                .firstName("Student")
+                .lastName("User")
+                .password("encodedPassword")
+                .userAuthorities(Set.of(studentAuthority))
+                .build();
+
+        otherStudentUser = User.builder()
+                .id(4L)
+                .username("otherstudent@example.com")
+                .firstName("Other")
+                .lastName("Student")
+                .password("encodedPassword")
+                .userAuthorities(Set.of(studentAuthority))
+                .build();
+
+        Term term = Term.builder()
+                .id(1L)
+                .registrationStart(LocalDate.now().minusDays(7))
+                .registrationEnd(LocalDate.now().plusDays(7))
+                .startDate(LocalDate.now().plusDays(14))
+                .endDate(LocalDate.now().plusDays(90))
+                .build();
+
+        Course course = Course.builder()
+                .id(1L)
+                .department("CMSC")
+                .code(325)
+                .title("Software Principles I")
+                .description("Learn about software principles!")
+                .credits(3)
+                .prerequisites(new ArrayList<>())
+                .build();
+
+        fullSection = CourseSection.builder()
+                .id(1L)
+                .course(course)
+                .term(term)
+                .enrollments(new ArrayList<>())
+                .enrolledCount(30)
+                .room("Remote")
+                .capacity(30)
+                .schedule("M - F 12:00 PM - 1:30 PM")
+                .build();
+
+        studentAuth = new UsernamePasswordAuthenticationToken("student@example.com", "encodedPassword");
+    }
+
+    @Test
+    void join_FullSection_ReturnsEntry() throws HttpRequestException {
+        // Arrange
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(studentUser));
+        Mockito.when(userService.findById(3L)).thenReturn(studentUser);
+        Mockito.when(courseSectionService.findLockedById(1L)).thenReturn(fullSection);
+        Mockito.when(waitlistRepository.countByCourseSection_Id(1L)).thenReturn(1L);
+        Mockito.when(waitlistRepository.save(any(WaitlistEntry.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        WaitlistEntry waitlistEntry = waitlistService.join(3L, new JoinWaitlistRequest(1L), studentAuth);
+
+        // Assert
+        assertNotNull(waitlistEntry);
+        assertEquals(studentUser, waitlistEntry.getStudent());
+        assertEquals(fullSection, waitlistEntry.getCourseSection());
+        Mockito.verify(enrollmentService).checkPrerequisites(studentUser, fullSection);
+    }
+
+    @Test
+    void join_SectionHasSeats_ThrowsHttpRequestException() throws HttpRequestException {
+        // Arrange
+        fullSection.setEnrolledCount(10);
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(studentUser));
+        Mockito.when(userService.findById(3L)).thenReturn(studentUser);
+        Mockito.when(courseSectionService.findLockedById(1L)).thenReturn(fullSection);
+
+        // Act & Assert
+        HttpRequestException exception = assertThrows(HttpRequestException.class,
+                () -> waitlistService.join(3L, new JoinWaitlistRequest(1L), studentAuth));
+
+        assertEquals(HttpStatus.CONFLICT, exception.getHttpStatus());
+    }
+
+    @Test
+    void join_WaitlistFull_ThrowsHttpRequestException() throws HttpRequestException {
+        // Arrange
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(studentUser));
+        Mockito.when(userService.findById(3L)).thenReturn(studentUser);
+        Mockito.when(courseSectionService.findLockedById(1L)).thenReturn(fullSection);
+        Mockito.when(waitlistRepository.countByCourseSection_Id(1L)).thenReturn((long) MAX_WAITLIST_SIZE);
+
+        // Act & Assert
+        HttpRequestException exception = assertThrows(HttpRequestException.class,
+                () -> waitlistService.join(3L, new JoinWaitlistRequest(1L), studentAuth));
+
+        assertEquals(HttpStatus.NOT_ACCEPTABLE, exception.getHttpStatus());
+        Mockito.verify(waitlistRepository, Mockito.never()).save(any());
+    }
+
+    @Test
+    void join_ForOtherStudent_ThrowsHttpRequestException() {
+        // Arrange
+        Mockito.when(userService.getAuthenticatedUser(studentAuth)).thenReturn(AuthenticatedUser.of(otherStudentUser));
+
+        // Act & Assert
+        HttpRequestException exception = assertThrows(HttpRequestException.class,
+                () -> waitlistService.join(3L, new JoinWaitlistRequest(1L), studentAuth));
+
+        assertEquals(HttpStatus.FORBIDDEN, exception.getHttpStatus());
+    }
+
+    @Test
+    void getPosition_CountsEntriesAhead() {
+        // Arrange
+        WaitlistEntry waitlistEntry = WaitlistEntry.builder()
+                .id(12L)
+                .student(studentUser)
+                .courseSection(fullSection)
+                .build();
+
+        Mockito.when(waitlistRepository.countByCourseSection_IdAndIdLessThan(1L, 12L)).thenReturn(4L);
+
+        // Act & Assert
+        assertEquals(5L, waitlistService.getPosition(waitlistEntry));
+    }
+
+}
@@ -10,6 +10,9 @@ CREATE TABLE users (
     PRIMARY KEY (id)
 );
 
+-- Usernames are matched ignoring case, by signup and by bulk user imports
+CREATE INDEX IDX_users_username ON users ((UPPER(username)));
+
 COMMIT;
 
 -- Create the Authorities Table
@@ -89,6 +92,9 @@ CREATE TABLE course_sections (
     room VARCHAR(20) NOT NULL,
     capacity INT NOT NULL,
     schedule VARCHAR(255) NOT NULL,
+    meeting_days INT,
+    meeting_start_minute INT,
+    meeting_end_minute INT,
     enrolled_count INT NOT NULL,
     created_at DATE,
     PRIMARY KEY (id)
@@ -106,6 +112,7 @@ CREATE TABLE enrollments (
     student_id INT NOT NULL,
     course_section_id INT NOT NULL,
     grade decimal NOT NULL,
+    graded BOOLEAN NOT NULL DEFAULT FALSE,
     status VARCHAR(255) NOT NULL,
     created_at DATE,
     PRIMARY KEY (student_id, course_section_id)
@@ -118,6 +125,36 @@ ALTER TABLE enrollments ADD CONSTRAINT FK_enrollments_course_section_id FOREIGN
 
 COMMIT;
 
+-- Create waitlist_entries Table
+-- Entries are served in id order, so (course_section_id, id) answers both "who is next" and "what is my position"
+CREATE TABLE waitlist_entries (
+    id INT NOT NULL AUTO_INCREMENT,
+    student_id INT NOT NULL,
+    course_section_id INT NOT NULL,
+    created_at DATE,
+    PRIMARY KEY (id),
+    UNIQUE (course_section_id, student_id)
+);
+
+CREATE INDEX IDX_waitlist_entries_section ON waitlist_entries (course_section_id, id);
+
+ALTER TABLE waitlist_entries ADD CONSTRAINT FK_waitlist_entries_student_id FOREIGN KEY (student_id) REFERENCES users (id);
+ALTER TABLE waitlist_entries ADD CONSTRAINT FK_waitlist_entries_course_section_id FOREIGN KEY (course_section_id) REFERENCES course_sections (id);
+
+COMMIT;
+
+-- Create scheduler_locks Table
+-- One row per scheduled job; a node runs the job only while it holds the row (locked_until in the future)
+CREATE TABLE scheduler_locks (
+    name VARCHAR(64) NOT NULL,
+    locked_until DATETIME NOT NULL,
+    locked_at DATETIME NOT NULL,
+    locked_by VARCHAR(255) NOT NULL,
+    PRIMARY KEY (name)
+);
+
+COMMIT;
+
 -- Start Dummy data
 -- Insert 5 dummy users
 -- Because it's dummy data all users passwords are 1q2w#E$R
@@ -213,14 +250,14 @@ INSERT INTO course_sections (id, course_id, term_id, instructor_id, room, capaci
 COMMIT;
 
 -- Create Enrollments
-INSERT INTO enrollments (student_id, course_section_id, grade, status, created_at)
-    VALUES (1, 1, 88.3, "Complete", NOW());
-INSERT INTO enrollments (student_id, course_section_id, grade, status, created_at)
-    VALUES (1, 2, 90.5, "Complete", NOW());
-INSERT INTO enrollments (student_id, course_section_id, grade, status, created_at)
-    VALUES (1, 3, 88.3, "In Progress", NOW());
-INSERT INTO enrollments (student_id, course_section_id, grade, status, created_at)
-    VALUES (1, 4, 88.3, "In Progress", NOW());
+INSERT INTO enrollments (student_id, course_section_id, grade, graded, status, created_at)
+    VALUES (1, 1, 88.3, TRUE, "Complete", NOW());
+INSERT INTO enrollments (student_id, course_section_id, grade, graded, status, created_at)
+    VALUES (1, 2, 90.5, TRUE, "Complete", NOW());
+INSERT INTO enrollments (student_id, course_section_id, grade, graded, status, created_at)
+    VALUES (1, 3, 88.3, TRUE, "In Progress", NOW());
+INSERT INTO enrollments (student_id, course_section_id, grade, graded, status, created_at)
+    VALUES (1, 4, 88.3, TRUE, "In Progress", NOW());
 INSERT INTO enrollments (student_id, course_section_id, grade, status, created_at)
     VALUES (2, 5, 0.0, "Enrolled", NOW());
 INSERT INTO enrollments (student_id, course_section_id, grade, status, created_at)